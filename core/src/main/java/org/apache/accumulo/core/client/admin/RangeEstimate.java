@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.client.admin;
+
+import java.util.List;
+
+import org.apache.hadoop.io.Text;
+
+/**
+ * Approximate statistics about a range of a table, computed from row sketches stored in the tables
+ * files.
+ *
+ * @since 3.1.0
+ * @see TableOperations#estimateRange(String, org.apache.accumulo.core.data.Range, int)
+ */
+public class RangeEstimate {
+
+  private final long entries;
+  private final long distinctRows;
+  private final List<Text> splitPoints;
+
+  public RangeEstimate(long entries, long distinctRows, List<Text> splitPoints) {
+    this.entries = entries;
+    this.distinctRows = distinctRows;
+    this.splitPoints = List.copyOf(splitPoints);
+  }
+
+  /**
+   * @return the estimated number of entries in the range
+   */
+  public long getEntries() {
+    return entries;
+  }
+
+  /**
+   * @return the estimated number of distinct rows in the range
+   */
+  public long getDistinctRows() {
+    return distinctRows;
+  }
+
+  /**
+   * @return sorted rows that divide the range into pieces with about the same number of distinct
+   *         rows. May contain fewer rows than requested when the range has few sampled rows.
+   */
+  public List<Text> getSplitPoints() {
+    return splitPoints;
+  }
+
+  @Override
+  public String toString() {
+    return "RangeEstimate{entries=" + entries + ", distinctRows=" + distinctRows
+        + ", splitPoints=" + splitPoints + '}';
+  }
+}
@@ -19,6 +19,7 @@
 package org.apache.accumulo.core.client.admin;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
@@ -40,6 +41,7 @@ import org.apache.accumulo.core.client.rfile.RFile;
 import org.apache.accumulo.core.client.sample.SamplerConfiguration;
 import org.apache.accumulo.core.client.summary.Summarizer;
 import org.apache.accumulo.core.client.summary.SummarizerConfiguration;
+import org.apache.accumulo.core.client.summary.summarizers.RowSketchSummarizer;
 import org.apache.accumulo.core.data.LoadPlan;
 import org.apache.accumulo.core.data.Range;
 import org.apache.accumulo.core.iterators.IteratorUtil.IteratorScope;
@@ -584,6 +586,43 @@ public interface TableOperations {
      */
     ImportMappingOptions ignoreEmptyDir(boolean ignore);
 
+    /**
+     * The phases of a bulk import, used to report {@link #timings(Consumer) timings}.
+     *
+     * @since 3.1.0
+     */
+    enum ImportPhase {
+      /** Listing the files in the import directory. */
+      LIST,
+      /** Reading the row range and index of each file, or reading a saved plan. */
+      READ,
+      /** Finding the tablets that each file overlaps. */
+      MAP,
+      /** Writing the load mapping and any saved plan to the import directory. */
+      WRITE,
+      /** Running the bulk import operation in the manager. */
+      LOAD
+    }
+
+    /**
+     * Saves what was learned about the files while determining where to load them to a file in the
+     * import directory. When the import of the same files is attempted again, for example after a
+     * client failure, the saved information is used instead of reading the files again. Files that
+     * changed since the plan was saved cause the plan to be ignored. This has no effect when
+     * {@link ImportMappingOptions#plan(LoadPlan)} is used.
+     *
+     * @since 3.1.0
+     */
+    ImportMappingOptions savePlan(boolean save);
+
+    /**
+     * Once the files are loaded, passes the time spent in each phase of the import to the given
+     * consumer. Time spent mapping and loading includes any retries caused by concurrent merges.
+     *
+     * @since 3.1.0
+     */
+    ImportMappingOptions timings(Consumer<Map<ImportPhase,Duration>> consumer);
+
     /**
      * Loads the files into the table.
      */
@@ -979,6 +1018,24 @@ public interface TableOperations {
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Estimates the number of entries and distinct rows in a range of a table, and chooses rows that
+   * divide the range into pieces of about equal size, without scanning any data. The estimate is
+   * computed from the row sketches that {@link RowSketchSummarizer} stores in each file, so that
+   * summarizer must be added to the table. Files written before it was added and data that has not
+   * been flushed are not counted. The same permission as {@link #summaries(String)} is required.
+   *
+   * @param tableName the table to estimate
+   * @param range the range of the table to estimate
+   * @param numSplitPoints the number of split points to choose
+   * @since 3.1.0
+   * @see RowSketchSummarizer
+   */
+  default RangeEstimate estimateRange(String tableName, Range range, int numSplitPoints)
+      throws AccumuloException, AccumuloSecurityException, TableNotFoundException {
+    throw new UnsupportedOperationException();
+  }
+
   /**
    * Return the TimeType for the given table
    *
@@ -21,6 +21,7 @@ package org.apache.accumulo.core.client.admin.compaction;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -71,6 +72,14 @@ public interface CompactionSelector {
     Optional<SortedKeyValueIterator<Key,Value>> getSample(CompactableFile cf,
         SamplerConfiguration sc);
 
+    /**
+     * @return how often the tablet being compacted is currently scanned, in scans per second, when
+     *         known
+     * @since 3.1.0
+     */
+    default OptionalDouble getHeat() {
+      return OptionalDouble.empty();
+    }
   }
 
   public static class Selection {
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.client.admin.compaction;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.apache.accumulo.core.volume.VolumeTiers;
+import org.apache.accumulo.core.volume.VolumeTiers.Tier;
+
+/**
+ * This compaction selector moves the files of a tablet between hot and cold volumes as the rate at
+ * which the tablet is scanned changes. When a tablet's scan rate is at or above the hot threshold,
+ * its files that are not on a hot volume are selected, and when the rate falls to or below the cold
+ * threshold its files that are not on a cold volume are selected. Between the thresholds nothing is
+ * selected.
+ *
+ * <p>
+ * The volumes and thresholds are read from the following table custom properties.
+ *
+ * <ul>
+ * <li>{@code table.custom.volume.tiered.hot} Comma separated list of hot volumes
+ * <li>{@code table.custom.volume.tiered.cold} Comma separated list of cold volumes
+ * <li>{@code table.custom.volume.tiered.hot.threshold} Scans per second at or above which a tablet
+ * is hot, defaults to 1
+ * <li>{@code table.custom.volume.tiered.cold.threshold} Scans per second at or below which a tablet
+ * is cold, defaults to half of the hot threshold
+ * </ul>
+ *
+ * <p>
+ * This selector only picks the files, the compaction output is placed by the volume chooser. It
+ * should be used with the {@link org.apache.accumulo.core.spi.fs.TieredVolumeChooser}, otherwise
+ * the rewritten files may land on the same volumes again. Configure it for a table with
+ * {@code table.compaction.selector}.
+ *
+ * @since 3.1.0
+ */
+public class TieredStorageSelector implements CompactionSelector {
+
+  @Override
+  public void init(InitParameters iparams) {}
+
+  @Override
+  public Selection select(SelectionParameters sparams) {
+    var tableConf = sparams.getEnvironment().getConfiguration(sparams.getTableId());
+    Optional<VolumeTiers> tiers = VolumeTiers.fromTableCustom(tableConf::getTableCustom);
+    if (tiers.isEmpty()) {
+      return new Selection(List.of());
+    }
+
+    Optional<Tier> destination = tiers.orElseThrow().getMigrationTier(sparams.getHeat());
+    if (destination.isEmpty()) {
+      return new Selection(List.of());
+    }
+
+    return new Selection(sparams.getAvailableFiles().stream()
+        .filter(file -> !tiers.orElseThrow().getFileTier(file.getUri().toString())
+            .equals(destination))
+        .collect(Collectors.toList()));
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.client.summary.summarizers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.apache.accumulo.core.client.admin.TableOperations;
+import org.apache.accumulo.core.client.summary.Summarizer;
+import org.apache.accumulo.core.client.summary.SummarizerConfiguration;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+import org.apache.hadoop.io.Text;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+
+/**
+ * Summarizer that stores compact sketches of the rows in each file. It counts entries, keeps a
+ * HyperLogLog sketch of distinct rows, and keeps a bottom-k sample of distinct rows chosen by hash.
+ * Because the sample is chosen by hash, merging the samples of many files yields a uniform sample
+ * of the distinct rows across those files. The sketches can be used to estimate entry counts, distinct
+ * row counts, and quantile split points for a range without scanning data.
+ *
+ * <p>
+ * The following options are supported.
+ *
+ * <ul>
+ * <li>{@value #SAMPLE_SIZE_OPT} the number of rows to keep in the sample, defaults to
+ * {@value #DEFAULT_SAMPLE_SIZE}.
+ * <li>{@value #MAX_ROW_LENGTH_OPT} sampled rows longer than this are truncated, defaults to
+ * {@value #DEFAULT_MAX_ROW_LENGTH}.
+ * <li>{@value #PRECISION_OPT} the HyperLogLog precision, the sketch uses 2^precision registers.
+ * Must be between 4 and 12, defaults to {@value #DEFAULT_PRECISION}.
+ * </ul>
+ *
+ * @since 3.1.0
+ * @see TableOperations#estimateRange(String, org.apache.accumulo.core.data.Range, int)
+ */
+public class RowSketchSummarizer implements Summarizer {
+
+  public static final String SAMPLE_SIZE_OPT = "sampleSize";
+  public static final String MAX_ROW_LENGTH_OPT = "maxRowLength";
+  public static final String PRECISION_OPT = "precision";
+
+  public static final int DEFAULT_SAMPLE_SIZE = 256;
+  public static final int DEFAULT_MAX_ROW_LENGTH = 64;
+  public static final int DEFAULT_PRECISION = 8;
+
+  /**
+   * The name of the statistic for the total number of keys.
+   */
+  public static final String ENTRIES_STAT = "entries";
+
+  /**
+   * The prefix for HyperLogLog register statistics. The register index follows the prefix and the
+   * value is the register.
+   */
+  public static final String HLL_STAT_PREFIX = "hll.";
+
+  /**
+   * The prefix for sampled row statistics. The hex encoded row follows the prefix and the value is
+   * the hash of the row.
+   */
+  public static final String SAMPLE_STAT_PREFIX = "sample.";
+
+  private static final HashFunction HASH = Hashing.murmur3_128();
+
+  private static int getOption(SummarizerConfiguration sc, String name, int defaultValue) {
+    String val = sc.getOptions().get(name);
+    return val == null ? defaultValue : Integer.parseInt(val);
+  }
+
+  public static int getSampleSize(SummarizerConfiguration sc) {
+    int sampleSize = getOption(sc, SAMPLE_SIZE_OPT, DEFAULT_SAMPLE_SIZE);
+    Preconditions.checkArgument(sampleSize > 0, "%s must be positive", SAMPLE_SIZE_OPT);
+    return sampleSize;
+  }
+
+  public static int getPrecision(SummarizerConfiguration sc) {
+    int precision = getOption(sc, PRECISION_OPT, DEFAULT_PRECISION);
+    Preconditions.checkArgument(precision >= 4 && precision <= 12, "%s must be in [4,12]",
+        PRECISION_OPT);
+    return precision;
+  }
+
+  /**
+   * Encodes a row the way it is stored in a sample statistic name.
+   */
+  public static String encodeRow(byte[] row, int offset, int length) {
+    return BaseEncoding.base16().lowerCase().encode(row, offset, length);
+  }
+
+  /**
+   * Decodes a row from a sample statistic name.
+   */
+  public static Text decodeRow(String stat) {
+    return new Text(
+        BaseEncoding.base16().lowerCase().decode(stat.substring(SAMPLE_STAT_PREFIX.length())));
+  }
+
+  @Override
+  public Collector collector(SummarizerConfiguration sc) {
+    final int sampleSize = getSampleSize(sc);
+    final int maxRowLength = getOption(sc, MAX_ROW_LENGTH_OPT, DEFAULT_MAX_ROW_LENGTH);
+    final int precision = getPrecision(sc);
+
+    return new Collector() {
+
+      private long entries = 0;
+      private final byte[] registers = new byte[1 << precision];
+      // sampled row hashes mapped to their encoded rows, the largest hash is evicted when full
+      private final TreeMap<Long,String> samples = new TreeMap<>();
+      private final Text lastRow = new Text();
+      private boolean sawRow = false;
+
+      @Override
+      public void accept(Key k, Value v) {
+        entries++;
+        if (!sawRow || k.compareRow(lastRow) != 0) {
+          k.getRow(lastRow);
+          sawRow = true;
+          addRow(lastRow);
+        }
+      }
+
+      private void addRow(Text row) {
+        long hash = HASH.hashBytes(row.getBytes(), 0, row.getLength()).asLong();
+
+        int index = (int) (hash >>> (64 - precision));
+        long remaining = hash << precision;
+        int rank = remaining == 0 ? 64 - precision + 1 : Long.numberOfLeadingZeros(remaining) + 1;
+        if (rank > registers[index]) {
+          registers[index] = (byte) rank;
+        }
+
+        if (samples.size() < sampleSize || hash < samples.lastKey()) {
+          if (!samples.containsKey(hash)) {
+            samples.put(hash,
+                encodeRow(row.getBytes(), 0, Math.min(row.getLength(), maxRowLength)));
+            if (samples.size() > sampleSize) {
+              samples.pollLastEntry();
+            }
+          }
+        }
+      }
+
+      @Override
+      public void summarize(StatisticConsumer sc) {
+        sc.accept(ENTRIES_STAT, entries);
+        for (int i = 0; i < registers.length; i++) {
+          if (registers[i] > 0) {
+            sc.accept(HLL_STAT_PREFIX + i, registers[i]);
+          }
+        }
+        // truncated rows may share a name, keep the smallest hash for a name
+        Map<String,Long> sampleStats = new HashMap<>();
+        samples
+            .forEach((hash, row) -> sampleStats.merge(SAMPLE_STAT_PREFIX + row, hash, Long::min));
+        sampleStats.forEach(sc::accept);
+      }
+    };
+  }
+
+  @Override
+  public Combiner combiner(SummarizerConfiguration sc) {
+    final int sampleSize = getSampleSize(sc);
+
+    return (m1, m2) -> {
+      int sampled = 0;
+      for (Entry<String,Long> entry : m2.entrySet()) {
+        String stat = entry.getKey();
+        if (stat.startsWith(HLL_STAT_PREFIX)) {
+          m1.merge(stat, entry.getValue(), Long::max);
+        } else if (stat.startsWith(SAMPLE_STAT_PREFIX)) {
+          m1.merge(stat, entry.getValue(), Long::min);
+          sampled++;
+        } else {
+          m1.merge(stat, entry.getValue(), Long::sum);
+        }
+      }
+
+      if (sampled > 0) {
+        // only keep the rows with the smallest hashes so the merged sample stays uniform
+        List<Entry<String,Long>> samples = new ArrayList<>();
+        for (Entry<String,Long> entry : m1.entrySet()) {
+          if (entry.getKey().startsWith(SAMPLE_STAT_PREFIX)) {
+            samples.add(entry);
+          }
+        }
+        if (samples.size() > sampleSize) {
+          samples.sort(Entry.comparingByValue());
+          List<String> evicted = new ArrayList<>();
+          for (Entry<String,Long> entry : samples.subList(sampleSize, samples.size())) {
+            evicted.add(entry.getKey());
+          }
+          evicted.forEach(m1::remove);
+        }
+      }
+    };
+  }
+}
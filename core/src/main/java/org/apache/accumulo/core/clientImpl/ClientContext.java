@@ -130,6 +130,8 @@ public class ClientContext implements AccumuloClient {
 
   private Credentials creds;
   private BatchWriterConfig batchWriterConfig;
+  private Long batchWriterSegmentSize;
+  private String scanResultEncoding;
   private ConditionalWriterConfig conditionalWriterConfig;
   private final AccumuloConfiguration serverConf;
   private final Configuration hadoopConf;
@@ -394,6 +396,31 @@ public class ClientContext implements AccumuloClient {
     return batchWriterConfig;
   }
 
+  /**
+   * @return the size of the segments batch writers encode buffered mutations into, or 0 if
+   *         mutations are buffered as objects
+   */
+  public synchronized long getBatchWriterSegmentSize() {
+    ensureOpen();
+    if (batchWriterSegmentSize == null) {
+      batchWriterSegmentSize =
+          ClientProperty.BATCH_WRITER_MEMORY_SEGMENT_SIZE.getBytes(info.getProperties());
+    }
+    return batchWriterSegmentSize;
+  }
+
+  /**
+   * @return the compression algorithm scan results should be encoded with, or an empty string if
+   *         scan results should be sent as Thrift objects
+   */
+  public synchronized String getScanResultEncoding() {
+    ensureOpen();
+    if (scanResultEncoding == null) {
+      scanResultEncoding = ClientProperty.SCANNER_RESULT_ENCODING.getValue(info.getProperties());
+    }
+    return scanResultEncoding;
+  }
+
   /**
    * @return map of live scan server addresses to lock uuids.
    */
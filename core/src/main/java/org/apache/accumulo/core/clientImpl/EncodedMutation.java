@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.clientImpl;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.accumulo.core.clientImpl.MutationSegmentPool.Segment;
+import org.apache.accumulo.core.data.ColumnUpdate;
+import org.apache.accumulo.core.data.Mutation;
+import org.apache.accumulo.core.dataImpl.thrift.TMutation;
+
+/**
+ * A mutation buffered by the batch writer whose serialized data lives in a shared segment from a
+ * {@link MutationSegmentPool}. Only the row is kept in its own array because it is needed to bin
+ * the mutation. The thrift form is built from slices of the segment, so sending does not copy or
+ * re-serialize the data. Methods that need the column updates decode a copy of the mutation, while
+ * equality and hashing work on the encoded bytes.
+ */
+final class EncodedMutation extends Mutation {
+
+  private byte[] row;
+  private Segment segment;
+  private int dataOffset;
+  private int dataLength;
+  private int entries;
+  // offsets and lengths of large values stored after the data, null when there are none
+  private int[] valueOffsets;
+  private int[] valueLengths;
+  private long valueBytes;
+  private final AtomicBoolean released = new AtomicBoolean(false);
+
+  private EncodedMutation(byte[] row, Segment segment, TMutation tm) {
+    copy(row, segment, tm);
+  }
+
+  /**
+   * Copies the serialized form of a mutation into the current segment of the pool. The data is read
+   * directly from the mutation's buffer, so the given mutation is not moved into a serialized state
+   * and later changes to it do not affect the encoded copy.
+   *
+   * @return the encoded mutation, or a plain copy if the mutation is too large for a segment
+   */
+  static Mutation encode(Mutation m, MutationSegmentPool pool) {
+    TMutation tm = MutationAccess.toThriftSnapshot(m);
+    int total = encodedSize(tm);
+    if (total > pool.getMaxEncodedSize()) {
+      return new Mutation(m);
+    }
+
+    Segment segment = pool.segmentFor(total);
+    segment.retain();
+    return new EncodedMutation(m.getRow(), segment, tm);
+  }
+
+  private static int encodedSize(TMutation tm) {
+    int total = tm.data.remaining();
+    if (tm.values != null) {
+      for (ByteBuffer val : tm.values) {
+        total += val.remaining();
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Appends the data and values of the thrift mutation to the segment, which must have room for
+   * them and hold a reference for this mutation.
+   */
+  private void copy(byte[] row, Segment segment, TMutation tm) {
+    this.row = row;
+    this.segment = segment;
+    this.dataOffset = append(segment, tm.data);
+    this.dataLength = tm.data.remaining();
+    this.entries = tm.entries;
+    this.valueOffsets = null;
+    this.valueLengths = null;
+    this.valueBytes = 0;
+    if (tm.values != null) {
+      valueOffsets = new int[tm.values.size()];
+      valueLengths = new int[tm.values.size()];
+      for (int i = 0; i < valueOffsets.length; i++) {
+        ByteBuffer val = tm.values.get(i);
+        valueLengths[i] = val.remaining();
+        valueOffsets[i] = append(segment, val);
+        valueBytes += valueLengths[i];
+      }
+    }
+  }
+
+  private static int append(Segment segment, ByteBuffer buf) {
+    int offset;
+    if (buf.hasArray()) {
+      offset = segment.append(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+    } else {
+      byte[] copy = new byte[buf.remaining()];
+      buf.duplicate().get(copy);
+      offset = segment.append(copy, 0, copy.length);
+    }
+    if (offset < 0) {
+      throw new IllegalStateException("Segment does not have room for mutation");
+    }
+    return offset;
+  }
+
+  /**
+   * Called once the mutation was written to a tablet server, or will not be written, and its
+   * segment space can be reused. Only the first call releases the segment.
+   */
+  void release() {
+    if (released.compareAndSet(false, true)) {
+      segment.release();
+    }
+  }
+
+  private Mutation decode() {
+    return new Mutation(toThrift());
+  }
+
+  @Override
+  public byte[] getRow() {
+    return row;
+  }
+
+  @Override
+  public int size() {
+    return entries;
+  }
+
+  @Override
+  public long numBytes() {
+    return row.length + dataLength + valueBytes;
+  }
+
+  /**
+   * The encoded data is charged to the batch writer as part of its segment, so only the row and the
+   * fixed overhead of the mutation are counted here.
+   */
+  @Override
+  public long estimatedMemoryUsed() {
+    return row.length + 238;
+  }
+
+  @Override
+  public TMutation toThrift() {
+    ByteBuffer data = ByteBuffer.wrap(segment.data, dataOffset, dataLength).slice();
+    List<ByteBuffer> values = null;
+    if (valueOffsets != null) {
+      values = new ArrayList<>(valueOffsets.length);
+      for (int i = 0; i < valueOffsets.length; i++) {
+        values.add(ByteBuffer.wrap(segment.data, valueOffsets[i], valueLengths[i]).slice());
+      }
+    }
+    return new TMutation(ByteBuffer.wrap(row), data, values, entries);
+  }
+
+  @Override
+  public List<ColumnUpdate> getUpdates() {
+    return decode().getUpdates();
+  }
+
+  @Override
+  public void write(DataOutput out) throws IOException {
+    decode().write(out);
+  }
+
+  /**
+   * Replaces this mutation with one read from the input. The read data is kept in a segment of its
+   * own that does not belong to a pool.
+   */
+  @Override
+  public void readFields(DataInput in) throws IOException {
+    Mutation m = new Mutation();
+    m.readFields(in);
+    TMutation tm = MutationAccess.toThriftSnapshot(m);
+    Segment old = segment;
+    copy(m.getRow(), MutationSegmentPool.unpooled(encodedSize(tm)), tm);
+    if (!released.getAndSet(false)) {
+      old.release();
+    }
+  }
+
+  @Override
+  public String prettyPrint() {
+    return decode().prettyPrint();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    // Mutation.equals() requires the same class, so a plain mutation is never equal to an encoded
+    // one. Match that here to keep equals() symmetric.
+    if (!(o instanceof EncodedMutation)) {
+      return false;
+    }
+    EncodedMutation other = (EncodedMutation) o;
+    if (entries != other.entries || !Arrays.equals(row, other.row)
+        || !Arrays.equals(segment.data, dataOffset, dataOffset + dataLength, other.segment.data,
+            other.dataOffset, other.dataOffset + other.dataLength)) {
+      return false;
+    }
+    if (valueOffsets == null || other.valueOffsets == null) {
+      return valueOffsets == other.valueOffsets;
+    }
+    if (valueOffsets.length != other.valueOffsets.length) {
+      return false;
+    }
+    for (int i = 0; i < valueOffsets.length; i++) {
+      if (!Arrays.equals(segment.data, valueOffsets[i], valueOffsets[i] + valueLengths[i],
+          other.segment.data, other.valueOffsets[i],
+          other.valueOffsets[i] + other.valueLengths[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    // hashes the same bytes as Mutation.hashCode() does
+    return ByteBuffer.wrap(segment.data, dataOffset, dataLength).hashCode();
+  }
+}
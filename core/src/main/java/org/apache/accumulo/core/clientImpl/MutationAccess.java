@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.clientImpl;
+
+import java.util.function.Function;
+
+import org.apache.accumulo.core.data.Mutation;
+import org.apache.accumulo.core.dataImpl.thrift.TMutation;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Gives client internals access to {@link Mutation} operations that are not part of the public
+ * API. {@link Mutation} registers the accessor when its class is initialized.
+ */
+public final class MutationAccess {
+
+  private static volatile Function<Mutation,TMutation> snapshotAccessor;
+
+  private MutationAccess() {}
+
+  /**
+   * Registers the function used to create thrift snapshots. Only {@link Mutation} should call this,
+   * and it may only be called once.
+   */
+  public static void setSnapshotAccessor(Function<Mutation,TMutation> accessor) {
+    Preconditions.checkState(snapshotAccessor == null, "Snapshot accessor already set");
+    snapshotAccessor = accessor;
+  }
+
+  /**
+   * Creates a thrift form of a mutation that shares its current buffers, without moving it into a
+   * "serialized" state or copying the data. The result is only valid until the mutation is changed.
+   */
+  static TMutation toThriftSnapshot(Mutation m) {
+    return snapshotAccessor.apply(m);
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.clientImpl;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+/**
+ * A pool of large byte array segments that the batch writer appends the serialized form of
+ * mutations to. Holding buffered mutations in a few large arrays instead of many small ones keeps
+ * the garbage collector from repeatedly copying the data while it waits to be sent.
+ *
+ * <p>
+ * A segment is charged in full against the batch writer's memory from the time it is opened for
+ * appends until it is recycled, because it stays pinned until all of its mutations are written.
+ * Free segments kept for reuse are not charged, so only a small number of them are kept.
+ */
+class MutationSegmentPool {
+
+  /**
+   * A segment is reference counted. The pool holds one reference while the segment is open for
+   * appends and each mutation encoded into it holds one more. When the count drops to zero the
+   * segment is returned to the pool. A segment without a pool is not reused.
+   */
+  static class Segment {
+    private final MutationSegmentPool pool;
+    final byte[] data;
+    private int used = 0;
+    private final AtomicInteger refs = new AtomicInteger(1);
+
+    private Segment(MutationSegmentPool pool, int size) {
+      this.pool = pool;
+      this.data = new byte[size];
+    }
+
+    /**
+     * @return the offset the bytes were copied to, or -1 if they do not fit
+     */
+    int append(byte[] bytes, int off, int len) {
+      if (used + len > data.length) {
+        return -1;
+      }
+      int start = used;
+      System.arraycopy(bytes, off, data, start, len);
+      used += len;
+      return start;
+    }
+
+    int remaining() {
+      return data.length - used;
+    }
+
+    void retain() {
+      refs.incrementAndGet();
+    }
+
+    void release() {
+      if (refs.decrementAndGet() == 0 && pool != null) {
+        pool.recycle(this);
+      }
+    }
+  }
+
+  /**
+   * Creates a segment that belongs to no pool, holding one reference for its only user.
+   */
+  static Segment unpooled(int size) {
+    return new Segment(null, size);
+  }
+
+  private final int segmentSize;
+  private final int maxPooled;
+  private final LongConsumer memoryUsed;
+  private final ArrayDeque<Segment> free = new ArrayDeque<>();
+  private Segment current;
+  private long openedBytes = 0;
+
+  /**
+   * @param segmentSize the size of each segment in bytes
+   * @param maxPooledMemory the maximum number of bytes of free segments to keep for reuse
+   * @param memoryUsed called with the size of a segment when it is opened for appends, and with
+   *        its negated size when it is recycled
+   */
+  MutationSegmentPool(int segmentSize, long maxPooledMemory, LongConsumer memoryUsed) {
+    this.segmentSize = segmentSize;
+    this.maxPooled = (int) Math.min(Integer.MAX_VALUE, maxPooledMemory / segmentSize);
+    this.memoryUsed = memoryUsed;
+  }
+
+  /**
+   * Mutations whose serialized data exceeds this are kept as plain mutations.
+   */
+  int getMaxEncodedSize() {
+    return segmentSize / 4;
+  }
+
+  /**
+   * Returns a segment with at least the requested number of free bytes. Must be called by one
+   * thread at a time.
+   */
+  Segment segmentFor(int len) {
+    if (current == null || current.remaining() < len) {
+      releaseCurrent();
+      synchronized (this) {
+        current = free.poll();
+      }
+      if (current == null) {
+        current = new Segment(this, segmentSize);
+      }
+      openedBytes += segmentSize;
+      memoryUsed.accept(segmentSize);
+    }
+    return current;
+  }
+
+  /**
+   * Stops appending to the current segment, so it is recycled once its mutations are written.
+   * Must be called by the thread that appends.
+   */
+  void retire() {
+    releaseCurrent();
+    openedBytes = 0;
+  }
+
+  private void releaseCurrent() {
+    if (current != null) {
+      // drop the reference held for appending
+      current.release();
+      current = null;
+    }
+  }
+
+  /**
+   * @return the bytes of the segments opened for appends since the last {@link #retire()}
+   */
+  long getOpenedBytes() {
+    return openedBytes;
+  }
+
+  private void recycle(Segment segment) {
+    segment.used = 0;
+    segment.refs.set(1);
+    synchronized (this) {
+      if (free.size() < maxPooled) {
+        free.add(segment);
+      }
+    }
+    memoryUsed.accept(-segmentSize);
+  }
+
+  synchronized int getFreeSegments() {
+    return free.size();
+  }
+}
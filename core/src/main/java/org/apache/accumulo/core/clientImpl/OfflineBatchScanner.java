@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.clientImpl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.apache.accumulo.core.Constants;
+import org.apache.accumulo.core.client.BatchScanner;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.security.Authorizations;
+import org.apache.hadoop.io.Text;
+
+import com.google.common.collect.Iterators;
+
+/**
+ * A {@link BatchScanner} that reads the files of an offline table directly, like
+ * {@link OfflineScanner}. The ranges are read one after the other in sorted order, sharing the
+ * threads and block cache of the scanner.
+ */
+public class OfflineBatchScanner extends ScannerOptions implements BatchScanner {
+
+  private final ClientContext context;
+  private final Authorizations authorizations;
+  private final Text tableId;
+  private final OfflineReadResources resources;
+
+  private List<Range> ranges = null;
+
+  /**
+   * @param readerThreads the number of threads opening the files of a tablet, with more than one
+   *        the next batch of entries is also read ahead in the background
+   * @param cacheSize the size in bytes of the block cache shared by the files read, 0 to disable
+   */
+  public OfflineBatchScanner(ClientContext context, TableId tableId, Authorizations authorizations,
+      int readerThreads, long cacheSize) {
+    checkArgument(context != null, "context is null");
+    checkArgument(tableId != null, "tableId is null");
+    checkArgument(authorizations != null, "authorizations is null");
+    checkArgument(readerThreads > 0, "readerThreads must be positive");
+    checkArgument(cacheSize >= 0, "cacheSize must not be negative");
+    this.context = context;
+    this.tableId = new Text(tableId.canonical());
+    this.authorizations = authorizations;
+    this.resources = new OfflineReadResources(context, readerThreads, cacheSize);
+  }
+
+  @Override
+  public void setRanges(Collection<Range> ranges) {
+    if (ranges == null || ranges.isEmpty()) {
+      throw new IllegalArgumentException("ranges must be non null and contain at least 1 range");
+    }
+    this.ranges = Range.mergeOverlapping(ranges);
+  }
+
+  @Override
+  public Iterator<Entry<Key,Value>> iterator() {
+    if (ranges == null) {
+      throw new IllegalStateException("ranges not set");
+    }
+
+    // only open the tablets of a range once the previous ranges are read
+    Iterator<Entry<Key,Value>> iter = Iterators.concat(Iterators.transform(ranges.iterator(),
+        range -> new OfflineIterator(this, context, authorizations, tableId, range, resources)));
+    if (resources.getReadAhead() != null) {
+      iter = new ReadAheadIterator<>(iter, Constants.SCAN_BATCH_SIZE,
+          Constants.SCANNER_DEFAULT_READAHEAD_THRESHOLD, resources.getReadAhead());
+    }
+    return iter;
+  }
+
+  @Override
+  public Authorizations getAuthorizations() {
+    return authorizations;
+  }
+
+  @Override
+  public void close() {
+    resources.close();
+  }
+}
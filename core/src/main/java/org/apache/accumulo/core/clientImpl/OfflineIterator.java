@@ -31,7 +31,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.accumulo.core.client.AccumuloException;
 import org.apache.accumulo.core.client.AccumuloSecurityException;
@@ -42,6 +47,7 @@ import org.apache.accumulo.core.conf.AccumuloConfiguration;
 import org.apache.accumulo.core.conf.ConfigurationCopy;
 import org.apache.accumulo.core.conf.Property;
 import org.apache.accumulo.core.crypto.CryptoFactoryLoader;
+import org.apache.accumulo.core.data.ByteSequence;
 import org.apache.accumulo.core.data.Key;
 import org.apache.accumulo.core.data.KeyValue;
 import org.apache.accumulo.core.data.PartialKey;
@@ -65,6 +71,7 @@ import org.apache.accumulo.core.metadata.schema.TabletsMetadata;
 import org.apache.accumulo.core.sample.impl.SamplerConfigurationImpl;
 import org.apache.accumulo.core.security.Authorizations;
 import org.apache.accumulo.core.security.ColumnVisibility;
+import org.apache.accumulo.core.spi.crypto.CryptoService;
 import org.apache.accumulo.core.util.LocalityGroupUtil;
 import org.apache.accumulo.core.volume.VolumeConfiguration;
 import org.apache.hadoop.conf.Configuration;
@@ -147,12 +154,23 @@ class OfflineIterator implements Iterator<Entry<Key,Value>> {
   private final ClientContext context;
   private final ScannerOptions options;
   private final ArrayList<SortedKeyValueIterator<Key,Value>> readers;
+  private final OfflineReadResources resources;
 
   public OfflineIterator(ScannerOptions options, ClientContext context,
       Authorizations authorizations, Text table, Range range) {
+    this(options, context, authorizations, table, range, null);
+  }
+
+  /**
+   * @param resources the threads and block cache used to read files, or null to read files one at
+   *        a time without caching
+   */
+  OfflineIterator(ScannerOptions options, ClientContext context, Authorizations authorizations,
+      Text table, Range range, OfflineReadResources resources) {
     this.options = new ScannerOptions(options);
     this.context = context;
     this.range = range;
+    this.resources = resources;
 
     if (!this.options.fetchedColumns.isEmpty()) {
       this.range =
@@ -223,6 +241,7 @@ class OfflineIterator implements Iterator<Entry<Key,Value>> {
       if (currentExtent.endRow() == null
           || range.afterEndKey(new Key(currentExtent.endRow()).followingKey(PartialKey.ROW))) {
         iter = null;
+        closeReaders();
         return;
       }
 
@@ -281,11 +300,7 @@ class OfflineIterator implements Iterator<Entry<Key,Value>> {
 
     Configuration conf = context.getHadoopConf();
 
-    for (SortedKeyValueIterator<Key,Value> reader : readers) {
-      ((FileSKVIterator) reader).close();
-    }
-
-    readers.clear();
+    closeReaders();
 
     SamplerConfiguration scannerSamplerConfig = options.getSamplerConfiguration();
     SamplerConfigurationImpl scannerSamplerConfigImpl =
@@ -295,18 +310,46 @@ class OfflineIterator implements Iterator<Entry<Key,Value>> {
     if (scannerSamplerConfigImpl != null && !scannerSamplerConfigImpl.equals(samplerConfImpl)) {
       throw new SampleNotPresentException();
     }
+    var cs = CryptoFactoryLoader.getServiceForClientWithTable(systemConf, tableConf, tableId);
+    ExecutorService fileReaders = resources == null ? null : resources.getFileReaders();
+    Executor executor = fileReaders == null ? Runnable::run : fileReaders;
+    // When files are opened concurrently also seek them, so the blocks the merge below starts
+    // reading from are loaded in parallel. The later seek of the iterator stack uses the same
+    // clipped range and families, so each reader is already positioned and does no more I/O.
+    Range seekRange = fileReaders == null ? null : extent.toDataRange().clip(range, true);
+    List<CompletableFuture<FileSKVIterator>> opening = new ArrayList<>(absFiles.size());
     for (StoredTabletFile file : absFiles) {
-      var cs = CryptoFactoryLoader.getServiceForClientWithTable(systemConf, tableConf, tableId);
-      FileSystem fs = VolumeConfiguration.fileSystemForPath(file.getNormalizedPathStr(), conf);
-      FileSKVIterator reader = FileOperations.getInstance().newReaderBuilder()
-          .forFile(file, fs, conf, cs).withTableConfiguration(tableCC).build();
-      if (scannerSamplerConfigImpl != null) {
-        reader = reader.getSample(scannerSamplerConfigImpl);
-        if (reader == null) {
-          throw new SampleNotPresentException();
+      opening.add(CompletableFuture.supplyAsync(() -> {
+        try {
+          return openFile(file, conf, cs, tableCC, scannerSamplerConfigImpl, seekRange);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
         }
+      }, executor));
+    }
+    RuntimeException failure = null;
+    for (CompletableFuture<FileSKVIterator> future : opening) {
+      try {
+        readers.add(future.join());
+      } catch (CompletionException e) {
+        if (failure == null) {
+          failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+      }
+    }
+    if (failure != null) {
+      Exception cause = failure instanceof UncheckedIOException
+          ? ((UncheckedIOException) failure).getCause() : failure;
+      // close the files that did open, they are not used when this tablet can not be read
+      try {
+        closeReaders();
+      } catch (IOException | RuntimeException e) {
+        cause.addSuppressed(e);
+      }
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
       }
-      readers.add(reader);
+      throw failure;
     }
 
     MultiIterator multiIter = new MultiIterator(readers, extent);
@@ -329,6 +372,38 @@ class OfflineIterator implements Iterator<Entry<Key,Value>> {
         .getTopLevelIterator(IteratorConfigUtil.loadIterators(visFilter, iteratorBuilder));
   }
 
+  private FileSKVIterator openFile(StoredTabletFile file, Configuration conf, CryptoService cs,
+      AccumuloConfiguration tableCC, SamplerConfigurationImpl samplerConfig, Range seekRange)
+      throws IOException {
+    FileSystem fs = VolumeConfiguration.fileSystemForPath(file.getNormalizedPathStr(), conf);
+    FileSKVIterator reader = FileOperations.getInstance().newReaderBuilder()
+        .forFile(file, fs, conf, cs).withTableConfiguration(tableCC)
+        .withCacheProvider(resources == null ? null : resources.getCacheProvider()).build();
+    if (samplerConfig != null) {
+      reader = reader.getSample(samplerConfig);
+      if (reader == null) {
+        throw new SampleNotPresentException();
+      }
+    }
+    if (seekRange != null) {
+      Collection<ByteSequence> families = LocalityGroupUtil.families(options.fetchedColumns);
+      try {
+        reader.seek(seekRange, families, !families.isEmpty());
+      } catch (IOException | RuntimeException e) {
+        reader.close();
+        throw e;
+      }
+    }
+    return reader;
+  }
+
+  private void closeReaders() throws IOException {
+    for (SortedKeyValueIterator<Key,Value> reader : readers) {
+      ((FileSKVIterator) reader).close();
+    }
+    readers.clear();
+  }
+
   @Override
   public void remove() {
     throw new UnsupportedOperationException();
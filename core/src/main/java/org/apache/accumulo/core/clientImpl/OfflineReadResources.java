@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.clientImpl;
+
+import java.util.concurrent.ExecutorService;
+
+import org.apache.accumulo.core.conf.ConfigurationCopy;
+import org.apache.accumulo.core.conf.DefaultConfiguration;
+import org.apache.accumulo.core.conf.Property;
+import org.apache.accumulo.core.file.blockfile.cache.impl.BlockCacheConfiguration;
+import org.apache.accumulo.core.file.blockfile.cache.impl.BlockCacheManagerFactory;
+import org.apache.accumulo.core.file.blockfile.impl.BasicCacheProvider;
+import org.apache.accumulo.core.file.blockfile.impl.CacheProvider;
+import org.apache.accumulo.core.spi.cache.BlockCacheManager;
+import org.apache.accumulo.core.spi.cache.CacheType;
+
+/**
+ * The threads and block cache shared by the iterators of an offline scanner. With more than one
+ * reader thread the files of a tablet are opened and seeked concurrently, and the next batch of
+ * entries is read in the background while the current one is consumed.
+ */
+class OfflineReadResources implements AutoCloseable {
+
+  // a block cache needs room for at least a few blocks to be useful
+  private static final long MIN_CACHE_SIZE = 1 << 20;
+
+  private final ExecutorService fileReaders;
+  private final ExecutorService readAhead;
+  private final BlockCacheManager blockCacheManager;
+  private final CacheProvider cacheProvider;
+
+  OfflineReadResources(ClientContext context, int readerThreads, long cacheSize) {
+    if (readerThreads > 1) {
+      fileReaders =
+          context.threadPools().createFixedThreadPool(readerThreads, "offline file reader", false);
+      // read ahead waits on the file readers, so it needs its own thread to avoid starving them
+      readAhead = context.threadPools().createFixedThreadPool(1, "offline read ahead", false);
+    } else {
+      fileReaders = null;
+      readAhead = null;
+    }
+
+    if (cacheSize > 0) {
+      ConfigurationCopy cc = new ConfigurationCopy(DefaultConfiguration.getInstance());
+      long indexCacheSize = Math.max(MIN_CACHE_SIZE, cacheSize / 4);
+      long dataCacheSize = Math.max(MIN_CACHE_SIZE, cacheSize - cacheSize / 4);
+      cc.set(Property.TSERV_INDEXCACHE_SIZE, Long.toString(indexCacheSize));
+      cc.set(Property.TSERV_DATACACHE_SIZE, Long.toString(dataCacheSize));
+      try {
+        blockCacheManager = BlockCacheManagerFactory.getClientInstance(cc);
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalArgumentException(
+            "Configuration does not contain loadable class for block cache manager factory", e);
+      }
+      blockCacheManager.start(BlockCacheConfiguration.forTabletServer(cc));
+      cacheProvider = new BasicCacheProvider(blockCacheManager.getBlockCache(CacheType.INDEX),
+          blockCacheManager.getBlockCache(CacheType.DATA));
+    } else {
+      blockCacheManager = null;
+      cacheProvider = null;
+    }
+  }
+
+  /**
+   * @return the executor opening files, or null when files are opened by the reading thread
+   */
+  ExecutorService getFileReaders() {
+    return fileReaders;
+  }
+
+  /**
+   * @return the executor reading ahead, or null when there is no read ahead
+   */
+  ExecutorService getReadAhead() {
+    return readAhead;
+  }
+
+  /**
+   * @return the block caches, or null when blocks are not cached
+   */
+  CacheProvider getCacheProvider() {
+    return cacheProvider;
+  }
+
+  @Override
+  public void close() {
+    if (fileReaders != null) {
+      fileReaders.shutdownNow();
+      readAhead.shutdownNow();
+    }
+    if (blockCacheManager != null) {
+      blockCacheManager.stop();
+    }
+  }
+}
@@ -19,6 +19,7 @@
 package org.apache.accumulo.core.clientImpl;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
 
 import java.util.Iterator;
 import java.util.Map.Entry;
@@ -40,6 +41,10 @@ public class OfflineScanner extends ScannerOptions implements Scanner {
   private ClientContext context;
   private Authorizations authorizations;
   private Text tableId;
+  private int readerThreads = 1;
+  private long cacheSize = 0;
+  private long readaheadThreshold = Constants.SCANNER_DEFAULT_READAHEAD_THRESHOLD;
+  private OfflineReadResources resources;
 
   public OfflineScanner(ClientContext context, TableId tableId, Authorizations authorizations) {
     checkArgument(context != null, "context is null");
@@ -82,9 +87,48 @@ public class OfflineScanner extends ScannerOptions implements Scanner {
 
   }
 
+  /**
+   * Sets the number of threads that open the files of a tablet. With more than one thread the files
+   * are opened and seeked concurrently, and the next batch of entries is read ahead in the
+   * background.
+   */
+  public void setReaderThreads(int threads) {
+    checkArgument(threads > 0, "threads must be positive");
+    checkState(resources == null, "scanner already read");
+    this.readerThreads = threads;
+  }
+
+  /**
+   * Sets the size in bytes of the block cache shared by the files this scanner reads, 0 to read
+   * blocks without caching them.
+   */
+  public void setCacheSize(long bytes) {
+    checkArgument(bytes >= 0, "cache size must not be negative");
+    checkState(resources == null, "scanner already read");
+    this.cacheSize = bytes;
+  }
+
   @Override
   public Iterator<Entry<Key,Value>> iterator() {
-    return new OfflineIterator(this, context, authorizations, tableId, range);
+    if (readerThreads == 1 && cacheSize == 0) {
+      return new OfflineIterator(this, context, authorizations, tableId, range);
+    }
+    if (resources == null) {
+      resources = new OfflineReadResources(context, readerThreads, cacheSize);
+    }
+    Iterator<Entry<Key,Value>> iter =
+        new OfflineIterator(this, context, authorizations, tableId, range, resources);
+    if (resources.getReadAhead() != null) {
+      iter = new ReadAheadIterator<>(iter, batchSize, readaheadThreshold, resources.getReadAhead());
+    }
+    return iter;
+  }
+
+  @Override
+  public void close() {
+    if (resources != null) {
+      resources.close();
+    }
   }
 
   @Override
@@ -94,12 +138,17 @@ public class OfflineScanner extends ScannerOptions implements Scanner {
 
   @Override
   public long getReadaheadThreshold() {
-    throw new UnsupportedOperationException();
+    return readaheadThreshold;
   }
 
+  /**
+   * Sets the number of batches read before reading ahead, only used with more than one
+   * {@link #setReaderThreads(int) reader thread}.
+   */
   @Override
   public void setReadaheadThreshold(long batches) {
-    throw new UnsupportedOperationException();
+    checkArgument(batches >= 0, "Number of batches before read-ahead must be non-negative");
+    this.readaheadThreshold = batches;
   }
 
 }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.clientImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Reads a source iterator in batches, and once a number of batches have been read reads the next
+ * batch in the background while the current one is consumed. The source is only used by one
+ * thread at a time.
+ */
+class ReadAheadIterator<E> implements Iterator<E> {
+
+  private final Iterator<E> source;
+  private final int batchSize;
+  private final long threshold;
+  private final Executor executor;
+
+  private Iterator<E> batch = Collections.emptyIterator();
+  private CompletableFuture<List<E>> nextBatch;
+  private long batchCount = 0;
+
+  /**
+   * @param batchSize the number of elements read at once
+   * @param threshold the number of batches read before reading ahead
+   * @param executor runs the read ahead
+   */
+  ReadAheadIterator(Iterator<E> source, int batchSize, long threshold, Executor executor) {
+    this.source = source;
+    this.batchSize = batchSize;
+    this.threshold = threshold;
+    this.executor = executor;
+  }
+
+  private List<E> readBatch() {
+    List<E> elements = new ArrayList<>(batchSize);
+    while (elements.size() < batchSize && source.hasNext()) {
+      elements.add(source.next());
+    }
+    return elements;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!batch.hasNext()) {
+      List<E> elements;
+      if (nextBatch != null) {
+        try {
+          elements = nextBatch.join();
+        } catch (CompletionException e) {
+          if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+          }
+          throw e;
+        } finally {
+          nextBatch = null;
+        }
+      } else {
+        elements = readBatch();
+      }
+
+      if (elements.isEmpty()) {
+        return false;
+      }
+      batch = elements.iterator();
+      if (++batchCount >= threshold) {
+        nextBatch = CompletableFuture.supplyAsync(this::readBatch, executor);
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public E next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return batch.next();
+  }
+}
@@ -83,6 +83,7 @@ import org.apache.accumulo.core.client.admin.FindMax;
 import org.apache.accumulo.core.client.admin.ImportConfiguration;
 import org.apache.accumulo.core.client.admin.Locations;
 import org.apache.accumulo.core.client.admin.NewTableConfiguration;
+import org.apache.accumulo.core.client.admin.RangeEstimate;
 import org.apache.accumulo.core.client.admin.SummaryRetriever;
 import org.apache.accumulo.core.client.admin.TableOperations;
 import org.apache.accumulo.core.client.admin.TimeType;
@@ -91,6 +92,7 @@ import org.apache.accumulo.core.client.admin.compaction.CompactionSelector;
 import org.apache.accumulo.core.client.sample.SamplerConfiguration;
 import org.apache.accumulo.core.client.summary.SummarizerConfiguration;
 import org.apache.accumulo.core.client.summary.Summary;
+import org.apache.accumulo.core.client.summary.summarizers.RowSketchSummarizer;
 import org.apache.accumulo.core.clientImpl.TabletLocator.TabletLocation;
 import org.apache.accumulo.core.clientImpl.bulk.BulkImport;
 import org.apache.accumulo.core.clientImpl.thrift.ClientService.Client;
@@ -130,6 +132,7 @@ import org.apache.accumulo.core.rpc.ThriftUtil;
 import org.apache.accumulo.core.rpc.clients.ThriftClientTypes;
 import org.apache.accumulo.core.sample.impl.SamplerConfigurationImpl;
 import org.apache.accumulo.core.security.Authorizations;
+import org.apache.accumulo.core.summary.RowSketchEstimator;
 import org.apache.accumulo.core.summary.SummarizerConfigurationUtil;
 import org.apache.accumulo.core.summary.SummaryCollection;
 import org.apache.accumulo.core.tablet.thrift.TabletManagementClientService;
@@ -2006,6 +2009,37 @@ public class TableOperationsImpl extends TableOperationsHelper {
     };
   }
 
+  @Override
+  public RangeEstimate estimateRange(String tableName, Range range, int numSplitPoints)
+      throws AccumuloException, AccumuloSecurityException, TableNotFoundException {
+    EXISTING_TABLE_NAME.validate(tableName);
+    Objects.requireNonNull(range);
+    Preconditions.checkArgument(numSplitPoints >= 0, "numSplitPoints must be non-negative : %s",
+        numSplitPoints);
+
+    String className = RowSketchSummarizer.class.getName();
+    SummaryRetriever retriever =
+        summaries(tableName).withMatchingConfiguration(Pattern.quote(className) + " .*");
+    // summaries are retrieved for whole files or parts of files, so fetching a slightly larger
+    // range is fine as the sampled rows are filtered by the exact range
+    if (!range.isInfiniteStartKey()) {
+      Text startRow = RowSketchEstimator.rowBefore(range.getStartKey().getRow());
+      if (startRow != null) {
+        retriever.startRow(startRow);
+      }
+    }
+    if (!range.isInfiniteStopKey()) {
+      retriever.endRow(range.getEndKey().getRow());
+    }
+
+    Summary summary = retriever.retrieve().stream()
+        .filter(s -> s.getSummarizerConfiguration().getClassName().equals(className)).findFirst()
+        .orElseThrow(() -> new IllegalStateException("No row sketches found for table "
+            + tableName + ", add " + className + " as a summarizer and compact the table"));
+
+    return RowSketchEstimator.estimate(summary, range, numSplitPoints);
+  }
+
   @Override
   public void addSummarizers(String tableName, SummarizerConfiguration... newConfigs)
       throws AccumuloException, AccumuloSecurityException, TableNotFoundException {
@@ -58,6 +58,7 @@ import org.apache.accumulo.core.data.TableId;
 import org.apache.accumulo.core.data.TabletId;
 import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.core.dataImpl.KeyValueBlock;
 import org.apache.accumulo.core.dataImpl.TabletIdImpl;
 import org.apache.accumulo.core.dataImpl.thrift.InitialMultiScan;
 import org.apache.accumulo.core.dataImpl.thrift.MultiScanResult;
@@ -827,7 +828,10 @@ public class TabletServerBatchReaderIterator implements Iterator<Entry<Key,Value
         // @formatter:on
 
         Map<String,String> execHints =
-            options.executionHints.isEmpty() ? null : options.executionHints;
+            ThriftScanner.addResultEncodingHint(context, options.executionHints);
+        if (execHints.isEmpty()) {
+          execHints = null;
+        }
 
         InitialMultiScan imsr = client.startMultiScan(TraceUtil.traceInfo(), context.rpcCreds(),
             thriftTabletRanges, columns.stream().map(Column::toThrift).collect(Collectors.toList()),
@@ -844,15 +848,12 @@ public class TabletServerBatchReaderIterator implements Iterator<Entry<Key,Value
         if (timer != null) {
           timer.stop();
           log.trace("tid={} Got 1st multi scan results, #results={} {} in {}",
-              Thread.currentThread().getId(), scanResult.results.size(),
+              Thread.currentThread().getId(), getResultCount(scanResult),
               (scanResult.more ? "scanID=" + imsr.scanID : ""),
               String.format("%.3f secs", timer.scale(SECONDS)));
         }
 
-        ArrayList<Entry<Key,Value>> entries = new ArrayList<>(scanResult.results.size());
-        for (TKeyValue kv : scanResult.results) {
-          entries.add(new SimpleImmutableEntry<>(new Key(kv.key), new Value(kv.value)));
-        }
+        List<Entry<Key,Value>> entries = getEntries(scanResult);
 
         if (!entries.isEmpty()) {
           receiver.receive(entries);
@@ -882,14 +883,11 @@ public class TabletServerBatchReaderIterator implements Iterator<Entry<Key,Value
             timer.stop();
             log.trace("tid={} oid={} Got more multi scan results, #results={} {} in {}",
                 Thread.currentThread().getId(), nextOpid.getAndIncrement(),
-                scanResult.results.size(), (scanResult.more ? " scanID=" + imsr.scanID : ""),
+                getResultCount(scanResult), (scanResult.more ? " scanID=" + imsr.scanID : ""),
                 String.format("%.3f secs", timer.scale(SECONDS)));
           }
 
-          entries = new ArrayList<>(scanResult.results.size());
-          for (TKeyValue kv : scanResult.results) {
-            entries.add(new SimpleImmutableEntry<>(new Key(kv.key), new Value(kv.value)));
-          }
+          entries = getEntries(scanResult);
 
           if (!entries.isEmpty()) {
             receiver.receive(entries);
@@ -939,6 +937,26 @@ public class TabletServerBatchReaderIterator implements Iterator<Entry<Key,Value
     }
   }
 
+  /**
+   * Converts the entries of a multi scan result. Block encoded results are decoded as the returned
+   * list is iterated.
+   */
+  private static List<Entry<Key,Value>> getEntries(MultiScanResult scanResult) {
+    if (scanResult.isSetEncodedResults()) {
+      return Collections.unmodifiableList(KeyValueBlock.decode(scanResult.encodedResults));
+    }
+    List<Entry<Key,Value>> entries = new ArrayList<>(scanResult.results.size());
+    for (TKeyValue kv : scanResult.results) {
+      entries.add(new SimpleImmutableEntry<>(new Key(kv.key), new Value(kv.value)));
+    }
+    return entries;
+  }
+
+  private static int getResultCount(MultiScanResult scanResult) {
+    return scanResult.isSetEncodedResults()
+        ? KeyValueBlock.decode(scanResult.encodedResults).size() : scanResult.results.size();
+  }
+
   static int sumSizes(Collection<List<Range>> values) {
     int sum = 0;
 
@@ -30,9 +30,11 @@ import java.lang.management.CompilationMXBean;
 import java.lang.management.GarbageCollectorMXBean;
 import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -125,6 +127,9 @@ public class TabletServerBatchWriter implements AutoCloseable {
   private final long timeout;
   private final Durability durability;
 
+  // pool of segments that buffered mutations are encoded into, null when disabled
+  private final MutationSegmentPool segmentPool;
+
   // state
   private boolean flushing;
   private boolean closed;
@@ -223,6 +228,12 @@ public class TabletServerBatchWriter implements AutoCloseable {
 
     this.writer = new MutationWriter(config.getMaxWriteThreads());
 
+    // segments are charged in full against maxMem, so keep a few of them within the limit and
+    // only keep a small fraction of it in free segments
+    long segmentSize = Math.min(context.getBatchWriterSegmentSize(), maxMem / 4);
+    this.segmentPool = segmentSize > 0 ? new MutationSegmentPool(
+        (int) Math.min(segmentSize, 1 << 30), maxMem / 16, this::adjustMemUsed) : null;
+
     if (this.maxLatency != Long.MAX_VALUE) {
       latencyTimerFuture = executor
           .scheduleWithFixedDelay(Threads.createNamedRunnable("BatchWriterLatencyTimer", () -> {
@@ -241,6 +252,10 @@ public class TabletServerBatchWriter implements AutoCloseable {
   }
 
   private synchronized void startProcessing() {
+    if (segmentPool != null) {
+      // the segment is recycled once the mutations appended to it are written
+      segmentPool.retire();
+    }
     if (mutations.getMemoryUsed() == 0) {
       return;
     }
@@ -254,6 +269,17 @@ public class TabletServerBatchWriter implements AutoCloseable {
     this.notifyAll();
   }
 
+  private synchronized void adjustMemUsed(long amount) {
+    totalMemUsed += amount;
+    if (amount < 0) {
+      this.notifyAll();
+    }
+  }
+
+  private long getBufferedMemory() {
+    return mutations.getMemoryUsed() + (segmentPool == null ? 0 : segmentPool.getOpenedBytes());
+  }
+
   public synchronized void addMutation(TableId table, Mutation m)
       throws MutationsRejectedException {
 
@@ -299,13 +325,17 @@ public class TabletServerBatchWriter implements AutoCloseable {
     // is important for the case where a mutation is passed from map to reduce
     // to batch writer... the map reduce code will keep passing the same mutation
     // object into the reduce method
-    m = new Mutation(m);
+    if (segmentPool == null) {
+      m = new Mutation(m);
+    } else {
+      m = EncodedMutation.encode(m, segmentPool);
+    }
 
     totalMemUsed += m.estimatedMemoryUsed();
     mutations.addMutation(table, m);
     totalAdded++;
 
-    if (mutations.getMemoryUsed() >= maxMem / 2) {
+    if (getBufferedMemory() >= maxMem / 2) {
       startProcessing();
       checkForFailures();
     }
@@ -383,6 +413,28 @@ public class TabletServerBatchWriter implements AutoCloseable {
       writer.binningThreadPool.shutdownNow();
       writer.sendThreadPool.shutdownNow();
       executor.shutdownNow();
+      if (segmentPool != null) {
+        // mutations still held after a failure will not be written, return their segments
+        releaseSegments(mutations.getMutations().values());
+        failedMutations.releaseSegments();
+        writer.releaseSegments();
+        segmentPool.retire();
+      }
+    }
+  }
+
+  /**
+   * Returns the segment space of encoded mutations that will not be written. Segments are only
+   * reused by {@link #addMutation(TableId, Mutation)}, which refuses new mutations once something
+   * failed or the batch writer was closed, so a mutation that is still being sent keeps its data.
+   */
+  private static void releaseSegments(Collection<List<Mutation>> mutationLists) {
+    for (List<Mutation> list : mutationLists) {
+      for (Mutation mutation : list) {
+        if (mutation instanceof EncodedMutation) {
+          ((EncodedMutation) mutation).release();
+        }
+      }
     }
   }
 
@@ -630,6 +682,12 @@ public class TabletServerBatchWriter implements AutoCloseable {
       tsm.getMutations().forEach((ke, muts) -> recentFailures.addAll(ke.tableId(), muts));
     }
 
+    synchronized void releaseSegments() {
+      if (recentFailures != null) {
+        TabletServerBatchWriter.releaseSegments(recentFailures.getMutations().values());
+      }
+    }
+
     public void run() {
       try {
         MutationSet rf = null;
@@ -724,8 +782,10 @@ public class TabletServerBatchWriter implements AutoCloseable {
       } catch (AccumuloSecurityException e) {
         updateAuthorizationFailures(Collections.singletonMap(new KeyExtent(tableId, null, null),
             SecurityErrorCode.valueOf(e.getSecurityErrorCode().name())));
+        dropMutations(mutationsToProcess);
       } catch (TableDeletedException | TableNotFoundException | TableOfflineException e) {
         updateUnknownErrors(e.getMessage(), e);
+        dropMutations(mutationsToProcess);
       }
 
       // an error occurred
@@ -733,6 +793,21 @@ public class TabletServerBatchWriter implements AutoCloseable {
 
     }
 
+    private void dropMutations(MutationSet mutationsToProcess) {
+      if (segmentPool != null) {
+        TabletServerBatchWriter.releaseSegments(mutationsToProcess.getMutations().values());
+      }
+    }
+
+    /**
+     * Returns the segments of the mutations that were binned but not yet sent.
+     */
+    private synchronized void releaseSegments() {
+      for (TabletServerMutations<Mutation> tsm : serversMutations.values()) {
+        TabletServerBatchWriter.releaseSegments(tsm.getMutations().values());
+      }
+    }
+
     void queueMutations(final MutationSet mutationsToSend) {
       if (mutationsToSend == null) {
         return;
@@ -832,8 +907,9 @@ public class TabletServerBatchWriter implements AutoCloseable {
 
       @Override
       public void run() {
+        TabletServerMutations<Mutation> tsmuts = null;
         try {
-          TabletServerMutations<Mutation> tsmuts = getMutationsToSend(location);
+          tsmuts = getMutationsToSend(location);
 
           while (tsmuts != null) {
             send(tsmuts);
@@ -842,6 +918,10 @@ public class TabletServerBatchWriter implements AutoCloseable {
         } catch (Exception t) {
           updateUnknownErrors(
               "Failed to send tablet server " + location + " its batch : " + t.getMessage(), t);
+          if (tsmuts != null && segmentPool != null) {
+            // the batch is dropped
+            TabletServerBatchWriter.releaseSegments(tsmuts.getMutations().values());
+          }
         }
       }
 
@@ -901,6 +981,10 @@ public class TabletServerBatchWriter implements AutoCloseable {
               }
             }
 
+            if (segmentPool != null) {
+              releaseSegments(mutationBatch, failures);
+            }
+
             if (failures.size() > 0) {
               failedMutations.add(failures);
               successBytes -= failures.getMemoryUsed();
@@ -934,6 +1018,22 @@ public class TabletServerBatchWriter implements AutoCloseable {
       }
     }
 
+    /**
+     * Returns the segment space of encoded mutations that were written to the tablet server.
+     */
+    private void releaseSegments(Map<KeyExtent,List<Mutation>> mutationBatch,
+        MutationSet failures) {
+      Set<Mutation> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+      failures.getMutations().values().forEach(failed::addAll);
+      for (List<Mutation> tabletMutations : mutationBatch.values()) {
+        for (Mutation mutation : tabletMutations) {
+          if (mutation instanceof EncodedMutation && !failed.contains(mutation)) {
+            ((EncodedMutation) mutation).release();
+          }
+        }
+      }
+    }
+
     private MutationSet sendMutationsToTabletServer(String location,
         Map<KeyExtent,List<Mutation>> tabMuts, TimeoutTracker timeoutTracker,
         SessionCloser sessionCloser)
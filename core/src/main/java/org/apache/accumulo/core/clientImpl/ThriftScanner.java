@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +55,7 @@ import org.apache.accumulo.core.data.TableId;
 import org.apache.accumulo.core.data.TabletId;
 import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.core.dataImpl.KeyValueBlock;
 import org.apache.accumulo.core.dataImpl.TabletIdImpl;
 import org.apache.accumulo.core.dataImpl.thrift.InitialScan;
 import org.apache.accumulo.core.dataImpl.thrift.IterInfo;
@@ -144,10 +146,16 @@ public class ThriftScanner {
           serversWaitedForWrites.get(ttype).add(server);
         }
 
-        Key.decompress(isr.result.results);
+        if (isr.result.isSetEncodedResults()) {
+          for (KeyValue kv : KeyValueBlock.decode(isr.result.encodedResults)) {
+            results.put(kv.getKey(), kv.getValue());
+          }
+        } else {
+          Key.decompress(isr.result.results);
 
-        for (TKeyValue kv : isr.result.results) {
-          results.put(new Key(kv.key), new Value(kv.value));
+          for (TKeyValue kv : isr.result.results) {
+            results.put(new Key(kv.key), new Value(kv.value));
+          }
         }
 
         client.closeScan(tinfo, isr.scanID);
@@ -248,6 +256,7 @@ public class ThriftScanner {
 
       this.batchTimeOut = batchTimeOut;
 
+      executionHints = addResultEncodingHint(context, executionHints);
       if (executionHints == null || executionHints.isEmpty()) {
         this.executionHints = null; // avoid thrift serialization for empty map
       } else {
@@ -685,7 +694,7 @@ public class ThriftScanner {
           timer.stop();
           log.trace("tid={} Finished scan in {} #results={} scanid={}",
               Thread.currentThread().getId(), String.format("%.3f secs", timer.scale(SECONDS)),
-              sr.results.size(), scanState.scanID);
+              getResultCount(sr), scanState.scanID);
         }
       } else {
         // log.debug("No more : tab end row = "+loc.tablet_extent.getEndRow()+" range =
@@ -697,7 +706,7 @@ public class ThriftScanner {
             timer.stop();
             log.trace("tid={} Completely finished scan in {} #results={}",
                 Thread.currentThread().getId(), String.format("%.3f secs", timer.scale(SECONDS)),
-                sr.results.size());
+                getResultCount(sr));
           }
 
         } else if (scanState.range.getEndKey() == null || !scanState.range
@@ -709,7 +718,7 @@ public class ThriftScanner {
             timer.stop();
             log.trace("tid={} Finished scanning tablet in {} #results={}",
                 Thread.currentThread().getId(), String.format("%.3f secs", timer.scale(SECONDS)),
-                sr.results.size());
+                getResultCount(sr));
           }
         } else {
           scanState.finished = true;
@@ -717,11 +726,21 @@ public class ThriftScanner {
             timer.stop();
             log.trace("tid={} Completely finished in {} #results={}",
                 Thread.currentThread().getId(), String.format("%.3f secs", timer.scale(SECONDS)),
-                sr.results.size());
+                getResultCount(sr));
           }
         }
       }
 
+      if (sr.isSetEncodedResults()) {
+        // entries are decoded as the scanner iterates over them
+        KeyValueBlock block = KeyValueBlock.decode(sr.encodedResults);
+        if (!block.isEmpty() && !scanState.finished) {
+          scanState.range = new Range(block.getLastKey(), false, scanState.range.getEndKey(),
+              scanState.range.isEndKeyInclusive());
+        }
+        return block;
+      }
+
       Key.decompress(sr.results);
 
       if (!sr.results.isEmpty() && !scanState.finished) {
@@ -744,6 +763,33 @@ public class ThriftScanner {
     }
   }
 
+  /**
+   * Adds the execution hint asking for block encoded scan results when the client is configured to
+   * use them and the scan did not set the hint itself.
+   */
+  static Map<String,String> addResultEncodingHint(ClientContext context,
+      Map<String,String> executionHints) {
+    String encoding = context.getScanResultEncoding();
+    if (encoding.isEmpty()
+        || (executionHints != null && executionHints.containsKey(KeyValueBlock.EXECUTION_HINT))) {
+      return executionHints;
+    }
+    Map<String,String> hints = new HashMap<>();
+    if (executionHints != null) {
+      hints.putAll(executionHints);
+    }
+    hints.put(KeyValueBlock.EXECUTION_HINT, encoding);
+    return hints;
+  }
+
+  /**
+   * @return the number of entries in a scan result, however they were encoded
+   */
+  static int getResultCount(ScanResult sr) {
+    return sr.isSetEncodedResults() ? KeyValueBlock.decode(sr.encodedResults).size()
+        : sr.results.size();
+  }
+
   static void close(ScanState scanState) {
     if (!scanState.finished && scanState.scanID != null && scanState.prevLoc != null) {
       TInfo tinfo = TraceUtil.traceInfo();
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.clientImpl.bulk;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.accumulo.core.clientImpl.bulk.BulkImport.KeyExtentCache;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+import org.apache.accumulo.core.util.TextUtil;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.io.Text;
+
+/**
+ * What bulk import needs to know about a file to map it to tablets: the file's row range and a
+ * bounded sample of its index. This is read from the file's metadata and index without reading any
+ * data blocks. It does not depend on the table's splits, so it can be reused when a mapping has to
+ * be recomputed after a concurrent merge or when the import of the same files is attempted again.
+ *
+ * WARNING : do not change this class, its used for serialization to Json
+ */
+public class BulkFileIndex {
+
+  /**
+   * Index entries are sampled so that at most twice this many are kept per file. Sizes of the file
+   * in each tablet are estimated at this granularity.
+   */
+  static final int SAMPLES = 64;
+
+  private final String name;
+  private final long length;
+  private final long modificationTime;
+  private final byte[] firstRow;
+  private final byte[] lastRow;
+  // the rows of the sampled index entries and the number of index entries up to each sample
+  private final byte[][] rows;
+  private final long[] counts;
+
+  BulkFileIndex(String name, long length, long modificationTime, Text firstRow, Text lastRow,
+      List<Text> rows, List<Long> counts) {
+    this.name = name;
+    this.length = length;
+    this.modificationTime = modificationTime;
+    this.firstRow = firstRow == null ? null : TextUtil.getBytes(firstRow);
+    this.lastRow = lastRow == null ? null : TextUtil.getBytes(lastRow);
+    this.rows = rows.stream().map(TextUtil::getBytes).toArray(byte[][]::new);
+    this.counts = counts.stream().mapToLong(Long::longValue).toArray();
+  }
+
+  /**
+   * @param status the status of the file, used to detect if it changed since it was read
+   * @param firstRow the first row in the file from its metadata, null if the file is empty
+   * @param lastRow the last row in the file from its metadata, null if the file is empty
+   * @param index an iterator over the keys in the file's index
+   */
+  public static BulkFileIndex read(FileStatus status, Text firstRow, Text lastRow,
+      SortedKeyValueIterator<Key,Value> index) throws IOException {
+    List<Text> rows = new ArrayList<>();
+    List<Long> counts = new ArrayList<>();
+
+    long stride = 1;
+    long count = 0;
+    Text row = null;
+    while (index.hasTop()) {
+      row = index.getTopKey().getRow();
+      count++;
+      if (count % stride == 0) {
+        rows.add(row);
+        counts.add(count);
+        if (rows.size() == 2 * SAMPLES) {
+          // keep every other sample, these are the entries at multiples of the doubled stride
+          stride *= 2;
+          for (int i = 0; i < SAMPLES; i++) {
+            rows.set(i, rows.get(2 * i + 1));
+            counts.set(i, counts.get(2 * i + 1));
+          }
+          rows.subList(SAMPLES, rows.size()).clear();
+          counts.subList(SAMPLES, counts.size()).clear();
+        }
+      }
+      index.next();
+    }
+
+    if (count > 0 && counts.get(counts.size() - 1) != count) {
+      rows.add(row);
+      counts.add(count);
+    }
+
+    return new BulkFileIndex(status.getPath().getName(), status.getLen(),
+        status.getModificationTime(), firstRow, lastRow, rows, counts);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return the first row in the file or null if the file is empty
+   */
+  public Text getFirstRow() {
+    return firstRow == null ? null : new Text(firstRow);
+  }
+
+  /**
+   * @return true if this was read from the file with the given status and the file has not changed
+   *         since
+   */
+  public boolean isCurrent(FileStatus status) {
+    return name.equals(status.getPath().getName()) && length == status.getLen()
+        && modificationTime == status.getModificationTime();
+  }
+
+  /**
+   * Finds the tablets that overlap the file's row range and estimates how much of the file falls in
+   * each of them.
+   *
+   * @return the estimated size of the file's data in each tablet it overlaps, empty if the file is
+   *         empty
+   */
+  public Map<KeyExtent,Long> mapToTablets(KeyExtentCache extentCache) {
+    if (firstRow == null) {
+      return Map.of();
+    }
+
+    Map<KeyExtent,Long> entries = new LinkedHashMap<>();
+    KeyExtent extent = extentCache.lookup(new Text(firstRow));
+    entries.put(extent, 0L);
+
+    long prevCount = 0;
+    for (int i = 0; i < rows.length; i++) {
+      extent = advance(extentCache, entries, extent, new Text(rows[i]));
+      entries.merge(extent, counts[i] - prevCount, Long::sum);
+      prevCount = counts[i];
+    }
+    extent = advance(extentCache, entries, extent, new Text(lastRow));
+
+    if (entries.size() == 1) {
+      return Map.of(extent, length);
+    }
+
+    Map<KeyExtent,Long> sizes = new HashMap<>();
+    final long totalEntries = prevCount;
+    entries.forEach((keyExtent, numEntries) -> {
+      if (totalEntries == 0) {
+        sizes.put(keyExtent, length / entries.size());
+      } else {
+        sizes.put(keyExtent,
+            (long) ((Math.max(numEntries, 1) / (double) totalEntries) * length));
+      }
+    });
+    return sizes;
+  }
+
+  private static KeyExtent advance(KeyExtentCache extentCache, Map<KeyExtent,Long> entries,
+      KeyExtent extent, Text row) {
+    while (!extent.contains(row)) {
+      extent = extentCache.lookup(BulkImport.nextRow(extent.endRow()));
+      entries.putIfAbsent(extent, 0L);
+    }
+    return extent;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("file:%s length:%d samples:%d", name, length, rows.length);
+  }
+}
@@ -28,10 +28,11 @@ import static org.apache.accumulo.core.util.Validators.EXISTING_TABLE_NAME;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -46,6 +47,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.apache.accumulo.core.Constants;
@@ -54,6 +56,7 @@ import org.apache.accumulo.core.client.AccumuloSecurityException;
 import org.apache.accumulo.core.client.TableNotFoundException;
 import org.apache.accumulo.core.client.admin.TableOperations.ImportDestinationArguments;
 import org.apache.accumulo.core.client.admin.TableOperations.ImportMappingOptions;
+import org.apache.accumulo.core.client.admin.TableOperations.ImportOptions.ImportPhase;
 import org.apache.accumulo.core.clientImpl.AccumuloBulkMergeException;
 import org.apache.accumulo.core.clientImpl.ClientContext;
 import org.apache.accumulo.core.clientImpl.TableOperationsImpl;
@@ -64,16 +67,14 @@ import org.apache.accumulo.core.conf.ClientProperty;
 import org.apache.accumulo.core.conf.ConfigurationTypeHelper;
 import org.apache.accumulo.core.conf.Property;
 import org.apache.accumulo.core.crypto.CryptoFactoryLoader;
-import org.apache.accumulo.core.data.ByteSequence;
-import org.apache.accumulo.core.data.Key;
 import org.apache.accumulo.core.data.LoadPlan;
 import org.apache.accumulo.core.data.LoadPlan.Destination;
 import org.apache.accumulo.core.data.LoadPlan.RangeType;
-import org.apache.accumulo.core.data.Range;
 import org.apache.accumulo.core.data.TableId;
 import org.apache.accumulo.core.dataImpl.KeyExtent;
 import org.apache.accumulo.core.file.FileOperations;
 import org.apache.accumulo.core.file.FileSKVIterator;
+import org.apache.accumulo.core.file.rfile.RFile.RFileSKVIterator;
 import org.apache.accumulo.core.metadata.UnreferencedTabletFile;
 import org.apache.accumulo.core.spi.crypto.CryptoService;
 import org.apache.accumulo.core.util.Retry;
@@ -105,6 +106,9 @@ public class BulkImport implements ImportDestinationArguments, ImportMappingOpti
   private String tableName;
 
   private LoadPlan plan = null;
+  private boolean savePlan = false;
+  private Consumer<Map<ImportPhase,Duration>> timingsConsumer = null;
+  private final Map<ImportPhase,Duration> timings = new EnumMap<>(ImportPhase.class);
 
   public BulkImport(String directory, ClientContext context) {
     this.context = context;
@@ -123,10 +127,34 @@ public class BulkImport implements ImportDestinationArguments, ImportMappingOpti
     return this;
   }
 
+  @Override
+  public ImportMappingOptions savePlan(boolean save) {
+    this.savePlan = save;
+    return this;
+  }
+
+  @Override
+  public ImportMappingOptions timings(Consumer<Map<ImportPhase,Duration>> consumer) {
+    this.timingsConsumer = Objects.requireNonNull(consumer);
+    return this;
+  }
+
+  private void addTime(ImportPhase phase, long startNanos) {
+    timings.merge(phase, Duration.ofNanos(System.nanoTime() - startNanos), Duration::plus);
+  }
+
+  private void reportTimings() {
+    log.debug("Bulk import of {} to {} phase timings {}", dir, tableName, timings);
+    if (timingsConsumer != null) {
+      timingsConsumer.accept(Collections.unmodifiableMap(new EnumMap<>(timings)));
+    }
+  }
+
   @Override
   public void load()
       throws TableNotFoundException, IOException, AccumuloException, AccumuloSecurityException {
 
+    timings.clear();
     TableId tableId = context.getTableId(tableName);
 
     FileSystem fs = VolumeConfiguration.fileSystemForPath(dir, context.getHadoopConf());
@@ -146,45 +174,90 @@ public class BulkImport implements ImportDestinationArguments, ImportMappingOpti
         .incrementBy(100, MILLISECONDS).maxWait(2, MINUTES).backOffFactor(1.5)
         .logInterval(3, MINUTES).createRetry();
 
-    // retry if a merge occurs
-    boolean shouldRetry = true;
-    while (shouldRetry) {
-      if (plan == null) {
-        mappings = computeMappingFromFiles(fs, tableId, tableProps, srcPath, maxTablets);
-      } else {
-        mappings = computeMappingFromPlan(fs, tableId, srcPath, maxTablets);
-      }
+    Executor executor = null;
+    ExecutorService service = null;
+    List<BulkFileIndex> fileIndexes = null;
 
-      if (mappings.isEmpty()) {
-        if (ignoreEmptyDir == true) {
-          log.info("Attempted to import files from empty directory - {}. Zero files imported",
-              srcPath);
-          return;
+    try {
+      if (plan == null) {
+        if (this.executor != null) {
+          executor = this.executor;
+        } else if (numThreads > 0) {
+          executor = service =
+              context.threadPools().createFixedThreadPool(numThreads, "BulkImportThread", false);
         } else {
-          throw new IllegalArgumentException("Attempted to import zero files from " + srcPath);
+          String threads =
+              context.getConfiguration().get(ClientProperty.BULK_LOAD_THREADS.getKey());
+          executor = service = context.threadPools().createFixedThreadPool(
+              ConfigurationTypeHelper.getNumThreads(threads), "BulkImportThread", false);
         }
+
+        // The files are only read once. If a merge happens, the mapping is recomputed from what was
+        // read.
+        fileIndexes = readFileIndexes(fs, tableId, tableProps, srcPath, executor);
       }
 
-      BulkSerialize.writeLoadMapping(mappings, srcPath.toString(), fs::create);
-
-      List<ByteBuffer> args = Arrays.asList(ByteBuffer.wrap(tableId.canonical().getBytes(UTF_8)),
-          ByteBuffer.wrap(srcPath.toString().getBytes(UTF_8)),
-          ByteBuffer.wrap((setTime + "").getBytes(UTF_8)));
-      try {
-        tableOps.doBulkFateOperation(args, tableName);
-        shouldRetry = false;
-      } catch (AccumuloBulkMergeException ae) {
-        if (plan != null) {
-          checkPlanForSplits(ae);
+      // retry if a merge occurs
+      boolean shouldRetry = true;
+      while (shouldRetry) {
+        long t1 = System.nanoTime();
+        if (plan == null) {
+          mappings = computeMappingFromIndexes(tableId, fileIndexes, executor, maxTablets);
+        } else {
+          mappings = computeMappingFromPlan(fs, tableId, srcPath, maxTablets);
+        }
+        addTime(ImportPhase.MAP, t1);
+
+        if (mappings.isEmpty()) {
+          if (ignoreEmptyDir == true) {
+            log.info("Attempted to import files from empty directory - {}. Zero files imported",
+                srcPath);
+            reportTimings();
+            return;
+          } else {
+            throw new IllegalArgumentException("Attempted to import zero files from " + srcPath);
+          }
         }
+
+        t1 = System.nanoTime();
+        BulkSerialize.writeLoadMapping(mappings, srcPath.toString(), fs::create);
+        addTime(ImportPhase.WRITE, t1);
+
+        List<ByteBuffer> args =
+            Arrays.asList(ByteBuffer.wrap(tableId.canonical().getBytes(UTF_8)),
+                ByteBuffer.wrap(srcPath.toString().getBytes(UTF_8)),
+                ByteBuffer.wrap((setTime + "").getBytes(UTF_8)));
+        t1 = System.nanoTime();
         try {
-          retry.waitForNextAttempt(log, String.format("bulk import to %s(%s)", tableName, tableId));
-        } catch (InterruptedException e) {
-          throw new IllegalStateException(e);
+          tableOps.doBulkFateOperation(args, tableName);
+          shouldRetry = false;
+        } catch (AccumuloBulkMergeException ae) {
+          if (plan != null) {
+            checkPlanForSplits(ae);
+          }
+          try {
+            retry.waitForNextAttempt(log,
+                String.format("bulk import to %s(%s)", tableName, tableId));
+          } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+          }
+          log.info(ae.getMessage() + ". Retrying bulk import to " + tableName);
+        } finally {
+          addTime(ImportPhase.LOAD, t1);
         }
-        log.info(ae.getMessage() + ". Retrying bulk import to " + tableName);
+      }
+    } finally {
+      if (service != null) {
+        service.shutdown();
       }
     }
+
+    if (savePlan) {
+      // the files were moved out of the directory, so the saved plan is of no further use
+      fs.delete(new Path(srcPath, Constants.BULK_LOAD_PLAN), false);
+    }
+
+    reportTimings();
   }
 
   /**
@@ -254,105 +327,16 @@ public class BulkImport implements ImportDestinationArguments, ImportMappingOpti
 
   private static final byte[] byte0 = {0};
 
-  private static class MLong {
-    public MLong(long i) {
-      l = i;
-    }
-
-    long l;
-  }
-
-  public static Map<KeyExtent,Long> estimateSizes(AccumuloConfiguration acuConf,
-      UnreferencedTabletFile dataFile, long fileSize, Collection<KeyExtent> extents, FileSystem ns,
-      Cache<String,Long> fileLenCache, CryptoService cs) throws IOException {
-
-    if (extents.size() == 1) {
-      return Collections.singletonMap(extents.iterator().next(), fileSize);
-    }
-
-    long totalIndexEntries = 0;
-    Map<KeyExtent,MLong> counts = new TreeMap<>();
-    for (KeyExtent keyExtent : extents) {
-      counts.put(keyExtent, new MLong(0));
-    }
-
-    Text row = new Text();
-
-    try (FileSKVIterator index =
-        FileOperations.getInstance().newIndexReaderBuilder().forFile(dataFile, ns, ns.getConf(), cs)
-            .withTableConfiguration(acuConf).withFileLenCache(fileLenCache).build()) {
-      while (index.hasTop()) {
-        Key key = index.getTopKey();
-        totalIndexEntries++;
-        key.getRow(row);
-
-        for (Entry<KeyExtent,MLong> entry : counts.entrySet()) {
-          if (entry.getKey().contains(row)) {
-            entry.getValue().l++;
-          }
-        }
-
-        index.next();
-      }
-    }
-
-    Map<KeyExtent,Long> results = new TreeMap<>();
-    for (KeyExtent keyExtent : extents) {
-      double numEntries = counts.get(keyExtent).l;
-      if (numEntries == 0) {
-        numEntries = 1;
-      }
-      long estSize = (long) ((numEntries / totalIndexEntries) * fileSize);
-      results.put(keyExtent, estSize);
-    }
-    return results;
-  }
-
   public interface KeyExtentCache {
     KeyExtent lookup(Text row);
   }
 
-  public static List<KeyExtent> findOverlappingTablets(KeyExtentCache extentCache,
-      FileSKVIterator reader) throws IOException {
-
-    List<KeyExtent> result = new ArrayList<>();
-    Collection<ByteSequence> columnFamilies = Collections.emptyList();
-    Text row = new Text();
-    while (true) {
-      reader.seek(new Range(row, null), columnFamilies, false);
-      if (!reader.hasTop()) {
-        break;
-      }
-      row = reader.getTopKey().getRow();
-      KeyExtent extent = extentCache.lookup(row);
-      result.add(extent);
-      row = extent.endRow();
-      if (row != null) {
-        row = nextRow(row);
-      } else {
-        break;
-      }
-    }
-
-    return result;
-  }
-
-  private static Text nextRow(Text row) {
+  static Text nextRow(Text row) {
     Text next = new Text(row);
     next.append(byte0, 0, byte0.length);
     return next;
   }
 
-  public static List<KeyExtent> findOverlappingTablets(ClientContext context,
-      KeyExtentCache extentCache, UnreferencedTabletFile file, FileSystem fs,
-      Cache<String,Long> fileLenCache, CryptoService cs) throws IOException {
-    try (FileSKVIterator reader = FileOperations.getInstance().newReaderBuilder()
-        .forFile(file, fs, fs.getConf(), cs).withTableConfiguration(context.getConfiguration())
-        .withFileLenCache(fileLenCache).seekToBeginning().build()) {
-      return findOverlappingTablets(extentCache, reader);
-    }
-  }
-
   private static Map<String,Long> getFileLenMap(List<FileStatus> statuses) {
     HashMap<String,Long> fileLens = new HashMap<>();
     for (FileStatus status : statuses) {
@@ -455,35 +439,6 @@ public class BulkImport implements ImportDestinationArguments, ImportMappingOpti
     return extents;
   }
 
-  private SortedMap<KeyExtent,Bulk.Files> computeMappingFromFiles(FileSystem fs, TableId tableId,
-      Map<String,String> tableProps, Path dirPath, int maxTablets)
-      throws IOException, AccumuloException, AccumuloSecurityException {
-
-    Executor executor;
-    ExecutorService service = null;
-
-    if (this.executor != null) {
-      executor = this.executor;
-    } else if (numThreads > 0) {
-      executor = service =
-          context.threadPools().createFixedThreadPool(numThreads, "BulkImportThread", false);
-    } else {
-      String threads = context.getConfiguration().get(ClientProperty.BULK_LOAD_THREADS.getKey());
-      executor = service = context.threadPools().createFixedThreadPool(
-          ConfigurationTypeHelper.getNumThreads(threads), "BulkImportThread", false);
-    }
-
-    try {
-      return computeFileToTabletMappings(fs, tableId, tableProps, dirPath, executor, context,
-          maxTablets);
-    } finally {
-      if (service != null) {
-        service.shutdown();
-      }
-    }
-
-  }
-
   public static List<FileStatus> filterInvalid(FileStatus[] files) {
 
     ArrayList<FileStatus> fileList = new ArrayList<>(files.length);
@@ -512,67 +467,147 @@ public class BulkImport implements ImportDestinationArguments, ImportMappingOpti
     return fileList;
   }
 
-  public SortedMap<KeyExtent,Bulk.Files> computeFileToTabletMappings(FileSystem fs, TableId tableId,
-      Map<String,String> tableProps, Path dirPath, Executor executor, ClientContext context,
-      int maxTablets) throws IOException, AccumuloException, AccumuloSecurityException {
-
-    KeyExtentCache extentCache = new ConcurrentKeyExtentCache(tableId, context);
+  /**
+   * Reads the row range and a sample of the index of every file in the directory. Only the
+   * metadata and index of each file is read, never its data blocks.
+   */
+  private List<BulkFileIndex> readFileIndexes(FileSystem fs, TableId tableId,
+      Map<String,String> tableProps, Path dirPath, Executor executor)
+      throws IOException, AccumuloException, AccumuloSecurityException {
 
+    long t1 = System.nanoTime();
     List<FileStatus> files = filterInvalid(
         fs.listStatus(dirPath, p -> !p.getName().equals(Constants.BULK_LOAD_MAPPING)));
+    addTime(ImportPhase.LIST, t1);
+
+    t1 = System.nanoTime();
+    Path planPath = new Path(dirPath, Constants.BULK_LOAD_PLAN);
+    if (savePlan && fs.exists(planPath)) {
+      List<BulkFileIndex> saved = BulkSerialize.readLoadPlan(dirPath.toString(), fs::open);
+      Map<String,BulkFileIndex> savedByName = new HashMap<>();
+      saved.forEach(fileIndex -> savedByName.put(fileIndex.getName(), fileIndex));
+      if (saved.size() == files.size() && files.stream().allMatch(status -> {
+        BulkFileIndex fileIndex = savedByName.get(status.getPath().getName());
+        return fileIndex != null && fileIndex.isCurrent(status);
+      })) {
+        addTime(ImportPhase.READ, t1);
+        log.debug("Using plan saved in {} for {} files", planPath, saved.size());
+        return saved;
+      }
+      log.debug("Ignoring plan saved in {}, the files in the directory changed", planPath);
+    }
 
     // we know all of the file lens, so construct a cache and populate it in order to avoid later
     // trips to the namenode
     Cache<String,Long> fileLensCache = getPopulatedFileLenCache(dirPath, files);
 
-    List<CompletableFuture<Map<KeyExtent,Bulk.FileInfo>>> futures = new ArrayList<>();
-
     CryptoService cs = CryptoFactoryLoader.getServiceForClientWithTable(
         context.instanceOperations().getSystemConfiguration(), tableProps, tableId);
 
+    List<CompletableFuture<BulkFileIndex>> futures = new ArrayList<>(files.size());
     for (FileStatus fileStatus : files) {
-      UnreferencedTabletFile file = UnreferencedTabletFile.of(fs, fileStatus.getPath());
-      CompletableFuture<Map<KeyExtent,Bulk.FileInfo>> future = CompletableFuture.supplyAsync(() -> {
+      futures.add(CompletableFuture.supplyAsync(() -> {
         try {
-          long t1 = System.currentTimeMillis();
-          List<KeyExtent> extents =
-              findOverlappingTablets(context, extentCache, file, fs, fileLensCache, cs);
-          // make sure file isn't going to too many tablets
-          checkTabletCount(maxTablets, extents.size(), file.toString());
-          Map<KeyExtent,Long> estSizes = estimateSizes(context.getConfiguration(), file,
-              fileStatus.getLen(), extents, fs, fileLensCache, cs);
-          Map<KeyExtent,Bulk.FileInfo> pathLocations = new HashMap<>();
-          for (KeyExtent ke : extents) {
-            pathLocations.put(ke, new Bulk.FileInfo(file.getPath(), estSizes.getOrDefault(ke, 0L)));
-          }
-          long t2 = System.currentTimeMillis();
-          log.debug("Mapped {} to {} tablets in {}ms", file, pathLocations.size(), t2 - t1);
-          return pathLocations;
-        } catch (Exception e) {
+          return readFileIndex(context.getConfiguration(), fileStatus, fs, fileLensCache, cs);
+        } catch (IOException e) {
           throw new CompletionException(e);
         }
-      }, executor);
+      }, executor));
+    }
 
-      futures.add(future);
+    List<BulkFileIndex> fileIndexes = new ArrayList<>(files.size());
+    for (CompletableFuture<BulkFileIndex> future : futures) {
+      fileIndexes.add(getResult(future));
     }
+    addTime(ImportPhase.READ, t1);
 
-    SortedMap<KeyExtent,Bulk.Files> mappings = new TreeMap<>();
+    if (savePlan) {
+      t1 = System.nanoTime();
+      BulkSerialize.writeLoadPlan(fileIndexes, dirPath.toString(), fs::create);
+      addTime(ImportPhase.WRITE, t1);
+    }
 
-    for (CompletableFuture<Map<KeyExtent,Bulk.FileInfo>> future : futures) {
-      try {
-        Map<KeyExtent,Bulk.FileInfo> pathMapping = future.get();
-        pathMapping.forEach((ext, fi) -> mappings.computeIfAbsent(ext, k -> new Files()).add(fi));
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
-        throw new IllegalStateException(e);
-      } catch (ExecutionException e) {
-        throw new IllegalStateException(e);
+    return fileIndexes;
+  }
+
+  public static BulkFileIndex readFileIndex(AccumuloConfiguration acuConf, FileStatus fileStatus,
+      FileSystem fs, Cache<String,Long> fileLenCache, CryptoService cs) throws IOException {
+    long t1 = System.currentTimeMillis();
+    UnreferencedTabletFile file = UnreferencedTabletFile.of(fs, fileStatus.getPath());
+
+    BulkFileIndex fileIndex = null;
+    Text firstRow;
+    Text lastRow;
+    // opening a reader without seeking it only reads the file's metadata and index
+    try (FileSKVIterator reader = FileOperations.getInstance().newReaderBuilder()
+        .forFile(file, fs, fs.getConf(), cs).withTableConfiguration(acuConf)
+        .withFileLenCache(fileLenCache).build()) {
+      firstRow = reader.getFirstRow();
+      lastRow = reader.getLastRow();
+      if (reader instanceof RFileSKVIterator) {
+        // the index is backed by the reader, so closing the reader is sufficient
+        fileIndex = BulkFileIndex.read(fileStatus, firstRow, lastRow,
+            ((RFileSKVIterator) reader).getIndex());
+      }
+    }
+
+    if (fileIndex == null) {
+      try (FileSKVIterator index = FileOperations.getInstance().newIndexReaderBuilder()
+          .forFile(file, fs, fs.getConf(), cs).withTableConfiguration(acuConf)
+          .withFileLenCache(fileLenCache).build()) {
+        fileIndex = BulkFileIndex.read(fileStatus, firstRow, lastRow, index);
       }
     }
 
+    log.trace("Read index of {} in {}ms", file, System.currentTimeMillis() - t1);
+    return fileIndex;
+  }
+
+  private SortedMap<KeyExtent,Bulk.Files> computeMappingFromIndexes(TableId tableId,
+      List<BulkFileIndex> fileIndexes, Executor executor, int maxTablets) {
+
+    // A new cache is used for each attempt because a merge may have invalidated what was cached
+    KeyExtentCache extentCache = new ConcurrentKeyExtentCache(tableId, context);
+
+    // Pre-populate cache by looking up all first rows in sorted order. Doing this in sorted order
+    // leverages read ahead.
+    fileIndexes.stream().map(BulkFileIndex::getFirstRow).filter(Objects::nonNull).sorted()
+        .distinct().forEach(extentCache::lookup);
+
+    List<CompletableFuture<Map<KeyExtent,Bulk.FileInfo>>> futures = new ArrayList<>();
+    for (BulkFileIndex fileIndex : fileIndexes) {
+      futures.add(CompletableFuture.supplyAsync(() -> {
+        Map<KeyExtent,Long> estSizes = fileIndex.mapToTablets(extentCache);
+        // make sure file isn't going to too many tablets
+        checkTabletCount(maxTablets, estSizes.size(), fileIndex.getName());
+        Map<KeyExtent,Bulk.FileInfo> pathLocations = new HashMap<>();
+        estSizes.forEach((ke, estSize) -> pathLocations.put(ke,
+            new Bulk.FileInfo(fileIndex.getName(), estSize, 0)));
+        log.trace("Mapped {} to {} tablets", fileIndex.getName(), pathLocations.size());
+        return pathLocations;
+      }, executor));
+    }
+
+    SortedMap<KeyExtent,Bulk.Files> mappings = new TreeMap<>();
+    for (CompletableFuture<Map<KeyExtent,Bulk.FileInfo>> future : futures) {
+      getResult(future)
+          .forEach((ext, fi) -> mappings.computeIfAbsent(ext, k -> new Files()).add(fi));
+    }
+
     return mergeOverlapping(mappings);
   }
 
+  private static <T> T getResult(CompletableFuture<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
   // This method handles the case of splits happening while files are being examined. It merges
   // smaller tablets into large tablets.
   static SortedMap<KeyExtent,Bulk.Files>
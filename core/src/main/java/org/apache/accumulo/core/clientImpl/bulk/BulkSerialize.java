@@ -28,6 +28,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -89,6 +90,31 @@ public class BulkSerialize {
     return new LoadMappingIterator(tableId, input.open(lmFile));
   }
 
+  /**
+   * Serialize the file indexes read while planning a bulk import to
+   * {@value Constants#BULK_LOAD_PLAN}
+   */
+  public static void writeLoadPlan(List<BulkFileIndex> fileIndexes, String sourceDir,
+      Output output) throws IOException {
+    final Path planFile = new Path(sourceDir, Constants.BULK_LOAD_PLAN);
+    try (OutputStream fsOut = output.create(planFile);
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(fsOut, UTF_8))) {
+      gson.toJson(fileIndexes, writer);
+    }
+  }
+
+  /**
+   * Reads the file indexes saved by {@link #writeLoadPlan(List, String, Output)}
+   */
+  public static List<BulkFileIndex> readLoadPlan(String sourceDir, Input input)
+      throws IOException {
+    final Path planFile = new Path(sourceDir, Constants.BULK_LOAD_PLAN);
+    try (InputStream fis = input.open(planFile);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(fis, UTF_8))) {
+      return gson.fromJson(reader, new TypeToken<List<BulkFileIndex>>() {}.getType());
+    }
+  }
+
   /**
    * Writes rename file to JSON. This file maps all the old names to the new names for the
    * BulkImportMove FATE operation.
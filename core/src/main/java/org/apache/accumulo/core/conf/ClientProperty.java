@@ -68,6 +68,12 @@ public enum ClientProperty {
       "2.0.0", false),
   BATCH_WRITER_THREADS_MAX("batch.writer.threads.max", "3", PropertyType.COUNT,
       "Maximum number of threads to use for writing data to tablet servers.", "2.0.0", false),
+  BATCH_WRITER_MEMORY_SEGMENT_SIZE("batch.writer.memory.segment.size", "0", PropertyType.BYTES,
+      "When set, mutations buffered by the batch writer are copied in serialized form into pooled"
+          + " segments of this size and sent to tablet servers without re-serializing them. This"
+          + " reduces garbage collection for large write buffers. Set to zero to buffer plain"
+          + " mutation objects.",
+      "3.1.0", false),
   BATCH_WRITER_DURABILITY("batch.writer.durability", "default", PropertyType.DURABILITY,
       Property.TABLE_DURABILITY.getDescription() + " Setting this property will "
           + "change the durability for the BatchWriter session. A value of \"default\" will"
@@ -90,6 +96,12 @@ public enum ClientProperty {
   // Scanner
   SCANNER_BATCH_SIZE("scanner.batch.size", "1000", PropertyType.COUNT,
       "Number of key/value pairs that will be fetched at time from tablet server", "2.0.0", false),
+  SCANNER_RESULT_ENCODING("scanner.result.encoding", "", PropertyType.STRING,
+      "When set, scanners and batch scanners ask for each batch of results to be sent as a single"
+          + " prefix compressed block instead of one Thrift object per key/value pair, compressed"
+          + " with the named algorithm (for example none, lz4 or gz). Scans that set the"
+          + " scan_result_encoding execution hint use the hint instead.",
+      "3.1.0", false),
 
   SCAN_SERVER_SELECTOR("scan.server.selector.impl", ConfigurableScanServerSelector.class.getName(),
       PropertyType.CLASSNAME, "Class used by client to find Scan Servers", "2.1.0", false),
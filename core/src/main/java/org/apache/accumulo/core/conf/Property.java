@@ -38,6 +38,8 @@ import org.apache.accumulo.core.spi.scan.ScanDispatcher;
 import org.apache.accumulo.core.spi.scan.ScanPrioritizer;
 import org.apache.accumulo.core.spi.scan.ScanServerSelector;
 import org.apache.accumulo.core.spi.scan.SimpleScanDispatcher;
+import org.apache.accumulo.core.spi.split.DefaultSplitPlanner;
+import org.apache.accumulo.core.spi.split.SplitPlanner;
 import org.apache.accumulo.core.util.format.DefaultFormatter;
 import org.slf4j.LoggerFactory;
 
@@ -325,6 +327,16 @@ public enum Property {
   GENERAL_PROCESS_BIND_ADDRESS("general.process.bind.addr", "0.0.0.0", PropertyType.STRING,
       "The local IP address to which this server should bind for sending and receiving network traffic.",
       "3.0.0"),
+  GENERAL_ZOOCACHE_PERSISTENT_WATCHES("general.zoocache.watches.persistent", "false",
+      PropertyType.BOOLEAN,
+      "When true, servers cache the instance's ZooKeeper nodes using a persistent recursive watch"
+          + " instead of a watch per node, and load the tables, namespaces, tablet servers and"
+          + " manager lock subtrees with batched reads at startup.",
+      "3.1.0"),
+  GENERAL_ZOOCACHE_MAX_SIZE("general.zoocache.size.max", "0", PropertyType.COUNT,
+      "The maximum number of ZooKeeper nodes whose data, and separately whose children, a server"
+          + " caches. The nodes cached first are evicted when this is exceeded. 0 is unbounded.",
+      "3.1.0"),
   // properties that are specific to manager server behavior
   MANAGER_PREFIX("manager.", null, PropertyType.PREFIX,
       "Properties in this category affect the behavior of the manager server.", "2.1.0"),
@@ -341,6 +353,12 @@ public enum Property {
       "2.1.2"),
   MANAGER_BULK_TIMEOUT("manager.bulk.timeout", "5m", PropertyType.TIMEDURATION,
       "The time to wait for a tablet server to process a bulk import request.", "1.4.3"),
+  MANAGER_BULK_MAX_INFLIGHT_LOADS("manager.bulk.load.inflight.max", "16", PropertyType.COUNT,
+      "The maximum number of bulk load requests the manager has outstanding to tablet servers at"
+          + " once for a bulk import. Requests to different tablet servers are sent concurrently"
+          + " up to this limit, by a pool of this many threads shared by all bulk imports. Values"
+          + " less than 1 are treated as 1. The pool size is set when the manager starts.",
+      "3.1.0"),
   MANAGER_RENAME_THREADS("manager.rename.threadpool.size", "20", PropertyType.COUNT,
       "The number of threads to use when renaming user files during table import or bulk ingest.",
       "2.1.0"),
@@ -407,6 +425,30 @@ public enum Property {
   SSERV_SUMMARYCACHE_SIZE("sserver.cache.summary.size", "10%", PropertyType.MEMORY,
       "Specifies the size of the cache for summary data on each scan server.", "2.1.0"),
   @Experimental
+  SSERV_FILE_CACHE_DIR("sserver.cache.file.dir", "", PropertyType.PATH,
+      "A local directory, ideally on fast local disk, used to cache ranges of the files read by"
+          + " the scan server. Cached ranges are read using memory mapped I/O and are kept across"
+          + " restarts. The cache is disabled when this or sserver.cache.file.size is not set.",
+      "3.1.0"),
+  @Experimental
+  SSERV_FILE_CACHE_SIZE("sserver.cache.file.size", "0", PropertyType.BYTES,
+      "The maximum amount of local disk used by the scan server file cache. The least recently"
+          + " used ranges are removed when this is exceeded.",
+      "3.1.0"),
+  @Experimental
+  SSERV_SCAN_RESULT_CACHE_SIZE("sserver.cache.scan.result.size", "0", PropertyType.MEMORY,
+      "The amount of memory used to cache the results of scans that complete in a single batch,"
+          + " for tables that set table.scan.result.cache.enabled. Results are cached per tablet"
+          + " file set, so they are reused until the tablet's files change. Zero (0) disables the"
+          + " cache.",
+      "3.1.0"),
+  @Experimental
+  SSERV_SCAN_RESULT_CACHE_EXPIRATION("sserver.cache.scan.result.expiration", "5m",
+      PropertyType.TIMEDURATION,
+      "The time after which a cached scan result is discarded, which bounds how stale the results"
+          + " of iterators that depend on the current time can be.",
+      "3.1.0"),
+  @Experimental
   SSERV_DEFAULT_BLOCKSIZE("sserver.default.blocksize", "1M", PropertyType.BYTES,
       "Specifies a default blocksize for the scan server caches.", "2.1.0"),
   @Experimental
@@ -421,6 +463,13 @@ public enum Property {
       PropertyType.TIMEDURATION, "The time after which cached tablet metadata will be refreshed.",
       "2.1.0"),
   @Experimental
+  SSERV_CACHED_TABLET_METADATA_REFRESH_PERCENT("sserver.cache.metadata.refresh.percent", "0",
+      PropertyType.FRACTION,
+      "The fraction of sserver.cache.metadata.expiration after which cached tablet metadata is"
+          + " reloaded in the background, so scans keep using the cached copy instead of blocking"
+          + " on a metadata read. Zero (0) disables background refresh.",
+      "3.1.0"),
+  @Experimental
   SSERV_PORTSEARCH("sserver.port.search", "true", PropertyType.BOOLEAN,
       "if the ports above are in use, search higher ports until one is available.", "2.1.0"),
   @Experimental
@@ -466,6 +515,11 @@ public enum Property {
       "The amount of time a scan reference is unused before its deleted from metadata table.",
       "2.1.0"),
   @Experimental
+  SSERV_SCAN_REFERENCE_BATCHING("sserver.scan.reference.batching", "false", PropertyType.BOOLEAN,
+      "When true, file references written by concurrent scans are combined into a single"
+          + " metadata table write.",
+      "3.1.0"),
+  @Experimental
   SSERV_THREADCHECK("sserver.server.threadcheck.time", "1s", PropertyType.TIMEDURATION,
       "The time between adjustments of the thrift server thread pool.", "2.1.0"),
   // properties that are specific to tablet server behavior
@@ -581,6 +635,23 @@ public enum Property {
       PropertyType.TIMEDURATION,
       "Max time for the thrift client handler to wait for scan results before timing out.",
       "2.1.0"),
+  TSERV_SCAN_LOCALITY_GROUP_THREADS("tserver.scan.locality.group.threads", "16",
+      PropertyType.COUNT,
+      "The number of threads used to read the locality groups of a tablet in parallel, for scans"
+          + " that a scan dispatcher allows to do so. When no thread is available a scan reads the"
+          + " locality group itself.",
+      "3.1.0"),
+  TSERV_SCAN_LOCALITY_GROUP_BUFFER("tserver.scan.locality.group.buffer", "1024",
+      PropertyType.COUNT,
+      "The number of entries that each locality group read in parallel may buffer ahead of the"
+          + " scan merging them.",
+      "3.1.0"),
+  TSERV_SCAN_LOCALITY_GROUP_METRICS_TAGGED("tserver.scan.locality.group.metrics.tagged", "false",
+      PropertyType.BOOLEAN,
+      "Tags the metric of entries read by parallel locality group reads with the table id and"
+          + " locality group. This creates a meter for every locality group of every table that is"
+          + " scanned, so by default the reads of all of them are counted together.",
+      "3.1.0"),
   TSERV_MIGRATE_MAXCONCURRENT("tserver.migrations.concurrent.max", "1", PropertyType.COUNT,
       "The maximum number of concurrent tablet migrations for a tablet server.", "1.3.5"),
   TSERV_MAJC_DELAY("tserver.compaction.major.delay", "30s", PropertyType.TIMEDURATION,
@@ -663,6 +734,12 @@ public enum Property {
       "2.1.0"),
   TSERV_MINC_MAXCONCURRENT("tserver.compaction.minor.concurrent.max", "4", PropertyType.COUNT,
       "The maximum number of concurrent minor compactions for a tablet server.", "1.3.5"),
+  TSERV_MEM_THROTTLE_THRESHOLD("tserver.memory.throttle.threshold", "0", PropertyType.FRACTION,
+      "When the memory used by in memory maps exceeds this fraction of `tserver.memory.maps.max`,"
+          + " writes are delayed before they are committed instead of only being held once memory"
+          + " is full. The delay grows as memory gets closer to full and with how long running"
+          + " minor compactions are predicted to take to free memory. Set to 0 to disable.",
+      "3.1.0"),
   @Deprecated(since = "3.1")
   @ReplacedBy(property = COMPACTION_WARN_TIME)
   TSERV_COMPACTION_WARN_TIME("tserver.compaction.warn.time", "10m", PropertyType.TIMEDURATION,
@@ -762,6 +839,11 @@ public enum Property {
       "The number of threads on each tablet server available to retrieve"
           + " summary data, that is not currently in cache, from RFiles.",
       "2.0.0"),
+  TSERV_SUMMARY_FILE_CACHE_SIZE("tserver.summary.file.cache.size", "0", PropertyType.COUNT,
+      "The maximum number of deserialized per file summaries each tablet server keeps. Repeated"
+          + " summary requests over files that have not changed are answered from this cache"
+          + " without reading summary blocks. Setting this to 0 disables the cache.",
+      "3.1.0"),
   @Deprecated(since = "3.1")
   TSERV_LAST_LOCATION_MODE("tserver.last.location.mode", "compaction",
       PropertyType.LAST_LOCATION_MODE,
@@ -883,6 +965,13 @@ public enum Property {
       "A tablet is split when the combined size of RFiles exceeds this amount.", "1.3.5"),
   TABLE_MAX_END_ROW_SIZE("table.split.endrow.size.max", "10k", PropertyType.BYTES,
       "Maximum size of end row.", "1.7.0"),
+  TABLE_SPLIT_PLANNER("table.split.planner", DefaultSplitPlanner.class.getName(),
+      PropertyType.CLASSNAME,
+      "A plugin that chooses the rows to split a tablet at once it exceeds table.split.threshold."
+          + " Configured classes must implement {% jlink " + SplitPlanner.class.getName() + " %}.",
+      "3.1.0"),
+  TABLE_SPLIT_PLANNER_OPTS("table.split.planner.opts.", null, PropertyType.PREFIX,
+      "Options for the table split planner.", "3.1.0"),
   TABLE_MINC_COMPACT_IDLETIME("table.compaction.minor.idle", "5m", PropertyType.TIMEDURATION,
       "After a tablet has been idle (no mutations) for this time period it may have its "
           + "in-memory map flushed to disk in a minor compaction. There is no guarantee an idle "
@@ -931,6 +1020,14 @@ public enum Property {
       "2.0.0"),
   TABLE_SCAN_DISPATCHER_OPTS("table.scan.dispatcher.opts.", null, PropertyType.PREFIX,
       "Options for the table scan dispatcher.", "2.0.0"),
+  @Experimental
+  TABLE_SCAN_RESULT_CACHE_ENABLED("table.scan.result.cache.enabled", "false",
+      PropertyType.BOOLEAN,
+      "Allows scan servers to cache the results of eventually consistent scans of this table and"
+          + " answer identical scans from the cache. Only enable this for tables whose scan"
+          + " iterators return the same results for the same files, see"
+          + " sserver.cache.scan.result.size.",
+      "3.1.0"),
   TABLE_SCAN_MAXMEM("table.scan.max.memory", "512k", PropertyType.BYTES,
       "The maximum amount of memory that will be used to cache results of a client query/scan. "
           + "Once this limit is reached, the buffered data is sent to the client.",
@@ -952,6 +1049,17 @@ public enum Property {
       PropertyType.BYTES,
       "The maximum size of index blocks in RFiles before they are compressed and written.",
       "1.4.0"),
+  TABLE_FILE_BLOCK_ENCODING("table.file.block.encoding", "relative",
+      PropertyType.FILE_BLOCK_ENCODING,
+      "How entries are encoded in the data blocks of RFiles a table writes. With 'relative' each"
+          + " key is stored relative to the previous key followed by its value. With 'columnar'"
+          + " the rows, column families, qualifiers, visibilities, timestamps and values of a"
+          + " block are stored as separate run length, dictionary and delta encoded columns and"
+          + " values are only copied out of a block when read, which benefits tables with many"
+          + " repeated column families, qualifiers and visibilities. Files written with 'columnar'"
+          + " can not be read by versions of Accumulo prior to 3.1.0. Existing files are rewritten"
+          + " in the new encoding as they are compacted.",
+      "3.1.0"),
   TABLE_FILE_BLOCK_SIZE("table.file.blocksize", "0B", PropertyType.BYTES,
       "The HDFS block size used when writing RFiles. When set to 0B, the"
           + " value/defaults of HDFS property 'dfs.block.size' will be used.",
@@ -1148,6 +1256,17 @@ public enum Property {
   @Experimental
   COMPACTOR_QUEUE_NAME("compactor.queue", "", PropertyType.STRING,
       "The queue for which this Compactor will perform compactions.", "3.0.0"),
+  @Experimental
+  COMPACTOR_FILE_CACHE_DIR("compactor.cache.file.dir", "", PropertyType.PATH,
+      "A local directory, ideally on fast local disk, used to cache ranges of the files read by"
+          + " the compactor. Cached ranges are read using memory mapped I/O and are kept across"
+          + " restarts. The cache is disabled when this or compactor.cache.file.size is not set.",
+      "3.1.0"),
+  @Experimental
+  COMPACTOR_FILE_CACHE_SIZE("compactor.cache.file.size", "0", PropertyType.BYTES,
+      "The maximum amount of local disk used by the compactor file cache. The least recently"
+          + " used ranges are removed when this is exceeded.",
+      "3.1.0"),
   // CompactionCoordinator properties
   @Experimental
   COMPACTION_COORDINATOR_PREFIX("compaction.coordinator.", null, PropertyType.PREFIX,
@@ -1196,7 +1315,17 @@ public enum Property {
   @Experimental
   COMPACTION_COORDINATOR_TSERVER_COMPACTION_CHECK_INTERVAL(
       "compaction.coordinator.tserver.check.interval", "1m", PropertyType.TIMEDURATION,
-      "The interval at which to check the tservers for external compactions.", "2.1.0");
+      "The interval at which to check the tservers for external compactions.", "2.1.0"),
+  @Experimental
+  COMPACTION_COORDINATOR_JOB_WAIT_TIME("compaction.coordinator.job.wait.time", "0s",
+      PropertyType.TIMEDURATION,
+      "The maximum amount of time the compaction coordinator holds a compactor's request for a"
+          + " job when no job is available, returning as soon as a tablet server reports work for"
+          + " the compactor's queue. When set, compactors ask for the next job right away instead"
+          + " of sleeping between requests. New work is learned about at the rate set by"
+          + " compaction.coordinator.tserver.check.interval. Zero (0) returns immediately. The"
+          + " wait is capped at half of general.rpc.timeout.",
+      "3.1.0");
 
   private final String key;
   private final String defaultValue;
@@ -1457,6 +1586,7 @@ public enum Property {
             || key.startsWith(TABLE_SAMPLER_OPTS.getKey())
             || key.startsWith(TABLE_SUMMARIZER_PREFIX.getKey())
             || key.startsWith(TABLE_SCAN_DISPATCHER_OPTS.getKey())
+            || key.startsWith(TABLE_SPLIT_PLANNER_OPTS.getKey())
             || key.startsWith(TABLE_COMPACTION_DISPATCHER_OPTS.getKey())
             || key.startsWith(TABLE_COMPACTION_CONFIGURER_OPTS.getKey())
             || key.startsWith(TABLE_COMPACTION_SELECTOR_OPTS.getKey()))
@@ -1469,10 +1599,12 @@ public enum Property {
 
       // tserver cache options
       TSERV_CACHE_MANAGER_IMPL, TSERV_DATACACHE_SIZE, TSERV_INDEXCACHE_SIZE,
-      TSERV_SUMMARYCACHE_SIZE,
+      TSERV_SUMMARYCACHE_SIZE, TSERV_SUMMARY_FILE_CACHE_SIZE, SSERV_SCAN_RESULT_CACHE_SIZE,
+      SSERV_SCAN_RESULT_CACHE_EXPIRATION,
 
       // others
-      TSERV_NATIVEMAP_ENABLED, TSERV_SCAN_MAX_OPENFILES, MANAGER_RECOVERY_WAL_EXISTENCE_CACHE_TIME);
+      TSERV_NATIVEMAP_ENABLED, TSERV_SCAN_MAX_OPENFILES, MANAGER_RECOVERY_WAL_EXISTENCE_CACHE_TIME,
+      TSERV_SCAN_LOCALITY_GROUP_METRICS_TAGGED);
 
   /**
    * Checks if the given property may be changed via Zookeeper, but not recognized until the restart
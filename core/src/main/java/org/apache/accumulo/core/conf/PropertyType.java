@@ -134,6 +134,9 @@ public enum PropertyType {
   LAST_LOCATION_MODE("last_location_mode", in(true, null, "assignment", "compaction"),
       "Defines how to update the last location.  One of 'assignment', or 'compaction'."),
 
+  FILE_BLOCK_ENCODING("file_block_encoding", in(true, null, "relative", "columnar"),
+      "Defines how entries are encoded in RFile data blocks.  One of 'relative', or 'columnar'."),
+
   STRING("string", x -> true,
       "An arbitrary string of characters whose format is unspecified and"
           + " interpreted based on the context of the property to which it applies."),
@@ -29,6 +29,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.apache.accumulo.core.clientImpl.MutationAccess;
 import org.apache.accumulo.core.dataImpl.thrift.TMutation;
 import org.apache.accumulo.core.security.ColumnVisibility;
 import org.apache.accumulo.core.util.ByteBufferUtil;
@@ -84,6 +85,10 @@ public class Mutation implements Writable {
 
   static final long SERIALIZATION_OVERHEAD = 5;
 
+  static {
+    MutationAccess.setSnapshotAccessor(m -> m.toThrift(false));
+  }
+
   /**
    * Formats available for serializing Mutations. The formats are described in a
    * <a href="doc-files/mutation-serialization.html">separate document</a>.
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.dataImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.KeyValue;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.file.rfile.RelativeKey;
+import org.apache.accumulo.core.file.rfile.bcfile.Compression;
+import org.apache.accumulo.core.file.rfile.bcfile.CompressionAlgorithm;
+import org.apache.hadoop.io.WritableUtils;
+import org.apache.hadoop.io.compress.Compressor;
+import org.apache.hadoop.io.compress.Decompressor;
+
+/**
+ * A batch of scan results encoded as a single binary block, as an alternative to sending one
+ * {@link org.apache.accumulo.core.dataImpl.thrift.TKeyValue} per entry. Keys are prefix compressed
+ * against the previous key in the same way as in RFile blocks, and the entries may additionally
+ * be compressed with any of the RFile compression algorithms.
+ *
+ * <p>
+ * A decoded block is a read only list whose entries are only deserialized as it is iterated, so
+ * the cost of creating keys and values moves from the thread receiving the batch to the thread
+ * consuming it.
+ */
+public class KeyValueBlock extends AbstractList<KeyValue> {
+
+  /**
+   * Execution hint that a client sets to ask for scan results encoded as blocks. The value of the
+   * hint is the name of the compression algorithm to use, for example {@code none} or
+   * {@code lz4}.
+   */
+  public static final String EXECUTION_HINT = "scan_result_encoding";
+
+  private static final byte VERSION = 1;
+  // same as the default codec buffer size, so that codecs are not created per buffer size
+  private static final int BUFFER_SIZE = 32 * 1024;
+
+  private final byte[] data;
+  private final int offset;
+  private final int length;
+  private final CompressionAlgorithm algorithm;
+  private final int size;
+  private final Key lastKey;
+
+  private KeyValue[] materialized = null;
+
+  private KeyValueBlock(ByteBuffer block) throws IOException {
+    ByteBuffer buf = block.duplicate();
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(buf.array(),
+        buf.arrayOffset() + buf.position(), buf.remaining()));
+    if (in.readByte() != VERSION) {
+      throw new IOException("Unknown scan result block version");
+    }
+    algorithm = Compression.getCompressionAlgorithmByName(in.readUTF());
+    size = WritableUtils.readVInt(in);
+    if (size > 0) {
+      lastKey = new Key();
+      lastKey.readFields(in);
+    } else {
+      lastKey = null;
+    }
+    length = in.available();
+    data = buf.array();
+    offset = buf.arrayOffset() + buf.limit() - length;
+  }
+
+  /**
+   * @return true if blocks can be encoded with the named compression algorithm in this process
+   */
+  public static boolean isSupported(String compression) {
+    return Compression.getSupportedAlgorithms().contains(compression);
+  }
+
+  /**
+   * Encodes entries, which must be sorted, into a single block.
+   */
+  public static ByteBuffer encode(List<? extends Entry<Key,Value>> entries, String compression)
+      throws IOException {
+    CompressionAlgorithm algorithm = Compression.getCompressionAlgorithmByName(compression);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream(BUFFER_SIZE);
+    DataOutputStream header = new DataOutputStream(baos);
+    header.writeByte(VERSION);
+    header.writeUTF(compression);
+    WritableUtils.writeVInt(header, entries.size());
+    if (entries.isEmpty()) {
+      header.flush();
+      return ByteBuffer.wrap(baos.toByteArray());
+    }
+    entries.get(entries.size() - 1).getKey().write(header);
+    header.flush();
+
+    Compressor compressor = algorithm.getCompressor();
+    try (OutputStream cos = algorithm.createCompressionStream(baos, compressor, 0);
+        DataOutputStream out = new DataOutputStream(cos)) {
+      Key prevKey = null;
+      for (Entry<Key,Value> entry : entries) {
+        new RelativeKey(prevKey, entry.getKey()).write(out);
+        Value value = entry.getValue();
+        WritableUtils.writeVInt(out, value.getSize());
+        out.write(value.get(), 0, value.getSize());
+        prevKey = entry.getKey();
+      }
+    } finally {
+      algorithm.returnCompressor(compressor);
+    }
+    return ByteBuffer.wrap(baos.toByteArray());
+  }
+
+  /**
+   * Reads the header of an encoded block. The entries are decoded when the returned list is
+   * iterated.
+   */
+  public static KeyValueBlock decode(ByteBuffer block) {
+    try {
+      return new KeyValueBlock(block);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * @return the last key in the block, or null if the block is empty
+   */
+  public Key getLastKey() {
+    return lastKey;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public KeyValue get(int index) {
+    if (materialized == null) {
+      KeyValue[] entries = new KeyValue[size];
+      Iterator<KeyValue> iter = new Decoder();
+      for (int i = 0; i < size; i++) {
+        entries[i] = iter.next();
+      }
+      materialized = entries;
+    }
+    return materialized[index];
+  }
+
+  @Override
+  public Iterator<KeyValue> iterator() {
+    if (materialized != null) {
+      return super.iterator();
+    }
+    return new Decoder();
+  }
+
+  private class Decoder implements Iterator<KeyValue> {
+    private final RelativeKey rkey = new RelativeKey();
+    private DataInputStream in;
+    private int read = 0;
+
+    @Override
+    public boolean hasNext() {
+      return read < size;
+    }
+
+    @Override
+    public KeyValue next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      try {
+        if (in == null) {
+          in = new DataInputStream(new ByteArrayInputStream(decompress()));
+        }
+        rkey.readFields(in);
+        byte[] value = new byte[WritableUtils.readVInt(in)];
+        in.readFully(value);
+        read++;
+        return new KeyValue(rkey.getKey(), value);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    /**
+     * Decompresses all entries at once, so the decompressor is returned even when iteration stops
+     * before the end of the block.
+     */
+    private byte[] decompress() throws IOException {
+      Decompressor decompressor = algorithm.getDecompressor();
+      try (InputStream compressed = algorithm.createDecompressionStream(
+          new ByteArrayInputStream(data, offset, length), decompressor, BUFFER_SIZE)) {
+        return compressed.readAllBytes();
+      } finally {
+        algorithm.returnDecompressor(decompressor);
+      }
+    }
+  }
+}
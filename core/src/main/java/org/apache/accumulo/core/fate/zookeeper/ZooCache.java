@@ -21,12 +21,21 @@ package org.apache.accumulo.core.fate.zookeeper;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.accumulo.core.util.LazySingletons.RANDOM;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -35,8 +44,11 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.accumulo.core.lock.ServiceLock;
 import org.apache.accumulo.core.lock.ServiceLock.ServiceLockPath;
 import org.apache.accumulo.core.lock.ServiceLockData;
+import org.apache.zookeeper.AddWatchMode;
 import org.apache.zookeeper.KeeperException;
 import org.apache.zookeeper.KeeperException.Code;
+import org.apache.zookeeper.Op;
+import org.apache.zookeeper.OpResult;
 import org.apache.zookeeper.WatchedEvent;
 import org.apache.zookeeper.Watcher;
 import org.apache.zookeeper.ZooKeeper;
@@ -49,6 +61,13 @@ import com.google.common.base.Preconditions;
 
 /**
  * A cache for values stored in ZooKeeper. Values are kept up to date as they change.
+ *
+ * <p>
+ * By default a one time watch is set on each node that is read. Subtrees registered with
+ * {@link #addPersistentWatch(String)} are instead covered by a single persistent recursive watch,
+ * so nodes under them are read without setting watches and whole subtrees can be loaded with
+ * batched reads using {@link #prefetch(String)}. The number of cached nodes can be bounded with
+ * {@link #setMaxSize(int)}, in which case the oldest entries are evicted first.
  */
 public class ZooCache {
   private static final Logger log = LoggerFactory.getLogger(ZooCache.class);
@@ -60,14 +79,31 @@ public class ZooCache {
   private final Lock cacheWriteLock = cacheLock.writeLock();
   private final Lock cacheReadLock = cacheLock.readLock();
 
-  private final HashMap<String,byte[]> cache;
+  private final LinkedHashMap<String,byte[]> cache;
   private final HashMap<String,ZcStat> statCache;
-  private final HashMap<String,List<String>> childrenCache;
+  private final LinkedHashMap<String,List<String>> childrenCache;
 
   private final ZooReader zReader;
 
   private volatile boolean closed = false;
 
+  // maximum number of nodes whose data, and separately whose children, are cached. 0 is unbounded
+  private volatile int maxSize = 0;
+
+  // roots of subtrees that are covered by a persistent recursive watch
+  private final Set<String> persistentRoots = new CopyOnWriteArraySet<>();
+  // the session and roots for which persistent watches were added, guarded by cacheWriteLock
+  private long watchedSession = 0;
+  private final Set<String> watchedRoots = new HashSet<>();
+
+  // number of paths read by a single multi request when prefetching a subtree
+  private static final int PREFETCH_BATCH_SIZE = 100;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder zooKeeperReads = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
   public static class ZcStat {
     private long ephemeralOwner;
     private long mzxid;
@@ -162,9 +198,12 @@ public class ZooCache {
       switch (event.getType()) {
         case NodeDataChanged:
         case NodeChildrenChanged:
+          remove(event.getPath(), false);
+          break;
         case NodeCreated:
         case NodeDeleted:
-          remove(event.getPath());
+          // persistent recursive watches do not send NodeChildrenChanged for the parent
+          remove(event.getPath(), isPersistentlyWatched(event.getPath()));
           break;
         case None:
           switch (event.getState()) {
@@ -210,12 +249,105 @@ public class ZooCache {
    */
   public ZooCache(ZooReader reader, Watcher watcher) {
     this.zReader = reader;
-    this.cache = new HashMap<>();
+    this.cache = new LinkedHashMap<>();
     this.statCache = new HashMap<>();
-    this.childrenCache = new HashMap<>();
+    this.childrenCache = new LinkedHashMap<>();
     this.externalWatcher = watcher;
   }
 
+  /**
+   * Covers the subtree rooted at the given path with a persistent recursive watch. Nodes in the
+   * subtree are then read without setting a watch per node. The watch is added lazily by the next
+   * read of a node in the subtree and is added again if the ZooKeeper session changes.
+   *
+   * @param zPath root of the subtree to watch
+   */
+  public void addPersistentWatch(String zPath) {
+    Preconditions.checkState(!closed);
+    Preconditions.checkArgument(zPath.startsWith("/") && !zPath.endsWith("/"), "Bad path %s",
+        zPath);
+    persistentRoots.add(zPath);
+  }
+
+  /**
+   * Bounds the number of nodes whose data, and separately whose children, are cached. When the
+   * bound is exceeded the entries that were cached first are evicted.
+   *
+   * @param maxSize maximum number of nodes to cache, 0 for unbounded
+   */
+  public void setMaxSize(int maxSize) {
+    Preconditions.checkState(!closed);
+    Preconditions.checkArgument(maxSize >= 0, "Bad max size %s", maxSize);
+    cacheWriteLock.lock();
+    try {
+      this.maxSize = maxSize;
+      if (evict()) {
+        immutableCache = new ImmutableCacheCopies(++updateCount, cache, statCache, childrenCache);
+      }
+    } finally {
+      cacheWriteLock.unlock();
+    }
+  }
+
+  private boolean isPersistentlyWatched(String zPath) {
+    for (String root : persistentRoots) {
+      if (zPath.equals(root) || zPath.startsWith(root + "/")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Adds any persistent watches that are not set for the current ZooKeeper session. Anything cached
+   * under a newly watched root may have been read without a watch, so it is cleared. Must be called
+   * while holding the write lock, before reading a node under a persistent root.
+   */
+  private void ensurePersistentWatches(ZooKeeper zooKeeper)
+      throws KeeperException, InterruptedException {
+    if (zooKeeper.getSessionId() != watchedSession) {
+      watchedRoots.clear();
+      watchedSession = zooKeeper.getSessionId();
+    }
+    for (String root : persistentRoots) {
+      if (!watchedRoots.contains(root)) {
+        zooKeeper.addWatch(root, watcher, AddWatchMode.PERSISTENT_RECURSIVE);
+        watchedRoots.add(root);
+        clear(root);
+        log.debug("Added persistent recursive watch for {}", root);
+      }
+    }
+  }
+
+  /**
+   * Evicts the oldest entries until the cache is within its size bound. Must be called while
+   * holding the write lock.
+   *
+   * @return true if anything was evicted
+   */
+  private boolean evict() {
+    int max = maxSize;
+    if (max <= 0) {
+      return false;
+    }
+    boolean evicted = false;
+    Iterator<String> iter = cache.keySet().iterator();
+    while (cache.size() > max && iter.hasNext()) {
+      statCache.remove(iter.next());
+      iter.remove();
+      evictions.increment();
+      evicted = true;
+    }
+    iter = childrenCache.keySet().iterator();
+    while (childrenCache.size() > max && iter.hasNext()) {
+      iter.next();
+      iter.remove();
+      evictions.increment();
+      evicted = true;
+    }
+    return evicted;
+  }
+
   private abstract static class ZooRunnable<T> {
     /**
      * Runs an operation against ZooKeeper. Retries are performed by the retry method when
@@ -296,23 +428,40 @@ public class ZooCache {
         // only read volatile once for consistency
         ImmutableCacheCopies lic = immutableCache;
         if (lic.childrenCache.containsKey(zPath)) {
+          hits.increment();
           return lic.childrenCache.get(zPath);
         }
 
         cacheWriteLock.lock();
         try {
           if (childrenCache.containsKey(zPath)) {
+            hits.increment();
             return childrenCache.get(zPath);
           }
 
+          misses.increment();
           final ZooKeeper zooKeeper = getZooKeeper();
 
-          List<String> children = zooKeeper.getChildren(zPath, watcher);
+          List<String> children;
+          if (isPersistentlyWatched(zPath)) {
+            ensurePersistentWatches(zooKeeper);
+            zooKeeperReads.increment();
+            children = zooKeeper.getChildren(zPath, false);
+          } else {
+            zooKeeperReads.increment();
+            children = zooKeeper.getChildren(zPath, watcher);
+          }
           if (children != null) {
             children = List.copyOf(children);
           }
           childrenCache.put(zPath, children);
-          immutableCache = new ImmutableCacheCopies(++updateCount, immutableCache, childrenCache);
+          if (evict()) {
+            immutableCache =
+                new ImmutableCacheCopies(++updateCount, cache, statCache, childrenCache);
+          } else {
+            immutableCache =
+                new ImmutableCacheCopies(++updateCount, immutableCache, childrenCache);
+          }
           return children;
         } catch (KeeperException ke) {
           if (ke.code() != Code.NONODE) {
@@ -360,6 +509,7 @@ public class ZooCache {
         ImmutableCacheCopies lic = immutableCache;
         byte[] val = lic.cache.get(zPath);
         if (val != null || lic.cache.containsKey(zPath)) {
+          hits.increment();
           if (status != null) {
             zstat = lic.statCache.get(zPath);
             copyStats(status, zstat);
@@ -377,7 +527,27 @@ public class ZooCache {
          */
         cacheWriteLock.lock();
         try {
+          misses.increment();
           final ZooKeeper zooKeeper = getZooKeeper();
+          if (isPersistentlyWatched(zPath)) {
+            // node creation is seen by the persistent watch, so non-existence can be cached
+            // without calling exists()
+            ensurePersistentWatches(zooKeeper);
+            byte[] data = null;
+            try {
+              Stat stat = new Stat();
+              zooKeeperReads.increment();
+              data = zooKeeper.getData(zPath, false, stat);
+              zstat = new ZcStat(stat);
+            } catch (KeeperException.NoNodeException e) {
+              log.trace("zookeeper did not contain {}", zPath);
+            }
+            put(zPath, data, zstat);
+            copyStats(status, zstat);
+            return data;
+          }
+
+          zooKeeperReads.increment();
           Stat stat = zooKeeper.exists(zPath, watcher);
           byte[] data = null;
           if (stat == null) {
@@ -386,6 +556,7 @@ public class ZooCache {
             }
           } else {
             try {
+              zooKeeperReads.increment();
               data = zooKeeper.getData(zPath, watcher, stat);
               zstat = new ZcStat(stat);
             } catch (KeeperException.BadVersionException | KeeperException.NoNodeException e1) {
@@ -408,6 +579,107 @@ public class ZooCache {
     return zr.retry();
   }
 
+  /**
+   * Loads the data and children of every node in the subtree rooted at the given path into the
+   * cache. Nodes are read breadth first using multi requests that each read many nodes, instead of
+   * a request per node. The path must be under a root registered with
+   * {@link #addPersistentWatch(String)}, so that no watch is needed per node. Prefetching stops
+   * early if the cache reaches its size bound.
+   *
+   * @param zPath root of the subtree to load
+   */
+  public void prefetch(final String zPath) {
+    Preconditions.checkState(!closed);
+    Preconditions.checkArgument(isPersistentlyWatched(zPath),
+        "%s is not under a persistent watch", zPath);
+
+    Deque<String> pending = new ArrayDeque<>();
+    pending.add(zPath);
+    while (!pending.isEmpty()) {
+      List<String> batch = new ArrayList<>();
+      while (batch.size() < PREFETCH_BATCH_SIZE && !pending.isEmpty()) {
+        batch.add(pending.poll());
+      }
+
+      ZooRunnable<List<String>> zr = new ZooRunnable<>() {
+        @Override
+        List<String> run() throws KeeperException, InterruptedException {
+          return prefetchBatch(batch);
+        }
+      };
+      pending.addAll(zr.retry());
+
+      int max = maxSize;
+      if (max > 0 && immutableCache.cache.size() >= max) {
+        log.debug("Stopped prefetching {}, cache is full with {} nodes", zPath, max);
+        break;
+      }
+    }
+  }
+
+  /**
+   * Reads the data and children of the given nodes with a single multi request and caches them.
+   *
+   * @return the paths of all children of the given nodes
+   */
+  private List<String> prefetchBatch(List<String> batch)
+      throws KeeperException, InterruptedException {
+    List<Op> ops = new ArrayList<>(batch.size() * 2);
+    for (String path : batch) {
+      ops.add(Op.getData(path));
+      ops.add(Op.getChildren(path));
+    }
+
+    cacheWriteLock.lock();
+    try {
+      final ZooKeeper zooKeeper = getZooKeeper();
+      ensurePersistentWatches(zooKeeper);
+      zooKeeperReads.increment();
+      List<OpResult> results = zooKeeper.multi(ops);
+
+      List<String> found = new ArrayList<>();
+      for (int i = 0; i < batch.size(); i++) {
+        String path = batch.get(i);
+        OpResult dataResult = results.get(2 * i);
+        OpResult childResult = results.get(2 * i + 1);
+        checkResult(path, dataResult);
+        checkResult(path, childResult);
+
+        if (dataResult instanceof OpResult.GetDataResult) {
+          OpResult.GetDataResult gdr = (OpResult.GetDataResult) dataResult;
+          cache.put(path, gdr.getData());
+          statCache.put(path, new ZcStat(gdr.getStat()));
+        } else {
+          cache.put(path, null);
+          statCache.put(path, null);
+        }
+
+        if (childResult instanceof OpResult.GetChildrenResult) {
+          List<String> children =
+              List.copyOf(((OpResult.GetChildrenResult) childResult).getChildren());
+          childrenCache.put(path, children);
+          children.forEach(child -> found.add(path + "/" + child));
+        } else {
+          childrenCache.put(path, null);
+        }
+      }
+      evict();
+      immutableCache = new ImmutableCacheCopies(++updateCount, cache, statCache, childrenCache);
+      return found;
+    } finally {
+      cacheWriteLock.unlock();
+    }
+  }
+
+  private static void checkResult(String path, OpResult result) throws KeeperException {
+    if (result instanceof OpResult.ErrorResult) {
+      Code code = Code.get(((OpResult.ErrorResult) result).getErr());
+      if (code != Code.NONODE) {
+        throw KeeperException.create(code, path);
+      }
+    }
+  }
+
   /**
    * Helper method to copy stats from the cached stat into userStat
    *
@@ -426,6 +698,7 @@ public class ZooCache {
     try {
       cache.put(zPath, data);
       statCache.put(zPath, stat);
+      evict();
 
       immutableCache = new ImmutableCacheCopies(++updateCount, cache, statCache, immutableCache);
     } finally {
@@ -433,12 +706,16 @@ public class ZooCache {
     }
   }
 
-  private void remove(String zPath) {
+  private void remove(String zPath, boolean removeParentChildren) {
     cacheWriteLock.lock();
     try {
       cache.remove(zPath);
       childrenCache.remove(zPath);
       statCache.remove(zPath);
+      if (removeParentChildren) {
+        int index = zPath.lastIndexOf('/');
+        childrenCache.remove(index > 0 ? zPath.substring(0, index) : "/");
+      }
 
       immutableCache = new ImmutableCacheCopies(++updateCount, cache, statCache, childrenCache);
     } finally {
@@ -467,6 +744,34 @@ public class ZooCache {
     closed = true;
   }
 
+  /**
+   * @return number of reads answered from the cache
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * @return number of reads that were not found in the cache
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * @return number of read requests sent to ZooKeeper, where a batched prefetch counts as one
+   */
+  public long getZooKeeperReadCount() {
+    return zooKeeperReads.sum();
+  }
+
+  /**
+   * @return number of entries removed to keep the cache within its size bound
+   */
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
   /**
    * Returns a monotonically increasing count of the number of time the cache was updated. If the
    * count is the same, then it means cache did not change.
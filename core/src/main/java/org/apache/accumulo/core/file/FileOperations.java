@@ -30,6 +30,7 @@ import org.apache.accumulo.core.conf.Property;
 import org.apache.accumulo.core.data.ByteSequence;
 import org.apache.accumulo.core.data.Range;
 import org.apache.accumulo.core.file.blockfile.impl.CacheProvider;
+import org.apache.accumulo.core.file.blockfile.impl.LocalFileCache;
 import org.apache.accumulo.core.file.rfile.RFile;
 import org.apache.accumulo.core.metadata.TabletFile;
 import org.apache.accumulo.core.metadata.UnreferencedTabletFile;
@@ -52,7 +53,7 @@ public abstract class FileOperations {
 
   // Sometimes we want to know what files accumulo bulk processing creates
   private static final Set<String> bulkWorkingFiles =
-      Set.of(Constants.BULK_LOAD_MAPPING, Constants.BULK_RENAME_FILE,
+      Set.of(Constants.BULK_LOAD_MAPPING, Constants.BULK_LOAD_PLAN, Constants.BULK_RENAME_FILE,
           FileOutputCommitter.SUCCEEDED_FILE_NAME, HADOOP_JOBHISTORY_LOCATION);
 
   public static Set<String> getValidExtensions() {
@@ -186,12 +187,14 @@ public abstract class FileOperations {
     public final Set<ByteSequence> columnFamilies;
     public final boolean inclusive;
     public final boolean dropCacheBehind;
+    public final LocalFileCache localFileCache;
 
     protected FileOptions(AccumuloConfiguration tableConfiguration, TabletFile file, FileSystem fs,
         Configuration fsConf, RateLimiter rateLimiter, String compression,
         FSDataOutputStream outputStream, boolean enableAccumuloStart, CacheProvider cacheProvider,
         Cache<String,Long> fileLenCache, boolean seekToBeginning, CryptoService cryptoService,
-        Range range, Set<ByteSequence> columnFamilies, boolean inclusive, boolean dropCacheBehind) {
+        Range range, Set<ByteSequence> columnFamilies, boolean inclusive, boolean dropCacheBehind,
+        LocalFileCache localFileCache) {
       this.tableConfiguration = tableConfiguration;
       this.file = Objects.requireNonNull(file);
       this.fs = fs;
@@ -208,6 +211,7 @@ public abstract class FileOperations {
       this.columnFamilies = columnFamilies;
       this.inclusive = inclusive;
       this.dropCacheBehind = dropCacheBehind;
+      this.localFileCache = localFileCache;
     }
 
     public AccumuloConfiguration getTableConfiguration() {
@@ -269,6 +273,10 @@ public abstract class FileOperations {
     public boolean isRangeInclusive() {
       return inclusive;
     }
+
+    public LocalFileCache getLocalFileCache() {
+      return localFileCache;
+    }
   }
 
   /**
@@ -322,26 +330,27 @@ public abstract class FileOperations {
         FSDataOutputStream outputStream, boolean startEnabled) {
       return new FileOptions(tableConfiguration, file, fs, fsConf, rateLimiter, compression,
           outputStream, startEnabled, NULL_PROVIDER, null, false, cryptoService, null, null, true,
-          dropCacheBehind);
+          dropCacheBehind, null);
     }
 
     protected FileOptions toReaderBuilderOptions(CacheProvider cacheProvider,
-        Cache<String,Long> fileLenCache, boolean seekToBeginning) {
+        Cache<String,Long> fileLenCache, boolean seekToBeginning, LocalFileCache localFileCache) {
       return new FileOptions(tableConfiguration, file, fs, fsConf, rateLimiter, null, null, false,
           cacheProvider == null ? NULL_PROVIDER : cacheProvider, fileLenCache, seekToBeginning,
-          cryptoService, null, null, true, dropCacheBehind);
+          cryptoService, null, null, true, dropCacheBehind, localFileCache);
     }
 
     protected FileOptions toIndexReaderBuilderOptions(Cache<String,Long> fileLenCache) {
       return new FileOptions(tableConfiguration, file, fs, fsConf, rateLimiter, null, null, false,
-          NULL_PROVIDER, fileLenCache, false, cryptoService, null, null, true, dropCacheBehind);
+          NULL_PROVIDER, fileLenCache, false, cryptoService, null, null, true, dropCacheBehind,
+          null);
     }
 
     protected FileOptions toScanReaderBuilderOptions(Range range, Set<ByteSequence> columnFamilies,
         boolean inclusive) {
       return new FileOptions(tableConfiguration, file, fs, fsConf, rateLimiter, null, null, false,
           NULL_PROVIDER, null, false, cryptoService, range, columnFamilies, inclusive,
-          dropCacheBehind);
+          dropCacheBehind, null);
     }
 
     protected AccumuloConfiguration getTableConfiguration() {
@@ -414,6 +423,7 @@ public abstract class FileOperations {
     private CacheProvider cacheProvider;
     private Cache<String,Long> fileLenCache;
     private boolean seekToBeginning = false;
+    private LocalFileCache localFileCache;
 
     public ReaderTableConfiguration forFile(TabletFile file, FileSystem fs, Configuration fsConf,
         CryptoService cs) {
@@ -441,6 +451,14 @@ public abstract class FileOperations {
       return this;
     }
 
+    /**
+     * (Optional) Read the file through a cache on local disk. A null cache is ignored.
+     */
+    public ReaderBuilder withLocalFileCache(LocalFileCache localFileCache) {
+      this.localFileCache = localFileCache;
+      return this;
+    }
+
     public ReaderBuilder withRateLimiter(RateLimiter rateLimiter) {
       rateLimiter(rateLimiter);
       return this;
@@ -468,7 +486,8 @@ public abstract class FileOperations {
 
     /** Execute the operation, constructing the specified file reader. */
     public FileSKVIterator build() throws IOException {
-      return openReader(toReaderBuilderOptions(cacheProvider, fileLenCache, seekToBeginning));
+      return openReader(
+          toReaderBuilderOptions(cacheProvider, fileLenCache, seekToBeginning, localFileCache));
     }
   }
 
@@ -59,7 +59,7 @@ public class CachableBlockFile {
 
   private static final Logger log = LoggerFactory.getLogger(CachableBlockFile.class);
 
-  private interface IoeSupplier<T> {
+  interface IoeSupplier<T> {
     T get() throws IOException;
   }
 
@@ -76,6 +76,8 @@ public class CachableBlockFile {
     RateLimiter readLimiter = null;
     Configuration hadoopConf = null;
     CryptoService cryptoService = null;
+    LocalFileCache localFileCache = null;
+    boolean remote = false;
 
     public CachableBuilder conf(Configuration hadoopConf) {
       this.hadoopConf = hadoopConf;
@@ -88,6 +90,7 @@ public class CachableBlockFile {
 
     public CachableBuilder fsPath(FileSystem fs, Path dataFile, boolean dropCacheBehind) {
       this.cacheId = pathToCacheId(dataFile);
+      this.remote = true;
       this.inputSupplier = () -> {
         FSDataInputStream is = fs.open(dataFile);
         if (dropCacheBehind) {
@@ -111,6 +114,7 @@ public class CachableBlockFile {
 
     public CachableBuilder input(InputStream is, String cacheId) {
       this.cacheId = cacheId;
+      this.remote = false;
       this.inputSupplier = () -> is;
       return this;
     }
@@ -139,6 +143,15 @@ public class CachableBlockFile {
       this.cryptoService = cryptoService;
       return this;
     }
+
+    /**
+     * (Optional) Read the file through a local disk cache. Only used for files opened with
+     * {@link #fsPath(FileSystem, Path)}.
+     */
+    public CachableBuilder localFileCache(LocalFileCache localFileCache) {
+      this.localFileCache = localFileCache;
+      return this;
+    }
   }
 
   /**
@@ -167,6 +180,10 @@ public class CachableBlockFile {
     // https://stackoverflow.com/a/8381338
     private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
 
+    private long getFileLen() throws IOException {
+      return fileLenCache == null ? lengthSupplier.get() : getCachedFileLen();
+    }
+
     private long getCachedFileLen() throws IOException {
       try {
         return fileLenCache.get(cacheId, k -> {
@@ -381,7 +398,13 @@ public class CachableBlockFile {
 
     public Reader(CachableBuilder b) {
       this.cacheId = Objects.requireNonNull(b.cacheId);
-      this.inputSupplier = b.inputSupplier;
+      if (b.localFileCache != null && b.remote) {
+        IoeSupplier<InputStream> remoteSupplier = b.inputSupplier;
+        this.inputSupplier =
+            () -> b.localFileCache.open(cacheId, remoteSupplier, this::getFileLen);
+      } else {
+        this.inputSupplier = b.inputSupplier;
+      }
       this.lengthSupplier = b.lengthSupplier;
       this.fileLenCache = b.fileLenCache;
       this.cacheProvider = b.cacheProvider;
@@ -0,0 +1,472 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.file.blockfile.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.accumulo.core.conf.AccumuloConfiguration;
+import org.apache.accumulo.core.conf.Property;
+import org.apache.accumulo.core.file.blockfile.impl.CachableBlockFile.IoeSupplier;
+import org.apache.hadoop.fs.Seekable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.base.Preconditions;
+import com.google.common.hash.Hashing;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * A cache of remote file ranges on local disk that sits below the block caches of
+ * {@link CachableBlockFile}. Files are cached in fixed size chunks that are read using memory
+ * mapped I/O, so a cached range of a file costs no remote reads and no heap. The total size of the
+ * cached chunks is bounded and the least recently used chunks are deleted when the bound is
+ * exceeded. Chunks left in the cache directory by a previous run of the process are added to the
+ * cache when it is created.
+ *
+ * <p>
+ * This relies on Accumulo files being immutable, the contents at a given path never change.
+ */
+public class LocalFileCache {
+
+  private static final Logger log = LoggerFactory.getLogger(LocalFileCache.class);
+
+  public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+  private static final String TMP_SUFFIX = ".tmp";
+
+  private static class Chunk {
+    private final Path path;
+    private final int length;
+    private volatile ByteBuffer buffer;
+
+    Chunk(Path path, int length, ByteBuffer buffer) {
+      this.path = path;
+      this.length = length;
+      this.buffer = buffer;
+    }
+
+    ByteBuffer buffer() throws IOException {
+      ByteBuffer buf = buffer;
+      if (buf == null) {
+        buf = map(path, length);
+        buffer = buf;
+      }
+      // each reader needs its own position
+      return buf.duplicate();
+    }
+  }
+
+  /**
+   * Hit and miss counts for a single file.
+   */
+  public static class FileStats {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public long getHits() {
+      return hits.sum();
+    }
+
+    public long getMisses() {
+      return misses.sum();
+    }
+
+    private long getReads() {
+      return getHits() + getMisses();
+    }
+  }
+
+  // bounds the memory used for per file counts, the least recently read files are dropped first
+  private static final int MAX_FILE_STATS = 10_000;
+
+  private final Path dir;
+  private final int chunkSize;
+  private final Cache<String,Chunk> chunks;
+  private final Cache<String,FileStats> fileStats;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder bytesFetched = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  public LocalFileCache(Path dir, long maxSize, int chunkSize) throws IOException {
+    Preconditions.checkArgument(maxSize > 0, "maxSize must be positive : %s", maxSize);
+    Preconditions.checkArgument(chunkSize > 0, "chunkSize must be positive : %s", chunkSize);
+    this.dir = dir;
+    this.chunkSize = chunkSize;
+    // evict in the calling thread so local disk usage does not run ahead of the bound
+    this.chunks = Caffeine.newBuilder().maximumWeight(maxSize).executor(Runnable::run)
+        .weigher((String key, Chunk chunk) -> chunk.length)
+        .removalListener((String key, Chunk chunk, RemovalCause cause) -> {
+          if (cause.wasEvicted()) {
+            evictions.increment();
+          }
+          if (chunk != null && cause != RemovalCause.REPLACED) {
+            deleteQuietly(chunk.path);
+          }
+        }).build();
+    this.fileStats = Caffeine.newBuilder().maximumSize(MAX_FILE_STATS).build();
+
+    Files.createDirectories(dir);
+    loadExisting();
+  }
+
+  /**
+   * Creates a cache from the given directory and size properties.
+   *
+   * @return null when the directory is not set or the size is zero
+   */
+  @SuppressFBWarnings(value = "PATH_TRAVERSAL_IN", justification = "directory specified by admin")
+  public static LocalFileCache create(AccumuloConfiguration conf, Property dirProperty,
+      Property sizeProperty) throws IOException {
+    String cacheDir = conf.getPath(dirProperty);
+    long cacheSize = conf.getAsBytes(sizeProperty);
+    if (cacheDir == null || cacheDir.isBlank() || cacheSize <= 0) {
+      return null;
+    }
+    return new LocalFileCache(Path.of(cacheDir), cacheSize, DEFAULT_CHUNK_SIZE);
+  }
+
+  private void loadExisting() throws IOException {
+    List<Path> existing = new ArrayList<>();
+    try (DirectoryStream<Path> fileDirs = Files.newDirectoryStream(dir, Files::isDirectory)) {
+      for (Path fileDir : fileDirs) {
+        try (DirectoryStream<Path> chunkFiles = Files.newDirectoryStream(fileDir)) {
+          for (Path chunkFile : chunkFiles) {
+            if (chunkFile.getFileName().toString().endsWith(TMP_SUFFIX)) {
+              // a write that did not complete
+              deleteQuietly(chunkFile);
+            } else {
+              existing.add(chunkFile);
+            }
+          }
+        }
+      }
+    }
+
+    // add the least recently written chunks first so they are the first to be evicted
+    existing.sort(Comparator.comparing(path -> {
+      try {
+        return Files.getLastModifiedTime(path);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }));
+
+    long bytes = 0;
+    for (Path chunkFile : existing) {
+      long length = Files.size(chunkFile);
+      if (length == 0 || length > chunkSize) {
+        // written with a different chunk size
+        deleteQuietly(chunkFile);
+        continue;
+      }
+      String key = chunkFile.getParent().getFileName() + "/" + chunkFile.getFileName();
+      chunks.put(key, new Chunk(chunkFile, (int) length, null));
+      bytes += length;
+    }
+
+    log.info("Loaded {} chunks totaling {} bytes from local file cache {}", existing.size(), bytes,
+        dir);
+  }
+
+  /**
+   * Opens a stream over a remote file that reads through this cache. The remote file is only
+   * opened when a range of it that is not cached is read.
+   *
+   * @param cacheId a unique and stable identifier for the file, like its path
+   * @param remote opens the remote file
+   * @param length supplies the length of the remote file, only called on cache misses
+   */
+  InputStream open(String cacheId, IoeSupplier<InputStream> remote, IoeSupplier<Long> length) {
+    return new CachedInputStream(cacheId, remote, length);
+  }
+
+  /**
+   * @return the hit and miss counts of a file, or null if the file was not read recently
+   */
+  public FileStats getFileStats(String cacheId) {
+    return fileStats.getIfPresent(cacheId);
+  }
+
+  /**
+   * @return the counts of the most read files that are tracked, most read first
+   */
+  public Map<String,FileStats> getMostReadFiles(int count) {
+    Map<String,FileStats> mostRead = new LinkedHashMap<>();
+    fileStats.asMap().entrySet().stream()
+        .sorted(Comparator.comparingLong(
+            (Map.Entry<String,FileStats> e) -> e.getValue().getReads()).reversed())
+        .limit(count).forEach(e -> mostRead.put(e.getKey(), e.getValue()));
+    return mostRead;
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long getBytesFetched() {
+    return bytesFetched.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  public long getSize() {
+    return chunks.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0))
+        .orElse(0L);
+  }
+
+  /**
+   * Performs any pending eviction.
+   */
+  public void cleanUp() {
+    chunks.cleanUp();
+  }
+
+  private static ByteBuffer map(Path path, int length) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return channel.map(MapMode.READ_ONLY, 0, length);
+    }
+  }
+
+  private static void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("Failed to delete local file cache chunk {}", path, e);
+    }
+  }
+
+  private class CachedInputStream extends InputStream implements Seekable {
+
+    private final String cacheId;
+    private final String fileKey;
+    private final IoeSupplier<InputStream> remoteSupplier;
+    private final IoeSupplier<Long> lengthSupplier;
+    private final FileStats stats;
+
+    private InputStream remote = null;
+    private long length = -1;
+    private long pos = 0;
+
+    // the chunk that contains pos, if it was already read
+    private ByteBuffer current = null;
+    private long currentIndex = -1;
+
+    CachedInputStream(String cacheId, IoeSupplier<InputStream> remoteSupplier,
+        IoeSupplier<Long> lengthSupplier) {
+      this.cacheId = cacheId;
+      this.fileKey = Hashing.sha256().hashString(cacheId, UTF_8).toString();
+      this.remoteSupplier = remoteSupplier;
+      this.lengthSupplier = lengthSupplier;
+      this.stats = fileStats.get(cacheId, k -> new FileStats());
+    }
+
+    private ByteBuffer getChunk(long index) throws IOException {
+      if (index == currentIndex) {
+        return current;
+      }
+
+      String key = fileKey + "/" + index;
+      Chunk chunk = chunks.getIfPresent(key);
+      boolean cached = chunk != null;
+      if (!cached) {
+        chunk = load(key, index);
+      }
+
+      if (chunk == null) {
+        // past the end of the file
+        return null;
+      }
+
+      ByteBuffer buffer;
+      try {
+        buffer = chunk.buffer();
+        if (cached) {
+          hits.increment();
+          stats.hits.increment();
+        }
+      } catch (NoSuchFileException e) {
+        // a chunk loaded from a previous run is mapped on first use, it may have been evicted and
+        // deleted since it was looked up
+        log.debug("Local file cache chunk {} was removed before it was read", chunk.path);
+        chunks.asMap().remove(key, chunk);
+        // fetched chunks are mapped before they are returned
+        buffer = load(key, index).buffer();
+      }
+
+      current = buffer;
+      currentIndex = index;
+      return current;
+    }
+
+    private Chunk load(String key, long index) throws IOException {
+      AtomicBoolean fetched = new AtomicBoolean(false);
+      Chunk chunk;
+      try {
+        chunk = chunks.get(key, k -> {
+          fetched.set(true);
+          try {
+            return fetch(index);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      } catch (UncheckedIOException e) {
+        if (fetched.get()) {
+          misses.increment();
+          stats.misses.increment();
+        }
+        throw e.getCause();
+      }
+
+      // only the thread that fetched the chunk missed, others waited for it to be fetched
+      if (fetched.get()) {
+        misses.increment();
+        stats.misses.increment();
+      } else {
+        hits.increment();
+        stats.hits.increment();
+      }
+      return chunk;
+    }
+
+    private Chunk fetch(long index) throws IOException {
+      if (length < 0) {
+        length = lengthSupplier.get();
+      }
+
+      long start = index * chunkSize;
+      if (start >= length) {
+        return null;
+      }
+
+      int chunkLength = (int) Math.min(chunkSize, length - start);
+      byte[] data = new byte[chunkLength];
+      if (remote == null) {
+        remote = remoteSupplier.get();
+      }
+      ((Seekable) remote).seek(start);
+      if (remote.readNBytes(data, 0, chunkLength) != chunkLength) {
+        throw new EOFException("Unexpected end of " + cacheId + " reading " + chunkLength
+            + " bytes at " + start);
+      }
+      bytesFetched.add(chunkLength);
+
+      Path fileDir = dir.resolve(fileKey);
+      Files.createDirectories(fileDir);
+      Path chunkFile = fileDir.resolve(Long.toString(index));
+      Path tmpFile = fileDir.resolve(index + "_" + UUID.randomUUID() + TMP_SUFFIX);
+      Files.write(tmpFile, data);
+      Files.move(tmpFile, chunkFile, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+
+      log.trace("Cached {} bytes of {} at {} in {}", chunkLength, cacheId, start, chunkFile);
+
+      return new Chunk(chunkFile, chunkLength, map(chunkFile, chunkLength));
+    }
+
+    @Override
+    public int read() throws IOException {
+      ByteBuffer chunk = getChunk(pos / chunkSize);
+      int offset = (int) (pos % chunkSize);
+      if (chunk == null || offset >= chunk.limit()) {
+        return -1;
+      }
+      pos++;
+      return chunk.get(offset) & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      ByteBuffer chunk = getChunk(pos / chunkSize);
+      int offset = (int) (pos % chunkSize);
+      if (chunk == null || offset >= chunk.limit()) {
+        return -1;
+      }
+      int count = Math.min(len, chunk.limit() - offset);
+      chunk.position(offset);
+      chunk.get(b, off, count);
+      pos += count;
+      return count;
+    }
+
+    @Override
+    public void seek(long pos) throws IOException {
+      if (pos < 0) {
+        throw new EOFException("Cannot seek to negative position " + pos);
+      }
+      this.pos = pos;
+    }
+
+    @Override
+    public long getPos() {
+      return pos;
+    }
+
+    @Override
+    public boolean seekToNewSource(long targetPos) {
+      return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+      current = null;
+      if (remote != null) {
+        remote.close();
+        remote = null;
+      }
+    }
+  }
+}
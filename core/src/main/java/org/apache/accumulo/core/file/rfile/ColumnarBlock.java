@@ -0,0 +1,341 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.file.rfile;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.accumulo.core.data.ByteSequence;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+import org.apache.hadoop.io.WritableUtils;
+
+/**
+ * A data block encoding that stores the key fields, timestamps and values of a block as separate
+ * columns instead of a sequence of {@link RelativeKey} and value pairs. Rows are run length and
+ * prefix encoded, column families, qualifiers and visibilities are dictionary encoded, and
+ * timestamps are delta encoded. When read, keys are decoded up front while values are only copied
+ * out of the block when requested.
+ *
+ * <p>
+ * The serialized form of a block is:
+ *
+ * <pre>
+ * vint numEntries
+ * vint numRowRuns, then for each run: vint commonPrefixLen, vint suffixLen, suffix, vint runLen
+ * column family dictionary, column qualifier dictionary, visibility dictionary
+ * vlong first timestamp, then for each following entry: vlong timestamp delta
+ * vint numDeleted, then for each deleted entry: vint delta from previous deleted position
+ * vint value length for each entry, then all value bytes
+ * </pre>
+ *
+ * A dictionary is a vint dictionary size, each dictionary entry as a vint length and bytes, and when
+ * there is more than one dictionary entry a vint dictionary index for each key.
+ */
+class ColumnarBlock {
+
+  private ColumnarBlock() {}
+
+  /**
+   * Buffers the entries of a data block and writes them in columnar form when the block is closed.
+   */
+  static class Writer {
+
+    private final List<Key> keys = new ArrayList<>();
+    private final List<Value> values = new ArrayList<>();
+    private long estimatedSize = 0;
+
+    /**
+     * @param key a key that will not be modified by the caller after this call
+     */
+    void append(Key key, Value value) {
+      keys.add(key);
+      values.add(new Value(value));
+      estimatedSize += key.getSize() + value.getSize();
+    }
+
+    long getEstimatedSize() {
+      return estimatedSize;
+    }
+
+    int size() {
+      return keys.size();
+    }
+
+    void write(DataOutput out) throws IOException {
+      final int numEntries = keys.size();
+      WritableUtils.writeVInt(out, numEntries);
+
+      writeRows(out);
+      writeDictionary(out, Key::getColumnFamilyData);
+      writeDictionary(out, Key::getColumnQualifierData);
+      writeDictionary(out, Key::getColumnVisibilityData);
+
+      long prevTs = 0;
+      int numDeleted = 0;
+      for (int i = 0; i < numEntries; i++) {
+        long ts = keys.get(i).getTimestamp();
+        WritableUtils.writeVLong(out, i == 0 ? ts : ts - prevTs);
+        prevTs = ts;
+        if (keys.get(i).isDeleted()) {
+          numDeleted++;
+        }
+      }
+
+      WritableUtils.writeVInt(out, numDeleted);
+      int prevDeleted = 0;
+      for (int i = 0; i < numEntries; i++) {
+        if (keys.get(i).isDeleted()) {
+          WritableUtils.writeVInt(out, i - prevDeleted);
+          prevDeleted = i;
+        }
+      }
+
+      for (Value value : values) {
+        WritableUtils.writeVInt(out, value.getSize());
+      }
+      for (Value value : values) {
+        out.write(value.get(), 0, value.getSize());
+      }
+    }
+
+    private void writeRows(DataOutput out) throws IOException {
+      List<ByteSequence> rows = new ArrayList<>();
+      List<Integer> runLengths = new ArrayList<>();
+
+      for (Key key : keys) {
+        ByteSequence row = key.getRowData();
+        int last = rows.size() - 1;
+        if (last >= 0 && rows.get(last).equals(row)) {
+          runLengths.set(last, runLengths.get(last) + 1);
+        } else {
+          rows.add(row);
+          runLengths.add(1);
+        }
+      }
+
+      WritableUtils.writeVInt(out, rows.size());
+      ByteSequence prevRow = null;
+      for (int i = 0; i < rows.size(); i++) {
+        ByteSequence row = rows.get(i);
+        int prefixLen = prevRow == null ? 0 : commonPrefix(prevRow, row);
+        WritableUtils.writeVInt(out, prefixLen);
+        WritableUtils.writeVInt(out, row.length() - prefixLen);
+        out.write(row.getBackingArray(), row.offset() + prefixLen, row.length() - prefixLen);
+        WritableUtils.writeVInt(out, runLengths.get(i));
+        prevRow = row;
+      }
+    }
+
+    private interface FieldGetter {
+      ByteSequence get(Key key);
+    }
+
+    private void writeDictionary(DataOutput out, FieldGetter getter) throws IOException {
+      Map<ByteSequence,Integer> dictionary = new HashMap<>();
+      List<ByteSequence> entries = new ArrayList<>();
+      int[] indexes = new int[keys.size()];
+
+      for (int i = 0; i < keys.size(); i++) {
+        ByteSequence field = getter.get(keys.get(i));
+        Integer index = dictionary.get(field);
+        if (index == null) {
+          index = entries.size();
+          dictionary.put(field, index);
+          entries.add(field);
+        }
+        indexes[i] = index;
+      }
+
+      WritableUtils.writeVInt(out, entries.size());
+      for (ByteSequence entry : entries) {
+        WritableUtils.writeVInt(out, entry.length());
+        out.write(entry.getBackingArray(), entry.offset(), entry.length());
+      }
+
+      if (entries.size() > 1) {
+        for (int index : indexes) {
+          WritableUtils.writeVInt(out, index);
+        }
+      }
+    }
+
+    void clear() {
+      keys.clear();
+      values.clear();
+      estimatedSize = 0;
+    }
+  }
+
+  private static int commonPrefix(ByteSequence prev, ByteSequence cur) {
+    int max = Math.min(prev.length(), cur.length());
+    byte[] pa = prev.getBackingArray();
+    byte[] ca = cur.getBackingArray();
+    int i = 0;
+    while (i < max && pa[prev.offset() + i] == ca[cur.offset() + i]) {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * A decoded columnar data block. Keys are created on request from the decoded columns, sharing
+   * the decoded field bytes.
+   */
+  static class Reader {
+
+    private final int size;
+    private final byte[][] rows;
+    private final int[] rowIndexes;
+    private final byte[][] families;
+    private final int[] familyIndexes;
+    private final byte[][] qualifiers;
+    private final int[] qualifierIndexes;
+    private final byte[][] visibilities;
+    private final int[] visibilityIndexes;
+    private final long[] timestamps;
+    private final boolean[] deleted;
+    private final int[] valueOffsets;
+    private final byte[] valueData;
+
+    Reader(DataInput in) throws IOException {
+      size = WritableUtils.readVInt(in);
+
+      int numRuns = WritableUtils.readVInt(in);
+      rows = new byte[numRuns][];
+      rowIndexes = new int[size];
+      int pos = 0;
+      byte[] prevRow = null;
+      for (int run = 0; run < numRuns; run++) {
+        int prefixLen = WritableUtils.readVInt(in);
+        int suffixLen = WritableUtils.readVInt(in);
+        byte[] row = new byte[prefixLen + suffixLen];
+        if (prefixLen > 0) {
+          System.arraycopy(prevRow, 0, row, 0, prefixLen);
+        }
+        in.readFully(row, prefixLen, suffixLen);
+        rows[run] = row;
+        int runLen = WritableUtils.readVInt(in);
+        Arrays.fill(rowIndexes, pos, pos + runLen, run);
+        pos += runLen;
+        prevRow = row;
+      }
+
+      if (pos != size) {
+        throw new IOException("Row runs cover " + pos + " entries, expected " + size);
+      }
+
+      families = readDictionary(in);
+      familyIndexes = readIndexes(in, families);
+      qualifiers = readDictionary(in);
+      qualifierIndexes = readIndexes(in, qualifiers);
+      visibilities = readDictionary(in);
+      visibilityIndexes = readIndexes(in, visibilities);
+
+      timestamps = new long[size];
+      long prevTs = 0;
+      for (int i = 0; i < size; i++) {
+        long ts = WritableUtils.readVLong(in);
+        timestamps[i] = i == 0 ? ts : prevTs + ts;
+        prevTs = timestamps[i];
+      }
+
+      deleted = new boolean[size];
+      int numDeleted = WritableUtils.readVInt(in);
+      int deletedPos = 0;
+      for (int i = 0; i < numDeleted; i++) {
+        deletedPos += WritableUtils.readVInt(in);
+        deleted[deletedPos] = true;
+      }
+
+      valueOffsets = new int[size + 1];
+      for (int i = 0; i < size; i++) {
+        valueOffsets[i + 1] = valueOffsets[i] + WritableUtils.readVInt(in);
+      }
+      valueData = new byte[valueOffsets[size]];
+      in.readFully(valueData);
+    }
+
+    private static byte[][] readDictionary(DataInput in) throws IOException {
+      byte[][] dictionary = new byte[WritableUtils.readVInt(in)][];
+      for (int i = 0; i < dictionary.length; i++) {
+        dictionary[i] = new byte[WritableUtils.readVInt(in)];
+        in.readFully(dictionary[i]);
+      }
+      return dictionary;
+    }
+
+    private int[] readIndexes(DataInput in, byte[][] dictionary) throws IOException {
+      if (dictionary.length <= 1) {
+        // every key uses the only entry, so no indexes were written
+        return null;
+      }
+
+      int[] indexes = new int[size];
+      for (int i = 0; i < size; i++) {
+        indexes[i] = WritableUtils.readVInt(in);
+      }
+      return indexes;
+    }
+
+    private static byte[] lookup(byte[][] dictionary, int[] indexes, int pos) {
+      return indexes == null ? dictionary[0] : dictionary[indexes[pos]];
+    }
+
+    int size() {
+      return size;
+    }
+
+    Key getKey(int pos) {
+      return new Key(rows[rowIndexes[pos]], lookup(families, familyIndexes, pos),
+          lookup(qualifiers, qualifierIndexes, pos), lookup(visibilities, visibilityIndexes, pos),
+          timestamps[pos], deleted[pos], false);
+    }
+
+    Value getValue(int pos) {
+      return new Value(valueData, valueOffsets[pos], valueOffsets[pos + 1] - valueOffsets[pos]);
+    }
+
+    /**
+     * @return the position of the first key in the block that is greater than or equal to the
+     *         given key, or {@link #size()} if all keys are less than it
+     */
+    int findFirst(Key key, int fromPos) {
+      int low = fromPos;
+      int high = size - 1;
+
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        if (getKey(mid).compareTo(key) < 0) {
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+
+      return low;
+    }
+  }
+}
@@ -67,9 +67,11 @@ import org.apache.accumulo.core.file.rfile.bcfile.BCFile.Writer.BlockAppender;
 import org.apache.accumulo.core.file.rfile.bcfile.MetaBlockDoesNotExist;
 import org.apache.accumulo.core.iterators.IteratorEnvironment;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.BatchIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.HeapIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.InterruptibleIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.IterationInterruptedException;
+import org.apache.accumulo.core.iteratorsImpl.system.KeyValueBuffer;
 import org.apache.accumulo.core.iteratorsImpl.system.LocalityGroupIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.LocalityGroupIterator.LocalityGroup;
 import org.apache.accumulo.core.iteratorsImpl.system.LocalityGroupIterator.LocalityGroupContext;
@@ -99,6 +101,10 @@ public class RFile {
 
   private static final int RINDEX_MAGIC = 0x20637474;
 
+  static final int RINDEX_VER_9 = 9; // Added columnar data blocks, see ColumnarBlock. The index and
+                                     // locality group metadata are the same as version 8. This
+                                     // version is only written when a table selects the columnar
+                                     // block encoding, otherwise version 8 is written.
   static final int RINDEX_VER_8 = 8; // Added sample storage. There is a sample locality group for
                                      // each locality group. Sample are built using a Sampler and
                                      // sampler configuration. The Sampler and its configuration are
@@ -451,17 +457,26 @@ public class RFile {
 
     private SampleLocalityGroupWriter sample;
 
+    // when non null, entries are buffered and written as a columnar block when the block is closed
+    private final ColumnarBlock.Writer columnarBlock;
+
     // Use windowed stats to fix ACCUMULO-4669
     private RollingStats keyLenStats = new RollingStats(2017);
     private double averageKeySize = 0;
 
     LocalityGroupWriter(BCFile.Writer fileWriter, long blockSize, long maxBlockSize,
-        LocalityGroupMetadata currentLocalityGroup, SampleLocalityGroupWriter sample) {
+        LocalityGroupMetadata currentLocalityGroup, SampleLocalityGroupWriter sample,
+        boolean columnar) {
       this.fileWriter = fileWriter;
       this.blockSize = blockSize;
       this.maxBlockSize = maxBlockSize;
       this.currentLocalityGroup = currentLocalityGroup;
       this.sample = sample;
+      this.columnarBlock = columnar ? new ColumnarBlock.Writer() : null;
+    }
+
+    private long getBlockRawSize() {
+      return columnarBlock == null ? blockWriter.getRawSize() : columnarBlock.getEstimatedSize();
     }
 
     private boolean isGiantKey(Key k) {
@@ -489,7 +504,7 @@ public class RFile {
 
       if (blockWriter == null) {
         blockWriter = fileWriter.prepareDataBlock();
-      } else if (blockWriter.getRawSize() > blockSize) {
+      } else if (getBlockRawSize() > blockSize) {
 
         // Look for a key that's short to put in the index, defining short as average or below.
         if (averageKeySize == 0) {
@@ -501,7 +516,7 @@ public class RFile {
         // shortened, it may not be below average.
         Key closeKey = KeyShortener.shorten(prevKey, key);
 
-        if ((closeKey.getSize() <= averageKeySize || blockWriter.getRawSize() > maxBlockSize)
+        if ((closeKey.getSize() <= averageKeySize || getBlockRawSize() > maxBlockSize)
             && !isGiantKey(closeKey)) {
           closeBlock(closeKey, false);
           blockWriter = fileWriter.prepareDataBlock();
@@ -510,7 +525,7 @@ public class RFile {
           // To constrain the growth of data blocks, we limit our worst case scenarios to closing
           // blocks if they reach the maximum configurable block size of Integer.MAX_VALUE.
           // 128 bytes added for metadata overhead
-        } else if (((long) key.getSize() + (long) value.getSize() + blockWriter.getRawSize() + 128L)
+        } else if (((long) key.getSize() + (long) value.getSize() + getBlockRawSize() + 128L)
             >= Integer.MAX_VALUE) {
           closeBlock(closeKey, false);
           blockWriter = fileWriter.prepareDataBlock();
@@ -519,20 +534,30 @@ public class RFile {
         }
       }
 
-      RelativeKey rk = new RelativeKey(lastKeyInBlock, key);
+      prevKey = new Key(key);
+
+      if (columnarBlock == null) {
+        RelativeKey rk = new RelativeKey(lastKeyInBlock, key);
 
-      rk.write(blockWriter);
-      value.write(blockWriter);
+        rk.write(blockWriter);
+        value.write(blockWriter);
+      } else {
+        columnarBlock.append(prevKey, value);
+      }
       entries++;
 
       keyLenStats.addValue(key.getSize());
 
-      prevKey = new Key(key);
       lastKeyInBlock = prevKey;
 
     }
 
     private void closeBlock(Key key, boolean lastBlock) throws IOException {
+      if (columnarBlock != null) {
+        columnarBlock.write(blockWriter);
+        columnarBlock.clear();
+      }
+
       blockWriter.close();
 
       if (lastBlock) {
@@ -590,6 +615,7 @@ public class RFile {
 
     private SamplerConfigurationImpl samplerConfig;
     private Sampler sampler;
+    private final boolean columnar;
 
     public Writer(BCFile.Writer bfw, int blockSize) throws IOException {
       this(bfw, blockSize, (int) DefaultConfiguration.getInstance()
@@ -598,6 +624,16 @@ public class RFile {
 
     public Writer(BCFile.Writer bfw, int blockSize, int indexBlockSize,
         SamplerConfigurationImpl samplerConfig, Sampler sampler) {
+      this(bfw, blockSize, indexBlockSize, samplerConfig, sampler, false);
+    }
+
+    /**
+     * @param columnar when true data blocks are written using {@link ColumnarBlock} encoding and
+     *        the file is written as version 9
+     */
+    public Writer(BCFile.Writer bfw, int blockSize, int indexBlockSize,
+        SamplerConfigurationImpl samplerConfig, Sampler sampler, boolean columnar) {
+      this.columnar = columnar;
       this.blockSize = blockSize;
       this.maxBlockSize = (long) (blockSize * MAX_BLOCK_MULTIPLIER);
       this.indexBlockSize = indexBlockSize;
@@ -619,7 +655,7 @@ public class RFile {
       BlockAppender mba = fileWriter.prepareMetaBlock("RFile.index");
 
       mba.writeInt(RINDEX_MAGIC);
-      mba.writeInt(RINDEX_VER_8);
+      mba.writeInt(columnar ? RINDEX_VER_9 : RINDEX_VER_8);
 
       if (currentLocalityGroup != null) {
         localityGroups.add(currentLocalityGroup);
@@ -724,11 +760,12 @@ public class RFile {
       SampleLocalityGroupWriter sampleWriter = null;
       if (sampler != null) {
         sampleWriter = new SampleLocalityGroupWriter(
-            new LocalityGroupWriter(fileWriter, blockSize, maxBlockSize, sampleLocalityGroup, null),
+            new LocalityGroupWriter(fileWriter, blockSize, maxBlockSize, sampleLocalityGroup, null,
+                columnar),
             sampler);
       }
       lgWriter = new LocalityGroupWriter(fileWriter, blockSize, maxBlockSize, currentLocalityGroup,
-          sampleWriter);
+          sampleWriter, columnar);
     }
 
     @Override
@@ -760,7 +797,8 @@ public class RFile {
     }
   }
 
-  private static class LocalityGroupReader extends LocalityGroup implements FileSKVIterator {
+  private static class LocalityGroupReader extends LocalityGroup
+      implements FileSKVIterator, BatchIterator {
 
     private CachableBlockFile.Reader reader;
     private MultiLevelIndex.Reader index;
@@ -802,6 +840,7 @@ public class RFile {
     public void close() throws IOException {
       closed = true;
       hasTop = false;
+      columnarBlock = null;
       if (currBlock != null) {
         currBlock.close();
       }
@@ -818,13 +857,30 @@ public class RFile {
     private boolean hasTop = false;
     private AtomicBoolean interruptFlag;
 
+    // state used when reading columnar data blocks, see _nextColumnar() and _seekColumnar()
+    private ColumnarBlock.Reader columnarBlock;
+    private long columnarBlockOffset;
+    private int columnarPos;
+    private Key columnarKey;
+    private Value columnarValue;
+
     @Override
     public Key getTopKey() {
+      if (version == RINDEX_VER_9) {
+        return columnarKey;
+      }
       return rk.getKey();
     }
 
     @Override
     public Value getTopValue() {
+      if (version == RINDEX_VER_9) {
+        // values are only copied out of the block when requested
+        if (columnarValue == null) {
+          columnarValue = columnarBlock.getValue(columnarPos);
+        }
+        return columnarValue;
+      }
       return val;
     }
 
@@ -843,12 +899,36 @@ public class RFile {
       }
     }
 
+    @Override
+    public void nextBatch(KeyValueBuffer buffer) throws IOException {
+      try {
+        while (hasTop && !buffer.isFull()) {
+          if (version == RINDEX_VER_9) {
+            // columnar keys and values are not shared with later entries
+            buffer.add(columnarKey, getTopValue());
+          } else {
+            // relative keys are created for each entry, but the value object is reused
+            buffer.add(rk.getKey(), new Value(val));
+          }
+          _next();
+        }
+      } catch (IOException | RuntimeException ioe) {
+        reset(true);
+        throw ioe;
+      }
+    }
+
     private void _next() throws IOException {
 
       if (!hasTop) {
         throw new IllegalStateException();
       }
 
+      if (version == RINDEX_VER_9) {
+        _nextColumnar();
+        return;
+      }
+
       if (entriesLeft == 0) {
         currBlock.close();
         if (metricsGatherer != null) {
@@ -887,6 +967,103 @@ public class RFile {
       }
     }
 
+    private void _nextColumnar() throws IOException {
+      positionColumnar(columnarPos + 1);
+
+      if (metricsGatherer != null && columnarKey != null) {
+        metricsGatherer.addMetric(columnarKey, getTopValue());
+      }
+    }
+
+    /**
+     * Positions this reader on the entry at the given position of the current columnar block,
+     * moving through following blocks when the position is past the end of the current block.
+     */
+    private void positionColumnar(int pos) throws IOException {
+      columnarValue = null;
+
+      while (pos >= columnarBlock.size()) {
+        if (!iiter.hasNext()) {
+          columnarKey = null;
+          hasTop = false;
+          return;
+        }
+
+        IndexEntry indexEntry = iiter.next();
+        readColumnarBlock(indexEntry);
+        checkRange = range.afterEndKey(indexEntry.getKey());
+        pos = 0;
+      }
+
+      columnarPos = pos;
+      entriesLeft = columnarBlock.size() - pos - 1;
+      columnarKey = columnarBlock.getKey(pos);
+      hasTop = !checkRange || !range.afterEndKey(columnarKey);
+    }
+
+    private void readColumnarBlock(IndexEntry indexEntry) throws IOException {
+      if (columnarBlock != null && columnarBlockOffset == indexEntry.getOffset()) {
+        // already decoded, this happens when seeking within the same block
+        return;
+      }
+
+      if (metricsGatherer != null) {
+        metricsGatherer.startBlock();
+      }
+
+      columnarBlock = null;
+      try (CachableBlockFile.CachedBlockRead block = getDataBlock(indexEntry)) {
+        columnarBlock = new ColumnarBlock.Reader(block);
+      }
+      columnarBlockOffset = indexEntry.getOffset();
+    }
+
+    private void _seekColumnar(Range range) throws IOException {
+      this.range = range;
+      this.checkRange = true;
+      columnarKey = null;
+      columnarValue = null;
+      hasTop = false;
+
+      if (blockCount == 0 || range.afterEndKey(firstKey)) {
+        // empty file or range is before first key in rfile, so there is nothing to do
+        return;
+      }
+
+      Key startKey = range.getStartKey();
+      if (startKey == null) {
+        startKey = new Key();
+      }
+
+      iiter = index.lookup(startKey);
+
+      if (!iiter.hasNext()) {
+        // past the last key
+        return;
+      }
+
+      // if the index contains the same key multiple times, then go to the earliest index entry
+      // containing the key
+      while (iiter.hasPrevious() && iiter.peekPrevious().getKey().equals(iiter.peek().getKey())) {
+        iiter.previous();
+      }
+
+      IndexEntry indexEntry = iiter.next();
+      readColumnarBlock(indexEntry);
+      checkRange = range.afterEndKey(indexEntry.getKey());
+
+      positionColumnar(columnarBlock.findFirst(startKey, 0));
+
+      while (hasTop() && range.beforeStartKey(getTopKey())) {
+        _nextColumnar();
+      }
+
+      if (metricsGatherer != null && hasTop()) {
+        metricsGatherer.startLocalityGroup(columnarKey.getColumnFamily());
+        metricsGatherer.addMetric(columnarKey, getTopValue());
+      }
+    }
+
     private CachableBlockFile.CachedBlockRead getDataBlock(IndexEntry indexEntry)
         throws IOException {
       if (interruptFlag != null && interruptFlag.get()) {
@@ -928,7 +1105,12 @@ public class RFile {
 
     private void reset(boolean exceptionThrown) {
       rk = null;
+      columnarKey = null;
+      columnarValue = null;
       hasTop = false;
+      if (exceptionThrown) {
+        columnarBlock = null;
+      }
       if (currBlock != null) {
         try {
           try {
@@ -947,6 +1129,11 @@ public class RFile {
 
     private void _seek(Range range) throws IOException {
 
+      if (version == RINDEX_VER_9) {
+        _seekColumnar(range);
+        return;
+      }
+
       this.range = range;
       this.checkRange = true;
 
@@ -1200,8 +1387,8 @@ public class RFile {
         if (magic != RINDEX_MAGIC) {
           throw new IOException("Did not see expected magic number, saw " + magic);
         }
-        if (ver != RINDEX_VER_8 && ver != RINDEX_VER_7 && ver != RINDEX_VER_6 && ver != RINDEX_VER_4
-            && ver != RINDEX_VER_3) {
+        if (ver != RINDEX_VER_9 && ver != RINDEX_VER_8 && ver != RINDEX_VER_7 && ver != RINDEX_VER_6
+            && ver != RINDEX_VER_4 && ver != RINDEX_VER_3) {
           throw new IOException("Did not see expected version, saw " + ver);
         }
 
@@ -1220,7 +1407,7 @@ public class RFile {
 
         readers = currentReaders;
 
-        if (ver == RINDEX_VER_8 && mb.readBoolean()) {
+        if ((ver == RINDEX_VER_8 || ver == RINDEX_VER_9) && mb.readBoolean()) {
           sampleReaders = new LocalityGroupReader[size];
 
           for (int i = 0; i < size; i++) {
@@ -59,7 +59,7 @@ public class RFileOperations extends FileOperations {
         .fsPath(options.getFileSystem(), options.getFile().getPath(), options.dropCacheBehind)
         .conf(options.getConfiguration()).fileLen(options.getFileLenCache())
         .cacheProvider(options.cacheProvider).readLimiter(options.getRateLimiter())
-        .cryptoService(options.getCryptoService());
+        .cryptoService(options.getCryptoService()).localFileCache(options.getLocalFileCache());
     return RFile.getReader(cb, options.getFile());
   }
 
@@ -159,6 +159,9 @@ public class RFileOperations extends FileOperations {
     BCFile.Writer _cbw = new BCFile.Writer(outputStream, options.getRateLimiter(), compression,
         conf, options.cryptoService);
 
-    return new RFile.Writer(_cbw, (int) blockSize, (int) indexBlockSize, samplerConfig, sampler);
+    boolean columnar = acuconf.get(Property.TABLE_FILE_BLOCK_ENCODING).equals("columnar");
+
+    return new RFile.Writer(_cbw, (int) blockSize, (int) indexBlockSize, samplerConfig, sampler,
+        columnar);
   }
 }
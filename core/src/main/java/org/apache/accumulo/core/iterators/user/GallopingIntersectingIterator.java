@@ -0,0 +1,550 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.iterators.user;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.accumulo.core.client.IteratorSetting;
+import org.apache.accumulo.core.data.ArrayByteSequence;
+import org.apache.accumulo.core.data.ByteSequence;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.PartialKey;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.iterators.IteratorEnvironment;
+import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+import org.apache.accumulo.core.util.TextUtil;
+import org.apache.hadoop.io.Text;
+
+/**
+ * An alternative to {@link IntersectingIterator} for document-partitioned indexes whose term
+ * frequencies are skewed. It uses the same table structure:
+ *
+ * row: shardID, colfam: term, colqual: docID
+ *
+ * and returns keys of the form row: shardID, colfam: (empty), colqual: docID.
+ *
+ * The query is a conjunction of clauses, where each clause is a disjunction of one or more terms,
+ * plus an optional set of terms that matching documents must not contain. Clauses are evaluated
+ * rarest first. The rarest clause proposes candidate documents and the others only have to confirm
+ * them, so the frequent terms are skipped over instead of read. The initial order comes from term
+ * frequencies given with {@link #setTermFrequencies(IteratorSetting, Map)}, for example the column
+ * family counts that a {@link org.apache.accumulo.core.client.summary.summarizers.FamilySummarizer}
+ * reports through {@code TableOperations.summaries()}. After that, clauses are periodically
+ * reordered by how often each one moved the candidate forward.
+ *
+ * When a term source is behind the candidate within a shard it first tries to reach it with a few
+ * calls to next, and only seeks if that fails. The number of calls doubles each time stepping
+ * succeeds and halves each time a seek is needed, so dense terms step and sparse terms seek.
+ *
+ * The number of seeks and keys read since the last seek of this iterator are available through
+ * {@link #getSeekCount()} and {@link #getKeysRead()}. When {@link #setReportStats(IteratorSetting,
+ * boolean)} is enabled, they are also returned in the value of each key as
+ * {@code seeks=<n>,keys=<n>}.
+ */
+public class GallopingIntersectingIterator implements SortedKeyValueIterator<Key,Value> {
+
+  private static final String CLAUSES_OPTION = "clauses";
+  private static final String NOT_TERMS_OPTION = "notTerms";
+  private static final String FREQUENCIES_OPTION = "termFrequencies";
+  private static final String REPORT_STATS_OPTION = "reportStats";
+
+  // maximum number of calls to next before a term source seeks, roughly what a seek costs
+  static final int MAX_STEPS = 16;
+  // number of candidates evaluated between reordering clauses
+  static final int REORDER_INTERVAL = 1024;
+
+  private static final byte[] ZERO = {0};
+  private static final Text EMPTY = new Text();
+  private static final Value EMPTY_VALUE = new Value(new byte[0]);
+
+  private class TermSource {
+    final SortedKeyValueIterator<Key,Value> iter;
+    final Text term;
+    final Collection<ByteSequence> seekColfams;
+    final long frequency;
+
+    // position of the source, valid when advanceTo returns true
+    final Text partition = new Text();
+    final Text doc = new Text();
+    private final Text family = new Text();
+    boolean exhausted = false;
+    int steps = 1;
+
+    TermSource(SortedKeyValueIterator<Key,Value> iter, Text term, long frequency) {
+      this.iter = iter;
+      this.term = term;
+      this.frequency = frequency;
+      this.seekColfams =
+          Collections.singletonList(new ArrayByteSequence(term.getBytes(), 0, term.getLength()));
+    }
+
+    void seek(Text p, Text d) throws IOException {
+      seeks++;
+      iter.seek(new Range(new Key(p, term, d), true, null, false), seekColfams, true);
+    }
+
+    void seekFollowingPartition() throws IOException {
+      seeks++;
+      iter.seek(new Range(new Key(partition).followingKey(PartialKey.ROW), true, null, false),
+          seekColfams, true);
+    }
+
+    /**
+     * Positions this source at its first entry at or after document d of partition p.
+     *
+     * @return false if the source has no such entry within the range
+     */
+    boolean advanceTo(Text p, Text d) throws IOException {
+      while (!exhausted) {
+        if (!iter.hasTop()) {
+          exhausted = true;
+          break;
+        }
+        Key top = iter.getTopKey();
+        top.getRow(partition);
+        if (pastEnd(partition)) {
+          exhausted = true;
+          break;
+        }
+        int partitionCompare = partition.compareTo(p);
+        if (partitionCompare < 0) {
+          seek(p, d);
+          continue;
+        }
+        top.getColumnFamily(family);
+        int termCompare = family.compareTo(term);
+        if (termCompare < 0) {
+          seek(partition, partitionCompare == 0 ? d : EMPTY);
+          continue;
+        }
+        if (termCompare > 0) {
+          // no more entries for this term in this partition
+          seekFollowingPartition();
+          continue;
+        }
+        top.getColumnQualifier(doc);
+        if (partitionCompare > 0 || doc.compareTo(d) >= 0) {
+          return true;
+        }
+        if (stepTo(d)) {
+          steps = Math.min(steps * 2, MAX_STEPS);
+        } else {
+          steps = Math.max(1, steps / 2);
+          seek(p, d);
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Calls next up to steps times, stopping when the source reaches document d or leaves the
+     * current partition and term.
+     *
+     * @return false if the source is still behind document d
+     */
+    private boolean stepTo(Text d) throws IOException {
+      for (int i = 0; i < steps; i++) {
+        iter.next();
+        keysRead++;
+        if (!iter.hasTop()) {
+          return true;
+        }
+        Key top = iter.getTopKey();
+        if (top.compareRow(partition) != 0 || top.compareColumnFamily(term) != 0
+            || top.compareColumnQualifier(d) >= 0) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private class Clause {
+    final TermSource[] sources;
+    final long frequency;
+    long advances = 0;
+
+    final Text partition = new Text();
+    final Text doc = new Text();
+
+    Clause(TermSource[] sources) {
+      this.sources = sources;
+      long sum = 0;
+      for (TermSource source : sources) {
+        sum += source.frequency;
+      }
+      this.frequency = sum;
+    }
+
+    /**
+     * Positions the clause at the first document at or after d of partition p that contains any
+     * of its terms.
+     *
+     * @return false if there is no such document within the range
+     */
+    boolean advanceTo(Text p, Text d) throws IOException {
+      TermSource min = null;
+      for (TermSource source : sources) {
+        if (source.advanceTo(p, d)
+            && (min == null || compare(source.partition, source.doc, min.partition, min.doc) < 0)) {
+          min = source;
+        }
+      }
+      if (min == null) {
+        return false;
+      }
+      partition.set(min.partition);
+      doc.set(min.doc);
+      return true;
+    }
+  }
+
+  private SortedKeyValueIterator<Key,Value> source;
+  private Map<String,String> options;
+
+  private Clause[] clauses;
+  private TermSource[] notSources;
+  private boolean reportStats;
+
+  private Text endRow;
+  private boolean endRowInclusive;
+
+  private Text currentPartition = null;
+  private final Text currentDoc = new Text();
+  private Key topKey = null;
+  private Value topValue = EMPTY_VALUE;
+
+  private long candidates = 0;
+  private long seeks = 0;
+  private long keysRead = 0;
+
+  private static int compare(Text p1, Text d1, Text p2, Text d2) {
+    int cmp = p1.compareTo(p2);
+    if (cmp == 0) {
+      cmp = d1.compareTo(d2);
+    }
+    return cmp;
+  }
+
+  private boolean pastEnd(Text row) {
+    if (endRow == null) {
+      return false;
+    }
+    int cmp = endRow.compareTo(row);
+    return cmp < 0 || (cmp == 0 && !endRowInclusive);
+  }
+
+  @Override
+  public void init(SortedKeyValueIterator<Key,Value> source, Map<String,String> options,
+      IteratorEnvironment env) throws IOException {
+    this.source = source;
+    this.options = options;
+
+    List<List<Text>> clauseTerms = decodeClauses(options.get(CLAUSES_OPTION));
+    List<Text> notTerms = decodeTerms(options.get(NOT_TERMS_OPTION));
+    Map<Text,Long> frequencies = decodeFrequencies(options.get(FREQUENCIES_OPTION));
+    reportStats = Boolean.parseBoolean(options.get(REPORT_STATS_OPTION));
+
+    if (clauseTerms.isEmpty()) {
+      throw new IllegalArgumentException(
+          getClass().getSimpleName() + " requires at least one clause");
+    }
+
+    boolean first = true;
+    clauses = new Clause[clauseTerms.size()];
+    for (int i = 0; i < clauses.length; i++) {
+      List<Text> terms = clauseTerms.get(i);
+      if (terms.isEmpty()) {
+        throw new IllegalArgumentException("Clauses must contain at least one term");
+      }
+      TermSource[] sources = new TermSource[terms.size()];
+      for (int j = 0; j < sources.length; j++) {
+        sources[j] = new TermSource(first ? source : source.deepCopy(env), terms.get(j),
+            frequencies.getOrDefault(terms.get(j), Long.MAX_VALUE / 1024));
+        first = false;
+      }
+      clauses[i] = new Clause(sources);
+    }
+
+    notSources = new TermSource[notTerms.size()];
+    for (int i = 0; i < notSources.length; i++) {
+      notSources[i] = new TermSource(source.deepCopy(env), notTerms.get(i), 0);
+    }
+
+    // rarest clause first, clauses without estimates keep the order they were given in
+    Arrays.sort(clauses, Comparator.comparingLong(c -> c.frequency));
+  }
+
+  @Override
+  public boolean hasTop() {
+    return topKey != null;
+  }
+
+  @Override
+  public void next() throws IOException {
+    if (currentPartition == null) {
+      return;
+    }
+    currentDoc.append(ZERO, 0, 1);
+    findIntersection();
+  }
+
+  @Override
+  public void seek(Range range, Collection<ByteSequence> columnFamilies, boolean inclusive)
+      throws IOException {
+    seeks = 0;
+    keysRead = 0;
+
+    Key end = range.getEndKey();
+    endRow = end == null ? null : end.getRow();
+    endRowInclusive = range.isEndKeyInclusive();
+
+    currentPartition = new Text();
+    currentDoc.clear();
+    Key start = range.getStartKey();
+    if (start != null) {
+      start.getRow(currentPartition);
+      start.getColumnQualifier(currentDoc);
+      if (!range.isStartKeyInclusive()) {
+        currentDoc.append(ZERO, 0, 1);
+      }
+    }
+
+    for (Clause clause : clauses) {
+      for (TermSource ts : clause.sources) {
+        ts.exhausted = false;
+        ts.seek(currentPartition, currentDoc);
+      }
+    }
+    for (TermSource ts : notSources) {
+      ts.exhausted = false;
+      ts.seek(currentPartition, currentDoc);
+    }
+
+    findIntersection();
+  }
+
+  private void findIntersection() throws IOException {
+    while (true) {
+      boolean moved = false;
+      for (Clause clause : clauses) {
+        if (!clause.advanceTo(currentPartition, currentDoc)) {
+          currentPartition = null;
+          topKey = null;
+          return;
+        }
+        if (compare(clause.partition, clause.doc, currentPartition, currentDoc) > 0) {
+          currentPartition.set(clause.partition);
+          currentDoc.set(clause.doc);
+          clause.advances++;
+          moved = true;
+          break;
+        }
+      }
+
+      if (++candidates % REORDER_INTERVAL == 0) {
+        reorderClauses();
+      }
+
+      if (moved) {
+        continue;
+      }
+
+      if (isExcluded()) {
+        currentDoc.append(ZERO, 0, 1);
+        continue;
+      }
+
+      topKey = new Key(currentPartition, EMPTY, currentDoc);
+      topValue = reportStats ? new Value(("seeks=" + seeks + ",keys=" + keysRead).getBytes(UTF_8))
+          : EMPTY_VALUE;
+      return;
+    }
+  }
+
+  private boolean isExcluded() throws IOException {
+    for (TermSource ts : notSources) {
+      if (ts.advanceTo(currentPartition, currentDoc) && ts.partition.equals(currentPartition)
+          && ts.doc.equals(currentDoc)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Moves the clauses that most often rejected candidates to the front, since those are the
+   * rarest.
+   */
+  private void reorderClauses() {
+    Arrays.sort(clauses, Comparator.comparingLong((Clause c) -> c.advances).reversed()
+        .thenComparingLong(c -> c.frequency));
+    for (Clause clause : clauses) {
+      clause.advances /= 2;
+    }
+  }
+
+  @Override
+  public Key getTopKey() {
+    return topKey;
+  }
+
+  @Override
+  public Value getTopValue() {
+    return topValue;
+  }
+
+  @Override
+  public SortedKeyValueIterator<Key,Value> deepCopy(IteratorEnvironment env) {
+    GallopingIntersectingIterator copy = new GallopingIntersectingIterator();
+    try {
+      copy.init(source.deepCopy(env), options, env);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return copy;
+  }
+
+  /**
+   * @return the number of seeks done on term sources since this iterator was last seeked
+   */
+  public long getSeekCount() {
+    return seeks;
+  }
+
+  /**
+   * @return the number of keys read by calling next on term sources since this iterator was last
+   *         seeked
+   */
+  public long getKeysRead() {
+    return keysRead;
+  }
+
+  private static String encodeTerms(Collection<Text> terms, char separator) {
+    StringBuilder sb = new StringBuilder();
+    for (Text term : terms) {
+      if (sb.length() > 0) {
+        sb.append(separator);
+      }
+      sb.append(Base64.getEncoder().encodeToString(TextUtil.getBytes(term)));
+    }
+    return sb.toString();
+  }
+
+  private static List<Text> decodeTerms(String encoded, String separator) {
+    List<Text> terms = new ArrayList<>();
+    if (encoded != null && !encoded.isEmpty()) {
+      for (String term : encoded.split(separator)) {
+        terms.add(new Text(Base64.getDecoder().decode(term)));
+      }
+    }
+    return terms;
+  }
+
+  private static List<Text> decodeTerms(String encoded) {
+    return decodeTerms(encoded, "\n");
+  }
+
+  private static List<List<Text>> decodeClauses(String encoded) {
+    List<List<Text>> clauses = new ArrayList<>();
+    if (encoded != null && !encoded.isEmpty()) {
+      for (String clause : encoded.split("\n")) {
+        clauses.add(decodeTerms(clause, ","));
+      }
+    }
+    return clauses;
+  }
+
+  private static Map<Text,Long> decodeFrequencies(String encoded) {
+    Map<Text,Long> frequencies = new HashMap<>();
+    if (encoded != null && !encoded.isEmpty()) {
+      for (String entry : encoded.split("\n")) {
+        int sep = entry.lastIndexOf(':');
+        frequencies.put(new Text(Base64.getDecoder().decode(entry.substring(0, sep))),
+            Long.parseLong(entry.substring(sep + 1)));
+      }
+    }
+    return frequencies;
+  }
+
+  /**
+   * Sets the clauses of the query. A document matches when it contains at least one term of every
+   * clause.
+   */
+  public static void setClauses(IteratorSetting cfg, List<List<Text>> clauses) {
+    if (clauses.isEmpty()) {
+      throw new IllegalArgumentException("Must supply at least one clause");
+    }
+    StringBuilder sb = new StringBuilder();
+    for (List<Text> clause : clauses) {
+      if (clause.isEmpty()) {
+        throw new IllegalArgumentException("Clauses must contain at least one term");
+      }
+      if (sb.length() > 0) {
+        sb.append('\n');
+      }
+      sb.append(encodeTerms(clause, ','));
+    }
+    cfg.addOption(CLAUSES_OPTION, sb.toString());
+  }
+
+  /**
+   * Sets terms that matching documents must not contain.
+   */
+  public static void setNotTerms(IteratorSetting cfg, List<Text> terms) {
+    cfg.addOption(NOT_TERMS_OPTION, encodeTerms(terms, '\n'));
+  }
+
+  /**
+   * Sets estimates of how many entries each term has, used to evaluate the rarest clauses first.
+   * Terms without an estimate are assumed to be frequent.
+   */
+  public static void setTermFrequencies(IteratorSetting cfg, Map<Text,Long> frequencies) {
+    StringBuilder sb = new StringBuilder();
+    for (Entry<Text,Long> entry : frequencies.entrySet()) {
+      if (sb.length() > 0) {
+        sb.append('\n');
+      }
+      sb.append(Base64.getEncoder().encodeToString(TextUtil.getBytes(entry.getKey())));
+      sb.append(':').append(entry.getValue());
+    }
+    cfg.addOption(FREQUENCIES_OPTION, sb.toString());
+  }
+
+  /**
+   * When enabled, the value of each returned key holds the number of seeks and keys read since
+   * the iterator was last seeked.
+   */
+  public static void setReportStats(IteratorSetting cfg, boolean reportStats) {
+    cfg.addOption(REPORT_STATS_OPTION, Boolean.toString(reportStats));
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.iteratorsImpl.system;
+
+import java.io.IOException;
+
+/**
+ * An optional interface for system iterators that are able to read many key values in a single
+ * call. Reading a batch avoids the chain of {@code next()}, {@code hasTop()}, {@code getTopKey()}
+ * and {@code getTopValue()} calls that every entry otherwise makes through each layer of the system
+ * iterator stack. Iterators that do not implement this interface, like user configured iterators,
+ * are read one entry at a time when a {@link KeyValueBuffer} is filled from them.
+ */
+public interface BatchIterator {
+
+  /**
+   * Appends the current top entry and the entries that follow it to the buffer, stopping when the
+   * buffer is full or when there are no more entries. When this returns, the iterator is positioned
+   * as if {@code next()} had been called once for each entry appended. Does nothing when the
+   * iterator has no top.
+   *
+   * <p>
+   * Keys and values appended to the buffer must not be modified by later calls to this iterator
+   * and must not be modified by the caller.
+   */
+  void nextBatch(KeyValueBuffer buffer) throws IOException;
+}
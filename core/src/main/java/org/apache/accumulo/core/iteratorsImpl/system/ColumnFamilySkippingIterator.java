@@ -35,7 +35,7 @@ import org.apache.accumulo.core.iterators.ServerSkippingIterator;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 
 public class ColumnFamilySkippingIterator extends ServerSkippingIterator
-    implements InterruptibleIterator {
+    implements InterruptibleIterator, BatchIterator {
 
   protected Set<ByteSequence> colFamSet = null;
   protected TreeSet<ByteSequence> sortedColFams = null;
@@ -93,6 +93,17 @@ public class ColumnFamilySkippingIterator extends ServerSkippingIterator
     }
   }
 
+  @Override
+  public void nextBatch(KeyValueBuffer buffer) throws IOException {
+    if (inclusive || (colFamSet != null && !colFamSet.isEmpty())) {
+      // skipping column families may seek the source, which the per entry methods already handle
+      buffer.fillByEntry(this);
+    } else {
+      // nothing is skipped, so the top of this iterator is always the top of the source
+      buffer.fill(source);
+    }
+  }
+
   private void reseek(Key key) throws IOException {
     if (range.afterEndKey(key)) {
       range = new Range(range.getEndKey(), true, range.getEndKey(), range.isEndKeyInclusive());
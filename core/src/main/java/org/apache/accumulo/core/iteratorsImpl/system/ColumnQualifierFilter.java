@@ -18,6 +18,7 @@
  */
 package org.apache.accumulo.core.iteratorsImpl.system;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Set;
@@ -31,7 +32,7 @@ import org.apache.accumulo.core.iterators.IteratorEnvironment;
 import org.apache.accumulo.core.iterators.ServerFilter;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 
-public class ColumnQualifierFilter extends ServerFilter {
+public class ColumnQualifierFilter extends ServerFilter implements BatchIterator {
   private HashSet<ByteSequence> columnFamilies;
   private HashMap<ByteSequence,HashSet<ByteSequence>> columnsQualifiers;
 
@@ -73,6 +74,11 @@ public class ColumnQualifierFilter extends ServerFilter {
     return cfset != null && cfset.contains(key.getColumnFamilyData());
   }
 
+  @Override
+  public void nextBatch(KeyValueBuffer buffer) throws IOException {
+    buffer.fillFiltered(source, (k, v) -> k.isDeleted() || accept(k, v));
+  }
+
   @Override
   public SortedKeyValueIterator<Key,Value> deepCopy(IteratorEnvironment env) {
     return new ColumnQualifierFilter(source.deepCopy(env), columnFamilies, columnsQualifiers);
@@ -34,9 +34,11 @@ import org.apache.accumulo.core.iterators.IteratorUtil;
 import org.apache.accumulo.core.iterators.ServerWrappingIterator;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 
-public class DeletingIterator extends ServerWrappingIterator {
+public class DeletingIterator extends ServerWrappingIterator implements BatchIterator {
   private boolean propagateDeletes;
   private Key workKey = new Key();
+  // the last delete seen while filtering a batch, see nextBatch()
+  private Key batchDeleteKey = null;
 
   public enum Behavior {
     PROCESS, FAIL
@@ -67,6 +69,47 @@ public class DeletingIterator extends ServerWrappingIterator {
     findTop();
   }
 
+  @Override
+  public void nextBatch(KeyValueBuffer buffer) throws IOException {
+    batchDeleteKey = null;
+
+    while (source.hasTop() && !buffer.isFull()) {
+      int start = buffer.size();
+      buffer.fill(source);
+      buffer.retain(start, this::keepInBatch);
+    }
+
+    if (batchDeleteKey != null) {
+      // the delete may also cover entries the batch did not reach
+      while (source.hasTop()
+          && source.getTopKey().equals(batchDeleteKey, PartialKey.ROW_COLFAM_COLQUAL_COLVIS)) {
+        source.next();
+      }
+      batchDeleteKey = null;
+    }
+
+    findTop();
+  }
+
+  /**
+   * Applies the same rules as {@link #next()} to entries that were read in a batch.
+   */
+  private boolean keepInBatch(Key key, Value value) {
+    if (batchDeleteKey != null) {
+      if (key.equals(batchDeleteKey, PartialKey.ROW_COLFAM_COLQUAL_COLVIS)) {
+        return false;
+      }
+      batchDeleteKey = null;
+    }
+
+    if (key.isDeleted()) {
+      batchDeleteKey = key;
+      return propagateDeletes;
+    }
+
+    return true;
+  }
+
   @Override
   public void seek(Range range, Collection<ByteSequence> columnFamilies, boolean inclusive)
       throws IOException {
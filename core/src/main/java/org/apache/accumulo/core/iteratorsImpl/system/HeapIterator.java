@@ -29,7 +29,7 @@ import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
  * Constructs a {@link PriorityQueue} of multiple SortedKeyValueIterators. Provides a simple way to
  * interact with multiple SortedKeyValueIterators in sorted order.
  */
-public abstract class HeapIterator implements SortedKeyValueIterator<Key,Value> {
+public abstract class HeapIterator implements SortedKeyValueIterator<Key,Value>, BatchIterator {
   private PriorityQueue<SortedKeyValueIterator<Key,Value>> heap;
   private SortedKeyValueIterator<Key,Value> topIdx = null;
   private Key nextKey;
@@ -100,6 +100,23 @@ public abstract class HeapIterator implements SortedKeyValueIterator<Key,Value>
     }
   }
 
+  @Override
+  public void nextBatch(KeyValueBuffer buffer) throws IOException {
+    while (topIdx != null && !buffer.isFull()) {
+      if (nextKey == null) {
+        // topIdx is the only iterator, so the rest of the batch can come straight from it
+        buffer.fill(topIdx);
+        if (!topIdx.hasTop()) {
+          topIdx = null;
+        }
+        return;
+      }
+
+      buffer.add(new Key(topIdx.getTopKey()), new Value(topIdx.getTopValue()));
+      next();
+    }
+  }
+
   private void pullReferencesFromHeap() {
     topIdx = heap.remove();
     if (heap.isEmpty()) {
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.iteratorsImpl.system;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.BiPredicate;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+
+/**
+ * A reusable, fixed capacity buffer of key values filled by a {@link BatchIterator}.
+ */
+public class KeyValueBuffer {
+
+  public static final int DEFAULT_CAPACITY = 128;
+
+  private final Key[] keys;
+  private final Value[] values;
+  private int size = 0;
+
+  public KeyValueBuffer() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public KeyValueBuffer(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive : " + capacity);
+    }
+    keys = new Key[capacity];
+    values = new Value[capacity];
+  }
+
+  public void add(Key key, Value value) {
+    if (size == keys.length) {
+      throw new IllegalStateException("Buffer is full");
+    }
+    keys[size] = key;
+    values[size] = value;
+    size++;
+  }
+
+  /**
+   * Replaces the entry at the given index, for iterators that transform the entries of a batch.
+   */
+  public void set(int index, Key key, Value value) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    keys[index] = key;
+    values[index] = value;
+  }
+
+  public Key getKey(int index) {
+    return keys[index];
+  }
+
+  public Value getValue(int index) {
+    return values[index];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int capacity() {
+    return keys.length;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public boolean isFull() {
+    return size == keys.length;
+  }
+
+  public void clear() {
+    truncate(0);
+  }
+
+  /**
+   * Drops all entries at or after the given index.
+   */
+  public void truncate(int newSize) {
+    if (newSize < 0 || newSize > size) {
+      throw new IndexOutOfBoundsException(newSize);
+    }
+    // release references so the buffer does not hold on to data between uses
+    Arrays.fill(keys, newSize, size, null);
+    Arrays.fill(values, newSize, size, null);
+    size = newSize;
+  }
+
+  /**
+   * Removes the entries at or after the given index that the predicate does not accept, keeping
+   * the remaining entries in order.
+   */
+  public void retain(int fromIndex, BiPredicate<Key,Value> predicate) {
+    int dest = fromIndex;
+    for (int i = fromIndex; i < size; i++) {
+      if (predicate.test(keys[i], values[i])) {
+        keys[dest] = keys[i];
+        values[dest] = values[i];
+        dest++;
+      }
+    }
+    truncate(dest);
+  }
+
+  /**
+   * Appends entries from the iterator until this buffer is full or the iterator has no top. Uses
+   * {@link BatchIterator#nextBatch(KeyValueBuffer)} when the iterator supports it, otherwise falls
+   * back to {@link #fillByEntry(SortedKeyValueIterator)}.
+   */
+  public void fill(SortedKeyValueIterator<Key,Value> iter) throws IOException {
+    if (iter instanceof BatchIterator) {
+      ((BatchIterator) iter).nextBatch(this);
+    } else {
+      fillByEntry(iter);
+    }
+  }
+
+  /**
+   * Appends the entries from the source that the predicate accepts until this buffer is full or the
+   * source has no top. When this returns the source is positioned on an entry the predicate accepts
+   * or has no top, which is how a filtering iterator positions its source after {@code next()}.
+   */
+  public void fillFiltered(SortedKeyValueIterator<Key,Value> source,
+      BiPredicate<Key,Value> predicate) throws IOException {
+    while (source.hasTop() && !isFull()) {
+      int start = size;
+      fill(source);
+      retain(start, predicate);
+    }
+
+    while (source.hasTop() && !predicate.test(source.getTopKey(), source.getTopValue())) {
+      source.next();
+    }
+  }
+
+  /**
+   * Appends entries from the iterator one at a time using the per entry iterator methods. Keys and
+   * values are copied because iterators are free to reuse them between calls to next.
+   */
+  public void fillByEntry(SortedKeyValueIterator<Key,Value> iter) throws IOException {
+    while (size < keys.length && iter.hasTop()) {
+      add(new Key(iter.getTopKey()), new Value(iter.getTopValue()));
+      iter.next();
+    }
+  }
+}
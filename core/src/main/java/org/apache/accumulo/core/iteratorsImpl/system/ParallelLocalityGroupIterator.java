@@ -0,0 +1,403 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.iteratorsImpl.system;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.IOException;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+import org.apache.accumulo.core.data.ByteSequence;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.iterators.IteratorEnvironment;
+import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Reads each locality group of a source in its own producer thread and merges the results. Each
+ * producer reads a deep copy of the source seeked to the column families of one locality group,
+ * so the groups of each file and of the in memory map are read concurrently. Producers buffer a
+ * bounded number of entries ahead of the merge.
+ *
+ * <p>
+ * When the executor can not start a producer before its data is needed, the consumer thread reads
+ * that group itself. This prevents scans from waiting on each other when the executor is busy.
+ * Deep copies of this iterator do not read in parallel.
+ */
+public class ParallelLocalityGroupIterator implements InterruptibleIterator {
+
+  private static final int BATCH_SIZE = 128;
+  private static final List<Entry<Key,Value>> END = List.of();
+
+  private final SortedKeyValueIterator<Key,Value> source;
+  private final Map<String,Set<ByteSequence>> groups;
+  private final Set<ByteSequence> allGroupedFamilies;
+  private final List<GroupReader> readers = new ArrayList<>();
+  private final Executor executor;
+  private final int bufferedBatches;
+  private final BiConsumer<String,Long> readCounter;
+
+  private final PriorityQueue<GroupReader> heap =
+      new PriorityQueue<>(Comparator.comparing(GroupReader::getTopKey));
+  private AtomicBoolean interruptFlag = new AtomicBoolean(false);
+
+  /**
+   * @param groups the configured locality groups, the default locality group is added
+   * @param bufferSize the number of entries to buffer ahead of the merge for each group
+   * @param readCounter called with a group name and the number of entries read from it
+   */
+  public ParallelLocalityGroupIterator(SortedKeyValueIterator<Key,Value> source,
+      Map<String,Set<ByteSequence>> groups, Executor executor, int bufferSize,
+      IteratorEnvironment env, BiConsumer<String,Long> readCounter) {
+    Preconditions.checkArgument(bufferSize > 0, "bufferSize must be positive");
+    this.source = source;
+    this.groups = groups;
+    this.executor = executor;
+    this.bufferedBatches = Math.max(1, bufferSize / BATCH_SIZE);
+    this.readCounter = readCounter;
+
+    this.allGroupedFamilies = new HashSet<>();
+    groups.values().forEach(allGroupedFamilies::addAll);
+
+    for (String name : groups.keySet()) {
+      readers.add(new GroupReader(name, new ColumnFamilySkippingIterator(source.deepCopy(env))));
+    }
+    // the default locality group holds all families not in a configured group
+    readers.add(new GroupReader("", new ColumnFamilySkippingIterator(source.deepCopy(env))));
+  }
+
+  /**
+   * The seek parameters of one producer, and the buffer between it and the merge. A new
+   * generation is created for each seek so that a stale task left in the executor queue can never
+   * read data meant for a later seek.
+   */
+  private class Generation implements Runnable {
+    final GroupReader reader;
+    final Range range;
+    final Collection<ByteSequence> families;
+    final boolean inclusive;
+
+    final AtomicBoolean started = new AtomicBoolean(false);
+    final CountDownLatch done = new CountDownLatch(1);
+    final BlockingQueue<List<Entry<Key,Value>>> queue = new ArrayBlockingQueue<>(bufferedBatches);
+    volatile boolean cancelled = false;
+    volatile Exception error = null;
+
+    Generation(GroupReader reader, Range range, Collection<ByteSequence> families,
+        boolean inclusive) {
+      this.reader = reader;
+      this.range = range;
+      this.families = families;
+      this.inclusive = inclusive;
+    }
+
+    private boolean isStopped() {
+      return cancelled || interruptFlag.get();
+    }
+
+    private void put(List<Entry<Key,Value>> batch) throws InterruptedException {
+      while (!isStopped()) {
+        if (queue.offer(batch, 100, MILLISECONDS)) {
+          return;
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      if (!started.compareAndSet(false, true)) {
+        // the consumer is reading this group itself or the scan moved on
+        return;
+      }
+
+      long count = 0;
+      try {
+        SortedKeyValueIterator<Key,Value> iter = reader.iter;
+        iter.seek(range, families, inclusive);
+        List<Entry<Key,Value>> batch = new ArrayList<>(BATCH_SIZE);
+        while (iter.hasTop() && !isStopped()) {
+          batch.add(new SimpleImmutableEntry<>(new Key(iter.getTopKey()),
+              new Value(iter.getTopValue())));
+          count++;
+          iter.next();
+          if (batch.size() == BATCH_SIZE) {
+            put(batch);
+            batch = new ArrayList<>(BATCH_SIZE);
+          }
+        }
+        if (!batch.isEmpty()) {
+          put(batch);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        error = new IterationInterruptedException("Producer interrupted");
+      } catch (Exception e) {
+        error = e;
+      } finally {
+        try {
+          put(END);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        readCounter.accept(reader.name, count);
+        done.countDown();
+      }
+    }
+  }
+
+  private class GroupReader {
+    final String name;
+    final SortedKeyValueIterator<Key,Value> iter;
+
+    Generation generation;
+    boolean inline;
+    boolean finished;
+    List<Entry<Key,Value>> batch;
+    int pos;
+    long inlineCount;
+
+    GroupReader(String name, SortedKeyValueIterator<Key,Value> iter) {
+      this.name = name;
+      this.iter = iter;
+    }
+
+    void start(Range range, Collection<ByteSequence> families, boolean inclusive) {
+      generation = new Generation(this, range, families, inclusive);
+      inline = false;
+      finished = false;
+      batch = null;
+      pos = 0;
+      inlineCount = 0;
+      try {
+        executor.execute(generation);
+      } catch (RejectedExecutionException e) {
+        // will read this group in the consumer thread
+      }
+    }
+
+    private void readInline() throws IOException {
+      inline = true;
+      iter.seek(generation.range, generation.families, generation.inclusive);
+      finished = !iter.hasTop();
+    }
+
+    /**
+     * @return true if this reader has a top entry, blocking until the producer provides one
+     */
+    boolean fill() throws IOException {
+      if (inline) {
+        finished = !iter.hasTop();
+        return !finished;
+      }
+
+      while (batch == null || pos >= batch.size()) {
+        if (finished) {
+          return false;
+        }
+        if (interruptFlag.get()) {
+          throw new IterationInterruptedException("Parallel locality group read interrupted");
+        }
+
+        List<Entry<Key,Value>> next;
+        try {
+          next = generation.queue.poll(10, MILLISECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IterationInterruptedException("Interrupted waiting on locality group " + name);
+        }
+
+        if (next == null) {
+          if (generation.started.compareAndSet(false, true)) {
+            // the executor has not started the producer, so read this group here
+            readInline();
+            return !finished;
+          }
+        } else if (next == END) {
+          finished = true;
+          Exception e = generation.error;
+          if (e instanceof IOException) {
+            throw (IOException) e;
+          } else if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+          } else if (e != null) {
+            throw new IOException(e);
+          }
+          return false;
+        } else {
+          batch = next;
+          pos = 0;
+        }
+      }
+      return true;
+    }
+
+    Key getTopKey() {
+      return inline ? iter.getTopKey() : batch.get(pos).getKey();
+    }
+
+    Value getTopValue() {
+      return inline ? iter.getTopValue() : batch.get(pos).getValue();
+    }
+
+    void advance() throws IOException {
+      if (inline) {
+        iter.next();
+        inlineCount++;
+      } else {
+        pos++;
+      }
+    }
+
+    void stop() {
+      if (generation == null) {
+        return;
+      }
+      generation.cancelled = true;
+      if (generation.started.compareAndSet(false, true) || inline) {
+        // no producer ever ran for this generation
+        if (inline && inlineCount > 0) {
+          readCounter.accept(name, inlineCount);
+        }
+      } else {
+        boolean interrupted = false;
+        while (true) {
+          try {
+            generation.done.await();
+            break;
+          } catch (InterruptedException e) {
+            interrupted = true;
+          }
+        }
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      generation = null;
+    }
+  }
+
+  /**
+   * Stops all producers. Must be called before the sources of this iterator are released.
+   */
+  public void close() {
+    readers.forEach(GroupReader::stop);
+    heap.clear();
+  }
+
+  @Override
+  public void seek(Range range, Collection<ByteSequence> columnFamilies, boolean inclusive)
+      throws IOException {
+    close();
+
+    for (GroupReader reader : readers) {
+      Set<ByteSequence> families = new HashSet<>();
+      boolean groupInclusive = true;
+
+      if (reader.name.isEmpty()) {
+        if (inclusive) {
+          families.addAll(columnFamilies);
+          families.removeAll(allGroupedFamilies);
+        } else {
+          families.addAll(columnFamilies);
+          families.addAll(allGroupedFamilies);
+          groupInclusive = false;
+        }
+      } else {
+        families.addAll(groups.get(reader.name));
+        if (inclusive) {
+          families.retainAll(columnFamilies);
+        } else {
+          families.removeAll(columnFamilies);
+        }
+      }
+
+      if (groupInclusive && families.isEmpty()) {
+        // nothing to read from this group
+        continue;
+      }
+
+      reader.start(range, families, groupInclusive);
+    }
+
+    for (GroupReader reader : readers) {
+      if (reader.generation != null && reader.fill()) {
+        heap.add(reader);
+      }
+    }
+  }
+
+  @Override
+  public boolean hasTop() {
+    return !heap.isEmpty();
+  }
+
+  @Override
+  public Key getTopKey() {
+    return heap.element().getTopKey();
+  }
+
+  @Override
+  public Value getTopValue() {
+    return heap.element().getTopValue();
+  }
+
+  @Override
+  public void next() throws IOException {
+    GroupReader reader = heap.remove();
+    reader.advance();
+    if (reader.fill()) {
+      heap.add(reader);
+    }
+  }
+
+  @Override
+  public void init(SortedKeyValueIterator<Key,Value> source, Map<String,String> options,
+      IteratorEnvironment env) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public SortedKeyValueIterator<Key,Value> deepCopy(IteratorEnvironment env) {
+    return source.deepCopy(env);
+  }
+
+  @Override
+  public void setInterruptFlag(AtomicBoolean flag) {
+    this.interruptFlag = flag;
+  }
+}
@@ -44,7 +44,7 @@ import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
  *
  * @see ColumnFamilySkippingIterator
  */
-public class SortedMapIterator implements InterruptibleIterator {
+public class SortedMapIterator implements InterruptibleIterator, BatchIterator {
   private Iterator<Entry<Key,Value>> iter;
   private Entry<Key,Value> entry;
 
@@ -112,6 +112,15 @@ public class SortedMapIterator implements InterruptibleIterator {
 
   }
 
+  @Override
+  public void nextBatch(KeyValueBuffer buffer) throws IOException {
+    // map entries are never modified, so they can be handed out without copying
+    while (entry != null && !buffer.isFull()) {
+      buffer.add(entry.getKey(), entry.getValue());
+      next();
+    }
+  }
+
   @Override
   public void seek(Range range, Collection<ByteSequence> columnFamilies, boolean inclusive)
       throws IOException {
@@ -42,7 +42,7 @@ import org.apache.accumulo.core.iterators.YieldCallback;
  * their scan when that data is minor compacted. This iterator is designed to manage this behind the
  * scene.
  */
-public class SourceSwitchingIterator implements InterruptibleIterator {
+public class SourceSwitchingIterator implements InterruptibleIterator, BatchIterator {
 
   public interface DataSource {
     boolean isCurrent();
@@ -185,6 +185,10 @@ public class SourceSwitchingIterator implements InterruptibleIterator {
       }
     }
 
+    readTop();
+  }
+
+  private void readTop() throws IOException {
     if (iter.hasTop()) {
       if (yield.isPresent() && yield.orElseThrow().hasYielded()) {
         throw new IOException("Coding error: hasTop returned true but has yielded at "
@@ -206,6 +210,27 @@ public class SourceSwitchingIterator implements InterruptibleIterator {
     }
   }
 
+  @Override
+  public void nextBatch(KeyValueBuffer buffer) throws IOException {
+    synchronized (copies) {
+      boolean yielded = yield.isPresent() && yield.orElseThrow().hasYielded();
+
+      if (hasTop() && !onlySwitchAfterRow && !yielded && iter instanceof BatchIterator
+          && source.isCurrent()) {
+        // The current top of this iterator is the top of iter, so iter can append it and the
+        // entries that follow. The source is only checked for a switch once per batch.
+        ((BatchIterator) iter).nextBatch(buffer);
+        readTop();
+      }
+
+      while (hasTop() && !buffer.isFull()) {
+        // the key was already copied by readTop()
+        buffer.add(key, new Value(val));
+        readNext(false);
+      }
+    }
+  }
+
   private boolean switchSource() throws IOException {
     if (!source.isCurrent()) {
       source = source.getNewDataSource();
@@ -31,7 +31,7 @@ import org.apache.accumulo.core.iterators.IteratorEnvironment;
 import org.apache.accumulo.core.iterators.ServerWrappingIterator;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 
-public class StatsIterator extends ServerWrappingIterator {
+public class StatsIterator extends ServerWrappingIterator implements BatchIterator {
 
   private int numRead = 0;
   private AtomicLong seekCounter;
@@ -58,6 +58,19 @@ public class StatsIterator extends ServerWrappingIterator {
     }
   }
 
+  @Override
+  public void nextBatch(KeyValueBuffer buffer) throws IOException {
+    int start = buffer.size();
+    buffer.fill(source);
+    numRead += buffer.size() - start;
+
+    if (numRead >= 23) {
+      scanCounter.addAndGet(numRead);
+      serverScanCounter.add(numRead);
+      numRead = 0;
+    }
+  }
+
   @Override
   public SortedKeyValueIterator<Key,Value> deepCopy(IteratorEnvironment env) {
     return new StatsIterator(source.deepCopy(env), seekCounter, scanCounter, serverScanCounter);
@@ -18,6 +18,8 @@
  */
 package org.apache.accumulo.core.iteratorsImpl.system;
 
+import java.io.IOException;
+
 import org.apache.accumulo.core.data.ArrayByteSequence;
 import org.apache.accumulo.core.data.ByteSequence;
 import org.apache.accumulo.core.data.Key;
@@ -42,7 +44,7 @@ import org.slf4j.LoggerFactory;
  * .loadIterators(). For performance reasons, the synchronization was pushed down the stack to this
  * class.
  */
-public class VisibilityFilter extends SynchronizedServerFilter {
+public class VisibilityFilter extends SynchronizedServerFilter implements BatchIterator {
   protected VisibilityEvaluator ve;
   protected ByteSequence defaultVisibility;
   protected LRUMap<ByteSequence,Boolean> cache;
@@ -64,6 +66,11 @@ public class VisibilityFilter extends SynchronizedServerFilter {
     return new VisibilityFilter(source.deepCopy(env), authorizations, defaultVisibility.toArray());
   }
 
+  @Override
+  public synchronized void nextBatch(KeyValueBuffer buffer) throws IOException {
+    buffer.fillFiltered(source, (k, v) -> k.isDeleted() || accept(k, v));
+  }
+
   @Override
   protected boolean accept(Key k, Value v) {
     ByteSequence testVis = k.getColumnVisibilityData();
@@ -92,7 +99,8 @@ public class VisibilityFilter extends SynchronizedServerFilter {
     }
   }
 
-  private static class EmptyAuthsVisibilityFilter extends SynchronizedServerFilter {
+  private static class EmptyAuthsVisibilityFilter extends SynchronizedServerFilter
+      implements BatchIterator {
 
     public EmptyAuthsVisibilityFilter(SortedKeyValueIterator<Key,Value> source) {
       super(source);
@@ -103,6 +111,11 @@ public class VisibilityFilter extends SynchronizedServerFilter {
       return new EmptyAuthsVisibilityFilter(source.deepCopy(env));
     }
 
+    @Override
+    public synchronized void nextBatch(KeyValueBuffer buffer) throws IOException {
+      buffer.fillFiltered(source, (k, v) -> k.isDeleted() || accept(k, v));
+    }
+
     @Override
     protected boolean accept(Key k, Value v) {
       return k.getColumnVisibilityData().length() == 0;
@@ -85,6 +85,31 @@ public class TableStatisticsImpl implements TableStatistics {
     return thriftInfo.getScanRate();
   }
 
+  @Override
+  public double getWindowQueryRate() {
+    return thriftInfo.getWindowQueryRate();
+  }
+
+  @Override
+  public double getWindowScanRate() {
+    return thriftInfo.getWindowScanRate();
+  }
+
+  @Override
+  public double getWindowIngestByteRate() {
+    return thriftInfo.getWindowIngestByteRate();
+  }
+
+  @Override
+  public double getReadLatencyMedian() {
+    return thriftInfo.getReadLatencyMedian();
+  }
+
+  @Override
+  public double getReadLatencyP99() {
+    return thriftInfo.getReadLatencyP99();
+  }
+
   @Override
   public int compareTo(TableStatistics o) {
     return thriftInfo.compareTo(((TableStatisticsImpl) o).thriftInfo);
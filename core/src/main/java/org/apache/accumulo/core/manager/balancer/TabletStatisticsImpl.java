@@ -61,6 +61,31 @@ public class TabletStatisticsImpl implements TabletStatistics {
     return thriftStats.getQueryRate();
   }
 
+  @Override
+  public double getWindowQueryRate() {
+    return thriftStats.getWindowQueryRate();
+  }
+
+  @Override
+  public double getWindowScanRate() {
+    return thriftStats.getWindowScanRate();
+  }
+
+  @Override
+  public double getWindowIngestByteRate() {
+    return thriftStats.getWindowIngestByteRate();
+  }
+
+  @Override
+  public double getReadLatencyMedian() {
+    return thriftStats.getReadLatencyMedian();
+  }
+
+  @Override
+  public double getReadLatencyP99() {
+    return thriftStats.getReadLatencyP99();
+  }
+
   @Override
   public int compareTo(TabletStatistics o) {
     return thriftStats.compareTo(((TabletStatisticsImpl) o).thriftStats);
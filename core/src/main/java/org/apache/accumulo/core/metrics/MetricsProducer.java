@@ -58,6 +58,37 @@ import io.micrometer.core.instrument.MeterRegistry;
  * <td>LongTaskTimer</td>
  * <td></td>
  * </tr>
+ * <!-- compaction coordinator -->
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_COORDINATOR_JOB_WAIT}</td>
+ * <td>Timer</td>
+ * <td>Time a compactor request for a job spent in the coordinator</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_COORDINATOR_QUEUE_DEPTH}</td>
+ * <td>Gauge</td>
+ * <td>Number of tablet server and priority pairs reported as having queued external
+ * compactions</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_COORDINATOR_WAITING_COMPACTORS}</td>
+ * <td>Gauge</td>
+ * <td>Number of compactor requests waiting in the coordinator for a job</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_COORDINATOR_RESERVATIONS}</td>
+ * <td>Counter</td>
+ * <td>Outcome of the reservation request to the tablet server is in the tag: result=success,
+ * empty or error</td>
+ * </tr>
  * <tr>
  * <td>currentFateOps</td>
  * <td>Gauge</td>
@@ -129,6 +160,30 @@ import io.micrometer.core.instrument.MeterRegistry;
  * <td>Gauge</td>
  * <td>The state is now in a tag: state=unknown</td>
  * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_FATE_BULK_LOAD_PASS}</td>
+ * <td>Timer</td>
+ * <td>Time taken by each pass of the bulk import load step over the tablets still needing files.
+ * The table state is in the tag: state=online or offline</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_FATE_BULK_LOAD_TABLETS}</td>
+ * <td>Counter</td>
+ * <td>Tablets that load requests were sent to, or for offline tables whose metadata was
+ * updated</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_FATE_BULK_LOAD_RPCS}</td>
+ * <td>Counter</td>
+ * <td>Load requests sent to tablet servers, the outcome is in the tag: result=success or
+ * error</td>
+ * </tr>
  * <!-- garbage collection -->
  * <tr>
  * <td>AccGcStarted</td>
@@ -374,6 +429,22 @@ import io.micrometer.core.instrument.MeterRegistry;
  * <td>Gauge</td>
  * <td></td>
  * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_TSERVER_TIER_READS}</td>
+ * <td>Counter</td>
+ * <td>Files opened by scans, tagged with the storage tier (hot, cold or none) of the file's
+ * volume</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_TSERVER_TIER_MOVED_BYTES}</td>
+ * <td>Counter</td>
+ * <td>Bytes of files rewritten onto another storage tier by compactions, tagged with the
+ * destination tier</td>
+ * </tr>
  * <!-- scans -->
  * <tr>
  * <td>scan</td>
@@ -445,6 +516,57 @@ import io.micrometer.core.instrument.MeterRegistry;
  * <td>Counter</td>
  * <td></td>
  * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_SCAN_LOCALITY_GROUP_READ}</td>
+ * <td>Counter</td>
+ * <td>Entries read by parallel locality group reads. Tagged by table id and locality group when
+ * {@code tserver.scan.locality.group.metrics.tagged} is set</td>
+ * </tr>
+ * <!-- scan servers -->
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_SSERVER_RESERVATION_TIME}</td>
+ * <td>Timer</td>
+ * <td>Time a scan spent reserving files before it could start</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_SSERVER_RESERVATION_WRITES}</td>
+ * <td>Timer</td>
+ * <td>Writes of scan file references to the metadata table</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_SSERVER_RESERVATION_REFS}</td>
+ * <td>Counter</td>
+ * <td>Scan file references written to the metadata table</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_SSERVER_RESULT_CACHE_HITS}</td>
+ * <td>Counter</td>
+ * <td>Scans answered from the scan result cache</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_SSERVER_RESULT_CACHE_MISSES}</td>
+ * <td>Counter</td>
+ * <td>Cacheable scans that were not found in the scan result cache</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_SSERVER_RESULT_CACHE_SIZE}</td>
+ * <td>Gauge</td>
+ * <td>Estimated bytes of scan results in the scan result cache</td>
+ * </tr>
  * <!-- major compactions -->
  * <tr>
  * <td>{i|e}_{compactionServiceName}_{executor_name}_queued</td>
@@ -491,6 +613,13 @@ import io.micrometer.core.instrument.MeterRegistry;
  * <td>Counter</td>
  * <td></td>
  * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_MINC_FLUSHED_BYTES}</td>
+ * <td>Counter</td>
+ * <td>Bytes of in memory map data written by minor compactions</td>
+ * </tr>
  * <!-- Updates (ingest) -->
  * <tr>
  * <td>permissionErrors</td>
@@ -541,6 +670,35 @@ import io.micrometer.core.instrument.MeterRegistry;
  * <td>Distribution Summary</td>
  * <td></td>
  * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_UPDATE_CONDITIONAL}</td>
+ * <td>Counter</td>
+ * <td>Conditional mutations processed. Result is stored in tag: status=accepted, rejected,
+ * violated or ignored</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_UPDATE_CONDITIONAL_LOCK_WAIT}</td>
+ * <td>Timer</td>
+ * <td>Time spent acquiring row locks for conditional mutations</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_UPDATE_CONDITIONAL_LOCK_DEFERRED}</td>
+ * <td>Counter</td>
+ * <td>Conditional mutations deferred because their row was locked</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_UPDATE_HOLD_WAIT}</td>
+ * <td>Timer</td>
+ * <td>Time updates waited because commits were held or throttled</td>
+ * </tr>
  * <!-- Thrift -->
  * <tr>
  * <td>idle</td>
@@ -592,6 +750,93 @@ import io.micrometer.core.instrument.MeterRegistry;
  * <td>Counter</td>
  * <td></td>
  * </tr>
+ * <!-- local file cache -->
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_FILE_CACHE_HITS}</td>
+ * <td>Counter</td>
+ * <td>Reads of ranges found in the local file cache</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_FILE_CACHE_MISSES}</td>
+ * <td>Counter</td>
+ * <td>Reads of ranges not found in the local file cache</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_FILE_CACHE_BYTES_FETCHED}</td>
+ * <td>Counter</td>
+ * <td>Bytes read from remote files into the local file cache</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_FILE_CACHE_EVICTIONS}</td>
+ * <td>Counter</td>
+ * <td>Ranges removed from the local file cache to stay under its size</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_FILE_CACHE_SIZE}</td>
+ * <td>Gauge</td>
+ * <td>Bytes used by the local file cache</td>
+ * </tr>
+ * <!-- summaries -->
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_SUMMARY_CACHE_HITS}</td>
+ * <td>Counter</td>
+ * <td>File summaries found in the tablet server summary cache</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_SUMMARY_CACHE_MISSES}</td>
+ * <td>Counter</td>
+ * <td>File summaries read from files because they were not in the summary cache</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_SUMMARY_GATHER}</td>
+ * <td>Timer</td>
+ * <td>Time taken to gather summaries for a set of files</td>
+ * </tr>
+ * <!-- zoocache -->
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_ZOOCACHE_HITS}</td>
+ * <td>Counter</td>
+ * <td>Reads of ZooKeeper nodes answered from the process' ZooCache</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_ZOOCACHE_MISSES}</td>
+ * <td>Counter</td>
+ * <td>Reads of ZooKeeper nodes that were not found in the process' ZooCache</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_ZOOCACHE_ZK_READS}</td>
+ * <td>Counter</td>
+ * <td>Read requests sent to ZooKeeper by the ZooCache, a batched prefetch counts once</td>
+ * </tr>
+ * <tr>
+ * <td>N/A</td>
+ * <td>N/A</td>
+ * <td>{@value #METRICS_ZOOCACHE_EVICTIONS}</td>
+ * <td>Counter</td>
+ * <td>Entries removed from the ZooCache to stay under its size bound</td>
+ * </tr>
  * </table>
  *
  * @since 2.1.0
@@ -604,12 +849,22 @@ public interface MetricsProducer {
   String METRICS_COMPACTOR_PREFIX = "accumulo.compactor.";
   String METRICS_COMPACTOR_MAJC_STUCK = METRICS_COMPACTOR_PREFIX + "majc.stuck";
 
+  String METRICS_COORDINATOR_PREFIX = "accumulo.compaction.coordinator.";
+  String METRICS_COORDINATOR_JOB_WAIT = METRICS_COORDINATOR_PREFIX + "job.wait";
+  String METRICS_COORDINATOR_QUEUE_DEPTH = METRICS_COORDINATOR_PREFIX + "queue.depth";
+  String METRICS_COORDINATOR_WAITING_COMPACTORS =
+      METRICS_COORDINATOR_PREFIX + "compactors.waiting";
+  String METRICS_COORDINATOR_RESERVATIONS = METRICS_COORDINATOR_PREFIX + "reservations";
+
   String METRICS_FATE_PREFIX = "accumulo.fate.";
   String METRICS_FATE_TYPE_IN_PROGRESS = METRICS_FATE_PREFIX + "ops.in.progress.by.type";
   String METRICS_FATE_TOTAL_IN_PROGRESS = METRICS_FATE_PREFIX + "ops.in.progress";
   String METRICS_FATE_OPS_ACTIVITY = METRICS_FATE_PREFIX + "ops.activity";
   String METRICS_FATE_ERRORS = METRICS_FATE_PREFIX + "errors";
   String METRICS_FATE_TX = METRICS_FATE_PREFIX + "tx";
+  String METRICS_FATE_BULK_LOAD_PASS = METRICS_FATE_PREFIX + "bulk.load.pass";
+  String METRICS_FATE_BULK_LOAD_TABLETS = METRICS_FATE_PREFIX + "bulk.load.tablets";
+  String METRICS_FATE_BULK_LOAD_RPCS = METRICS_FATE_PREFIX + "bulk.load.rpcs";
 
   String METRICS_GC_PREFIX = "accumulo.gc.";
   String METRICS_GC_STARTED = METRICS_GC_PREFIX + "started";
@@ -636,6 +891,7 @@ public interface MetricsProducer {
   String METRICS_MINC_QUEUED = METRICS_MINC_PREFIX + "queued";
   String METRICS_MINC_RUNNING = METRICS_MINC_PREFIX + "running";
   String METRICS_MINC_PAUSED = METRICS_MINC_PREFIX + "paused";
+  String METRICS_MINC_FLUSHED_BYTES = METRICS_MINC_PREFIX + "flushed.bytes";
 
   String METRICS_SCAN_PREFIX = "accumulo.tserver.scans.";
   String METRICS_SCAN_TIMES = METRICS_SCAN_PREFIX + "times";
@@ -648,6 +904,15 @@ public interface MetricsProducer {
   String METRICS_SCAN_BUSY_TIMEOUT = METRICS_SCAN_PREFIX + "busy.timeout";
   String METRICS_SCAN_PAUSED_FOR_MEM = METRICS_SCAN_PREFIX + ".paused.for.memory";
   String METRICS_SCAN_RETURN_FOR_MEM = METRICS_SCAN_PREFIX + ".return.early.for.memory";
+  String METRICS_SCAN_LOCALITY_GROUP_READ = METRICS_SCAN_PREFIX + "locality.group.read";
+
+  String METRICS_SSERVER_PREFIX = "accumulo.sserver.";
+  String METRICS_SSERVER_RESERVATION_TIME = METRICS_SSERVER_PREFIX + "reservation.time";
+  String METRICS_SSERVER_RESERVATION_WRITES = METRICS_SSERVER_PREFIX + "reservation.writes";
+  String METRICS_SSERVER_RESERVATION_REFS = METRICS_SSERVER_PREFIX + "reservation.refs.written";
+  String METRICS_SSERVER_RESULT_CACHE_HITS = METRICS_SSERVER_PREFIX + "result.cache.hits";
+  String METRICS_SSERVER_RESULT_CACHE_MISSES = METRICS_SSERVER_PREFIX + "result.cache.misses";
+  String METRICS_SSERVER_RESULT_CACHE_SIZE = METRICS_SSERVER_PREFIX + "result.cache.size";
 
   String METRICS_TSERVER_PREFIX = "accumulo.tserver.";
   String METRICS_TSERVER_ENTRIES = METRICS_TSERVER_PREFIX + "entries";
@@ -671,6 +936,8 @@ public interface MetricsProducer {
   String METRICS_TSERVER_SCAN_RESULTS = METRICS_TSERVER_PREFIX + "scan.results";
   String METRICS_TSERVER_SCAN_RESULTS_BYTES = METRICS_TSERVER_PREFIX + "scan.results.bytes";
   String METRICS_TSERVER_SCANNED_ENTRIES = METRICS_TSERVER_PREFIX + "scan.scanned.entries";
+  String METRICS_TSERVER_TIER_READS = METRICS_TSERVER_PREFIX + "tier.reads";
+  String METRICS_TSERVER_TIER_MOVED_BYTES = METRICS_TSERVER_PREFIX + "tier.moved.bytes";
 
   String METRICS_THRIFT_PREFIX = "accumulo.thrift.";
   String METRICS_THRIFT_EXECUTE = METRICS_THRIFT_PREFIX + "execute";
@@ -682,6 +949,10 @@ public interface MetricsProducer {
   String METRICS_UPDATE_COMMIT_PREP = METRICS_UPDATE_COMMIT + ".prep";
   String METRICS_UPDATE_WALOG_WRITE = METRICS_UPDATE_PREFIX + "walog.write";
   String METRICS_UPDATE_MUTATION_ARRAY_SIZE = METRICS_UPDATE_PREFIX + "mutation.arrays.size";
+  String METRICS_UPDATE_CONDITIONAL = METRICS_UPDATE_PREFIX + "conditional";
+  String METRICS_UPDATE_CONDITIONAL_LOCK_WAIT = METRICS_UPDATE_CONDITIONAL + ".lock.wait";
+  String METRICS_UPDATE_CONDITIONAL_LOCK_DEFERRED = METRICS_UPDATE_CONDITIONAL + ".lock.deferred";
+  String METRICS_UPDATE_HOLD_WAIT = METRICS_UPDATE_PREFIX + "hold.wait";
 
   String METRICS_PROPSTORE_PREFIX = "accumulo.prop.store.";
   String METRICS_PROPSTORE_LOAD_TIMER = METRICS_PROPSTORE_PREFIX + "load";
@@ -690,6 +961,24 @@ public interface MetricsProducer {
   String METRICS_PROPSTORE_EVICTION_COUNT = METRICS_PROPSTORE_PREFIX + "evictions";
   String METRICS_PROPSTORE_ZK_ERROR_COUNT = METRICS_PROPSTORE_PREFIX + "zookeeper.error";
 
+  String METRICS_FILE_CACHE_PREFIX = "accumulo.file.cache.local.";
+  String METRICS_FILE_CACHE_HITS = METRICS_FILE_CACHE_PREFIX + "hits";
+  String METRICS_FILE_CACHE_MISSES = METRICS_FILE_CACHE_PREFIX + "misses";
+  String METRICS_FILE_CACHE_BYTES_FETCHED = METRICS_FILE_CACHE_PREFIX + "bytes.fetched";
+  String METRICS_FILE_CACHE_EVICTIONS = METRICS_FILE_CACHE_PREFIX + "evictions";
+  String METRICS_FILE_CACHE_SIZE = METRICS_FILE_CACHE_PREFIX + "size";
+
+  String METRICS_SUMMARY_PREFIX = "accumulo.tserver.summary.";
+  String METRICS_SUMMARY_CACHE_HITS = METRICS_SUMMARY_PREFIX + "cache.hits";
+  String METRICS_SUMMARY_CACHE_MISSES = METRICS_SUMMARY_PREFIX + "cache.misses";
+  String METRICS_SUMMARY_GATHER = METRICS_SUMMARY_PREFIX + "gather";
+
+  String METRICS_ZOOCACHE_PREFIX = "accumulo.zoocache.";
+  String METRICS_ZOOCACHE_HITS = METRICS_ZOOCACHE_PREFIX + "hits";
+  String METRICS_ZOOCACHE_MISSES = METRICS_ZOOCACHE_PREFIX + "misses";
+  String METRICS_ZOOCACHE_ZK_READS = METRICS_ZOOCACHE_PREFIX + "zookeeper.reads";
+  String METRICS_ZOOCACHE_EVICTIONS = METRICS_ZOOCACHE_PREFIX + "evictions";
+
   /**
    * Build Micrometer Meter objects and register them with the registry
    */
@@ -0,0 +1,401 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.spi.balancer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import org.apache.accumulo.core.client.AccumuloException;
+import org.apache.accumulo.core.client.AccumuloSecurityException;
+import org.apache.accumulo.core.client.PluginEnvironment;
+import org.apache.accumulo.core.conf.ConfigurationTypeHelper;
+import org.apache.accumulo.core.conf.Property;
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.data.TabletId;
+import org.apache.accumulo.core.manager.balancer.TabletServerIdImpl;
+import org.apache.accumulo.core.spi.balancer.data.TServerStatus;
+import org.apache.accumulo.core.spi.balancer.data.TableStatistics;
+import org.apache.accumulo.core.spi.balancer.data.TabletMigration;
+import org.apache.accumulo.core.spi.balancer.data.TabletServerId;
+import org.apache.accumulo.core.spi.balancer.data.TabletStatistics;
+import org.apache.accumulo.core.spi.balancer.util.ThrottledBalancerProblemReporter;
+import org.apache.accumulo.core.spi.balancer.util.ThrottledBalancerProblemReporter.OutstandingMigrationsProblem;
+import org.apache.accumulo.core.spi.balancer.util.ThrottledBalancerProblemReporter.Problem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A balancer that spreads load instead of tablet counts. The load of a tablet is a weighted sum of
+ * its share of the cluster's query rate, ingest rate, entries and tablets, so a tablet serving
+ * half of all queries weighs as much as many idle ones. Each pass moves tablets from the most
+ * loaded tablet server to the least loaded one, picking the tablet that best evens out the pair,
+ * until the most loaded server is within a tolerance of the best achievable load or a bounded
+ * number of migrations was planned. A tablet is moved at most once per pass.
+ *
+ * <p>
+ * Per tablet statistics are fetched from every tablet server for every table it hosts, so passes
+ * are spaced out by a configurable period. The balancer is configured with the following system
+ * properties:
+ *
+ * <ul>
+ * <li>{@value #QUERY_WEIGHT_KEY}, {@value #INGEST_WEIGHT_KEY}, {@value #SIZE_WEIGHT_KEY} and
+ * {@value #COUNT_WEIGHT_KEY} weigh the tablet's share of the cluster's query rate, ingest rate,
+ * entries and tablets. Defaults are 1, 1, 0.5 and 0.5. The count weight keeps idle tablets evenly
+ * spread.
+ * <li>{@value #TOLERANCE_KEY} how far above the mean load, or the load of the largest tablet if
+ * that is higher, a server may be before tablets are moved off of it, as a fraction of that load.
+ * Defaults to 0.1.
+ * <li>{@value #MAX_MIGRATIONS_KEY} the maximum number of migrations per pass. Defaults to 20.
+ * <li>{@value #PERIOD_KEY} the minimum time between passes. Defaults to 1m.
+ * </ul>
+ *
+ * @since 3.1.0
+ */
+public class LoadAwareBalancer implements TabletBalancer {
+
+  private static final Logger log = LoggerFactory.getLogger(LoadAwareBalancer.class);
+
+  private static final String PROP_PREFIX =
+      Property.GENERAL_ARBITRARY_PROP_PREFIX.getKey() + "balancer.load.";
+
+  public static final String QUERY_WEIGHT_KEY = PROP_PREFIX + "weight.query";
+  public static final String INGEST_WEIGHT_KEY = PROP_PREFIX + "weight.ingest";
+  public static final String SIZE_WEIGHT_KEY = PROP_PREFIX + "weight.size";
+  public static final String COUNT_WEIGHT_KEY = PROP_PREFIX + "weight.count";
+  public static final String TOLERANCE_KEY = PROP_PREFIX + "tolerance";
+  public static final String MAX_MIGRATIONS_KEY = PROP_PREFIX + "max.migrations";
+  public static final String PERIOD_KEY = PROP_PREFIX + "period";
+
+  static class LoadConf {
+    final double queryWeight;
+    final double ingestWeight;
+    final double sizeWeight;
+    final double countWeight;
+    final double tolerance;
+    final int maxMigrations;
+    final long periodMillis;
+
+    LoadConf(double queryWeight, double ingestWeight, double sizeWeight, double countWeight,
+        double tolerance, int maxMigrations, long periodMillis) {
+      this.queryWeight = queryWeight;
+      this.ingestWeight = ingestWeight;
+      this.sizeWeight = sizeWeight;
+      this.countWeight = countWeight;
+      this.tolerance = tolerance;
+      this.maxMigrations = maxMigrations;
+      this.periodMillis = periodMillis;
+    }
+
+    LoadConf(PluginEnvironment.Configuration conf) {
+      this(getDouble(conf, QUERY_WEIGHT_KEY, 1), getDouble(conf, INGEST_WEIGHT_KEY, 1),
+          getDouble(conf, SIZE_WEIGHT_KEY, .5), getDouble(conf, COUNT_WEIGHT_KEY, .5),
+          getDouble(conf, TOLERANCE_KEY, .1),
+          Integer.parseInt(get(conf, MAX_MIGRATIONS_KEY, "20")),
+          ConfigurationTypeHelper.getTimeInMillis(get(conf, PERIOD_KEY, "1m")));
+    }
+
+    private static double getDouble(PluginEnvironment.Configuration conf, String key,
+        double defaultValue) {
+      return Double.parseDouble(get(conf, key, Double.toString(defaultValue)));
+    }
+
+    private static String get(PluginEnvironment.Configuration conf, String key,
+        String defaultValue) {
+      String value = conf.get(key);
+      return value == null ? defaultValue : value;
+    }
+  }
+
+  /**
+   * Computes loads from statistics once the cluster wide totals of each statistic are known.
+   */
+  static class LoadModel {
+    private final LoadConf conf;
+    private double queries;
+    private double ingest;
+    private double entries;
+    private double tablets;
+
+    LoadModel(LoadConf conf) {
+      this.conf = conf;
+    }
+
+    void addToTotals(double queryRate, double ingestRate, double numEntries, double numTablets) {
+      queries += queryRate;
+      ingest += ingestRate;
+      entries += numEntries;
+      tablets += numTablets;
+    }
+
+    double load(double queryRate, double ingestRate, double numEntries, double numTablets) {
+      return share(conf.queryWeight, queryRate, queries)
+          + share(conf.ingestWeight, ingestRate, ingest)
+          + share(conf.sizeWeight, numEntries, entries)
+          + share(conf.countWeight, numTablets, tablets);
+    }
+
+    private static double share(double weight, double value, double total) {
+      return total > 0 ? weight * value / total : 0;
+    }
+  }
+
+  protected BalancerEnvironment environment;
+  private Supplier<LoadConf> conf;
+  private long lastRun = 0;
+
+  private final ThrottledBalancerProblemReporter problemReporter =
+      new ThrottledBalancerProblemReporter(getClass());
+  private final Problem noTserversProblem = problemReporter.createNoTabletServersProblem();
+  private final OutstandingMigrationsProblem outstandingMigrationsProblem =
+      problemReporter.createOutstandingMigrationsProblem();
+
+  @Override
+  public void init(BalancerEnvironment balancerEnvironment) {
+    this.environment = balancerEnvironment;
+    this.conf = balancerEnvironment.getConfiguration().getDerived(LoadConf::new);
+  }
+
+  /**
+   * Computes the load of every tablet.
+   *
+   * @param tablets the statistics of the tablets hosted by each tablet server
+   * @return the load of each tablet, by tablet server
+   */
+  static SortedMap<TabletServerId,SortedMap<TabletId,Double>>
+      tabletLoads(SortedMap<TabletServerId,List<TabletStatistics>> tablets, LoadConf conf) {
+    LoadModel model = new LoadModel(conf);
+    tablets.values().forEach(list -> list.forEach(stats -> model
+        .addToTotals(stats.getQueryRate(), stats.getIngestRate(), stats.getNumEntries(), 1)));
+
+    SortedMap<TabletServerId,SortedMap<TabletId,Double>> loads = new TreeMap<>();
+    tablets.forEach((server, list) -> {
+      SortedMap<TabletId,Double> serverLoads = new TreeMap<>();
+      list.forEach(stats -> serverLoads.put(stats.getTabletId(),
+          model.load(stats.getQueryRate(), stats.getIngestRate(), stats.getNumEntries(), 1)));
+      loads.put(server, serverLoads);
+    });
+    return loads;
+  }
+
+  /**
+   * Plans migrations that lower the load of the most loaded tablet servers.
+   *
+   * @param loads the load of each tablet, by tablet server
+   * @param migrating tablets that must not be moved
+   * @return the planned migrations, in the order they were chosen
+   */
+  static List<TabletMigration> plan(SortedMap<TabletServerId,SortedMap<TabletId,Double>> loads,
+      Set<TabletId> migrating, double tolerance, int maxMigrations) {
+    List<TabletMigration> migrations = new ArrayList<>();
+    if (loads.size() < 2) {
+      return migrations;
+    }
+
+    Map<TabletServerId,Double> serverLoads = new TreeMap<>();
+    Map<TabletServerId,SortedMap<TabletId,Double>> movable = new TreeMap<>();
+    double total = 0;
+    double largestTablet = 0;
+    for (Entry<TabletServerId,SortedMap<TabletId,Double>> entry : loads.entrySet()) {
+      double serverLoad = sum(entry.getValue().values());
+      serverLoads.put(entry.getKey(), serverLoad);
+      total += serverLoad;
+      largestTablet = Math.max(largestTablet,
+          entry.getValue().values().stream().mapToDouble(Double::doubleValue).max().orElse(0));
+      SortedMap<TabletId,Double> candidates = new TreeMap<>(entry.getValue());
+      candidates.keySet().removeAll(migrating);
+      movable.put(entry.getKey(), candidates);
+    }
+    // no placement can bring a server below the mean or below its largest tablet, so stop moving
+    // tablets once within the tolerance of that instead of churning small tablets for no gain
+    double limit = Math.max(total / loads.size(), largestTablet) * (1 + tolerance);
+
+    while (migrations.size() < maxMigrations) {
+      TabletServerId hottest = null;
+      TabletServerId coolest = null;
+      for (Entry<TabletServerId,Double> entry : serverLoads.entrySet()) {
+        if (hottest == null || entry.getValue() > serverLoads.get(hottest)) {
+          hottest = entry.getKey();
+        }
+        if (coolest == null || entry.getValue() < serverLoads.get(coolest)) {
+          coolest = entry.getKey();
+        }
+      }
+      double gap = serverLoads.get(hottest) - serverLoads.get(coolest);
+      if (serverLoads.get(hottest) <= limit || gap <= 0) {
+        break;
+      }
+
+      // Moving a tablet lowers the higher of the two servers only if its load is less than the
+      // gap between them, and evens them out best when its load is closest to half the gap.
+      TabletId best = null;
+      double bestDistance = Double.POSITIVE_INFINITY;
+      for (Entry<TabletId,Double> candidate : movable.get(hottest).entrySet()) {
+        double load = candidate.getValue();
+        double distance = Math.abs(gap / 2 - load);
+        if (load > 0 && load < gap && distance < bestDistance) {
+          best = candidate.getKey();
+          bestDistance = distance;
+        }
+      }
+      if (best == null) {
+        break;
+      }
+
+      double load = movable.get(hottest).remove(best);
+      serverLoads.put(hottest, serverLoads.get(hottest) - load);
+      serverLoads.put(coolest, serverLoads.get(coolest) + load);
+      migrations.add(new TabletMigration(best, hottest, coolest));
+    }
+    return migrations;
+  }
+
+  private static double sum(Collection<Double> values) {
+    return values.stream().mapToDouble(Double::doubleValue).sum();
+  }
+
+  protected List<TabletStatistics> getOnlineTabletsForTable(TabletServerId tabletServerId,
+      TableId tableId) throws AccumuloSecurityException, AccumuloException {
+    return environment.listOnlineTabletsForTable(tabletServerId, tableId);
+  }
+
+  @Override
+  public void getAssignments(AssignmentParameters params) {
+    SortedMap<TabletServerId,TServerStatus> current = params.currentStatus();
+    if (current.isEmpty()) {
+      return;
+    }
+
+    // estimate server loads from the per table summaries, fetching tablets is not worth it here
+    LoadModel model = new LoadModel(conf.get());
+    current.values().forEach(status -> tableStatistics(status).forEach(stats -> model.addToTotals(
+        stats.getQueryRate(), stats.getIngestRate(), stats.getRecords(),
+        stats.getOnlineTabletCount())));
+    Map<TabletServerId,Double> serverLoads = new TreeMap<>();
+    double totalLoad = 0;
+    int totalTablets = 0;
+    for (Entry<TabletServerId,TServerStatus> entry : current.entrySet()) {
+      double serverLoad = 0;
+      for (TableStatistics stats : tableStatistics(entry.getValue())) {
+        serverLoad += model.load(stats.getQueryRate(), stats.getIngestRate(), stats.getRecords(),
+            stats.getOnlineTabletCount());
+        totalTablets += stats.getOnlineTabletCount();
+      }
+      serverLoads.put(entry.getKey(), serverLoad);
+      totalLoad += serverLoad;
+    }
+    // nothing is known about a new tablet, so assume it is an average one
+    double tabletLoad = totalTablets > 0 && totalLoad > 0 ? totalLoad / totalTablets : 1;
+
+    params.unassignedTablets().forEach((tabletId, last) -> {
+      TabletServerId server = findLastLocation(current, last);
+      if (server == null) {
+        server = serverLoads.entrySet().stream().min(Entry.comparingByValue()).orElseThrow()
+            .getKey();
+      }
+      serverLoads.merge(server, tabletLoad, Double::sum);
+      params.addAssignment(tabletId, server);
+    });
+  }
+
+  private static Collection<TableStatistics> tableStatistics(TServerStatus status) {
+    return status == null || status.getTableMap() == null ? List.of()
+        : status.getTableMap().values();
+  }
+
+  private static TabletServerId findLastLocation(SortedMap<TabletServerId,TServerStatus> current,
+      TabletServerId last) {
+    if (last == null) {
+      return null;
+    }
+    // Maintain locality
+    String fakeSessionID = " ";
+    TabletServerId simple = new TabletServerIdImpl(last.getHost(), last.getPort(), fakeSessionID);
+    Iterator<TabletServerId> find = current.tailMap(simple).keySet().iterator();
+    if (find.hasNext()) {
+      TabletServerId tserver = find.next();
+      if (tserver.getHost().equals(last.getHost())) {
+        return tserver;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public long balance(BalanceParameters params) {
+    if (params.currentStatus().isEmpty()) {
+      problemReporter.reportProblem(noTserversProblem);
+      return 5_000;
+    }
+    // Don't migrate if we have migrations in progress
+    if (!params.currentMigrations().isEmpty()) {
+      outstandingMigrationsProblem.setMigrations(params.currentMigrations());
+      problemReporter.reportProblem(outstandingMigrationsProblem);
+      return 5_000;
+    }
+    problemReporter.clearProblemReportTimes();
+
+    LoadConf loadConf = conf.get();
+    if (System.currentTimeMillis() - lastRun < loadConf.periodMillis) {
+      return 5_000;
+    }
+
+    SortedMap<TabletServerId,List<TabletStatistics>> tablets = new TreeMap<>();
+    for (Entry<TabletServerId,TServerStatus> entry : params.currentStatus().entrySet()) {
+      List<TabletStatistics> serverTablets = new ArrayList<>();
+      if (entry.getValue() != null && entry.getValue().getTableMap() != null) {
+        for (Entry<String,TableStatistics> table : entry.getValue().getTableMap().entrySet()) {
+          if (table.getValue().getOnlineTabletCount() == 0) {
+            continue;
+          }
+          List<TabletStatistics> stats;
+          try {
+            stats = getOnlineTabletsForTable(entry.getKey(), TableId.of(table.getKey()));
+          } catch (AccumuloException | AccumuloSecurityException e) {
+            log.warn("Unable to get tablets of table {} on {}, not balancing", table.getKey(),
+                entry.getKey(), e);
+            return 5_000;
+          }
+          if (stats == null) {
+            log.warn("Unable to get tablets of table {} on {}, not balancing", table.getKey(),
+                entry.getKey());
+            return 5_000;
+          }
+          serverTablets.addAll(stats);
+        }
+      }
+      tablets.put(entry.getKey(), serverTablets);
+    }
+    lastRun = System.currentTimeMillis();
+
+    List<TabletMigration> migrations = plan(tabletLoads(tablets, loadConf),
+        params.currentMigrations(), loadConf.tolerance, loadConf.maxMigrations);
+    log.debug("Planned {} migrations to balance load across {} tablet servers", migrations.size(),
+        tablets.size());
+    params.migrationsOut().addAll(migrations);
+    return 5_000;
+  }
+}
@@ -39,4 +39,47 @@ public interface TableStatistics extends Comparable<TableStatistics> {
   double getQueryByteRate();
 
   double getScanRate();
+
+  /**
+   * @return entries returned per second over the tablet servers' recent sliding window, unlike
+   *         {@link #getQueryRate()} this is not smoothed with older activity
+   * @since 3.1.0
+   */
+  default double getWindowQueryRate() {
+    return 0;
+  }
+
+  /**
+   * @return entries scanned per second over the tablet servers' recent sliding window
+   * @since 3.1.0
+   */
+  default double getWindowScanRate() {
+    return 0;
+  }
+
+  /**
+   * @return bytes ingested per second over the tablet servers' recent sliding window
+   * @since 3.1.0
+   */
+  default double getWindowIngestByteRate() {
+    return 0;
+  }
+
+  /**
+   * @return median read latency in millis over the tablet servers' recent sliding window, the
+   *         highest value reported by any one server when summarized across servers
+   * @since 3.1.0
+   */
+  default double getReadLatencyMedian() {
+    return 0;
+  }
+
+  /**
+   * @return 99th percentile read latency in millis over the tablet servers' recent sliding
+   *         window, the highest value reported by any one server when summarized across servers
+   * @since 3.1.0
+   */
+  default double getReadLatencyP99() {
+    return 0;
+  }
 }
@@ -34,4 +34,45 @@ public interface TabletStatistics extends Comparable<TabletStatistics> {
   double getIngestRate();
 
   double getQueryRate();
+
+  /**
+   * @return entries returned per second over the tablet server's recent sliding window, unlike
+   *         {@link #getQueryRate()} this is not smoothed with older activity
+   * @since 3.1.0
+   */
+  default double getWindowQueryRate() {
+    return 0;
+  }
+
+  /**
+   * @return entries scanned per second over the tablet server's recent sliding window
+   * @since 3.1.0
+   */
+  default double getWindowScanRate() {
+    return 0;
+  }
+
+  /**
+   * @return bytes ingested per second over the tablet server's recent sliding window
+   * @since 3.1.0
+   */
+  default double getWindowIngestByteRate() {
+    return 0;
+  }
+
+  /**
+   * @return median read latency in millis over the tablet server's recent sliding window
+   * @since 3.1.0
+   */
+  default double getReadLatencyMedian() {
+    return 0;
+  }
+
+  /**
+   * @return 99th percentile read latency in millis over the tablet server's recent sliding window
+   * @since 3.1.0
+   */
+  default double getReadLatencyP99() {
+    return 0;
+  }
 }
@@ -24,6 +24,7 @@ import java.util.Map;
 import org.apache.accumulo.core.client.admin.CompactionConfig;
 import org.apache.accumulo.core.client.admin.compaction.CompactableFile;
 import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.data.TabletId;
 import org.apache.accumulo.core.spi.common.ServiceEnvironment;
 
 /**
@@ -83,6 +84,33 @@ public interface CompactionPlanner {
      */
     TableId getTableId();
 
+    /**
+     * @return The id of the tablet that compactions are being planned for, or null when it is not
+     *         known.
+     * @since 3.1.0
+     */
+    default TabletId getTabletId() {
+      return null;
+    }
+
+    /**
+     * @return the recent rate at which scans started reading the tablet's files, in scans per
+     *         second. Returns 0 when this is not known.
+     * @since 3.1.0
+     */
+    default double getScanRate() {
+      return 0;
+    }
+
+    /**
+     * @return the recent average number of files read by each scan of the tablet, which is the
+     *         read amplification compactions reduce. Returns 0 when this is not known.
+     * @since 3.1.0
+     */
+    default double getFilesPerScan() {
+      return 0;
+    }
+
     ServiceEnvironment getServiceEnvironment();
 
     CompactionKind getKind();
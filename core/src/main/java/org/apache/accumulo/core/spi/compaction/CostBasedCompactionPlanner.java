@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.spi.compaction;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.apache.accumulo.core.client.admin.compaction.CompactableFile;
+import org.apache.accumulo.core.conf.ConfigurationTypeHelper;
+import org.apache.accumulo.core.data.TabletId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Preconditions;
+
+/**
+ * A planner that chooses system compactions by weighing the I/O a compaction costs against the scan
+ * I/O it saves, instead of using the compaction ratio.
+ *
+ * <p>
+ * Compacting the {@code n} smallest files of a tablet reads and writes their bytes once, and saves
+ * each later scan from reading {@code n - 1} files. The scan savings are estimated from the
+ * tablet's recent scan rate and files read per scan, over a configurable horizon. The set of
+ * smallest files with the largest net savings is compacted. When no set saves I/O, the tablet's
+ * files are left alone until their number exceeds a target, and then the fewest smallest files
+ * that bring the tablet back to the target are compacted.
+ *
+ * <p>
+ * The planner learns the throughput of each executor from the compactions it planned that
+ * completed, measured from when the compaction was planned until its files were replaced. This
+ * includes time spent queued. Sets of files that are predicted to take longer than a latency target
+ * are not chosen. User and selector compactions, and tablets with running compactions, are planned
+ * the same way as {@link DefaultCompactionPlanner}.
+ *
+ * <p>
+ * All options of {@link DefaultCompactionPlanner} are supported, along with the following. Replace
+ * {@code <service>} with the name of the compaction service you are configuring.
+ *
+ * <ul>
+ * <li>{@code compaction.service.<service>.planner.opts.targetFiles} The number of files a tablet
+ * may have before a compaction is required. Defaults to 10.
+ * <li>{@code compaction.service.<service>.planner.opts.maxLatency} The longest a system compaction
+ * is predicted to take from planning to completion. Defaults to 30m.
+ * <li>{@code compaction.service.<service>.planner.opts.scanCost} The bytes of I/O one scan is
+ * considered to spend on each file it reads. Defaults to 1M.
+ * <li>{@code compaction.service.<service>.planner.opts.horizon} The period of future scans that
+ * savings are counted over. Defaults to 1h.
+ * </ul>
+ *
+ * @since 3.1.0
+ * @see org.apache.accumulo.core.spi.compaction
+ */
+public class CostBasedCompactionPlanner extends DefaultCompactionPlanner {
+
+  private static final Logger log = LoggerFactory.getLogger(CostBasedCompactionPlanner.class);
+
+  private static final String DEFAULT_TARGET_FILES = "10";
+  private static final String DEFAULT_MAX_LATENCY = "30m";
+  private static final String DEFAULT_SCAN_COST = "1M";
+  private static final String DEFAULT_HORIZON = "1h";
+
+  // weight given to the newest throughput observed for an executor
+  private static final double THROUGHPUT_WEIGHT = 0.2;
+
+  private static class PlannedJob {
+    final CompactionExecutorId executor;
+    final long size;
+    final long plannedNanos;
+
+    PlannedJob(CompactionExecutorId executor, long size, long plannedNanos) {
+      this.executor = executor;
+      this.size = size;
+      this.plannedNanos = plannedNanos;
+    }
+  }
+
+  private static class Throughput {
+    private double bytesPerSec = Double.NaN;
+
+    synchronized void update(long bytes, long nanos) {
+      double observed = bytes / (Math.max(nanos, 1) / 1e9);
+      if (Double.isNaN(bytesPerSec)) {
+        bytesPerSec = observed;
+      } else {
+        bytesPerSec = THROUGHPUT_WEIGHT * observed + (1 - THROUGHPUT_WEIGHT) * bytesPerSec;
+      }
+    }
+
+    synchronized double get() {
+      return bytesPerSec;
+    }
+  }
+
+  private final LongSupplier nanoTime;
+  private final Map<CompactionExecutorId,Throughput> throughputs = new ConcurrentHashMap<>();
+  private final Cache<TabletId,Map<Set<CompactableFile>,PlannedJob>> plannedJobs =
+      Caffeine.newBuilder().expireAfterAccess(Duration.ofHours(1)).build();
+
+  private int targetFiles;
+  private long maxLatencyNanos;
+  private long scanCost;
+  private long horizonSecs;
+
+  public CostBasedCompactionPlanner() {
+    this(System::nanoTime);
+  }
+
+  CostBasedCompactionPlanner(LongSupplier nanoTime) {
+    this.nanoTime = nanoTime;
+  }
+
+  @Override
+  public void init(InitParameters params) {
+    super.init(params);
+    var options = params.getOptions();
+    targetFiles = Integer.parseInt(options.getOrDefault("targetFiles", DEFAULT_TARGET_FILES));
+    maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(ConfigurationTypeHelper
+        .getTimeInMillis(options.getOrDefault("maxLatency", DEFAULT_MAX_LATENCY)));
+    scanCost = ConfigurationTypeHelper
+        .getFixedMemoryAsBytes(options.getOrDefault("scanCost", DEFAULT_SCAN_COST));
+    horizonSecs = TimeUnit.MILLISECONDS.toSeconds(
+        ConfigurationTypeHelper.getTimeInMillis(options.getOrDefault("horizon", DEFAULT_HORIZON)));
+    Preconditions.checkArgument(targetFiles > 0, "targetFiles must be positive");
+    Preconditions.checkArgument(maxLatencyNanos > 0, "maxLatency must be positive");
+  }
+
+  @Override
+  public CompactionPlan makePlan(PlanningParameters params) {
+    TabletId tabletId = params.getTabletId();
+    if (tabletId == null) {
+      // without the tablet its planned jobs can not be tracked, so nothing is learned from them
+      return choosePlan(params);
+    }
+
+    long now = nanoTime.getAsLong();
+    var tabletJobs = plannedJobs.get(tabletId, tid -> new ConcurrentHashMap<>());
+
+    learn(params, tabletJobs, now);
+
+    CompactionPlan plan = choosePlan(params);
+
+    Set<Set<CompactableFile>> planned = new HashSet<>();
+    for (CompactionJob job : plan.getJobs()) {
+      Set<CompactableFile> files = Set.copyOf(job.getFiles());
+      planned.add(files);
+      tabletJobs.computeIfAbsent(files, f -> new PlannedJob(job.getExecutor(), sum(f), now));
+    }
+    // queued jobs that are not in the latest plan are dropped by the compaction service
+    Set<Set<CompactableFile>> running = params.getRunningCompactions().stream()
+        .map(job -> Set.copyOf(job.getFiles())).collect(Collectors.toSet());
+    tabletJobs.keySet().removeIf(files -> !planned.contains(files) && !running.contains(files));
+
+    return plan;
+  }
+
+  private CompactionPlan choosePlan(PlanningParameters params) {
+    if (params.getKind() == CompactionKind.SYSTEM && params.getRunningCompactions().isEmpty()) {
+      return planSystemCompaction(params);
+    }
+    return super.makePlan(params);
+  }
+
+  /**
+   * A planned job whose files are all gone from the tablet has completed, so its throughput is
+   * folded into the estimate for its executor.
+   */
+  private void learn(PlanningParameters params, Map<Set<CompactableFile>,PlannedJob> tabletJobs,
+      long now) {
+    Set<CompactableFile> all = Set.copyOf(params.getAll());
+    tabletJobs.entrySet().removeIf(entry -> {
+      if (!Collections.disjoint(entry.getKey(), all)) {
+        return false;
+      }
+      PlannedJob job = entry.getValue();
+      throughputs.computeIfAbsent(job.executor, ceid -> new Throughput()).update(job.size,
+          now - job.plannedNanos);
+      log.trace("Compaction of {} bytes on {} completed in {}ms", job.size, job.executor,
+          TimeUnit.NANOSECONDS.toMillis(now - job.plannedNanos));
+      return true;
+    });
+  }
+
+  private CompactionPlan planSystemCompaction(PlanningParameters params) {
+    List<CompactableFile> sorted = sortByFileSize(params.getCandidates());
+    int fileCount = params.getAll().size();
+    int maxFiles = Math.min(getMaxFilesToCompact(), sorted.size());
+    long maxSize = getMaxSizeToCompact(CompactionKind.SYSTEM);
+
+    // the scan I/O saved over the horizon by each file removed from the tablet
+    double readFraction =
+        fileCount == 0 ? 0 : Math.min(1.0, params.getFilesPerScan() / fileCount);
+    double savedPerFile = params.getScanRate() * horizonSecs * readFraction * scanCost;
+
+    List<CompactableFile> best = List.of();
+    double bestSavings = 0;
+    List<CompactableFile> withinSize = List.of();
+    List<CompactableFile> withinLatency = List.of();
+
+    long sum = 0;
+    for (int n = 1; n <= maxFiles; n++) {
+      sum += sorted.get(n - 1).getEstimatedSize();
+      if (sum > maxSize) {
+        break;
+      }
+      if (n < 2) {
+        continue;
+      }
+      var group = sorted.subList(0, n);
+      withinSize = group;
+      if (predictNanos(group, sum) > maxLatencyNanos) {
+        continue;
+      }
+      withinLatency = group;
+      double savings = (n - 1) * savedPerFile - 2.0 * sum;
+      if (savings > bestSavings) {
+        best = group;
+        bestSavings = savings;
+      }
+    }
+
+    Collection<CompactableFile> group = best;
+    if (group.isEmpty() && fileCount > targetFiles) {
+      // compacting is not worth it for scans, but the tablet has too many files
+      int needed = fileCount - targetFiles + 1;
+      List<CompactableFile> forced = withinLatency.size() >= 2 ? withinLatency : withinSize;
+      group = forced.size() > needed ? forced.subList(0, needed) : forced;
+    }
+
+    log.trace("Planned {} of {} files for {} with savings {}", group.size(), fileCount,
+        params.getTabletId(), bestSavings);
+
+    if (group.size() < 2) {
+      return params.createPlanBuilder().build();
+    }
+    return params.createPlanBuilder()
+        .addJob(createPriority(params, group), getExecutor(group), group).build();
+  }
+
+  /**
+   * @return the predicted time from planning to completion for compacting the files, or 0 when the
+   *         executor has not completed a compaction yet
+   */
+  private long predictNanos(Collection<CompactableFile> files, long size) {
+    Throughput throughput = throughputs.get(getExecutor(files));
+    double bytesPerSec = throughput == null ? Double.NaN : throughput.get();
+    if (Double.isNaN(bytesPerSec)) {
+      return 0;
+    }
+    return (long) (size / bytesPerSec * 1e9);
+  }
+
+  /**
+   * @return the throughput observed for an executor in bytes per second, NaN if unknown
+   */
+  double getThroughput(CompactionExecutorId executor) {
+    Throughput throughput = throughputs.get(executor);
+    return throughput == null ? Double.NaN : throughput.get();
+  }
+
+  private static long sum(Collection<CompactableFile> files) {
+    return files.stream().mapToLong(CompactableFile::getEstimatedSize).sum();
+  }
+}
@@ -384,13 +384,16 @@ public class DefaultCompactionPlanner implements CompactionPlanner {
     }
   }
 
-  private static short createPriority(PlanningParameters params,
-      Collection<CompactableFile> group) {
+  static short createPriority(PlanningParameters params, Collection<CompactableFile> group) {
     return CompactionJobPrioritizer.createPriority(params.getKind(), params.getAll().size(),
         group.size());
   }
 
-  private long getMaxSizeToCompact(CompactionKind kind) {
+  int getMaxFilesToCompact() {
+    return maxFilesToCompact;
+  }
+
+  long getMaxSizeToCompact(CompactionKind kind) {
     if (kind == CompactionKind.SYSTEM) {
       Long max = executors.get(executors.size() - 1).maxSize;
       if (max != null) {
@@ -579,7 +582,7 @@ public class DefaultCompactionPlanner implements CompactionPlanner {
     return executors.get(executors.size() - 1).ceid;
   }
 
-  private static List<CompactableFile> sortByFileSize(Collection<CompactableFile> files) {
+  static List<CompactableFile> sortByFileSize(Collection<CompactableFile> files) {
     ArrayList<CompactableFile> sortedFiles = new ArrayList<>(files);
 
     // sort from smallest file to largest
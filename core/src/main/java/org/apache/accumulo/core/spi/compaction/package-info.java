@@ -45,7 +45,8 @@
  * configure a compaction service. It makes decisions about which files to compact on which
  * executors. See {@link org.apache.accumulo.core.spi.compaction.CompactionPlanner},
  * {@link org.apache.accumulo.core.spi.compaction.CompactionPlanner#makePlan(org.apache.accumulo.core.spi.compaction.CompactionPlanner.PlanningParameters)},
- * and {@link org.apache.accumulo.core.spi.compaction.DefaultCompactionPlanner}
+ * {@link org.apache.accumulo.core.spi.compaction.DefaultCompactionPlanner}, and
+ * {@link org.apache.accumulo.core.spi.compaction.CostBasedCompactionPlanner}
  * </ul>
  * </ul>
  * <ul>
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.spi.fs;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.accumulo.core.spi.fs.VolumeChooserEnvironment.Scope;
+import org.apache.accumulo.core.volume.VolumeTiers;
+import org.apache.accumulo.core.volume.VolumeTiers.Tier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link PreferredVolumeChooser} that places the files of a table's tablets on hot or cold
+ * volumes based on how often each tablet is scanned, as reported by
+ * {@link VolumeChooserEnvironment#getHeat()}. Tablets scanned at or above the hot threshold write
+ * to the hot volumes, all other tablets write to the cold volumes.
+ *
+ * <p>
+ * The tiers are configured per table with the custom properties
+ * {@code table.custom.volume.tiered.hot}, {@code table.custom.volume.tiered.cold} and
+ * {@code table.custom.volume.tiered.hot.threshold}, see
+ * {@link org.apache.accumulo.core.client.admin.compaction.TieredStorageSelector}, which rewrites
+ * existing files when a tablet's heat changes. When the tiers are not configured for a table, or
+ * the heat of the tablet is not known, this chooser behaves like the
+ * {@link PreferredVolumeChooser}.
+ *
+ * <pre>
+ * <code>
+ * general.volume.chooser=org.apache.accumulo.core.spi.fs.TieredVolumeChooser
+ * general.custom.volume.preferred.default=hdfs://nn_ssd/accumulo,hdfs://nn_hdd/accumulo
+ * config -t mytable -s table.custom.volume.tiered.hot=hdfs://nn_ssd/accumulo
+ * config -t mytable -s table.custom.volume.tiered.cold=hdfs://nn_hdd/accumulo
+ * config -t mytable -s table.compaction.selector=\
+ *     org.apache.accumulo.core.client.admin.compaction.TieredStorageSelector
+ * </code>
+ * </pre>
+ *
+ * @since 3.1.0
+ */
+public class TieredVolumeChooser extends PreferredVolumeChooser {
+  private static final Logger log = LoggerFactory.getLogger(TieredVolumeChooser.class);
+
+  @Override
+  Set<String> getPreferredVolumes(VolumeChooserEnvironment env, Set<String> options) {
+    if (env.getChooserScope() != Scope.TABLE || env.getHeat().isEmpty()) {
+      return super.getPreferredVolumes(env, options);
+    }
+
+    Optional<VolumeTiers> tiers = VolumeTiers.fromTableCustom(
+        env.getServiceEnv().getConfiguration(env.getTable().orElseThrow())::getTableCustom);
+    if (tiers.isEmpty()) {
+      return super.getPreferredVolumes(env, options);
+    }
+
+    Tier tier = tiers.orElseThrow().getTier(env.getHeat().getAsDouble());
+    Set<String> tierVolumes = tiers.orElseThrow().getVolumes(tier);
+    Set<String> choosable = options.stream()
+        .filter(option -> tierVolumes.contains(option.endsWith("/")
+            ? option.substring(0, option.length() - 1) : option))
+        .collect(Collectors.toSet());
+    // writing elsewhere would cause the selector to rewrite the same files over and over
+    if (choosable.isEmpty()) {
+      throw new IllegalArgumentException(
+          "The " + tier + " volumes " + tierVolumes + " are not valid volumes from " + options);
+    }
+    log.trace("Choosing from {} volumes {} for heat {}", tier, choosable, env.getHeat());
+    return choosable;
+  }
+}
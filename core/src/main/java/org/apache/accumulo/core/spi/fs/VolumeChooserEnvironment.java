@@ -19,6 +19,7 @@
 package org.apache.accumulo.core.spi.fs;
 
 import java.util.Optional;
+import java.util.OptionalDouble;
 
 import org.apache.accumulo.core.data.TableId;
 import org.apache.accumulo.core.spi.common.ServiceEnvironment;
@@ -50,4 +51,15 @@ public interface VolumeChooserEnvironment {
   public Scope getChooserScope();
 
   public ServiceEnvironment getServiceEnv();
+
+  /**
+   * How often the tablet for which a volume is being chosen is currently scanned, in scans per
+   * second. Only present when the scope is TABLE and the tablet is hosted, allowing choosers to
+   * place the files of frequently read tablets on faster volumes.
+   *
+   * @since 3.1.0
+   */
+  default OptionalDouble getHeat() {
+    return OptionalDouble.empty();
+  }
 }
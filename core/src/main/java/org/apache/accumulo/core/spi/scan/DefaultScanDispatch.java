@@ -48,6 +48,11 @@ class DefaultScanDispatch extends ScanDispatchImpl {
     return new ScanDispatchImpl().setDataCacheUsage(usage);
   }
 
+  @Override
+  public Builder setParallelLocalityGroups(boolean parallel) {
+    return new ScanDispatchImpl().setParallelLocalityGroups(parallel);
+  }
+
   @Override
   public ScanDispatch build() {
     return this;
@@ -59,6 +59,14 @@ public interface ScanDispatch {
 
   public CacheUsage getIndexCacheUsage();
 
+  /**
+   * @return true if the scan should read the locality groups of a tablet in parallel threads
+   * @since 3.1.0
+   */
+  default boolean getParallelLocalityGroups() {
+    return false;
+  }
+
   /**
    * @since 2.1.0
    */
@@ -91,6 +99,20 @@ public interface ScanDispatch {
      */
     public Builder setDataCacheUsage(CacheUsage usage);
 
+    /**
+     * If this is not called, then false should be used. Reading locality groups in parallel can
+     * speed up large scans that read multiple locality groups of a tablet, at the cost of using
+     * more threads and reading ahead of the scan. It is ignored for isolated scans. The threads
+     * used are configured by {@code tserver.scan.locality.group.threads}.
+     *
+     * @param parallel true if the scan should read each locality group in its own thread
+     * @return may return self or a new object
+     * @since 3.1.0
+     */
+    default Builder setParallelLocalityGroups(boolean parallel) {
+      throw new UnsupportedOperationException();
+    }
+
     /**
      * @return an immutable {@link ScanDispatch} object.
      */
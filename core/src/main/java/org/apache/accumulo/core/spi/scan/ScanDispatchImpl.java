@@ -37,11 +37,13 @@ class ScanDispatchImpl implements ScanDispatch, Builder {
   private String executorName;
   private CacheUsage indexCacheUsage;
   private CacheUsage dataCacheUsage;
+  private boolean parallelLocalityGroups;
 
   ScanDispatchImpl() {
     executorName = SimpleScanDispatcher.DEFAULT_SCAN_EXECUTOR_NAME;
     indexCacheUsage = CacheUsage.TABLE;
     dataCacheUsage = CacheUsage.TABLE;
+    parallelLocalityGroups = false;
   }
 
   @Override
@@ -78,6 +80,13 @@ class ScanDispatchImpl implements ScanDispatch, Builder {
     return this;
   }
 
+  @Override
+  public Builder setParallelLocalityGroups(boolean parallel) {
+    Preconditions.checkState(!built);
+    this.parallelLocalityGroups = parallel;
+    return this;
+  }
+
   @Override
   public CacheUsage getDataCacheUsage() {
     Preconditions.checkState(built);
@@ -90,9 +99,16 @@ class ScanDispatchImpl implements ScanDispatch, Builder {
     return indexCacheUsage;
   }
 
+  @Override
+  public boolean getParallelLocalityGroups() {
+    Preconditions.checkState(built);
+    return parallelLocalityGroups;
+  }
+
   @Override
   public String toString() {
     return "{executorName=" + executorName + ", indexCacheUsage=" + indexCacheUsage
-        + ", dataCacheUsage=" + dataCacheUsage + ", built=" + built + "}";
+        + ", dataCacheUsage=" + dataCacheUsage + ", parallelLocalityGroups="
+        + parallelLocalityGroups + ", built=" + built + "}";
   }
 }
@@ -24,6 +24,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -49,6 +50,9 @@ import org.apache.accumulo.core.spi.scan.ScanDispatch.CacheUsage;
  * takes precedence over all other settings. See {@link ScannerBase#setExecutionHints(Map)}</li>
  * <li>{@code table.scan.dispatcher.opts.cacheUsage.<type>[.index|.data]=enabled|disabled|opportunistic|table}
  * : for scans that set the hint {@code scan_type=<type>} determines how the scan will use cache.
+ * <li>{@code table.scan.dispatcher.opts.parallel_lg_batches=<number>} : scans that have already
+ * run this many batches are considered large and read the locality groups of a tablet in parallel.
+ * See {@link ScanDispatch.Builder#setParallelLocalityGroups(boolean)}</li>
  * </ul>
  *
  * The {@code multi_executor} and {@code single_executor} options override the {@code executor}
@@ -59,11 +63,14 @@ public class SimpleScanDispatcher implements ScanDispatcher {
 
   private final String EXECUTOR_PREFIX = "executor.";
 
-  private final Set<String> VALID_OPTS = Set.of("executor", "multi_executor", "single_executor");
+  private final Set<String> VALID_OPTS =
+      Set.of("executor", "multi_executor", "single_executor", "parallel_lg_batches");
 
   private ScanDispatch singleDispatch;
   private ScanDispatch multiDispatch;
   private Map<String,Map<ScanInfo.Type,ScanDispatch>> hintDispatch;
+  private long parallelLgBatches = -1;
+  private final Map<ScanDispatch,ScanDispatch> parallelDispatch = new ConcurrentHashMap<>();
 
   private static Pattern CACHE_PATTERN = Pattern.compile("cacheUsage[.](\\w+)([.](index|data))?");
 
@@ -106,6 +113,14 @@ public class SimpleScanDispatcher implements ScanDispatcher {
       }
     });
 
+    if (options.containsKey("parallel_lg_batches")) {
+      parallelLgBatches = Long.parseLong(options.get("parallel_lg_batches"));
+      if (parallelLgBatches < 0) {
+        throw new IllegalArgumentException(
+            "Invalid value for parallel_lg_batches " + parallelLgBatches);
+      }
+    }
+
     // This method pre-computes all possible scan dispatch objects that could ever be needed.
     // This is done to make the dispatch method more efficient. If the number of config permutations
     // grows, this approach may have to be abandoned. For now its tractable.
@@ -140,6 +155,17 @@ public class SimpleScanDispatcher implements ScanDispatcher {
   @Override
   public ScanDispatch dispatch(DispatchParameters params) {
     ScanInfo scanInfo = params.getScanInfo();
+    ScanDispatch dispatch = dispatchBasic(scanInfo);
+    if (parallelLgBatches >= 0 && scanInfo.getRunTimeStats().num() >= parallelLgBatches) {
+      return parallelDispatch.computeIfAbsent(dispatch,
+          d -> ScanDispatch.builder().setExecutorName(d.getExecutorName())
+              .setIndexCacheUsage(d.getIndexCacheUsage()).setDataCacheUsage(d.getDataCacheUsage())
+              .setParallelLocalityGroups(true).build());
+    }
+    return dispatch;
+  }
+
+  private ScanDispatch dispatchBasic(ScanInfo scanInfo) {
 
     if (!hintDispatch.isEmpty()) {
       String hintScanType = scanInfo.getExecutionHints().get("scan_type");
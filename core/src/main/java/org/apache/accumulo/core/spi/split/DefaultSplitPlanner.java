@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.spi.split;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.hadoop.io.Text;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Splits tablets using the key distribution sampled from their file indexes. With the default
+ * options a tablet is split once near its middle. The following options can be set to split large
+ * or busy tablets into more than two pieces at once.
+ *
+ * <ul>
+ * <li>{@code table.split.planner.opts.maxSplits} the maximum number of split points to plan for a
+ * tablet at once, defaults to 1. The number of pieces is chosen so that each piece is about the
+ * split threshold in size.
+ * <li>{@code table.split.planner.opts.hotIngestRate} when set, a tablet is split into enough pieces
+ * that each piece would receive at most this many entries written per second.
+ * <li>{@code table.split.planner.opts.hotQueryRate} when set, a tablet is split into enough pieces
+ * that each piece would return at most this many entries scanned per second.
+ * </ul>
+ *
+ * @since 3.1.0
+ */
+public class DefaultSplitPlanner implements SplitPlanner {
+
+  private static final Logger log = LoggerFactory.getLogger(DefaultSplitPlanner.class);
+
+  private int maxSplits = 1;
+  private double hotIngestRate = 0;
+  private double hotQueryRate = 0;
+
+  @Override
+  public void init(InitParameters params) {
+    Map<String,String> opts = params.getOptions();
+    for (Entry<String,String> entry : opts.entrySet()) {
+      switch (entry.getKey()) {
+        case "maxSplits":
+          maxSplits = Integer.parseInt(entry.getValue());
+          Preconditions.checkArgument(maxSplits > 0, "maxSplits must be positive : %s",
+              entry.getValue());
+          break;
+        case "hotIngestRate":
+          hotIngestRate = Double.parseDouble(entry.getValue());
+          break;
+        case "hotQueryRate":
+          hotQueryRate = Double.parseDouble(entry.getValue());
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown option " + entry.getKey());
+      }
+    }
+  }
+
+  int computePieces(PlanningParameters params) {
+    long pieces = Math.max(2, ceilDiv(params.getEstimatedSize(), params.getSplitThreshold()));
+    if (hotIngestRate > 0) {
+      pieces = Math.max(pieces, (long) Math.ceil(params.getIngestRate() / hotIngestRate));
+    }
+    if (hotQueryRate > 0) {
+      pieces = Math.max(pieces, (long) Math.ceil(params.getQueryRate() / hotQueryRate));
+    }
+    return (int) Math.min(pieces, maxSplits + 1L);
+  }
+
+  private static long ceilDiv(long x, long y) {
+    return y <= 0 ? 2 : (x + y - 1) / y;
+  }
+
+  @Override
+  public List<SplitPoint> plan(PlanningParameters params) {
+    SortedMap<Double,Key> keys = params.getKeyDistribution();
+    if (keys.isEmpty()) {
+      log.debug("Not splitting {} {} {}, files contain no data for tablet", params.getTableId(),
+          params.getEndRow(), params.getPrevEndRow());
+      return List.of();
+    }
+
+    int pieces = computePieces(params);
+    List<SplitPoint> points = new ArrayList<>(pieces - 1);
+    Text previous = params.getPrevEndRow();
+
+    for (int i = 1; i < pieces; i++) {
+      SplitPoint point = choose(keys, i / (double) pieces, previous, params.getLastRow());
+      if (point != null) {
+        points.add(point);
+        previous = point.getRow();
+      }
+    }
+
+    if (points.isEmpty()) {
+      log.debug("Not splitting {} {} {}, it contains a big row : {}", params.getTableId(),
+          params.getEndRow(), params.getPrevEndRow(), params.getLastRow());
+    }
+
+    return points;
+  }
+
+  /**
+   * Chooses a split row near the target fraction that is after the previous split row and before
+   * the last row. When the row at the target is the last row, falls back to a row at least half way
+   * to the target. The row is shortened to the shortest prefix that still sorts after the key that
+   * precedes it in the distribution.
+   */
+  private static SplitPoint choose(SortedMap<Double,Key> keys, double target, Text previous,
+      Text lastRow) {
+    SortedMap<Double,Key> atOrAfter = keys.tailMap(target);
+    if (atOrAfter.isEmpty()) {
+      return null;
+    }
+
+    double ratio = atOrAfter.firstKey();
+    Key key = atOrAfter.get(ratio);
+    SortedMap<Double,Key> before = keys.headMap(ratio);
+
+    if (key.compareRow(lastRow) == 0) {
+      // the row at the target extends to the end of the tablet, look for an earlier row
+      while (!before.isEmpty() && before.lastKey() >= target / 2) {
+        Key candidate = before.get(before.lastKey());
+        if (candidate.compareRow(lastRow) != 0) {
+          if (previous != null && candidate.compareRow(previous) <= 0) {
+            return null;
+          }
+          return new SplitPoint(candidate.getRow(), before.lastKey());
+        }
+        before = before.headMap(before.lastKey());
+      }
+      return null;
+    }
+
+    if (previous != null && key.compareRow(previous) <= 0) {
+      return null;
+    }
+
+    Text text = key.getRow();
+    if (!before.isEmpty()) {
+      Text beforeRow = before.get(before.lastKey()).getRow();
+      if (previous != null && beforeRow.compareTo(previous) < 0) {
+        beforeRow = previous;
+      }
+      int trunc = longestCommonLength(text, beforeRow);
+      Text shorter = new Text();
+      shorter.set(text.getBytes(), 0, Math.min(text.getLength(), trunc + 1));
+      text = shorter;
+    }
+
+    return new SplitPoint(text, ratio);
+  }
+
+  private static int longestCommonLength(Text text, Text beforeMid) {
+    int common = 0;
+    while (common < text.getLength() && common < beforeMid.getLength()
+        && text.getBytes()[common] == beforeMid.getBytes()[common]) {
+      common++;
+    }
+    return common;
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.spi.split;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.spi.common.ServiceEnvironment;
+import org.apache.hadoop.io.Text;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * A per table plugin that decides where a tablet that has grown past the split threshold should be
+ * split. For information about configuring, find the documentation for the
+ * {@code table.split.planner} and {@code table.split.planner.opts.} properties.
+ *
+ * @since 3.1.0
+ * @see org.apache.accumulo.core.spi
+ */
+public interface SplitPlanner {
+
+  /**
+   * The method parameters for {@link SplitPlanner#init(InitParameters)}. This interface exists so
+   * the API can evolve and additional parameters can be passed to the method in the future.
+   *
+   * @since 3.1.0
+   */
+  public interface InitParameters {
+    /**
+     * @return The configured options. For example if the table properties
+     *         {@code table.split.planner.opts.p1=abc} and {@code table.split.planner.opts.p9=123}
+     *         were set, then this map would contain {@code p1=abc} and {@code p9=123}.
+     */
+    Map<String,String> getOptions();
+
+    TableId getTableId();
+
+    ServiceEnvironment getServiceEnv();
+  }
+
+  /**
+   * This method is called once after a SplitPlanner is instantiated.
+   */
+  default void init(InitParameters params) {
+    Preconditions.checkArgument(params.getOptions().isEmpty(), "No options expected");
+  }
+
+  /**
+   * The method parameters for {@link SplitPlanner#plan(PlanningParameters)}. This interface exists
+   * so the API can evolve and additional parameters can be passed to the method in the future.
+   *
+   * @since 3.1.0
+   */
+  public interface PlanningParameters {
+
+    TableId getTableId();
+
+    /**
+     * @return the end row of the tablet being planned, null for the last tablet of a table
+     */
+    Text getEndRow();
+
+    /**
+     * @return the previous end row of the tablet being planned, null for the first tablet of a
+     *         table
+     */
+    Text getPrevEndRow();
+
+    /**
+     * @return the last row that could be in the tablet. This is the end row of the tablet or, for
+     *         the last tablet of a table, the last row seen in its files.
+     */
+    Text getLastRow();
+
+    /**
+     * @return the combined size of the tablets files in bytes
+     */
+    long getEstimatedSize();
+
+    /**
+     * @return the value of {@code table.split.threshold} in bytes
+     */
+    long getSplitThreshold();
+
+    /**
+     * Keys sampled from the indexes of the tablets files. Each key is mapped to the approximate
+     * fraction of the tablets data that sorts before it. The map contains a key at evenly spaced
+     * fractions, which always includes {@code .5}, and also contains the last key of the row
+     * preceding each of those keys when that row started after the previous evenly spaced fraction.
+     * This information is computed once per set of files, so it is refreshed after each minor
+     * compaction, major compaction, or bulk import that changes the tablets files.
+     */
+    SortedMap<Double,Key> getKeyDistribution();
+
+    /**
+     * @return the recent rate of entries written to the tablet per second
+     */
+    double getIngestRate();
+
+    /**
+     * @return the recent rate of entries returned by scans of the tablet per second
+     */
+    double getQueryRate();
+
+    ServiceEnvironment getServiceEnv();
+  }
+
+  /**
+   * A row to split a tablet at, along with the approximate fraction of the tablets data that sorts
+   * at or before that row.
+   *
+   * @since 3.1.0
+   */
+  public class SplitPoint {
+    private final Text row;
+    private final double ratio;
+
+    public SplitPoint(Text row, double ratio) {
+      this.row = new Text(row);
+      this.ratio = ratio;
+    }
+
+    public Text getRow() {
+      return row;
+    }
+
+    public double getRatio() {
+      return ratio;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s@%.3f", row, ratio);
+    }
+  }
+
+  /**
+   * Accumulo calls this method when a tablet has grown past its split threshold. The returned list
+   * should be sorted by row and each row must fall within the tablet. The tablet is split at the
+   * first row and the resulting upper tablet is then split at each following row, so returning
+   * more than one split point lets a rapidly growing tablet reach a reasonable size in one pass. An
+   * empty list means the tablet can not be split and Accumulo will not ask again until the tablets
+   * files change.
+   */
+  List<SplitPoint> plan(PlanningParameters params);
+}
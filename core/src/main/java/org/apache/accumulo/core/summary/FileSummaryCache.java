@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.summary;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apache.accumulo.core.client.summary.SummarizerConfiguration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Caches deserialized file summaries keyed by file and summarizer selection. Files are immutable
+ * once written, so an entry never needs to be invalidated. When a compaction replaces the files of
+ * a tablet, only the newly written files will miss the cache on the next summary request and the
+ * entries for the replaced files will age out.
+ */
+public class FileSummaryCache {
+
+  private static class Key {
+    private final String file;
+    private final Set<SummarizerConfiguration> summaries;
+    private final String summarizerPattern;
+
+    Key(String file, Set<SummarizerConfiguration> summaries, String summarizerPattern) {
+      this.file = file;
+      this.summaries = summaries;
+      this.summarizerPattern = summarizerPattern;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o instanceof Key) {
+        Key ok = (Key) o;
+        return file.equals(ok.file) && summaries.equals(ok.summaries)
+            && Objects.equals(summarizerPattern, ok.summarizerPattern);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(file, summaries, summarizerPattern);
+    }
+  }
+
+  private final Cache<Key,SummaryReader> cache;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public FileSummaryCache(long maxEntries) {
+    this.cache = Caffeine.newBuilder().maximumSize(maxEntries).build();
+  }
+
+  /**
+   * Returns the cached summaries for a file, loading them with the supplied loader on a miss.
+   * Summaries of files that no longer exist are not cached.
+   */
+  SummaryReader get(String file, Set<SummarizerConfiguration> summaries, String summarizerPattern,
+      Supplier<SummaryReader> loader) {
+    Key key = new Key(file, summaries, summarizerPattern);
+    SummaryReader reader = cache.getIfPresent(key);
+    if (reader != null) {
+      hits.increment();
+      return reader;
+    }
+
+    misses.increment();
+    reader = loader.get();
+    if (!reader.isDeleted()) {
+      cache.put(key, reader);
+    }
+    return reader;
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long getSize() {
+    return cache.estimatedSize();
+  }
+}
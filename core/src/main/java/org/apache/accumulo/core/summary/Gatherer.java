@@ -432,12 +432,23 @@ public class Gatherer {
   public Future<SummaryCollection> processFiles(FileSystemResolver volMgr,
       Map<String,List<TRowRange>> files, BlockCache summaryCache, BlockCache indexCache,
       Cache<String,Long> fileLenCache, ExecutorService srp) {
+    return processFiles(volMgr, files, summaryCache, indexCache, fileLenCache, null, srp);
+  }
+
+  /**
+   * This method will read summaries from a set of files, using the given cache of deserialized file
+   * summaries when it is non null.
+   */
+  public CompletableFuture<SummaryCollection> processFiles(FileSystemResolver volMgr,
+      Map<String,List<TRowRange>> files, BlockCache summaryCache, BlockCache indexCache,
+      Cache<String,Long> fileLenCache, FileSummaryCache fileSummaryCache, ExecutorService srp) {
     List<CompletableFuture<SummaryCollection>> futures = new ArrayList<>();
     for (Entry<String,List<TRowRange>> entry : files.entrySet()) {
       futures.add(CompletableFuture.supplyAsync(() -> {
         List<RowRange> rrl =
             entry.getValue().stream().map(RowRange::new).collect(Collectors.toList());
-        return getSummaries(volMgr, entry.getKey(), rrl, summaryCache, indexCache, fileLenCache);
+        return getSummaries(volMgr, entry.getKey(), rrl, summaryCache, indexCache, fileLenCache,
+            fileSummaryCache);
       }, srp));
     }
 
@@ -582,10 +593,15 @@ public class Gatherer {
 
   private SummaryCollection getSummaries(FileSystemResolver volMgr, String file,
       List<RowRange> ranges, BlockCache summaryCache, BlockCache indexCache,
-      Cache<String,Long> fileLenCache) {
+      Cache<String,Long> fileLenCache, FileSummaryCache fileSummaryCache) {
     Path path = new Path(file);
     Configuration conf = ctx.getHadoopConf();
-    return SummaryReader.load(volMgr.get(path), conf, factory, path, summarySelector, summaryCache,
-        indexCache, fileLenCache, cryptoService).getSummaries(ranges);
+    Supplier<SummaryReader> loader = () -> SummaryReader.load(volMgr.get(path), conf, factory,
+        path, summarySelector, summaryCache, indexCache, fileLenCache, cryptoService);
+    if (fileSummaryCache == null) {
+      return loader.get().getSummaries(ranges);
+    }
+    return fileSummaryCache.get(file, summaries, summarizerPattern, loader).getSummaries(ranges,
+        factory);
   }
 }
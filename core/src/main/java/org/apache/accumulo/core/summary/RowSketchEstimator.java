@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.summary;
+
+import static org.apache.accumulo.core.client.summary.summarizers.RowSketchSummarizer.ENTRIES_STAT;
+import static org.apache.accumulo.core.client.summary.summarizers.RowSketchSummarizer.HLL_STAT_PREFIX;
+import static org.apache.accumulo.core.client.summary.summarizers.RowSketchSummarizer.SAMPLE_STAT_PREFIX;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.accumulo.core.client.admin.RangeEstimate;
+import org.apache.accumulo.core.client.summary.Summary;
+import org.apache.accumulo.core.client.summary.summarizers.RowSketchSummarizer;
+import org.apache.accumulo.core.data.Range;
+import org.apache.hadoop.io.Text;
+
+/**
+ * Computes range estimates from the merged statistics of a {@link RowSketchSummarizer}.
+ */
+public class RowSketchEstimator {
+
+  private RowSketchEstimator() {}
+
+  /**
+   * @return the largest row that sorts before every row greater than or equal to the given row, or
+   *         null if there is no such row. Used to convert an inclusive start row into the exclusive
+   *         start row used when retrieving summaries.
+   */
+  public static Text rowBefore(Text row) {
+    int len = row.getLength();
+    if (len == 0) {
+      return null;
+    }
+    byte[] bytes = row.getBytes();
+    Text before = new Text();
+    if (bytes[len - 1] == 0) {
+      before.set(bytes, 0, len - 1);
+    } else {
+      byte[] copy = new byte[len];
+      System.arraycopy(bytes, 0, copy, 0, len);
+      copy[len - 1]--;
+      before.set(copy);
+    }
+    return before;
+  }
+
+  /**
+   * Estimates the number of distinct rows from HyperLogLog registers.
+   */
+  static double estimateDistinct(Map<String,Long> stats, int precision) {
+    int m = 1 << precision;
+    double sum = 0;
+    int zeros = 0;
+    for (int i = 0; i < m; i++) {
+      long register = stats.getOrDefault(HLL_STAT_PREFIX + i, 0L);
+      if (register == 0) {
+        zeros++;
+      }
+      sum += Math.pow(2, -register);
+    }
+
+    double alpha;
+    switch (m) {
+      case 16:
+        alpha = 0.673;
+        break;
+      case 32:
+        alpha = 0.697;
+        break;
+      case 64:
+        alpha = 0.709;
+        break;
+      default:
+        alpha = 0.7213 / (1 + 1.079 / m);
+    }
+
+    double estimate = alpha * m * m / sum;
+    if (estimate <= 2.5 * m && zeros > 0) {
+      // use linear counting for small cardinalities
+      estimate = m * Math.log(m / (double) zeros);
+    }
+    return estimate;
+  }
+
+  public static RangeEstimate estimate(Summary summary, Range range, int numSplitPoints) {
+    Map<String,Long> stats = summary.getStatistics();
+    int sampleSize = RowSketchSummarizer.getSampleSize(summary.getSummarizerConfiguration());
+    int precision = RowSketchSummarizer.getPrecision(summary.getSummarizerConfiguration());
+
+    List<Text> sampled = new ArrayList<>();
+    for (Entry<String,Long> entry : stats.entrySet()) {
+      if (entry.getKey().startsWith(SAMPLE_STAT_PREFIX)) {
+        sampled.add(RowSketchSummarizer.decodeRow(entry.getKey()));
+      }
+    }
+    sampled.sort(null);
+
+    List<Text> inRange = new ArrayList<>();
+    for (Text row : sampled) {
+      if (new Range(row).clip(range, true) != null) {
+        inRange.add(row);
+      }
+    }
+
+    long entries = stats.getOrDefault(ENTRIES_STAT, 0L);
+    long distinctRows;
+    double fraction;
+    if (sampled.isEmpty()) {
+      fraction = 0;
+      distinctRows = 0;
+    } else if (sampled.size() < sampleSize) {
+      // the sample was never full, so it contains every row
+      fraction = inRange.size() / (double) sampled.size();
+      distinctRows = inRange.size();
+    } else {
+      fraction = inRange.size() / (double) sampled.size();
+      distinctRows = Math.round(fraction * estimateDistinct(stats, precision));
+    }
+
+    List<Text> splitPoints = new ArrayList<>(numSplitPoints);
+    for (int i = 1; i <= numSplitPoints && !inRange.isEmpty(); i++) {
+      Text row = inRange.get((int) ((long) i * inRange.size() / (numSplitPoints + 1)));
+      if (splitPoints.isEmpty() || !splitPoints.get(splitPoints.size() - 1).equals(row)) {
+        splitPoints.add(row);
+      }
+    }
+
+    return new RangeEstimate(Math.round(fraction * entries), distinctRows, splitPoints);
+  }
+}
@@ -216,7 +216,7 @@ public class SummaryReader {
 
   }
 
-  private static SummaryReader getEmptyReader(SummarizerFactory factory) {
+  static SummaryReader getEmptyReader(SummarizerFactory factory) {
     SummaryReader sr = new SummaryReader();
     sr.factory = factory;
     sr.summaryStores = Collections.emptyList();
@@ -274,7 +274,22 @@ public class SummaryReader {
 
   private boolean deleted;
 
+  /**
+   * @return true if the file did not exist when the summaries were loaded
+   */
+  boolean isDeleted() {
+    return deleted;
+  }
+
   public SummaryCollection getSummaries(List<RowRange> ranges) {
+    return getSummaries(ranges, factory);
+  }
+
+  /**
+   * Computes summaries using the given factory instead of the one the reader was loaded with. This
+   * allows a cached reader to be used with the current table configuration.
+   */
+  public SummaryCollection getSummaries(List<RowRange> ranges, SummarizerFactory factory) {
 
     List<SummaryCollection.FileSummary> initial = new ArrayList<>();
     if (deleted) {
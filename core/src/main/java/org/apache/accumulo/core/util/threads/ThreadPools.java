@@ -260,6 +260,9 @@ public class ThreadPools {
         } else {
           return createFixedThreadPool(threads, "GatherTableInformation", emitThreadPoolMetrics);
         }
+      case MANAGER_BULK_MAX_INFLIGHT_LOADS:
+        return createFixedThreadPool(Math.max(1, conf.getCount(p)), "bulk load requests",
+            emitThreadPoolMetrics);
       case TSERV_WORKQ_THREADS:
         return createFixedThreadPool(conf.getCount(p), "distributed work queue",
             emitThreadPoolMetrics);
@@ -281,6 +284,9 @@ public class ThreadPools {
       case TSERV_SUMMARY_PARTITION_THREADS:
         return createThreadPool(conf.getCount(p), conf.getCount(p), 60, SECONDS,
             "summary partition", emitThreadPoolMetrics);
+      case TSERV_SCAN_LOCALITY_GROUP_THREADS:
+        return createThreadPool(conf.getCount(p), conf.getCount(p), 60, SECONDS,
+            "scan locality group reader", emitThreadPoolMetrics);
       case GC_DELETE_THREADS:
         return createFixedThreadPool(conf.getCount(p), "deleting", emitThreadPoolMetrics);
       default:
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.volume;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * The hot and cold volumes a table's files are placed on according to how often the table's
+ * tablets are scanned. The tiers are configured with the following table custom properties, which
+ * are read from under the {@code table.custom.} prefix.
+ *
+ * <ul>
+ * <li>{@value #HOT_VOLUMES} Comma separated volumes for files of frequently scanned tablets.
+ * <li>{@value #COLD_VOLUMES} Comma separated volumes for files of other tablets.
+ * <li>{@value #HOT_THRESHOLD} Scans per second at or above which a tablet is hot. Defaults to
+ * {@value #HOT_THRESHOLD_DEFAULT}.
+ * <li>{@value #COLD_THRESHOLD} Scans per second at or below which a hot tablet's files are moved
+ * back to cold volumes. Defaults to half of the hot threshold, so that tablets near the threshold
+ * do not move back and forth.
+ * </ul>
+ */
+public class VolumeTiers {
+
+  public enum Tier {
+    HOT, COLD
+  }
+
+  public static final String HOT_VOLUMES = "volume.tiered.hot";
+  public static final String COLD_VOLUMES = "volume.tiered.cold";
+  public static final String HOT_THRESHOLD = "volume.tiered.hot.threshold";
+  public static final String COLD_THRESHOLD = "volume.tiered.cold.threshold";
+  public static final String HOT_THRESHOLD_DEFAULT = "1.0";
+
+  private final Set<String> hotVolumes;
+  private final Set<String> coldVolumes;
+  private final double hotThreshold;
+  private final double coldThreshold;
+
+  private VolumeTiers(Set<String> hotVolumes, Set<String> coldVolumes, double hotThreshold,
+      double coldThreshold) {
+    Preconditions.checkArgument(coldThreshold <= hotThreshold,
+        "%s must not be greater than %s", COLD_THRESHOLD, HOT_THRESHOLD);
+    this.hotVolumes = hotVolumes;
+    this.coldVolumes = coldVolumes;
+    this.hotThreshold = hotThreshold;
+    this.coldThreshold = coldThreshold;
+  }
+
+  /**
+   * @param tableCustom looks up the value of a table custom property by its name without the
+   *        {@code table.custom.} prefix, returning null or empty when it is not set
+   * @return the configured tiers, or empty when the hot or cold volumes are not set
+   */
+  public static Optional<VolumeTiers> fromTableCustom(Function<String,String> tableCustom) {
+    Set<String> hot = parseVolumes(tableCustom.apply(HOT_VOLUMES));
+    Set<String> cold = parseVolumes(tableCustom.apply(COLD_VOLUMES));
+    if (hot.isEmpty() || cold.isEmpty()) {
+      return Optional.empty();
+    }
+    String hotThreshold = tableCustom.apply(HOT_THRESHOLD);
+    double hotRate = Double.parseDouble(hotThreshold == null || hotThreshold.isBlank()
+        ? HOT_THRESHOLD_DEFAULT : hotThreshold);
+    String coldThreshold = tableCustom.apply(COLD_THRESHOLD);
+    double coldRate = coldThreshold == null || coldThreshold.isBlank() ? hotRate / 2
+        : Double.parseDouble(coldThreshold);
+    return Optional.of(new VolumeTiers(hot, cold, hotRate, coldRate));
+  }
+
+  private static Set<String> parseVolumes(String volumes) {
+    if (volumes == null) {
+      return Set.of();
+    }
+    return Arrays.stream(volumes.split(",")).map(String::trim).filter(v -> !v.isEmpty())
+        .map(VolumeTiers::stripSlash).collect(Collectors.toUnmodifiableSet());
+  }
+
+  private static String stripSlash(String volume) {
+    return volume.endsWith("/") ? volume.substring(0, volume.length() - 1) : volume;
+  }
+
+  public Set<String> getVolumes(Tier tier) {
+    return tier == Tier.HOT ? hotVolumes : coldVolumes;
+  }
+
+  /**
+   * @return the tier new files of a tablet with the given scan rate are written to
+   */
+  public Tier getTier(double scanRate) {
+    return scanRate >= hotThreshold ? Tier.HOT : Tier.COLD;
+  }
+
+  /**
+   * @return the tier existing files of a tablet with the given scan rate should be moved to, or
+   *         empty when the rate is between the thresholds and files should stay where they are
+   */
+  public Optional<Tier> getMigrationTier(OptionalDouble scanRate) {
+    if (scanRate.isEmpty()) {
+      return Optional.empty();
+    }
+    if (scanRate.getAsDouble() >= hotThreshold) {
+      return Optional.of(Tier.HOT);
+    }
+    if (scanRate.getAsDouble() <= coldThreshold) {
+      return Optional.of(Tier.COLD);
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * @param file the URI of a file
+   * @return the tier of the volume the file is on, or empty if it is on neither tier
+   */
+  public Optional<Tier> getFileTier(String file) {
+    for (Tier tier : Tier.values()) {
+      for (String volume : getVolumes(tier)) {
+        if (file.startsWith(volume + "/")) {
+          return Optional.of(tier);
+        }
+      }
+    }
+    return Optional.empty();
+  }
+}
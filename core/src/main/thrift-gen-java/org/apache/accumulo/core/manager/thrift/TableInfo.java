@@ -40,6 +40,11 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
   private static final org.apache.thrift.protocol.TField MAJORS_FIELD_DESC = new org.apache.thrift.protocol.TField("majors", org.apache.thrift.protocol.TType.STRUCT, (short)10);
   private static final org.apache.thrift.protocol.TField SCANS_FIELD_DESC = new org.apache.thrift.protocol.TField("scans", org.apache.thrift.protocol.TType.STRUCT, (short)11);
   private static final org.apache.thrift.protocol.TField SCAN_RATE_FIELD_DESC = new org.apache.thrift.protocol.TField("scanRate", org.apache.thrift.protocol.TType.DOUBLE, (short)12);
+  private static final org.apache.thrift.protocol.TField WINDOW_QUERY_RATE_FIELD_DESC = new org.apache.thrift.protocol.TField("windowQueryRate", org.apache.thrift.protocol.TType.DOUBLE, (short)13);
+  private static final org.apache.thrift.protocol.TField WINDOW_SCAN_RATE_FIELD_DESC = new org.apache.thrift.protocol.TField("windowScanRate", org.apache.thrift.protocol.TType.DOUBLE, (short)14);
+  private static final org.apache.thrift.protocol.TField WINDOW_INGEST_BYTE_RATE_FIELD_DESC = new org.apache.thrift.protocol.TField("windowIngestByteRate", org.apache.thrift.protocol.TType.DOUBLE, (short)15);
+  private static final org.apache.thrift.protocol.TField READ_LATENCY_MEDIAN_FIELD_DESC = new org.apache.thrift.protocol.TField("readLatencyMedian", org.apache.thrift.protocol.TType.DOUBLE, (short)16);
+  private static final org.apache.thrift.protocol.TField READ_LATENCY_P99_FIELD_DESC = new org.apache.thrift.protocol.TField("readLatencyP99", org.apache.thrift.protocol.TType.DOUBLE, (short)17);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new TableInfoStandardSchemeFactory();
   private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new TableInfoTupleSchemeFactory();
@@ -56,6 +61,11 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
   public @org.apache.thrift.annotation.Nullable Compacting majors; // required
   public @org.apache.thrift.annotation.Nullable Compacting scans; // required
   public double scanRate; // required
+  public double windowQueryRate; // required
+  public double windowScanRate; // required
+  public double windowIngestByteRate; // required
+  public double readLatencyMedian; // required
+  public double readLatencyP99; // required
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -70,7 +80,12 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
     MINORS((short)9, "minors"),
     MAJORS((short)10, "majors"),
     SCANS((short)11, "scans"),
-    SCAN_RATE((short)12, "scanRate");
+    SCAN_RATE((short)12, "scanRate"),
+    WINDOW_QUERY_RATE((short)13, "windowQueryRate"),
+    WINDOW_SCAN_RATE((short)14, "windowScanRate"),
+    WINDOW_INGEST_BYTE_RATE((short)15, "windowIngestByteRate"),
+    READ_LATENCY_MEDIAN((short)16, "readLatencyMedian"),
+    READ_LATENCY_P99((short)17, "readLatencyP99");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -110,6 +125,16 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
           return SCANS;
         case 12: // SCAN_RATE
           return SCAN_RATE;
+        case 13: // WINDOW_QUERY_RATE
+          return WINDOW_QUERY_RATE;
+        case 14: // WINDOW_SCAN_RATE
+          return WINDOW_SCAN_RATE;
+        case 15: // WINDOW_INGEST_BYTE_RATE
+          return WINDOW_INGEST_BYTE_RATE;
+        case 16: // READ_LATENCY_MEDIAN
+          return READ_LATENCY_MEDIAN;
+        case 17: // READ_LATENCY_P99
+          return READ_LATENCY_P99;
         default:
           return null;
       }
@@ -162,6 +187,11 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
   private static final int __QUERYRATE_ISSET_ID = 6;
   private static final int __QUERYBYTERATE_ISSET_ID = 7;
   private static final int __SCANRATE_ISSET_ID = 8;
+  private static final int __WINDOWQUERYRATE_ISSET_ID = 9;
+  private static final int __WINDOWSCANRATE_ISSET_ID = 10;
+  private static final int __WINDOWINGESTBYTERATE_ISSET_ID = 11;
+  private static final int __READLATENCYMEDIAN_ISSET_ID = 12;
+  private static final int __READLATENCYP99_ISSET_ID = 13;
   private short __isset_bitfield = 0;
   public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
@@ -190,6 +220,16 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Compacting.class)));
     tmpMap.put(_Fields.SCAN_RATE, new org.apache.thrift.meta_data.FieldMetaData("scanRate", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+    tmpMap.put(_Fields.WINDOW_QUERY_RATE, new org.apache.thrift.meta_data.FieldMetaData("windowQueryRate", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+    tmpMap.put(_Fields.WINDOW_SCAN_RATE, new org.apache.thrift.meta_data.FieldMetaData("windowScanRate", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+    tmpMap.put(_Fields.WINDOW_INGEST_BYTE_RATE, new org.apache.thrift.meta_data.FieldMetaData("windowIngestByteRate", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+    tmpMap.put(_Fields.READ_LATENCY_MEDIAN, new org.apache.thrift.meta_data.FieldMetaData("readLatencyMedian", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+    tmpMap.put(_Fields.READ_LATENCY_P99, new org.apache.thrift.meta_data.FieldMetaData("readLatencyP99", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TableInfo.class, metaDataMap);
   }
@@ -209,7 +249,12 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
     Compacting minors,
     Compacting majors,
     Compacting scans,
-    double scanRate)
+    double scanRate,
+    double windowQueryRate,
+    double windowScanRate,
+    double windowIngestByteRate,
+    double readLatencyMedian,
+    double readLatencyP99)
   {
     this();
     this.recs = recs;
@@ -233,6 +278,16 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
     this.scans = scans;
     this.scanRate = scanRate;
     setScanRateIsSet(true);
+    this.windowQueryRate = windowQueryRate;
+    setWindowQueryRateIsSet(true);
+    this.windowScanRate = windowScanRate;
+    setWindowScanRateIsSet(true);
+    this.windowIngestByteRate = windowIngestByteRate;
+    setWindowIngestByteRateIsSet(true);
+    this.readLatencyMedian = readLatencyMedian;
+    setReadLatencyMedianIsSet(true);
+    this.readLatencyP99 = readLatencyP99;
+    setReadLatencyP99IsSet(true);
   }
 
   /**
@@ -258,6 +313,11 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
       this.scans = new Compacting(other.scans);
     }
     this.scanRate = other.scanRate;
+    this.windowQueryRate = other.windowQueryRate;
+    this.windowScanRate = other.windowScanRate;
+    this.windowIngestByteRate = other.windowIngestByteRate;
+    this.readLatencyMedian = other.readLatencyMedian;
+    this.readLatencyP99 = other.readLatencyP99;
   }
 
   @Override
@@ -288,6 +348,16 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
     this.scans = null;
     setScanRateIsSet(false);
     this.scanRate = 0.0;
+    setWindowQueryRateIsSet(false);
+    this.windowQueryRate = 0.0;
+    setWindowScanRateIsSet(false);
+    this.windowScanRate = 0.0;
+    setWindowIngestByteRateIsSet(false);
+    this.windowIngestByteRate = 0.0;
+    setReadLatencyMedianIsSet(false);
+    this.readLatencyMedian = 0.0;
+    setReadLatencyP99IsSet(false);
+    this.readLatencyP99 = 0.0;
   }
 
   public long getRecs() {
@@ -572,6 +642,121 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
     __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SCANRATE_ISSET_ID, value);
   }
 
+  public double getWindowQueryRate() {
+    return this.windowQueryRate;
+  }
+
+  public TableInfo setWindowQueryRate(double windowQueryRate) {
+    this.windowQueryRate = windowQueryRate;
+    setWindowQueryRateIsSet(true);
+    return this;
+  }
+
+  public void unsetWindowQueryRate() {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __WINDOWQUERYRATE_ISSET_ID);
+  }
+
+  /** Returns true if field windowQueryRate is set (has been assigned a value) and false otherwise */
+  public boolean isSetWindowQueryRate() {
+    return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __WINDOWQUERYRATE_ISSET_ID);
+  }
+
+  public void setWindowQueryRateIsSet(boolean value) {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __WINDOWQUERYRATE_ISSET_ID, value);
+  }
+
+  public double getWindowScanRate() {
+    return this.windowScanRate;
+  }
+
+  public TableInfo setWindowScanRate(double windowScanRate) {
+    this.windowScanRate = windowScanRate;
+    setWindowScanRateIsSet(true);
+    return this;
+  }
+
+  public void unsetWindowScanRate() {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __WINDOWSCANRATE_ISSET_ID);
+  }
+
+  /** Returns true if field windowScanRate is set (has been assigned a value) and false otherwise */
+  public boolean isSetWindowScanRate() {
+    return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __WINDOWSCANRATE_ISSET_ID);
+  }
+
+  public void setWindowScanRateIsSet(boolean value) {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __WINDOWSCANRATE_ISSET_ID, value);
+  }
+
+  public double getWindowIngestByteRate() {
+    return this.windowIngestByteRate;
+  }
+
+  public TableInfo setWindowIngestByteRate(double windowIngestByteRate) {
+    this.windowIngestByteRate = windowIngestByteRate;
+    setWindowIngestByteRateIsSet(true);
+    return this;
+  }
+
+  public void unsetWindowIngestByteRate() {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __WINDOWINGESTBYTERATE_ISSET_ID);
+  }
+
+  /** Returns true if field windowIngestByteRate is set (has been assigned a value) and false otherwise */
+  public boolean isSetWindowIngestByteRate() {
+    return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __WINDOWINGESTBYTERATE_ISSET_ID);
+  }
+
+  public void setWindowIngestByteRateIsSet(boolean value) {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __WINDOWINGESTBYTERATE_ISSET_ID, value);
+  }
+
+  public double getReadLatencyMedian() {
+    return this.readLatencyMedian;
+  }
+
+  public TableInfo setReadLatencyMedian(double readLatencyMedian) {
+    this.readLatencyMedian = readLatencyMedian;
+    setReadLatencyMedianIsSet(true);
+    return this;
+  }
+
+  public void unsetReadLatencyMedian() {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __READLATENCYMEDIAN_ISSET_ID);
+  }
+
+  /** Returns true if field readLatencyMedian is set (has been assigned a value) and false otherwise */
+  public boolean isSetReadLatencyMedian() {
+    return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __READLATENCYMEDIAN_ISSET_ID);
+  }
+
+  public void setReadLatencyMedianIsSet(boolean value) {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __READLATENCYMEDIAN_ISSET_ID, value);
+  }
+
+  public double getReadLatencyP99() {
+    return this.readLatencyP99;
+  }
+
+  public TableInfo setReadLatencyP99(double readLatencyP99) {
+    this.readLatencyP99 = readLatencyP99;
+    setReadLatencyP99IsSet(true);
+    return this;
+  }
+
+  public void unsetReadLatencyP99() {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __READLATENCYP99_ISSET_ID);
+  }
+
+  /** Returns true if field readLatencyP99 is set (has been assigned a value) and false otherwise */
+  public boolean isSetReadLatencyP99() {
+    return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __READLATENCYP99_ISSET_ID);
+  }
+
+  public void setReadLatencyP99IsSet(boolean value) {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __READLATENCYP99_ISSET_ID, value);
+  }
+
   @Override
   public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
     switch (field) {
@@ -671,6 +856,46 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
       }
       break;
 
+    case WINDOW_QUERY_RATE:
+      if (value == null) {
+        unsetWindowQueryRate();
+      } else {
+        setWindowQueryRate((java.lang.Double)value);
+      }
+      break;
+
+    case WINDOW_SCAN_RATE:
+      if (value == null) {
+        unsetWindowScanRate();
+      } else {
+        setWindowScanRate((java.lang.Double)value);
+      }
+      break;
+
+    case WINDOW_INGEST_BYTE_RATE:
+      if (value == null) {
+        unsetWindowIngestByteRate();
+      } else {
+        setWindowIngestByteRate((java.lang.Double)value);
+      }
+      break;
+
+    case READ_LATENCY_MEDIAN:
+      if (value == null) {
+        unsetReadLatencyMedian();
+      } else {
+        setReadLatencyMedian((java.lang.Double)value);
+      }
+      break;
+
+    case READ_LATENCY_P99:
+      if (value == null) {
+        unsetReadLatencyP99();
+      } else {
+        setReadLatencyP99((java.lang.Double)value);
+      }
+      break;
+
     }
   }
 
@@ -714,6 +939,21 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
     case SCAN_RATE:
       return getScanRate();
 
+    case WINDOW_QUERY_RATE:
+      return getWindowQueryRate();
+
+    case WINDOW_SCAN_RATE:
+      return getWindowScanRate();
+
+    case WINDOW_INGEST_BYTE_RATE:
+      return getWindowIngestByteRate();
+
+    case READ_LATENCY_MEDIAN:
+      return getReadLatencyMedian();
+
+    case READ_LATENCY_P99:
+      return getReadLatencyP99();
+
     }
     throw new java.lang.IllegalStateException();
   }
@@ -750,6 +990,16 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
       return isSetScans();
     case SCAN_RATE:
       return isSetScanRate();
+    case WINDOW_QUERY_RATE:
+      return isSetWindowQueryRate();
+    case WINDOW_SCAN_RATE:
+      return isSetWindowScanRate();
+    case WINDOW_INGEST_BYTE_RATE:
+      return isSetWindowIngestByteRate();
+    case READ_LATENCY_MEDIAN:
+      return isSetReadLatencyMedian();
+    case READ_LATENCY_P99:
+      return isSetReadLatencyP99();
     }
     throw new java.lang.IllegalStateException();
   }
@@ -875,6 +1125,51 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
         return false;
     }
 
+    boolean this_present_windowQueryRate = true;
+    boolean that_present_windowQueryRate = true;
+    if (this_present_windowQueryRate || that_present_windowQueryRate) {
+      if (!(this_present_windowQueryRate && that_present_windowQueryRate))
+        return false;
+      if (this.windowQueryRate != that.windowQueryRate)
+        return false;
+    }
+
+    boolean this_present_windowScanRate = true;
+    boolean that_present_windowScanRate = true;
+    if (this_present_windowScanRate || that_present_windowScanRate) {
+      if (!(this_present_windowScanRate && that_present_windowScanRate))
+        return false;
+      if (this.windowScanRate != that.windowScanRate)
+        return false;
+    }
+
+    boolean this_present_windowIngestByteRate = true;
+    boolean that_present_windowIngestByteRate = true;
+    if (this_present_windowIngestByteRate || that_present_windowIngestByteRate) {
+      if (!(this_present_windowIngestByteRate && that_present_windowIngestByteRate))
+        return false;
+      if (this.windowIngestByteRate != that.windowIngestByteRate)
+        return false;
+    }
+
+    boolean this_present_readLatencyMedian = true;
+    boolean that_present_readLatencyMedian = true;
+    if (this_present_readLatencyMedian || that_present_readLatencyMedian) {
+      if (!(this_present_readLatencyMedian && that_present_readLatencyMedian))
+        return false;
+      if (this.readLatencyMedian != that.readLatencyMedian)
+        return false;
+    }
+
+    boolean this_present_readLatencyP99 = true;
+    boolean that_present_readLatencyP99 = true;
+    if (this_present_readLatencyP99 || that_present_readLatencyP99) {
+      if (!(this_present_readLatencyP99 && that_present_readLatencyP99))
+        return false;
+      if (this.readLatencyP99 != that.readLatencyP99)
+        return false;
+    }
+
     return true;
   }
 
@@ -912,6 +1207,16 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
 
     hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(scanRate);
 
+    hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(windowQueryRate);
+
+    hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(windowScanRate);
+
+    hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(windowIngestByteRate);
+
+    hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(readLatencyMedian);
+
+    hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(readLatencyP99);
+
     return hashCode;
   }
 
@@ -1043,6 +1348,56 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.compare(isSetWindowQueryRate(), other.isSetWindowQueryRate());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetWindowQueryRate()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.windowQueryRate, other.windowQueryRate);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = java.lang.Boolean.compare(isSetWindowScanRate(), other.isSetWindowScanRate());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetWindowScanRate()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.windowScanRate, other.windowScanRate);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = java.lang.Boolean.compare(isSetWindowIngestByteRate(), other.isSetWindowIngestByteRate());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetWindowIngestByteRate()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.windowIngestByteRate, other.windowIngestByteRate);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = java.lang.Boolean.compare(isSetReadLatencyMedian(), other.isSetReadLatencyMedian());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetReadLatencyMedian()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.readLatencyMedian, other.readLatencyMedian);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = java.lang.Boolean.compare(isSetReadLatencyP99(), other.isSetReadLatencyP99());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetReadLatencyP99()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.readLatencyP99, other.readLatencyP99);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -1126,6 +1481,26 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
     sb.append("scanRate:");
     sb.append(this.scanRate);
     first = false;
+    if (!first) sb.append(", ");
+    sb.append("windowQueryRate:");
+    sb.append(this.windowQueryRate);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("windowScanRate:");
+    sb.append(this.windowScanRate);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("windowIngestByteRate:");
+    sb.append(this.windowIngestByteRate);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("readLatencyMedian:");
+    sb.append(this.readLatencyMedian);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("readLatencyP99:");
+    sb.append(this.readLatencyP99);
+    first = false;
     sb.append(")");
     return sb.toString();
   }
@@ -1281,6 +1656,46 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 13: // WINDOW_QUERY_RATE
+            if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+              struct.windowQueryRate = iprot.readDouble();
+              struct.setWindowQueryRateIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 14: // WINDOW_SCAN_RATE
+            if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+              struct.windowScanRate = iprot.readDouble();
+              struct.setWindowScanRateIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 15: // WINDOW_INGEST_BYTE_RATE
+            if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+              struct.windowIngestByteRate = iprot.readDouble();
+              struct.setWindowIngestByteRateIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 16: // READ_LATENCY_MEDIAN
+            if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+              struct.readLatencyMedian = iprot.readDouble();
+              struct.setReadLatencyMedianIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 17: // READ_LATENCY_P99
+            if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+              struct.readLatencyP99 = iprot.readDouble();
+              struct.setReadLatencyP99IsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -1339,6 +1754,21 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
       oprot.writeFieldBegin(SCAN_RATE_FIELD_DESC);
       oprot.writeDouble(struct.scanRate);
       oprot.writeFieldEnd();
+      oprot.writeFieldBegin(WINDOW_QUERY_RATE_FIELD_DESC);
+      oprot.writeDouble(struct.windowQueryRate);
+      oprot.writeFieldEnd();
+      oprot.writeFieldBegin(WINDOW_SCAN_RATE_FIELD_DESC);
+      oprot.writeDouble(struct.windowScanRate);
+      oprot.writeFieldEnd();
+      oprot.writeFieldBegin(WINDOW_INGEST_BYTE_RATE_FIELD_DESC);
+      oprot.writeDouble(struct.windowIngestByteRate);
+      oprot.writeFieldEnd();
+      oprot.writeFieldBegin(READ_LATENCY_MEDIAN_FIELD_DESC);
+      oprot.writeDouble(struct.readLatencyMedian);
+      oprot.writeFieldEnd();
+      oprot.writeFieldBegin(READ_LATENCY_P99_FIELD_DESC);
+      oprot.writeDouble(struct.readLatencyP99);
+      oprot.writeFieldEnd();
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -1394,7 +1824,22 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
       if (struct.isSetScanRate()) {
         optionals.set(11);
       }
-      oprot.writeBitSet(optionals, 12);
+      if (struct.isSetWindowQueryRate()) {
+        optionals.set(12);
+      }
+      if (struct.isSetWindowScanRate()) {
+        optionals.set(13);
+      }
+      if (struct.isSetWindowIngestByteRate()) {
+        optionals.set(14);
+      }
+      if (struct.isSetReadLatencyMedian()) {
+        optionals.set(15);
+      }
+      if (struct.isSetReadLatencyP99()) {
+        optionals.set(16);
+      }
+      oprot.writeBitSet(optionals, 17);
       if (struct.isSetRecs()) {
         oprot.writeI64(struct.recs);
       }
@@ -1431,12 +1876,27 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
       if (struct.isSetScanRate()) {
         oprot.writeDouble(struct.scanRate);
       }
+      if (struct.isSetWindowQueryRate()) {
+        oprot.writeDouble(struct.windowQueryRate);
+      }
+      if (struct.isSetWindowScanRate()) {
+        oprot.writeDouble(struct.windowScanRate);
+      }
+      if (struct.isSetWindowIngestByteRate()) {
+        oprot.writeDouble(struct.windowIngestByteRate);
+      }
+      if (struct.isSetReadLatencyMedian()) {
+        oprot.writeDouble(struct.readLatencyMedian);
+      }
+      if (struct.isSetReadLatencyP99()) {
+        oprot.writeDouble(struct.readLatencyP99);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TableInfo struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(12);
+      java.util.BitSet incoming = iprot.readBitSet(17);
       if (incoming.get(0)) {
         struct.recs = iprot.readI64();
         struct.setRecsIsSet(true);
@@ -1488,6 +1948,26 @@ public class TableInfo implements org.apache.thrift.TBase<TableInfo, TableInfo._
         struct.scanRate = iprot.readDouble();
         struct.setScanRateIsSet(true);
       }
+      if (incoming.get(12)) {
+        struct.windowQueryRate = iprot.readDouble();
+        struct.setWindowQueryRateIsSet(true);
+      }
+      if (incoming.get(13)) {
+        struct.windowScanRate = iprot.readDouble();
+        struct.setWindowScanRateIsSet(true);
+      }
+      if (incoming.get(14)) {
+        struct.windowIngestByteRate = iprot.readDouble();
+        struct.setWindowIngestByteRateIsSet(true);
+      }
+      if (incoming.get(15)) {
+        struct.readLatencyMedian = iprot.readDouble();
+        struct.setReadLatencyMedianIsSet(true);
+      }
+      if (incoming.get(16)) {
+        struct.readLatencyP99 = iprot.readDouble();
+        struct.setReadLatencyP99IsSet(true);
+      }
     }
   }
 
@@ -36,6 +36,11 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
   private static final org.apache.thrift.protocol.TField INGEST_RATE_FIELD_DESC = new org.apache.thrift.protocol.TField("ingestRate", org.apache.thrift.protocol.TType.DOUBLE, (short)6);
   private static final org.apache.thrift.protocol.TField QUERY_RATE_FIELD_DESC = new org.apache.thrift.protocol.TField("queryRate", org.apache.thrift.protocol.TType.DOUBLE, (short)7);
   private static final org.apache.thrift.protocol.TField SPLIT_CREATION_TIME_FIELD_DESC = new org.apache.thrift.protocol.TField("splitCreationTime", org.apache.thrift.protocol.TType.I64, (short)8);
+  private static final org.apache.thrift.protocol.TField WINDOW_QUERY_RATE_FIELD_DESC = new org.apache.thrift.protocol.TField("windowQueryRate", org.apache.thrift.protocol.TType.DOUBLE, (short)9);
+  private static final org.apache.thrift.protocol.TField WINDOW_SCAN_RATE_FIELD_DESC = new org.apache.thrift.protocol.TField("windowScanRate", org.apache.thrift.protocol.TType.DOUBLE, (short)10);
+  private static final org.apache.thrift.protocol.TField WINDOW_INGEST_BYTE_RATE_FIELD_DESC = new org.apache.thrift.protocol.TField("windowIngestByteRate", org.apache.thrift.protocol.TType.DOUBLE, (short)11);
+  private static final org.apache.thrift.protocol.TField READ_LATENCY_MEDIAN_FIELD_DESC = new org.apache.thrift.protocol.TField("readLatencyMedian", org.apache.thrift.protocol.TType.DOUBLE, (short)12);
+  private static final org.apache.thrift.protocol.TField READ_LATENCY_P99_FIELD_DESC = new org.apache.thrift.protocol.TField("readLatencyP99", org.apache.thrift.protocol.TType.DOUBLE, (short)13);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new TabletStatsStandardSchemeFactory();
   private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new TabletStatsTupleSchemeFactory();
@@ -48,6 +53,11 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
   public double ingestRate; // required
   public double queryRate; // required
   public long splitCreationTime; // required
+  public double windowQueryRate; // required
+  public double windowScanRate; // required
+  public double windowIngestByteRate; // required
+  public double readLatencyMedian; // required
+  public double readLatencyP99; // required
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -58,7 +68,12 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
     NUM_ENTRIES((short)5, "numEntries"),
     INGEST_RATE((short)6, "ingestRate"),
     QUERY_RATE((short)7, "queryRate"),
-    SPLIT_CREATION_TIME((short)8, "splitCreationTime");
+    SPLIT_CREATION_TIME((short)8, "splitCreationTime"),
+    WINDOW_QUERY_RATE((short)9, "windowQueryRate"),
+    WINDOW_SCAN_RATE((short)10, "windowScanRate"),
+    WINDOW_INGEST_BYTE_RATE((short)11, "windowIngestByteRate"),
+    READ_LATENCY_MEDIAN((short)12, "readLatencyMedian"),
+    READ_LATENCY_P99((short)13, "readLatencyP99");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -90,6 +105,16 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
           return QUERY_RATE;
         case 8: // SPLIT_CREATION_TIME
           return SPLIT_CREATION_TIME;
+        case 9: // WINDOW_QUERY_RATE
+          return WINDOW_QUERY_RATE;
+        case 10: // WINDOW_SCAN_RATE
+          return WINDOW_SCAN_RATE;
+        case 11: // WINDOW_INGEST_BYTE_RATE
+          return WINDOW_INGEST_BYTE_RATE;
+        case 12: // READ_LATENCY_MEDIAN
+          return READ_LATENCY_MEDIAN;
+        case 13: // READ_LATENCY_P99
+          return READ_LATENCY_P99;
         default:
           return null;
       }
@@ -137,7 +162,12 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
   private static final int __INGESTRATE_ISSET_ID = 1;
   private static final int __QUERYRATE_ISSET_ID = 2;
   private static final int __SPLITCREATIONTIME_ISSET_ID = 3;
-  private byte __isset_bitfield = 0;
+  private static final int __WINDOWQUERYRATE_ISSET_ID = 4;
+  private static final int __WINDOWSCANRATE_ISSET_ID = 5;
+  private static final int __WINDOWINGESTBYTERATE_ISSET_ID = 6;
+  private static final int __READLATENCYMEDIAN_ISSET_ID = 7;
+  private static final int __READLATENCYP99_ISSET_ID = 8;
+  private short __isset_bitfield = 0;
   public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -157,6 +187,16 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
     tmpMap.put(_Fields.SPLIT_CREATION_TIME, new org.apache.thrift.meta_data.FieldMetaData("splitCreationTime", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.WINDOW_QUERY_RATE, new org.apache.thrift.meta_data.FieldMetaData("windowQueryRate", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+    tmpMap.put(_Fields.WINDOW_SCAN_RATE, new org.apache.thrift.meta_data.FieldMetaData("windowScanRate", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+    tmpMap.put(_Fields.WINDOW_INGEST_BYTE_RATE, new org.apache.thrift.meta_data.FieldMetaData("windowIngestByteRate", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+    tmpMap.put(_Fields.READ_LATENCY_MEDIAN, new org.apache.thrift.meta_data.FieldMetaData("readLatencyMedian", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+    tmpMap.put(_Fields.READ_LATENCY_P99, new org.apache.thrift.meta_data.FieldMetaData("readLatencyP99", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TabletStats.class, metaDataMap);
   }
@@ -172,7 +212,12 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
     long numEntries,
     double ingestRate,
     double queryRate,
-    long splitCreationTime)
+    long splitCreationTime,
+    double windowQueryRate,
+    double windowScanRate,
+    double windowIngestByteRate,
+    double readLatencyMedian,
+    double readLatencyP99)
   {
     this();
     this.extent = extent;
@@ -187,6 +232,16 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
     setQueryRateIsSet(true);
     this.splitCreationTime = splitCreationTime;
     setSplitCreationTimeIsSet(true);
+    this.windowQueryRate = windowQueryRate;
+    setWindowQueryRateIsSet(true);
+    this.windowScanRate = windowScanRate;
+    setWindowScanRateIsSet(true);
+    this.windowIngestByteRate = windowIngestByteRate;
+    setWindowIngestByteRateIsSet(true);
+    this.readLatencyMedian = readLatencyMedian;
+    setReadLatencyMedianIsSet(true);
+    this.readLatencyP99 = readLatencyP99;
+    setReadLatencyP99IsSet(true);
   }
 
   /**
@@ -210,6 +265,11 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
     this.ingestRate = other.ingestRate;
     this.queryRate = other.queryRate;
     this.splitCreationTime = other.splitCreationTime;
+    this.windowQueryRate = other.windowQueryRate;
+    this.windowScanRate = other.windowScanRate;
+    this.windowIngestByteRate = other.windowIngestByteRate;
+    this.readLatencyMedian = other.readLatencyMedian;
+    this.readLatencyP99 = other.readLatencyP99;
   }
 
   @Override
@@ -231,6 +291,16 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
     this.queryRate = 0.0;
     setSplitCreationTimeIsSet(false);
     this.splitCreationTime = 0;
+    setWindowQueryRateIsSet(false);
+    this.windowQueryRate = 0.0;
+    setWindowScanRateIsSet(false);
+    this.windowScanRate = 0.0;
+    setWindowIngestByteRateIsSet(false);
+    this.windowIngestByteRate = 0.0;
+    setReadLatencyMedianIsSet(false);
+    this.readLatencyMedian = 0.0;
+    setReadLatencyP99IsSet(false);
+    this.readLatencyP99 = 0.0;
   }
 
   @org.apache.thrift.annotation.Nullable
@@ -425,6 +495,121 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
     __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SPLITCREATIONTIME_ISSET_ID, value);
   }
 
+  public double getWindowQueryRate() {
+    return this.windowQueryRate;
+  }
+
+  public TabletStats setWindowQueryRate(double windowQueryRate) {
+    this.windowQueryRate = windowQueryRate;
+    setWindowQueryRateIsSet(true);
+    return this;
+  }
+
+  public void unsetWindowQueryRate() {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __WINDOWQUERYRATE_ISSET_ID);
+  }
+
+  /** Returns true if field windowQueryRate is set (has been assigned a value) and false otherwise */
+  public boolean isSetWindowQueryRate() {
+    return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __WINDOWQUERYRATE_ISSET_ID);
+  }
+
+  public void setWindowQueryRateIsSet(boolean value) {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __WINDOWQUERYRATE_ISSET_ID, value);
+  }
+
+  public double getWindowScanRate() {
+    return this.windowScanRate;
+  }
+
+  public TabletStats setWindowScanRate(double windowScanRate) {
+    this.windowScanRate = windowScanRate;
+    setWindowScanRateIsSet(true);
+    return this;
+  }
+
+  public void unsetWindowScanRate() {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __WINDOWSCANRATE_ISSET_ID);
+  }
+
+  /** Returns true if field windowScanRate is set (has been assigned a value) and false otherwise */
+  public boolean isSetWindowScanRate() {
+    return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __WINDOWSCANRATE_ISSET_ID);
+  }
+
+  public void setWindowScanRateIsSet(boolean value) {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __WINDOWSCANRATE_ISSET_ID, value);
+  }
+
+  public double getWindowIngestByteRate() {
+    return this.windowIngestByteRate;
+  }
+
+  public TabletStats setWindowIngestByteRate(double windowIngestByteRate) {
+    this.windowIngestByteRate = windowIngestByteRate;
+    setWindowIngestByteRateIsSet(true);
+    return this;
+  }
+
+  public void unsetWindowIngestByteRate() {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __WINDOWINGESTBYTERATE_ISSET_ID);
+  }
+
+  /** Returns true if field windowIngestByteRate is set (has been assigned a value) and false otherwise */
+  public boolean isSetWindowIngestByteRate() {
+    return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __WINDOWINGESTBYTERATE_ISSET_ID);
+  }
+
+  public void setWindowIngestByteRateIsSet(boolean value) {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __WINDOWINGESTBYTERATE_ISSET_ID, value);
+  }
+
+  public double getReadLatencyMedian() {
+    return this.readLatencyMedian;
+  }
+
+  public TabletStats setReadLatencyMedian(double readLatencyMedian) {
+    this.readLatencyMedian = readLatencyMedian;
+    setReadLatencyMedianIsSet(true);
+    return this;
+  }
+
+  public void unsetReadLatencyMedian() {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __READLATENCYMEDIAN_ISSET_ID);
+  }
+
+  /** Returns true if field readLatencyMedian is set (has been assigned a value) and false otherwise */
+  public boolean isSetReadLatencyMedian() {
+    return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __READLATENCYMEDIAN_ISSET_ID);
+  }
+
+  public void setReadLatencyMedianIsSet(boolean value) {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __READLATENCYMEDIAN_ISSET_ID, value);
+  }
+
+  public double getReadLatencyP99() {
+    return this.readLatencyP99;
+  }
+
+  public TabletStats setReadLatencyP99(double readLatencyP99) {
+    this.readLatencyP99 = readLatencyP99;
+    setReadLatencyP99IsSet(true);
+    return this;
+  }
+
+  public void unsetReadLatencyP99() {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __READLATENCYP99_ISSET_ID);
+  }
+
+  /** Returns true if field readLatencyP99 is set (has been assigned a value) and false otherwise */
+  public boolean isSetReadLatencyP99() {
+    return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __READLATENCYP99_ISSET_ID);
+  }
+
+  public void setReadLatencyP99IsSet(boolean value) {
+    __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __READLATENCYP99_ISSET_ID, value);
+  }
+
   @Override
   public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
     switch (field) {
@@ -492,6 +677,46 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
       }
       break;
 
+    case WINDOW_QUERY_RATE:
+      if (value == null) {
+        unsetWindowQueryRate();
+      } else {
+        setWindowQueryRate((java.lang.Double)value);
+      }
+      break;
+
+    case WINDOW_SCAN_RATE:
+      if (value == null) {
+        unsetWindowScanRate();
+      } else {
+        setWindowScanRate((java.lang.Double)value);
+      }
+      break;
+
+    case WINDOW_INGEST_BYTE_RATE:
+      if (value == null) {
+        unsetWindowIngestByteRate();
+      } else {
+        setWindowIngestByteRate((java.lang.Double)value);
+      }
+      break;
+
+    case READ_LATENCY_MEDIAN:
+      if (value == null) {
+        unsetReadLatencyMedian();
+      } else {
+        setReadLatencyMedian((java.lang.Double)value);
+      }
+      break;
+
+    case READ_LATENCY_P99:
+      if (value == null) {
+        unsetReadLatencyP99();
+      } else {
+        setReadLatencyP99((java.lang.Double)value);
+      }
+      break;
+
     }
   }
 
@@ -523,6 +748,21 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
     case SPLIT_CREATION_TIME:
       return getSplitCreationTime();
 
+    case WINDOW_QUERY_RATE:
+      return getWindowQueryRate();
+
+    case WINDOW_SCAN_RATE:
+      return getWindowScanRate();
+
+    case WINDOW_INGEST_BYTE_RATE:
+      return getWindowIngestByteRate();
+
+    case READ_LATENCY_MEDIAN:
+      return getReadLatencyMedian();
+
+    case READ_LATENCY_P99:
+      return getReadLatencyP99();
+
     }
     throw new java.lang.IllegalStateException();
   }
@@ -551,6 +791,16 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
       return isSetQueryRate();
     case SPLIT_CREATION_TIME:
       return isSetSplitCreationTime();
+    case WINDOW_QUERY_RATE:
+      return isSetWindowQueryRate();
+    case WINDOW_SCAN_RATE:
+      return isSetWindowScanRate();
+    case WINDOW_INGEST_BYTE_RATE:
+      return isSetWindowIngestByteRate();
+    case READ_LATENCY_MEDIAN:
+      return isSetReadLatencyMedian();
+    case READ_LATENCY_P99:
+      return isSetReadLatencyP99();
     }
     throw new java.lang.IllegalStateException();
   }
@@ -640,6 +890,51 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
         return false;
     }
 
+    boolean this_present_windowQueryRate = true;
+    boolean that_present_windowQueryRate = true;
+    if (this_present_windowQueryRate || that_present_windowQueryRate) {
+      if (!(this_present_windowQueryRate && that_present_windowQueryRate))
+        return false;
+      if (this.windowQueryRate != that.windowQueryRate)
+        return false;
+    }
+
+    boolean this_present_windowScanRate = true;
+    boolean that_present_windowScanRate = true;
+    if (this_present_windowScanRate || that_present_windowScanRate) {
+      if (!(this_present_windowScanRate && that_present_windowScanRate))
+        return false;
+      if (this.windowScanRate != that.windowScanRate)
+        return false;
+    }
+
+    boolean this_present_windowIngestByteRate = true;
+    boolean that_present_windowIngestByteRate = true;
+    if (this_present_windowIngestByteRate || that_present_windowIngestByteRate) {
+      if (!(this_present_windowIngestByteRate && that_present_windowIngestByteRate))
+        return false;
+      if (this.windowIngestByteRate != that.windowIngestByteRate)
+        return false;
+    }
+
+    boolean this_present_readLatencyMedian = true;
+    boolean that_present_readLatencyMedian = true;
+    if (this_present_readLatencyMedian || that_present_readLatencyMedian) {
+      if (!(this_present_readLatencyMedian && that_present_readLatencyMedian))
+        return false;
+      if (this.readLatencyMedian != that.readLatencyMedian)
+        return false;
+    }
+
+    boolean this_present_readLatencyP99 = true;
+    boolean that_present_readLatencyP99 = true;
+    if (this_present_readLatencyP99 || that_present_readLatencyP99) {
+      if (!(this_present_readLatencyP99 && that_present_readLatencyP99))
+        return false;
+      if (this.readLatencyP99 != that.readLatencyP99)
+        return false;
+    }
+
     return true;
   }
 
@@ -671,6 +966,16 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
 
     hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(splitCreationTime);
 
+    hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(windowQueryRate);
+
+    hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(windowScanRate);
+
+    hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(windowIngestByteRate);
+
+    hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(readLatencyMedian);
+
+    hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(readLatencyP99);
+
     return hashCode;
   }
 
@@ -762,6 +1067,56 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.compare(isSetWindowQueryRate(), other.isSetWindowQueryRate());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetWindowQueryRate()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.windowQueryRate, other.windowQueryRate);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = java.lang.Boolean.compare(isSetWindowScanRate(), other.isSetWindowScanRate());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetWindowScanRate()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.windowScanRate, other.windowScanRate);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = java.lang.Boolean.compare(isSetWindowIngestByteRate(), other.isSetWindowIngestByteRate());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetWindowIngestByteRate()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.windowIngestByteRate, other.windowIngestByteRate);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = java.lang.Boolean.compare(isSetReadLatencyMedian(), other.isSetReadLatencyMedian());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetReadLatencyMedian()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.readLatencyMedian, other.readLatencyMedian);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = java.lang.Boolean.compare(isSetReadLatencyP99(), other.isSetReadLatencyP99());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetReadLatencyP99()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.readLatencyP99, other.readLatencyP99);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -833,6 +1188,26 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
     sb.append("splitCreationTime:");
     sb.append(this.splitCreationTime);
     first = false;
+    if (!first) sb.append(", ");
+    sb.append("windowQueryRate:");
+    sb.append(this.windowQueryRate);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("windowScanRate:");
+    sb.append(this.windowScanRate);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("windowIngestByteRate:");
+    sb.append(this.windowIngestByteRate);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("readLatencyMedian:");
+    sb.append(this.readLatencyMedian);
+    first = false;
+    if (!first) sb.append(", ");
+    sb.append("readLatencyP99:");
+    sb.append(this.readLatencyP99);
+    first = false;
     sb.append(")");
     return sb.toString();
   }
@@ -960,6 +1335,46 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 9: // WINDOW_QUERY_RATE
+            if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+              struct.windowQueryRate = iprot.readDouble();
+              struct.setWindowQueryRateIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 10: // WINDOW_SCAN_RATE
+            if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+              struct.windowScanRate = iprot.readDouble();
+              struct.setWindowScanRateIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 11: // WINDOW_INGEST_BYTE_RATE
+            if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+              struct.windowIngestByteRate = iprot.readDouble();
+              struct.setWindowIngestByteRateIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 12: // READ_LATENCY_MEDIAN
+            if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+              struct.readLatencyMedian = iprot.readDouble();
+              struct.setReadLatencyMedianIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 13: // READ_LATENCY_P99
+            if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+              struct.readLatencyP99 = iprot.readDouble();
+              struct.setReadLatencyP99IsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -1008,6 +1423,21 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
       oprot.writeFieldBegin(SPLIT_CREATION_TIME_FIELD_DESC);
       oprot.writeI64(struct.splitCreationTime);
       oprot.writeFieldEnd();
+      oprot.writeFieldBegin(WINDOW_QUERY_RATE_FIELD_DESC);
+      oprot.writeDouble(struct.windowQueryRate);
+      oprot.writeFieldEnd();
+      oprot.writeFieldBegin(WINDOW_SCAN_RATE_FIELD_DESC);
+      oprot.writeDouble(struct.windowScanRate);
+      oprot.writeFieldEnd();
+      oprot.writeFieldBegin(WINDOW_INGEST_BYTE_RATE_FIELD_DESC);
+      oprot.writeDouble(struct.windowIngestByteRate);
+      oprot.writeFieldEnd();
+      oprot.writeFieldBegin(READ_LATENCY_MEDIAN_FIELD_DESC);
+      oprot.writeDouble(struct.readLatencyMedian);
+      oprot.writeFieldEnd();
+      oprot.writeFieldBegin(READ_LATENCY_P99_FIELD_DESC);
+      oprot.writeDouble(struct.readLatencyP99);
+      oprot.writeFieldEnd();
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -1051,7 +1481,22 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
       if (struct.isSetSplitCreationTime()) {
         optionals.set(7);
       }
-      oprot.writeBitSet(optionals, 8);
+      if (struct.isSetWindowQueryRate()) {
+        optionals.set(8);
+      }
+      if (struct.isSetWindowScanRate()) {
+        optionals.set(9);
+      }
+      if (struct.isSetWindowIngestByteRate()) {
+        optionals.set(10);
+      }
+      if (struct.isSetReadLatencyMedian()) {
+        optionals.set(11);
+      }
+      if (struct.isSetReadLatencyP99()) {
+        optionals.set(12);
+      }
+      oprot.writeBitSet(optionals, 13);
       if (struct.isSetExtent()) {
         struct.extent.write(oprot);
       }
@@ -1076,12 +1521,27 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
       if (struct.isSetSplitCreationTime()) {
         oprot.writeI64(struct.splitCreationTime);
       }
+      if (struct.isSetWindowQueryRate()) {
+        oprot.writeDouble(struct.windowQueryRate);
+      }
+      if (struct.isSetWindowScanRate()) {
+        oprot.writeDouble(struct.windowScanRate);
+      }
+      if (struct.isSetWindowIngestByteRate()) {
+        oprot.writeDouble(struct.windowIngestByteRate);
+      }
+      if (struct.isSetReadLatencyMedian()) {
+        oprot.writeDouble(struct.readLatencyMedian);
+      }
+      if (struct.isSetReadLatencyP99()) {
+        oprot.writeDouble(struct.readLatencyP99);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TabletStats struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(8);
+      java.util.BitSet incoming = iprot.readBitSet(13);
       if (incoming.get(0)) {
         struct.extent = new org.apache.accumulo.core.dataImpl.thrift.TKeyExtent();
         struct.extent.read(iprot);
@@ -1118,6 +1578,26 @@ public class TabletStats implements org.apache.thrift.TBase<TabletStats, TabletS
         struct.splitCreationTime = iprot.readI64();
         struct.setSplitCreationTimeIsSet(true);
       }
+      if (incoming.get(8)) {
+        struct.windowQueryRate = iprot.readDouble();
+        struct.setWindowQueryRateIsSet(true);
+      }
+      if (incoming.get(9)) {
+        struct.windowScanRate = iprot.readDouble();
+        struct.setWindowScanRateIsSet(true);
+      }
+      if (incoming.get(10)) {
+        struct.windowIngestByteRate = iprot.readDouble();
+        struct.setWindowIngestByteRateIsSet(true);
+      }
+      if (incoming.get(11)) {
+        struct.readLatencyMedian = iprot.readDouble();
+        struct.setReadLatencyMedianIsSet(true);
+      }
+      if (incoming.get(12)) {
+        struct.readLatencyP99 = iprot.readDouble();
+        struct.setReadLatencyP99IsSet(true);
+      }
     }
   }
 
@@ -61,6 +61,7 @@ struct TKeyValue {
 struct ScanResult {
   1:list<TKeyValue> results
   2:bool more
+  3:optional binary encodedResults
 }
 
 struct TRange {
@@ -82,6 +83,7 @@ struct MultiScanResult {
   5:TKey partNextKey
   6:bool partNextKeyInclusive
   7:bool more
+  8:optional binary encodedResults
 }
 
 struct InitialScan {
@@ -102,6 +102,12 @@ struct TableInfo {
   10:Compacting majors
   11:Compacting scans
   12:double scanRate
+  // rates over the tablet servers' sliding windows and read latency percentiles in millis
+  13:double windowQueryRate
+  14:double windowScanRate
+  15:double windowIngestByteRate
+  16:double readLatencyMedian
+  17:double readLatencyP99
 }
 
 struct RecoveryStatus {
@@ -53,6 +53,12 @@ struct TabletStats {
   7:double queryRate
   // zero if loaded by the manager, currentTimeMillis when the split was created
   8:i64 splitCreationTime
+  // rates over the tablet server's sliding window and read latency percentiles in millis
+  9:double windowQueryRate
+  10:double windowScanRate
+  11:double windowIngestByteRate
+  12:double readLatencyMedian
+  13:double readLatencyP99
 }
 
 enum TCompactionType {
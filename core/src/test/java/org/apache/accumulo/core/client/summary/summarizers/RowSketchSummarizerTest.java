@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.client.summary.summarizers;
+
+import static org.apache.accumulo.core.client.summary.summarizers.RowSketchSummarizer.ENTRIES_STAT;
+import static org.apache.accumulo.core.client.summary.summarizers.RowSketchSummarizer.SAMPLE_STAT_PREFIX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.accumulo.core.client.admin.RangeEstimate;
+import org.apache.accumulo.core.client.summary.Summarizer.Collector;
+import org.apache.accumulo.core.client.summary.Summarizer.Combiner;
+import org.apache.accumulo.core.client.summary.SummarizerConfiguration;
+import org.apache.accumulo.core.client.summary.Summary;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.summary.RowSketchEstimator;
+import org.apache.hadoop.io.Text;
+import org.junit.jupiter.api.Test;
+
+public class RowSketchSummarizerTest {
+
+  private static final Value EV = new Value();
+
+  private static Map<String,Long> summarize(SummarizerConfiguration sc, int startRow, int endRow) {
+    Collector collector = new RowSketchSummarizer().collector(sc);
+    for (int r = startRow; r < endRow; r++) {
+      String row = String.format("r%06d", r);
+      collector.accept(new Key(row, "f", "q1"), EV);
+      collector.accept(new Key(row, "f", "q2"), EV);
+    }
+    HashMap<String,Long> stats = new HashMap<>();
+    collector.summarize(stats::put);
+    return stats;
+  }
+
+  private static long countSamples(Map<String,Long> stats) {
+    return stats.keySet().stream().filter(k -> k.startsWith(SAMPLE_STAT_PREFIX)).count();
+  }
+
+  private static RangeEstimate estimate(SummarizerConfiguration sc, Map<String,Long> stats,
+      Range range, int splits) {
+    return RowSketchEstimator.estimate(new Summary(stats, sc, 1, 0, 0, 0, 0), range, splits);
+  }
+
+  @Test
+  public void testSmall() {
+    SummarizerConfiguration sc =
+        SummarizerConfiguration.builder(RowSketchSummarizer.class).build();
+    Map<String,Long> stats = summarize(sc, 0, 100);
+
+    assertEquals(200L, stats.get(ENTRIES_STAT));
+    // fewer rows than the sample size, so every row is sampled and the estimates are exact
+    assertEquals(100, countSamples(stats));
+
+    RangeEstimate all = estimate(sc, stats, new Range(), 3);
+    assertEquals(200, all.getEntries());
+    assertEquals(100, all.getDistinctRows());
+    assertEquals(List.of(new Text("r000025"), new Text("r000050"), new Text("r000075")),
+        all.getSplitPoints());
+
+    RangeEstimate some = estimate(sc, stats, new Range("r000010", "r000019"), 1);
+    assertEquals(20, some.getEntries());
+    assertEquals(10, some.getDistinctRows());
+    assertEquals(List.of(new Text("r000015")), some.getSplitPoints());
+  }
+
+  @Test
+  public void testMerge() {
+    SummarizerConfiguration sc = SummarizerConfiguration.builder(RowSketchSummarizer.class)
+        .addOption(RowSketchSummarizer.SAMPLE_SIZE_OPT, "512").build();
+    Combiner combiner = new RowSketchSummarizer().combiner(sc);
+
+    // overlapping files, rows 50000 to 99999 are in both
+    Map<String,Long> stats = summarize(sc, 0, 100_000);
+    combiner.merge(stats, summarize(sc, 50_000, 150_000));
+
+    assertEquals(400_000L, stats.get(ENTRIES_STAT));
+    assertEquals(512, countSamples(stats));
+
+    RangeEstimate all = estimate(sc, stats, new Range(), 0);
+    assertEquals(400_000, all.getEntries());
+    // the default precision has a standard error of about 6.5%
+    assertTrue(Math.abs(all.getDistinctRows() - 150_000) < 150_000 * .2, all.toString());
+    assertTrue(all.getSplitPoints().isEmpty());
+
+    RangeEstimate firstThird = estimate(sc, stats, new Range((Text) null, new Text("r049999")), 1);
+    assertTrue(Math.abs(firstThird.getDistinctRows() - 50_000) < 50_000 * .3,
+        firstThird.toString());
+    Text split = firstThird.getSplitPoints().get(0);
+    assertTrue(split.compareTo(new Text("r015000")) > 0 && split.compareTo(new Text("r035000")) < 0,
+        firstThird.toString());
+  }
+
+  @Test
+  public void testRowBefore() {
+    assertEquals(new Text("b"), RowSketchEstimator.rowBefore(new Text("c")));
+    assertEquals(new Text("a"), RowSketchEstimator.rowBefore(new Text("a\0")));
+    assertEquals(null, RowSketchEstimator.rowBefore(new Text("")));
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.clientImpl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.accumulo.core.data.Mutation;
+import org.apache.accumulo.core.data.Value;
+import org.junit.jupiter.api.Test;
+
+public class EncodedMutationTest {
+
+  private static Mutation newMutation(String row, int cols, int valSize) {
+    Mutation m = new Mutation(row);
+    byte[] val = new byte[valSize];
+    Arrays.fill(val, (byte) 'v');
+    for (int i = 0; i < cols; i++) {
+      m.put("f" + i, "q" + i, new Value(val));
+    }
+    m.putDelete("f", "d");
+    return m;
+  }
+
+  @Test
+  public void testRoundTrip() {
+    MutationSegmentPool pool = new MutationSegmentPool(1 << 20, 1 << 22, used -> {});
+
+    // the large values are stored outside of the mutation data
+    for (Mutation m : Arrays.asList(newMutation("r1", 5, 10), newMutation("r2", 2, 40_000))) {
+      Mutation expected = new Mutation(m);
+      Mutation encoded = EncodedMutation.encode(m, pool);
+
+      assertTrue(encoded instanceof EncodedMutation);
+      assertArrayEquals(expected.getRow(), encoded.getRow());
+      assertEquals(expected.size(), encoded.size());
+      assertEquals(expected.numBytes(), encoded.numBytes());
+      assertEquals(expected.getUpdates(), encoded.getUpdates());
+      assertEquals(expected, new Mutation(encoded.toThrift()));
+    }
+  }
+
+  @Test
+  public void testLargeMutationNotEncoded() {
+    MutationSegmentPool pool = new MutationSegmentPool(1 << 12, 1 << 20, used -> {});
+    Mutation encoded = EncodedMutation.encode(newMutation("r1", 10, 1000), pool);
+    assertFalse(encoded instanceof EncodedMutation);
+    assertEquals(10 + 1, encoded.size());
+  }
+
+  @Test
+  public void testSegmentsRecycled() {
+    AtomicLong memoryUsed = new AtomicLong();
+    MutationSegmentPool pool = new MutationSegmentPool(1 << 12, 1 << 20, memoryUsed::addAndGet);
+
+    // each mutation is about 860 bytes, so four fit in the first segment
+    List<EncodedMutation> first = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      first.add((EncodedMutation) EncodedMutation.encode(newMutation("r" + i, 4, 200), pool));
+    }
+    EncodedMutation last =
+        (EncodedMutation) EncodedMutation.encode(newMutation("r4", 4, 200), pool);
+    assertEquals(0, pool.getFreeSegments());
+    assertEquals(2 << 12, memoryUsed.get());
+    assertEquals(2 << 12, pool.getOpenedBytes());
+
+    for (int i = 0; i < 3; i++) {
+      first.get(i).release();
+    }
+    // releasing a mutation again, e.g. when a failed batch writer is closed, has no effect
+    first.get(0).release();
+    assertEquals(0, pool.getFreeSegments());
+    first.get(3).release();
+    assertEquals(1, pool.getFreeSegments());
+    assertEquals(1 << 12, memoryUsed.get());
+
+    // the open segment is not recycled while it can still be appended to
+    last.release();
+    assertEquals(1, pool.getFreeSegments());
+    assertEquals(1 << 12, memoryUsed.get());
+
+    pool.retire();
+    assertEquals(0, pool.getOpenedBytes());
+    assertEquals(0, memoryUsed.get());
+    assertEquals(2, pool.getFreeSegments());
+  }
+
+  @Test
+  public void testFreeSegmentsLimited() {
+    MutationSegmentPool pool = new MutationSegmentPool(1 << 12, 1 << 12, used -> {});
+    List<EncodedMutation> encoded = new ArrayList<>();
+    for (int i = 0; i < 12; i++) {
+      encoded.add((EncodedMutation) EncodedMutation.encode(newMutation("r" + i, 4, 200), pool));
+    }
+    pool.retire();
+    encoded.forEach(EncodedMutation::release);
+    assertEquals(1, pool.getFreeSegments());
+  }
+
+  @Test
+  public void testEqualsAndHashCode() {
+    MutationSegmentPool pool = new MutationSegmentPool(1 << 20, 1 << 22, used -> {});
+
+    Mutation m1 = EncodedMutation.encode(newMutation("r1", 2, 40_000), pool);
+    Mutation m2 = EncodedMutation.encode(newMutation("r1", 2, 40_000), pool);
+    Mutation m3 = EncodedMutation.encode(newMutation("r1", 2, 40_001), pool);
+    Mutation m4 = EncodedMutation.encode(newMutation("r2", 2, 40_000), pool);
+
+    assertEquals(m1, m2);
+    assertEquals(m1.hashCode(), m2.hashCode());
+    assertEquals(new Mutation(newMutation("r1", 2, 40_000)).hashCode(), m1.hashCode());
+    assertNotEquals(m1, m3);
+    assertNotEquals(m1, m4);
+
+    // equality is symmetric, a plain mutation never equals an encoded one
+    Mutation plain = new Mutation(newMutation("r1", 2, 40_000));
+    assertNotEquals(plain, m1);
+    assertNotEquals(m1, plain);
+    assertFalse(plain.equals(m1));
+    assertFalse(m1.equals(plain));
+  }
+
+  @Test
+  public void testReadFields() throws IOException {
+    MutationSegmentPool pool = new MutationSegmentPool(1 << 20, 1 << 22, used -> {});
+    Mutation expected = new Mutation(newMutation("r2", 2, 40_000));
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    expected.write(new DataOutputStream(baos));
+
+    EncodedMutation encoded =
+        (EncodedMutation) EncodedMutation.encode(newMutation("r1", 5, 10), pool);
+    encoded.readFields(new DataInputStream(new ByteArrayInputStream(baos.toByteArray())));
+
+    assertArrayEquals(expected.getRow(), encoded.getRow());
+    assertEquals(expected.getUpdates(), encoded.getUpdates());
+    assertEquals(expected, new Mutation(encoded.toThrift()));
+
+    // the read mutation does not hold on to the pool's segment
+    pool.retire();
+    assertEquals(1, pool.getFreeSegments());
+    encoded.release();
+  }
+}
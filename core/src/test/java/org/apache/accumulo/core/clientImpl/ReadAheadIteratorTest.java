@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.clientImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReadAheadIteratorTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setup() {
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterEach
+  public void teardown() {
+    executor.shutdownNow();
+  }
+
+  private static List<Integer> drain(Iterator<Integer> iter) {
+    List<Integer> elements = new ArrayList<>();
+    iter.forEachRemaining(elements::add);
+    return elements;
+  }
+
+  @Test
+  public void testReadsEverythingInOrder() {
+    List<Integer> expected = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+    for (long threshold : new long[] {0, 1, 3, Long.MAX_VALUE}) {
+      for (int batchSize : new int[] {1, 7, 1000, 5000}) {
+        var iter = new ReadAheadIterator<>(expected.iterator(), batchSize, threshold, executor);
+        assertEquals(expected, drain(iter));
+        assertFalse(iter.hasNext());
+        assertThrows(NoSuchElementException.class, iter::next);
+      }
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    var iter = new ReadAheadIterator<>(List.<Integer>of().iterator(), 10, 0, executor);
+    assertFalse(iter.hasNext());
+  }
+
+  @Test
+  public void testFailure() {
+    Iterator<Integer> failing = new Iterator<>() {
+      int count = 0;
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public Integer next() {
+        if (count == 25) {
+          throw new IllegalStateException("read failed");
+        }
+        return count++;
+      }
+    };
+
+    // the failure of the batch read in the background is thrown by the reading thread
+    var iter = new ReadAheadIterator<>(failing, 10, 1, executor);
+    for (int i = 0; i < 20; i++) {
+      assertEquals(i, iter.next());
+    }
+    var e = assertThrows(IllegalStateException.class, iter::hasNext);
+    assertEquals("read failed", e.getMessage());
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.clientImpl.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apache.accumulo.core.clientImpl.bulk.BulkImport.KeyExtentCache;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.core.iteratorsImpl.system.SortedMapIterator;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.Text;
+import org.junit.jupiter.api.Test;
+
+public class BulkFileIndexTest {
+
+  private static final TableId TABLE_ID = TableId.of("42");
+
+  private static KeyExtent nke(String prevRow, String endRow) {
+    return new KeyExtent(TABLE_ID, endRow == null ? null : new Text(endRow),
+        prevRow == null ? null : new Text(prevRow));
+  }
+
+  private static KeyExtentCache newCache(String... splits) {
+    TreeMap<Text,KeyExtent> extents = new TreeMap<>();
+    String prev = null;
+    for (String split : splits) {
+      extents.put(new Text(split), nke(prev, split));
+      prev = split;
+    }
+    KeyExtent last = nke(prev, null);
+    return row -> {
+      var entry = extents.ceilingEntry(row);
+      return entry == null ? last : entry.getValue();
+    };
+  }
+
+  private static FileStatus status(String name, long length) {
+    return new FileStatus(length, false, 1, 1, 1000, new Path("/some/dir/" + name));
+  }
+
+  private static BulkFileIndex read(String name, long length, int numRows) throws IOException {
+    // simulates an index with an entry for every row
+    TreeMap<Key,Value> index = new TreeMap<>();
+    for (int i = 0; i < numRows; i++) {
+      index.put(new Key(String.format("r%04d", i)), new Value());
+    }
+    SortedMapIterator iter = new SortedMapIterator(index);
+    iter.seek(new Range(), Set.of(), false);
+    return BulkFileIndex.read(status(name, length), index.firstKey().getRow(),
+        index.lastKey().getRow(), iter);
+  }
+
+  @Test
+  public void testSingleTablet() throws IOException {
+    BulkFileIndex fileIndex = read("f1.rf", 1000, 100);
+    assertEquals(Map.of(nke(null, "r5"), 1000L), fileIndex.mapToTablets(newCache("r5")));
+  }
+
+  @Test
+  public void testEstimatedSizes() throws IOException {
+    BulkFileIndex fileIndex = read("f1.rf", 1000, 100);
+    var sizes = fileIndex.mapToTablets(newCache("r0024", "r0074", "r05", "r1"));
+    assertEquals(Map.of(nke(null, "r0024"), 250L, nke("r0024", "r0074"), 500L,
+        nke("r0074", "r05"), 250L), sizes);
+  }
+
+  @Test
+  public void testEmptyTabletsInRange() throws IOException {
+    BulkFileIndex fileIndex = read("f1.rf", 1000, 100);
+    // tablets that fall between index entries are included with a minimal estimate
+    var sizes = fileIndex.mapToTablets(newCache("r0049", "r0049a", "r0049b"));
+    assertEquals(Set.of(nke(null, "r0049"), nke("r0049", "r0049a"), nke("r0049a", "r0049b"),
+        nke("r0049b", null)), sizes.keySet());
+    assertEquals(500L, sizes.get(nke(null, "r0049")));
+    assertEquals(10L, sizes.get(nke("r0049", "r0049a")));
+    assertEquals(10L, sizes.get(nke("r0049a", "r0049b")));
+    assertEquals(500L, sizes.get(nke("r0049b", null)));
+  }
+
+  @Test
+  public void testSampling() throws IOException {
+    // more index entries than are kept, so estimates are made from a sample
+    BulkFileIndex fileIndex = read("f1.rf", 10_000, 5000);
+    var sizes = fileIndex.mapToTablets(newCache("r1249", "r2499", "r3749"));
+    assertEquals(4, sizes.size());
+    for (long size : sizes.values()) {
+      assertEquals(2500, size, 2 * 10_000 / BulkFileIndex.SAMPLES);
+    }
+    assertEquals(10_000, sizes.values().stream().mapToLong(Long::longValue).sum(), 4);
+  }
+
+  @Test
+  public void testEmptyFile() throws IOException {
+    SortedMapIterator iter = new SortedMapIterator(new TreeMap<>());
+    iter.seek(new Range(), Set.of(), false);
+    BulkFileIndex fileIndex = BulkFileIndex.read(status("f1.rf", 10), null, null, iter);
+    assertTrue(fileIndex.mapToTablets(newCache("m")).isEmpty());
+  }
+
+  @Test
+  public void testSerialization() throws IOException {
+    List<BulkFileIndex> fileIndexes = List.of(read("f1.rf", 1000, 100), read("f2.rf", 3000, 500));
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    BulkSerialize.writeLoadPlan(fileIndexes, "/some/dir", p -> baos);
+    List<BulkFileIndex> readIndexes = BulkSerialize.readLoadPlan("/some/dir",
+        p -> new ByteArrayInputStream(baos.toByteArray()));
+
+    assertEquals(2, readIndexes.size());
+    KeyExtentCache cache = newCache("r0050", "r0300");
+    for (int i = 0; i < fileIndexes.size(); i++) {
+      assertEquals(fileIndexes.get(i).getName(), readIndexes.get(i).getName());
+      assertEquals(fileIndexes.get(i).getFirstRow(), readIndexes.get(i).getFirstRow());
+      assertEquals(fileIndexes.get(i).mapToTablets(cache), readIndexes.get(i).mapToTablets(cache));
+    }
+
+    assertTrue(readIndexes.get(0).isCurrent(status("f1.rf", 1000)));
+    assertFalse(readIndexes.get(0).isCurrent(status("f1.rf", 1001)));
+    assertFalse(readIndexes.get(0).isCurrent(status("f2.rf", 1000)));
+  }
+}
@@ -151,6 +151,12 @@ public class PropertyTypeTest extends WithTestNames {
     invalid("", "other");
   }
 
+  @Test
+  public void testTypeFILE_BLOCK_ENCODING() {
+    valid(null, "relative", "columnar");
+    invalid("", "other", "COLUMNAR");
+  }
+
   @Test
   public void testTypeFRACTION() {
     valid(null, "1", "0", "1.0", "25%", "2.5%", "10.2E-3", "10.2E-3%", ".3");
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.dataImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.KeyValue;
+import org.apache.accumulo.core.data.Value;
+import org.junit.jupiter.api.Test;
+
+public class KeyValueBlockTest {
+
+  private static List<KeyValue> createEntries(int count) {
+    List<KeyValue> entries = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Key key = new Key(String.format("row%04d", i / 10), "fam" + (i % 3), "qual" + i, "A&B",
+          1000L + i);
+      key.setDeleted(i % 7 == 0);
+      entries.add(new KeyValue(key, new Value("value" + i)));
+    }
+    return entries;
+  }
+
+  private static void assertDecodes(List<KeyValue> expected, ByteBuffer encoded) {
+    KeyValueBlock block = KeyValueBlock.decode(encoded);
+    assertEquals(expected.size(), block.size());
+    assertEquals(expected.isEmpty() ? null : expected.get(expected.size() - 1).getKey(),
+        block.getLastKey());
+
+    // iterating decodes the entries as it goes
+    Iterator<KeyValue> iter = block.iterator();
+    for (KeyValue kv : expected) {
+      assertTrue(iter.hasNext());
+      KeyValue actual = iter.next();
+      assertEquals(kv.getKey(), actual.getKey());
+      assertEquals(kv.getKey().isDeleted(), actual.getKey().isDeleted());
+      assertEquals(kv.getValue(), actual.getValue());
+    }
+    assertFalse(iter.hasNext());
+
+    // the list may be iterated more than once or accessed by index
+    assertEquals(expected, new ArrayList<>(block));
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i), block.get(i));
+    }
+    assertEquals(expected, new ArrayList<>(block));
+  }
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    for (String compression : List.of("none", "gz")) {
+      assertTrue(KeyValueBlock.isSupported(compression));
+      for (int count : new int[] {0, 1, 2, 1000}) {
+        List<KeyValue> entries = createEntries(count);
+        assertDecodes(entries, KeyValueBlock.encode(entries, compression));
+      }
+    }
+  }
+
+  @Test
+  public void testSize() throws IOException {
+    List<KeyValue> entries = createEntries(1000);
+    int unencodedSize = 0;
+    for (KeyValue kv : entries) {
+      unencodedSize += kv.getKey().getSize() + kv.getValue().getSize();
+    }
+    int uncompressed = KeyValueBlock.encode(entries, "none").remaining();
+    assertTrue(uncompressed < unencodedSize);
+    assertTrue(KeyValueBlock.encode(entries, "gz").remaining() < uncompressed);
+  }
+
+  @Test
+  public void testOffsetBuffer() throws IOException {
+    List<KeyValue> entries = createEntries(50);
+    ByteBuffer encoded = KeyValueBlock.encode(entries, "none");
+    // binary fields read by thrift may be a slice of a larger array
+    byte[] larger = new byte[encoded.remaining() + 20];
+    int length = encoded.remaining();
+    encoded.get(larger, 10, length);
+    assertDecodes(entries, ByteBuffer.wrap(larger, 10, length));
+  }
+
+  @Test
+  public void testUnknownCompression() {
+    assertFalse(KeyValueBlock.isSupported("unknown"));
+    assertThrows(IllegalArgumentException.class,
+        () -> KeyValueBlock.encode(createEntries(1), "unknown"));
+  }
+
+  @Test
+  public void testPartialIteration() throws IOException {
+    List<KeyValue> entries = createEntries(100);
+    ByteBuffer encoded = KeyValueBlock.encode(entries, "gz");
+    // iterators that are abandoned before the end must not hold on to a decompressor
+    for (int i = 0; i < 1000; i++) {
+      Iterator<KeyValue> iter = KeyValueBlock.decode(encoded).iterator();
+      assertEquals(entries.get(0), iter.next());
+    }
+    assertDecodes(entries, encoded);
+  }
+
+  @Test
+  public void testEmpty() throws IOException {
+    KeyValueBlock block = KeyValueBlock.decode(KeyValueBlock.encode(List.of(), "none"));
+    assertTrue(block.isEmpty());
+    assertNull(block.getLastKey());
+    assertFalse(block.iterator().hasNext());
+  }
+}
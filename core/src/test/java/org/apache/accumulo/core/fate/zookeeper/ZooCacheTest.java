@@ -32,12 +32,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 
 import org.apache.accumulo.core.fate.zookeeper.ZooCache.ZcStat;
+import org.apache.zookeeper.AddWatchMode;
 import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.OpResult;
 import org.apache.zookeeper.WatchedEvent;
 import org.apache.zookeeper.Watcher;
 import org.apache.zookeeper.ZooKeeper;
@@ -354,4 +357,112 @@ public class ZooCacheTest {
 
     return cw.getValue();
   }
+
+  private static final String ROOT = "/some/path";
+
+  private ZooCache persistentCache() {
+    zr = createMock(ZooReader.class);
+    zk = createMock(ZooKeeper.class);
+    expect(zr.getZooKeeper()).andReturn(zk).anyTimes();
+    expect(zk.getSessionId()).andReturn(1L).anyTimes();
+    replay(zr);
+
+    ZooCache cache = new ZooCache(zr, null);
+    cache.addPersistentWatch(ROOT);
+    return cache;
+  }
+
+  @Test
+  public void testPersistentWatch() throws Exception {
+    zc = persistentCache();
+    Capture<Watcher> cw = EasyMock.newCapture();
+    zk.addWatch(eq(ROOT), capture(cw), eq(AddWatchMode.PERSISTENT_RECURSIVE));
+    expect(zk.getData(eq(ZPATH), eq(false), anyObject(Stat.class))).andReturn(DATA);
+    expect(zk.getChildren(eq(ZPATH), eq(false))).andReturn(CHILDREN);
+    replay(zk);
+
+    assertArrayEquals(DATA, zc.get(ZPATH));
+    assertArrayEquals(DATA, zc.get(ZPATH));
+    assertEquals(CHILDREN, zc.getChildren(ZPATH));
+    verify(zk);
+    assertEquals(1, zc.getHitCount());
+    assertEquals(2, zc.getMissCount());
+    assertEquals(2, zc.getZooKeeperReadCount());
+
+    // a persistent watch does not send NodeChildrenChanged, so creating a child invalidates the
+    // children of its parent
+    cw.getValue().process(new WatchedEvent(Watcher.Event.EventType.NodeCreated,
+        Watcher.Event.KeeperState.SyncConnected, ZPATH + "/donald"));
+    assertFalse(zc.childrenCached(ZPATH));
+    assertTrue(zc.dataCached(ZPATH));
+
+    cw.getValue().process(new WatchedEvent(Watcher.Event.EventType.NodeDataChanged,
+        Watcher.Event.KeeperState.SyncConnected, ZPATH));
+    assertFalse(zc.dataCached(ZPATH));
+  }
+
+  @Test
+  public void testPersistentWatch_NonExistent() throws Exception {
+    zc = persistentCache();
+    zk.addWatch(eq(ROOT), anyObject(Watcher.class), eq(AddWatchMode.PERSISTENT_RECURSIVE));
+    expect(zk.getData(eq(ZPATH), eq(false), anyObject(Stat.class)))
+        .andThrow(new KeeperException.NoNodeException(ZPATH));
+    replay(zk);
+
+    assertNull(zc.get(ZPATH));
+    assertTrue(zc.dataCached(ZPATH));
+    assertNull(zc.get(ZPATH));
+    verify(zk);
+  }
+
+  @Test
+  public void testPrefetch() throws Exception {
+    zc = persistentCache();
+    zk.addWatch(eq(ROOT), anyObject(Watcher.class), eq(AddWatchMode.PERSISTENT_RECURSIVE));
+    expect(zk.multi(anyObject())).andReturn(List.of(new OpResult.GetDataResult(null, new Stat()),
+        new OpResult.GetChildrenResult(List.of("in"))));
+    expect(zk.multi(anyObject())).andReturn(List.of(new OpResult.GetDataResult(null, new Stat()),
+        new OpResult.GetChildrenResult(List.of("zk"))));
+    expect(zk.multi(anyObject())).andReturn(List.of(new OpResult.GetDataResult(DATA, new Stat()),
+        new OpResult.ErrorResult(KeeperException.Code.NONODE.intValue())));
+    replay(zk);
+
+    zc.prefetch(ROOT);
+    verify(zk);
+    assertEquals(3, zc.getZooKeeperReadCount());
+
+    // all reads are now answered from the cache
+    assertEquals(List.of("in"), zc.getChildren(ROOT));
+    assertArrayEquals(DATA, zc.get(ZPATH));
+    assertNull(zc.getChildren(ZPATH));
+    assertEquals(3, zc.getHitCount());
+    assertEquals(0, zc.getMissCount());
+
+    assertThrows(IllegalArgumentException.class, () -> zc.prefetch("/some/other"));
+  }
+
+  @Test
+  public void testMaxSize() throws Exception {
+    zr = createMock(ZooReader.class);
+    zk = createMock(ZooKeeper.class);
+    expect(zr.getZooKeeper()).andReturn(zk).anyTimes();
+    expect(zk.exists(anyObject(String.class), anyObject(Watcher.class))).andReturn(null)
+        .anyTimes();
+    replay(zr, zk);
+    zc = new ZooCache(zr, null);
+    zc.setMaxSize(2);
+
+    zc.get("/a");
+    zc.get("/b");
+    zc.get("/c");
+    assertFalse(zc.dataCached("/a"));
+    assertTrue(zc.dataCached("/b"));
+    assertTrue(zc.dataCached("/c"));
+    assertEquals(1, zc.getEvictionCount());
+
+    zc.setMaxSize(1);
+    assertFalse(zc.dataCached("/b"));
+    assertTrue(zc.dataCached("/c"));
+    assertEquals(2, zc.getEvictionCount());
+  }
 }
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.file.blockfile.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.hadoop.fs.Seekable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LocalFileCacheTest {
+
+  private static final int CHUNK_SIZE = 1000;
+
+  @TempDir
+  private File tempDir;
+
+  private static class RemoteStream extends ByteArrayInputStream implements Seekable {
+
+    RemoteStream(byte[] data) {
+      super(data);
+    }
+
+    @Override
+    public void seek(long pos) {
+      this.pos = (int) pos;
+    }
+
+    @Override
+    public long getPos() {
+      return pos;
+    }
+
+    @Override
+    public boolean seekToNewSource(long targetPos) {
+      return false;
+    }
+  }
+
+  private static byte[] newData(int len) {
+    byte[] data = new byte[len];
+    new Random(42).nextBytes(data);
+    return data;
+  }
+
+  private static InputStream open(LocalFileCache cache, String name, byte[] data,
+      AtomicInteger remoteOpens) {
+    return cache.open(name, () -> {
+      remoteOpens.incrementAndGet();
+      return new RemoteStream(data);
+    }, () -> (long) data.length);
+  }
+
+  private static byte[] readAll(InputStream in, int len) throws IOException {
+    byte[] read = new byte[len];
+    int off = 0;
+    while (off < len) {
+      int count = in.read(read, off, Math.min(len - off, 333));
+      assertTrue(count > 0);
+      off += count;
+    }
+    assertEquals(-1, in.read());
+    return read;
+  }
+
+  private long countChunkFiles() throws IOException {
+    try (Stream<java.nio.file.Path> files = Files.walk(tempDir.toPath())) {
+      return files.filter(Files::isRegularFile).count();
+    }
+  }
+
+  @Test
+  public void testReadThrough() throws Exception {
+    byte[] data = newData(4500);
+    var cache = new LocalFileCache(tempDir.toPath(), 1_000_000, CHUNK_SIZE);
+    AtomicInteger remoteOpens = new AtomicInteger();
+
+    try (InputStream in = open(cache, "f1", data, remoteOpens)) {
+      assertArrayEquals(data, readAll(in, data.length));
+    }
+    assertEquals(1, remoteOpens.get());
+    assertEquals(5, cache.getMissCount());
+    assertEquals(data.length, cache.getBytesFetched());
+    assertEquals(5, countChunkFiles());
+
+    // everything is cached, so the remote file should not be opened again
+    try (InputStream in = open(cache, "f1", data, remoteOpens)) {
+      ((Seekable) in).seek(2500);
+      byte[] read = new byte[1000];
+      assertEquals(500, in.read(read, 0, 1000));
+      assertEquals(500, in.read(read, 500, 1000));
+      for (int i = 0; i < read.length; i++) {
+        assertEquals(data[2500 + i], read[i]);
+      }
+      ((Seekable) in).seek(0);
+      assertEquals(data[0] & 0xff, in.read());
+    }
+    assertEquals(1, remoteOpens.get());
+    assertEquals(5, cache.getMissCount());
+    assertEquals(3, cache.getHitCount());
+    assertEquals(3, cache.getFileStats("f1").getHits());
+    assertEquals(5, cache.getFileStats("f1").getMisses());
+
+    try (InputStream in = open(cache, "f2", newData(100), remoteOpens)) {
+      assertEquals(100, readAll(in, 100).length);
+    }
+    assertEquals(List.of("f1", "f2"), List.copyOf(cache.getMostReadFiles(10).keySet()));
+    assertEquals(List.of("f1"), List.copyOf(cache.getMostReadFiles(1).keySet()));
+  }
+
+  @Test
+  public void testEviction() throws Exception {
+    byte[] data = newData(10_000);
+    var cache = new LocalFileCache(tempDir.toPath(), 3 * CHUNK_SIZE, CHUNK_SIZE);
+    AtomicInteger remoteOpens = new AtomicInteger();
+
+    try (InputStream in = open(cache, "f1", data, remoteOpens)) {
+      assertArrayEquals(data, readAll(in, data.length));
+    }
+
+    cache.cleanUp();
+    assertTrue(cache.getSize() <= 3 * CHUNK_SIZE);
+    assertTrue(cache.getEvictionCount() >= 7);
+    // evicted chunks are removed from local disk
+    assertTrue(countChunkFiles() <= 3);
+  }
+
+  @Test
+  public void testWarmup() throws Exception {
+    byte[] data = newData(2500);
+    AtomicInteger remoteOpens = new AtomicInteger();
+
+    var cache1 = new LocalFileCache(tempDir.toPath(), 1_000_000, CHUNK_SIZE);
+    try (InputStream in = open(cache1, "f1", data, remoteOpens)) {
+      assertArrayEquals(data, readAll(in, data.length));
+    }
+    assertEquals(1, remoteOpens.get());
+
+    // simulate a restart, the chunks written by the first cache should be used
+    var cache2 = new LocalFileCache(tempDir.toPath(), 1_000_000, CHUNK_SIZE);
+    cache2.cleanUp();
+    assertEquals(data.length, cache2.getSize());
+    try (InputStream in = open(cache2, "f1", data, remoteOpens)) {
+      assertArrayEquals(data, readAll(in, data.length));
+    }
+    assertEquals(1, remoteOpens.get());
+    assertEquals(0, cache2.getMissCount());
+  }
+
+  @Test
+  public void testWarmupChunkRemoved() throws Exception {
+    byte[] data = newData(2500);
+    AtomicInteger remoteOpens = new AtomicInteger();
+
+    var cache1 = new LocalFileCache(tempDir.toPath(), 1_000_000, CHUNK_SIZE);
+    try (InputStream in = open(cache1, "f1", data, remoteOpens)) {
+      assertArrayEquals(data, readAll(in, data.length));
+    }
+
+    // the chunks loaded at startup are removed before they are first read, like they would be by
+    // an eviction, so they should be fetched again
+    var cache2 = new LocalFileCache(tempDir.toPath(), 1_000_000, CHUNK_SIZE);
+    List<java.nio.file.Path> chunkFiles;
+    try (Stream<java.nio.file.Path> files = Files.walk(tempDir.toPath())) {
+      chunkFiles = files.filter(Files::isRegularFile).collect(Collectors.toList());
+    }
+    for (java.nio.file.Path chunkFile : chunkFiles) {
+      Files.delete(chunkFile);
+    }
+    try (InputStream in = open(cache2, "f1", data, remoteOpens)) {
+      assertArrayEquals(data, readAll(in, data.length));
+    }
+    assertEquals(2, remoteOpens.get());
+    assertEquals(3, cache2.getMissCount());
+    assertEquals(0, cache2.getHitCount());
+    assertEquals(3, countChunkFiles());
+  }
+}
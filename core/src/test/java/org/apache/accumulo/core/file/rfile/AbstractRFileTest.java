@@ -109,7 +109,10 @@ public abstract class AbstractRFileTest {
         sampler = SamplerFactory.newSampler(samplerConfig, accumuloConfiguration);
       }
 
-      writer = new RFile.Writer(_cbw, blockSize, 1000, samplerConfig, sampler);
+      boolean columnar = accumuloConfiguration.get(Property.TABLE_FILE_BLOCK_ENCODING)
+          .equals("columnar");
+
+      writer = new RFile.Writer(_cbw, blockSize, 1000, samplerConfig, sampler, columnar);
 
       if (startDLG) {
         writer.startDefaultLocalityGroup();
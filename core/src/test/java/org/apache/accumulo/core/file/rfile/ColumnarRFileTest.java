@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.file.rfile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.accumulo.core.conf.ConfigurationCopy;
+import org.apache.accumulo.core.conf.DefaultConfiguration;
+import org.apache.accumulo.core.conf.Property;
+import org.apache.accumulo.core.data.ArrayByteSequence;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.file.FileSKVIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.KeyValueBuffer;
+import org.apache.hadoop.io.Text;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ColumnarRFileTest extends AbstractRFileTest {
+
+  private final List<Key> expectedKeys = new ArrayList<>();
+  private final List<Value> expectedValues = new ArrayList<>();
+
+  @BeforeEach
+  public void setupConf() {
+    ConfigurationCopy cc = new ConfigurationCopy(DefaultConfiguration.getInstance());
+    cc.set(Property.TABLE_FILE_BLOCK_ENCODING, "columnar");
+    conf = cc;
+  }
+
+  private TestRFile writeTestFile() throws IOException {
+    TestRFile trf = new TestRFile(conf);
+    trf.openWriter();
+
+    int val = 0;
+    for (int row = 0; row < 50; row++) {
+      String rowS = formatString("r_", row);
+      for (int cf = 0; cf < 3; cf++) {
+        String cfS = formatString("cf_", cf);
+        for (int cq = 0; cq < 3; cq++) {
+          String cqS = formatString("cq_", cq);
+          for (String cvS : new String[] {"", "A&B"}) {
+            for (int ts = 3; ts > 0; ts--) {
+              Key k = newKey(rowS, cfS, cqS, cvS, ts * 1000L + row);
+              k.setDeleted(val % 7 == 0);
+              // vary the value size, including empty values
+              Value v = newValue(val % 5 == 0 ? "" : "v" + val);
+              trf.writer.append(k, v);
+              expectedKeys.add(k);
+              expectedValues.add(v);
+              val++;
+            }
+          }
+        }
+      }
+    }
+
+    trf.closeWriter();
+    trf.openReader();
+    return trf;
+  }
+
+  @Test
+  public void testReadAll() throws IOException {
+    TestRFile trf = writeTestFile();
+
+    trf.iter.seek(new Range(), EMPTY_COL_FAMS, false);
+    verify(trf, expectedKeys.iterator(), expectedValues.iterator());
+
+    checkIndex(trf.reader);
+    int indexEntries = 0;
+    FileSKVIterator indexIter = trf.reader.getIndex();
+    while (indexIter.hasTop()) {
+      indexEntries++;
+      indexIter.next();
+    }
+    assertTrue(indexEntries > 1, "Expected multiple data blocks");
+
+    assertEquals(new Text(formatString("r_", 0)), trf.reader.getFirstRow());
+    assertEquals(new Text(formatString("r_", 49)), trf.reader.getLastRow());
+
+    trf.closeReader();
+  }
+
+  @Test
+  public void testSeeks() throws IOException {
+    TestRFile trf = writeTestFile();
+
+    // seek to every key, forward and then backward
+    for (int i = 0; i < expectedKeys.size(); i++) {
+      trf.seek(expectedKeys.get(i));
+      assertTrue(trf.iter.hasTop());
+      assertEquals(expectedKeys.get(i), trf.iter.getTopKey());
+      assertEquals(expectedValues.get(i), trf.iter.getTopValue());
+    }
+
+    for (int i = expectedKeys.size() - 1; i >= 0; i--) {
+      trf.seek(expectedKeys.get(i));
+      assertTrue(trf.iter.hasTop());
+      assertEquals(expectedKeys.get(i), trf.iter.getTopKey());
+      assertEquals(expectedValues.get(i), trf.iter.getTopValue());
+    }
+
+    // seek to random locations and read to the end
+    for (int i = 0; i < 12; i++) {
+      int index = random.nextInt(expectedKeys.size());
+      trf.seek(expectedKeys.get(index));
+      verify(trf, expectedKeys.subList(index, expectedKeys.size()).iterator(),
+          expectedValues.subList(index, expectedValues.size()).iterator());
+    }
+
+    // seek past everything
+    trf.seek(new Key(new Text("z")));
+    assertFalse(trf.iter.hasTop());
+
+    trf.closeReader();
+  }
+
+  @Test
+  public void testRanges() throws IOException {
+    TestRFile trf = writeTestFile();
+
+    // a range covering a few rows in the middle of the file, exclusive of the start key
+    int start = expectedKeys.size() / 3;
+    int end = 2 * expectedKeys.size() / 3;
+    trf.iter.seek(new Range(expectedKeys.get(start), false, expectedKeys.get(end), true),
+        EMPTY_COL_FAMS, false);
+    verify(trf, expectedKeys.subList(start + 1, end + 1).iterator(),
+        expectedValues.subList(start + 1, end + 1).iterator());
+
+    // a row range
+    String row = formatString("r_", 17);
+    trf.iter.seek(new Range(row), EMPTY_COL_FAMS, false);
+    int count = 0;
+    while (trf.iter.hasTop()) {
+      assertEquals(row, trf.iter.getTopKey().getRow().toString());
+      count++;
+      trf.iter.next();
+    }
+    assertEquals(expectedKeys.size() / 50, count);
+
+    // a column family restriction is applied on top of the reader
+    trf.iter.seek(new Range(), Set.of(new ArrayByteSequence(formatString("cf_", 1))), true);
+    count = 0;
+    while (trf.iter.hasTop()) {
+      assertEquals(formatString("cf_", 1), trf.iter.getTopKey().getColumnFamily().toString());
+      count++;
+      trf.iter.next();
+    }
+    assertEquals(expectedKeys.size() / 3, count);
+
+    trf.closeReader();
+  }
+
+  @Test
+  public void testSameAsRelative() throws IOException {
+    TestRFile columnar = writeTestFile();
+
+    TestRFile relative = new TestRFile(DefaultConfiguration.getInstance());
+    relative.openWriter();
+    for (int i = 0; i < expectedKeys.size(); i++) {
+      relative.writer.append(expectedKeys.get(i), expectedValues.get(i));
+    }
+    relative.closeWriter();
+    relative.openReader();
+
+    columnar.iter.seek(new Range(), EMPTY_COL_FAMS, false);
+    relative.iter.seek(new Range(), EMPTY_COL_FAMS, false);
+
+    while (relative.iter.hasTop()) {
+      assertTrue(columnar.iter.hasTop());
+      assertEquals(relative.iter.getTopKey(), columnar.iter.getTopKey());
+      assertEquals(relative.iter.getTopValue(), columnar.iter.getTopValue());
+      relative.iter.next();
+      columnar.iter.next();
+    }
+    assertFalse(columnar.iter.hasTop());
+
+    columnar.closeReader();
+    relative.closeReader();
+  }
+
+  @Test
+  public void testBatchRead() throws IOException {
+    TestRFile columnar = writeTestFile();
+
+    TestRFile relative = new TestRFile(DefaultConfiguration.getInstance());
+    relative.openWriter();
+    for (int i = 0; i < expectedKeys.size(); i++) {
+      relative.writer.append(expectedKeys.get(i), expectedValues.get(i));
+    }
+    relative.closeWriter();
+    relative.openReader();
+
+    for (TestRFile trf : List.of(columnar, relative)) {
+      int start = expectedKeys.size() / 4;
+      trf.seek(expectedKeys.get(start));
+
+      KeyValueBuffer buffer = new KeyValueBuffer(10);
+      int index = start;
+      while (trf.iter.hasTop()) {
+        buffer.clear();
+        buffer.fill(trf.iter);
+        for (int i = 0; i < buffer.size(); i++, index++) {
+          assertEquals(expectedKeys.get(index), buffer.getKey(i));
+          assertEquals(expectedValues.get(index), buffer.getValue(i));
+        }
+      }
+      assertEquals(expectedKeys.size(), index);
+
+      trf.closeReader();
+    }
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.iterators.system;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apache.accumulo.core.conf.DefaultConfiguration;
+import org.apache.accumulo.core.data.Column;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.iterators.IteratorEnvironment;
+import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+import org.apache.accumulo.core.iterators.WrappingIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.BatchIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.DeletingIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.DeletingIterator.Behavior;
+import org.apache.accumulo.core.iteratorsImpl.system.KeyValueBuffer;
+import org.apache.accumulo.core.iteratorsImpl.system.MultiIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.SortedMapIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.SystemIteratorUtil;
+import org.apache.accumulo.core.security.Authorizations;
+import org.junit.jupiter.api.Test;
+
+public class BatchIteratorTest {
+
+  private static final SecureRandom random = new SecureRandom();
+
+  /**
+   * An iterator that only supports the per entry methods, like a user iterator.
+   */
+  private static class PerEntryIterator extends WrappingIterator {
+    PerEntryIterator(SortedKeyValueIterator<Key,Value> source) {
+      setSource(source);
+    }
+
+    @Override
+    public SortedKeyValueIterator<Key,Value> deepCopy(IteratorEnvironment env) {
+      return new PerEntryIterator(getSource().deepCopy(env));
+    }
+  }
+
+  private static Column newColumn(String family, String qualifier) {
+    return new Column(family.getBytes(UTF_8), qualifier.getBytes(UTF_8), null);
+  }
+
+  private static List<TreeMap<Key,Value>> createData() {
+    List<TreeMap<Key,Value>> maps = new ArrayList<>();
+    for (int m = 0; m < 4; m++) {
+      maps.add(new TreeMap<>());
+    }
+
+    String[] visibilities = {"", "A", "B", "A&B"};
+
+    for (int i = 0; i < 3000; i++) {
+      Key k = new Key(String.format("r%04d", random.nextInt(300)),
+          "f" + random.nextInt(4), "q" + random.nextInt(4),
+          visibilities[random.nextInt(visibilities.length)], random.nextInt(5));
+      k.setDeleted(random.nextInt(10) == 0);
+      maps.get(random.nextInt(maps.size())).put(k, new Value("v" + i));
+    }
+
+    return maps;
+  }
+
+  private static SortedKeyValueIterator<Key,Value> createStack(List<TreeMap<Key,Value>> maps,
+      Set<Column> columns, boolean propagateDeletes) throws IOException {
+    List<SortedKeyValueIterator<Key,Value>> sources = new ArrayList<>();
+    for (int i = 0; i < maps.size(); i++) {
+      SortedKeyValueIterator<Key,Value> smi = new SortedMapIterator(maps.get(i));
+      // mix in a source that can not read batches
+      sources.add(i == 0 ? new PerEntryIterator(smi) : smi);
+    }
+
+    MultiIterator multiIter = new MultiIterator(sources, new Range());
+    if (propagateDeletes) {
+      return DeletingIterator.wrap(multiIter, true, Behavior.PROCESS);
+    }
+    return SystemIteratorUtil.setupSystemScanIterators(multiIter, columns,
+        new Authorizations("A"), new byte[0], DefaultConfiguration.getInstance());
+  }
+
+  private static List<Map.Entry<Key,Value>> readByEntry(SortedKeyValueIterator<Key,Value> iter,
+      Range range) throws IOException {
+    iter.seek(range, Set.of(), false);
+    List<Map.Entry<Key,Value>> entries = new ArrayList<>();
+    while (iter.hasTop()) {
+      entries.add(Map.entry(new Key(iter.getTopKey()), new Value(iter.getTopValue())));
+      iter.next();
+    }
+    return entries;
+  }
+
+  private static List<Map.Entry<Key,Value>> readBatches(SortedKeyValueIterator<Key,Value> iter,
+      Range range, int capacity) throws IOException {
+    iter.seek(range, Set.of(), false);
+    List<Map.Entry<Key,Value>> entries = new ArrayList<>();
+    KeyValueBuffer buffer = new KeyValueBuffer(capacity);
+    while (iter.hasTop()) {
+      buffer.clear();
+      buffer.fill(iter);
+      assertFalse(buffer.isEmpty());
+      for (int i = 0; i < buffer.size(); i++) {
+        entries.add(Map.entry(buffer.getKey(i), buffer.getValue(i)));
+      }
+    }
+    return entries;
+  }
+
+  private static void check(List<TreeMap<Key,Value>> maps, Set<Column> columns,
+      boolean propagateDeletes) throws IOException {
+    Range[] ranges = {new Range(), new Range("r0050", "r0100"),
+        new Range(new Key("r0010", "f1", "q2"), true, new Key("r0020", "f3"), false)};
+
+    for (Range range : ranges) {
+      var expected = readByEntry(createStack(maps, columns, propagateDeletes), range);
+      for (int capacity : new int[] {1, 7, KeyValueBuffer.DEFAULT_CAPACITY}) {
+        var iter = createStack(maps, columns, propagateDeletes);
+        assertTrue(iter instanceof BatchIterator);
+        assertEquals(expected, readBatches(iter, range, capacity));
+      }
+    }
+  }
+
+  @Test
+  public void testSystemScanIterators() throws IOException {
+    var maps = createData();
+    check(maps, Set.of(), false);
+    check(maps, Set.of(newColumn("f1", "q1"), newColumn("f2", "q3")), false);
+  }
+
+  @Test
+  public void testPropagateDeletes() throws IOException {
+    var maps = createData();
+    check(maps, Set.of(), true);
+  }
+
+  @Test
+  public void testBuffer() throws IOException {
+    KeyValueBuffer buffer = new KeyValueBuffer(4);
+    assertTrue(buffer.isEmpty());
+    for (int i = 0; i < 4; i++) {
+      buffer.add(new Key("r" + i), new Value("v" + i));
+    }
+    assertTrue(buffer.isFull());
+    assertThrows(IllegalStateException.class, () -> buffer.add(new Key("r5"), new Value("v5")));
+
+    buffer.retain(1, (k, v) -> !k.getRow().toString().equals("r2"));
+    assertEquals(3, buffer.size());
+    assertEquals(new Key("r0"), buffer.getKey(0));
+    assertEquals(new Key("r1"), buffer.getKey(1));
+    assertEquals(new Key("r3"), buffer.getKey(2));
+    assertEquals(new Value("v3"), buffer.getValue(2));
+
+    buffer.truncate(1);
+    assertEquals(1, buffer.size());
+    assertThrows(IndexOutOfBoundsException.class, () -> buffer.set(1, new Key(), new Value()));
+
+    buffer.clear();
+    assertTrue(buffer.isEmpty());
+
+    // entries read one at a time are copied, since iterators may reuse them
+    TreeMap<Key,Value> map = new TreeMap<>();
+    map.put(new Key("a"), new Value("1"));
+    map.put(new Key("b"), new Value("2"));
+    SortedKeyValueIterator<Key,Value> iter = new PerEntryIterator(new SortedMapIterator(map));
+    iter.seek(new Range(), Set.of(), false);
+    buffer.fill(iter);
+    assertFalse(iter.hasTop());
+    assertEquals(2, buffer.size());
+    assertEquals(new Value("2"), buffer.getValue(1));
+    assertNotSame(map.get(new Key("b")), buffer.getValue(1));
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.iterators.system;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.accumulo.core.data.ArrayByteSequence;
+import org.apache.accumulo.core.data.ByteSequence;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.ColumnFamilySkippingIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.ParallelLocalityGroupIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.SortedMapIterator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelLocalityGroupIteratorTest {
+
+  private static final Map<String,Set<ByteSequence>> GROUPS =
+      Map.of("g1", Set.of(bs("a"), bs("b")), "g2", Set.of(bs("c")));
+
+  private ExecutorService executor;
+  private TreeMap<Key,Value> data;
+
+  private static ByteSequence bs(String s) {
+    return new ArrayByteSequence(s);
+  }
+
+  @BeforeEach
+  public void setup() {
+    executor = Executors.newFixedThreadPool(2);
+    data = new TreeMap<>();
+    for (int r = 0; r < 2000; r++) {
+      for (String fam : List.of("a", "b", "c", "d", "e")) {
+        data.put(new Key(String.format("r%05d", r), fam, "q"), new Value(r + fam));
+      }
+    }
+  }
+
+  @AfterEach
+  public void teardown() {
+    executor.shutdownNow();
+  }
+
+  private static List<Key> read(SortedKeyValueIterator<Key,Value> iter, Range range,
+      Collection<ByteSequence> families, boolean inclusive) throws IOException {
+    List<Key> keys = new ArrayList<>();
+    iter.seek(range, families, inclusive);
+    while (iter.hasTop()) {
+      keys.add(new Key(iter.getTopKey()));
+      iter.next();
+    }
+    return keys;
+  }
+
+  private void check(ParallelLocalityGroupIterator iter, Range range,
+      Collection<ByteSequence> families, boolean inclusive) throws IOException {
+    var expected = new ColumnFamilySkippingIterator(new SortedMapIterator(data));
+    assertEquals(read(expected, range, families, inclusive),
+        read(iter, range, families, inclusive));
+  }
+
+  @Test
+  public void testMerge() throws IOException {
+    Map<String,Long> counts = new ConcurrentHashMap<>();
+    var iter = new ParallelLocalityGroupIterator(new SortedMapIterator(data), GROUPS, executor,
+        256, null, (group, count) -> counts.merge(group, count, Long::sum));
+
+    check(iter, new Range(), Set.of(), false);
+    check(iter, new Range("r00100", "r00200"), Set.of(bs("a"), bs("d")), true);
+    check(iter, new Range("r00100", "r00200"), Set.of(bs("a"), bs("d")), false);
+    check(iter, new Range("r01000", null), Set.of(bs("c")), true);
+    check(iter, new Range("r01000", null), Set.of(bs("x")), true);
+    iter.close();
+
+    // groups that can not contain the requested families are never read
+    assertEquals(4000 + 101 + 101, counts.get("g1"));
+    assertEquals(2000 + 101 + 1000, counts.get("g2"));
+    assertEquals(4000 + 101 + 101, counts.get(""));
+  }
+
+  @Test
+  public void testNoThreads() throws IOException {
+    // when the executor never runs producers the consumer reads every group itself
+    AtomicLong total = new AtomicLong();
+    var iter = new ParallelLocalityGroupIterator(new SortedMapIterator(data), GROUPS,
+        runnable -> {}, 256, null, (group, count) -> total.addAndGet(count));
+    check(iter, new Range(), Set.of(), false);
+    iter.close();
+    assertEquals(data.size(), total.get());
+  }
+
+  @Test
+  public void testSeekBeforeFinished() throws IOException {
+    var iter = new ParallelLocalityGroupIterator(new SortedMapIterator(data), GROUPS, executor,
+        128, null, (group, count) -> {});
+    for (int i = 0; i < 10; i++) {
+      iter.seek(new Range(), Set.of(), false);
+      for (int j = 0; j < 10; j++) {
+        iter.next();
+      }
+    }
+    check(iter, new Range("r00500", "r00510"), Set.of(), false);
+    iter.close();
+    assertFalse(iter.hasTop());
+  }
+}
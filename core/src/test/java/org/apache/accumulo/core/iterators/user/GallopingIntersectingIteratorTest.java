@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.iterators.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.accumulo.core.client.IteratorSetting;
+import org.apache.accumulo.core.data.ByteSequence;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.iterators.DefaultIteratorEnvironment;
+import org.apache.accumulo.core.iterators.IteratorEnvironment;
+import org.apache.accumulo.core.iteratorsImpl.system.SortedMapIterator;
+import org.apache.hadoop.io.Text;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+public class GallopingIntersectingIteratorTest {
+
+  // a fixed seed makes the generated index, and so any failure, reproducible
+  private static final long SEED = 42;
+
+  private static final Collection<ByteSequence> EMPTY_COL_FAMS = new ArrayList<>();
+  private static final IteratorEnvironment env = new DefaultIteratorEnvironment();
+
+  private static final Text COMMON = new Text("common");
+  private static final Text FREQUENT = new Text("frequent");
+  private static final Text RARE_A = new Text("rareA");
+  private static final Text RARE_B = new Text("rareB");
+  private static final Text EXCLUDED = new Text("excluded");
+
+  private TreeMap<Key,Value> map;
+  // term -> set of "row/doc" entries
+  private Map<Text,TreeSet<String>> index;
+
+  @SuppressFBWarnings(value = "PREDICTABLE_RANDOM",
+      justification = "predictable random with specific seed is intended for this test")
+  @BeforeEach
+  public void createIndex() {
+    var random = new Random(SEED);
+    map = new TreeMap<>();
+    index = new TreeMap<>();
+    for (int r = 0; r < 10; r++) {
+      String row = String.format("%04d", r);
+      for (int d = 0; d < 500; d++) {
+        String doc = String.format("doc%05d", d);
+        add(random, row, doc, COMMON, 0.9);
+        add(random, row, doc, FREQUENT, 0.5);
+        add(random, row, doc, RARE_A, 0.02);
+        add(random, row, doc, RARE_B, 0.03);
+        add(random, row, doc, EXCLUDED, 0.3);
+      }
+    }
+  }
+
+  private void add(Random random, String row, String doc, Text term, double probability) {
+    if (random.nextDouble() < probability) {
+      map.put(new Key(new Text(row), term, new Text(doc)), new Value());
+      index.computeIfAbsent(term, t -> new TreeSet<>()).add(row + "/" + doc);
+    }
+  }
+
+  private TreeSet<String> expected(List<List<Text>> clauses, List<Text> notTerms) {
+    TreeSet<String> result = null;
+    for (List<Text> clause : clauses) {
+      TreeSet<String> union = new TreeSet<>();
+      for (Text term : clause) {
+        union.addAll(index.getOrDefault(term, new TreeSet<>()));
+      }
+      if (result == null) {
+        result = union;
+      } else {
+        result.retainAll(union);
+      }
+    }
+    for (Text term : notTerms) {
+      result.removeAll(index.getOrDefault(term, new TreeSet<>()));
+    }
+    return result;
+  }
+
+  private GallopingIntersectingIterator createIterator(IteratorSetting is) throws IOException {
+    GallopingIntersectingIterator iter = new GallopingIntersectingIterator();
+    iter.init(new SortedMapIterator(map), is.getOptions(), env);
+    return iter;
+  }
+
+  private TreeSet<String> scan(GallopingIntersectingIterator iter, Range range)
+      throws IOException {
+    TreeSet<String> result = new TreeSet<>();
+    iter.seek(range, EMPTY_COL_FAMS, false);
+    while (iter.hasTop()) {
+      Key k = iter.getTopKey();
+      assertEquals(0, k.getColumnFamilyData().length());
+      assertTrue(result.add(k.getRow() + "/" + k.getColumnQualifier()));
+      iter.next();
+    }
+    return result;
+  }
+
+  private void runQuery(List<List<Text>> clauses, List<Text> notTerms, Map<Text,Long> frequencies)
+      throws IOException {
+    IteratorSetting is = new IteratorSetting(1, GallopingIntersectingIterator.class);
+    GallopingIntersectingIterator.setClauses(is, clauses);
+    GallopingIntersectingIterator.setNotTerms(is, notTerms);
+    GallopingIntersectingIterator.setTermFrequencies(is, frequencies);
+    TreeSet<String> expected = expected(clauses, notTerms);
+    assertEquals(expected, scan(createIterator(is), new Range()));
+    assertEquals(expected, scan((GallopingIntersectingIterator) createIterator(is).deepCopy(env),
+        new Range()));
+  }
+
+  @Test
+  public void testAnd() throws IOException {
+    runQuery(List.of(List.of(COMMON), List.of(FREQUENT), List.of(RARE_A)), List.of(), Map.of());
+    runQuery(List.of(List.of(COMMON), List.of(RARE_A)), List.of(),
+        Map.of(COMMON, 4500L, RARE_A, 100L));
+    // misleading estimates only affect performance
+    runQuery(List.of(List.of(COMMON), List.of(FREQUENT)), List.of(),
+        Map.of(COMMON, 1L, FREQUENT, 100000L));
+  }
+
+  @Test
+  public void testOrAndNot() throws IOException {
+    runQuery(List.of(List.of(RARE_A, RARE_B), List.of(COMMON)), List.of(), Map.of());
+    runQuery(List.of(List.of(RARE_A, RARE_B), List.of(FREQUENT)), List.of(EXCLUDED),
+        Map.of(RARE_A, 100L, RARE_B, 150L, FREQUENT, 2500L));
+    runQuery(List.of(List.of(COMMON)), List.of(EXCLUDED, FREQUENT), Map.of());
+  }
+
+  @Test
+  public void testMissingTerm() throws IOException {
+    runQuery(List.of(List.of(COMMON), List.of(new Text("absent"))), List.of(), Map.of());
+    runQuery(List.of(List.of(COMMON, new Text("absent"))), List.of(new Text("absent")), Map.of());
+  }
+
+  @Test
+  public void testRanges() throws IOException {
+    List<List<Text>> clauses = List.of(List.of(FREQUENT), List.of(RARE_A, RARE_B));
+    IteratorSetting is = new IteratorSetting(1, GallopingIntersectingIterator.class);
+    GallopingIntersectingIterator.setClauses(is, clauses);
+    TreeSet<String> all = expected(clauses, List.of());
+
+    GallopingIntersectingIterator iter = createIterator(is);
+    assertEquals(all.subSet("0003", "0006~"), scan(iter, new Range("0003", "0006")));
+    assertEquals(all.subSet("0003", "0006"), scan(iter, new Range("0003", true, "0006", false)));
+
+    // continue a scan after a key, as a scan does when it is resumed
+    String first = all.first();
+    String[] parts = first.split("/");
+    Key last = new Key(new Text(parts[0]), new Text(), new Text(parts[1]));
+    assertEquals(all.tailSet(first, false), scan(iter, new Range(last, false, null, true)));
+  }
+
+  @Test
+  public void testStats() throws IOException {
+    IteratorSetting is = new IteratorSetting(1, GallopingIntersectingIterator.class);
+    GallopingIntersectingIterator.setClauses(is, List.of(List.of(COMMON), List.of(RARE_A)));
+    GallopingIntersectingIterator.setTermFrequencies(is, Map.of(COMMON, 4500L, RARE_A, 100L));
+    GallopingIntersectingIterator.setReportStats(is, true);
+
+    GallopingIntersectingIterator iter = createIterator(is);
+    iter.seek(new Range(), EMPTY_COL_FAMS, false);
+    long lastSeeks = 0;
+    long lastKeys = 0;
+    while (iter.hasTop()) {
+      String value = iter.getTopValue().toString();
+      assertEquals("seeks=" + iter.getSeekCount() + ",keys=" + iter.getKeysRead(), value);
+      assertTrue(iter.getSeekCount() >= lastSeeks);
+      assertTrue(iter.getKeysRead() >= lastKeys);
+      lastSeeks = iter.getSeekCount();
+      lastKeys = iter.getKeysRead();
+      iter.next();
+    }
+    assertTrue(lastSeeks > 0);
+    // the frequent term is skipped over, so far fewer keys are read than it has
+    assertTrue(lastSeeks + lastKeys < index.get(COMMON).size());
+
+    iter.seek(new Range("0003", "0003"), EMPTY_COL_FAMS, false);
+    assertTrue(iter.getSeekCount() > 0);
+    assertTrue(iter.getSeekCount() < lastSeeks);
+
+    is.addOption("reportStats", "false");
+    iter = createIterator(is);
+    iter.seek(new Range(), EMPTY_COL_FAMS, false);
+    assertTrue(iter.hasTop());
+    assertEquals(0, iter.getTopValue().getSize());
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.spi.balancer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.data.TabletId;
+import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.core.manager.balancer.TabletServerIdImpl;
+import org.apache.accumulo.core.manager.balancer.TabletStatisticsImpl;
+import org.apache.accumulo.core.spi.balancer.LoadAwareBalancer.LoadConf;
+import org.apache.accumulo.core.spi.balancer.data.TabletMigration;
+import org.apache.accumulo.core.spi.balancer.data.TabletServerId;
+import org.apache.accumulo.core.spi.balancer.data.TabletStatistics;
+import org.apache.accumulo.core.tabletserver.thrift.TabletStats;
+import org.apache.hadoop.io.Text;
+
+/**
+ * Replays balancing passes of {@link LoadAwareBalancer} against a recorded snapshot of a cluster,
+ * without a running instance, and reports how evenly load ends up spread and how many migrations
+ * it took. Tablets are assumed to keep their rates when they move.
+ *
+ * <p>
+ * A snapshot has one tablet per line. Lines starting with {@code #} are ignored. The end row is
+ * {@code -} for the last tablet of a table, the previous end row of each tablet is the next lower
+ * end row of its table.
+ *
+ * <pre>
+ * # server       table endRow queryRate ingestRate entries
+ * host1:9997     1     m      5000      10         1000000
+ * host2:9997     1     -      20        10         900000
+ * </pre>
+ */
+public class LoadAwareBalancerSimulator {
+
+  public static class Result {
+    int passes;
+    int migrations;
+    // most loaded server's load divided by the mean load
+    double initialImbalance;
+    double finalImbalance;
+
+    @Override
+    public String toString() {
+      return String.format("passes=%d, migrations=%d, imbalance=%.3f -> %.3f", passes, migrations,
+          initialImbalance, finalImbalance);
+    }
+  }
+
+  private static class Line {
+    final TabletServerId server;
+    final TableId table;
+    final String endRow;
+    final TabletStats stats = new TabletStats();
+
+    Line(String[] tokens) {
+      String[] hostPort = tokens[0].split(":");
+      server = new TabletServerIdImpl(hostPort[0], Integer.parseInt(hostPort[1]), "0");
+      table = TableId.of(tokens[1]);
+      endRow = tokens[2].equals("-") ? null : tokens[2];
+      stats.queryRate = Double.parseDouble(tokens[3]);
+      stats.ingestRate = Double.parseDouble(tokens[4]);
+      stats.numEntries = Long.parseLong(tokens[5]);
+    }
+  }
+
+  public static SortedMap<TabletServerId,List<TabletStatistics>> parse(Reader reader)
+      throws IOException {
+    List<Line> parsed = new ArrayList<>();
+    BufferedReader lines = new BufferedReader(reader);
+    String line;
+    while ((line = lines.readLine()) != null) {
+      int comment = line.indexOf('#');
+      String[] tokens = (comment >= 0 ? line.substring(0, comment) : line).trim().split("\\s+");
+      if (tokens.length == 1 && tokens[0].isEmpty()) {
+        continue;
+      }
+      if (tokens.length != 6) {
+        throw new IllegalArgumentException("Expected 6 columns " + line);
+      }
+      parsed.add(new Line(tokens));
+    }
+
+    // end rows of each table in order, the last tablet sorts last
+    Map<TableId,TreeMap<String,Line>> tables = new HashMap<>();
+    for (Line tablet : parsed) {
+      tables.computeIfAbsent(tablet.table,
+          t -> new TreeMap<>(Comparator.nullsLast(Comparator.naturalOrder())))
+          .put(tablet.endRow, tablet);
+    }
+
+    SortedMap<TabletServerId,List<TabletStatistics>> snapshot = new TreeMap<>();
+    tables.forEach((table, tablets) -> {
+      Text prevEndRow = null;
+      for (Line tablet : tablets.values()) {
+        Text endRow = tablet.endRow == null ? null : new Text(tablet.endRow);
+        tablet.stats.extent = new KeyExtent(table, endRow, prevEndRow).toThrift();
+        snapshot.computeIfAbsent(tablet.server, s -> new ArrayList<>())
+            .add(new TabletStatisticsImpl(tablet.stats));
+        prevEndRow = endRow;
+      }
+    });
+    return snapshot;
+  }
+
+  /**
+   * @param planConf configuration the balancer plans migrations with
+   * @param evalConf configuration the imbalance of the cluster is measured with
+   * @param snapshot tablets of each server, not modified
+   * @param maxPasses maximum number of balancing passes to replay
+   */
+  public static Result run(LoadConf planConf, LoadConf evalConf,
+      SortedMap<TabletServerId,List<TabletStatistics>> snapshot, int maxPasses) {
+    SortedMap<TabletServerId,List<TabletStatistics>> cluster = new TreeMap<>();
+    snapshot.forEach((server, tablets) -> cluster.put(server, new ArrayList<>(tablets)));
+
+    Result result = new Result();
+    result.initialImbalance = imbalance(cluster, evalConf);
+    while (result.passes < maxPasses) {
+      List<TabletMigration> migrations =
+          LoadAwareBalancer.plan(LoadAwareBalancer.tabletLoads(cluster, planConf), Set.of(),
+              planConf.tolerance, planConf.maxMigrations);
+      if (migrations.isEmpty()) {
+        break;
+      }
+      result.passes++;
+      result.migrations += migrations.size();
+      for (TabletMigration migration : migrations) {
+        List<TabletStatistics> from = cluster.get(migration.getOldTabletServer());
+        TabletStatistics moved = from.stream()
+            .filter(stats -> stats.getTabletId().equals(migration.getTablet())).findFirst()
+            .orElseThrow();
+        from.remove(moved);
+        cluster.get(migration.getNewTabletServer()).add(moved);
+      }
+    }
+    result.finalImbalance = imbalance(cluster, evalConf);
+    return result;
+  }
+
+  static double imbalance(SortedMap<TabletServerId,List<TabletStatistics>> cluster,
+      LoadConf conf) {
+    double max = 0;
+    double total = 0;
+    for (Entry<TabletServerId,SortedMap<TabletId,Double>> entry : LoadAwareBalancer
+        .tabletLoads(cluster, conf).entrySet()) {
+      double load = entry.getValue().values().stream().mapToDouble(Double::doubleValue).sum();
+      max = Math.max(max, load);
+      total += load;
+    }
+    return total > 0 ? max / (total / cluster.size()) : 1;
+  }
+
+  /**
+   * Arguments are the snapshot file, and optionally the maximum migrations per pass. Compares
+   * balancing on tablet counts alone with balancing on load, both measured on load.
+   */
+  public static void main(String[] args) throws IOException {
+    SortedMap<TabletServerId,List<TabletStatistics>> snapshot;
+    try (Reader reader = Files.newBufferedReader(Path.of(args[0]), UTF_8)) {
+      snapshot = parse(reader);
+    }
+    int maxMigrations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+    LoadConf load = new LoadConf(1, 1, .5, .5, .1, maxMigrations, 0);
+    LoadConf counts = new LoadConf(0, 0, 0, 1, 0, maxMigrations, 0);
+    System.out.println("tablet counts : " + run(counts, load, snapshot, 100));
+    System.out.println("load aware    : " + run(load, load, snapshot, 100));
+  }
+}
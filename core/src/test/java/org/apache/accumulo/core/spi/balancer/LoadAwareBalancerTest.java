@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.spi.balancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.data.TabletId;
+import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.core.dataImpl.TabletIdImpl;
+import org.apache.accumulo.core.manager.balancer.TabletServerIdImpl;
+import org.apache.accumulo.core.manager.balancer.TabletStatisticsImpl;
+import org.apache.accumulo.core.spi.balancer.LoadAwareBalancer.LoadConf;
+import org.apache.accumulo.core.spi.balancer.data.TabletMigration;
+import org.apache.accumulo.core.spi.balancer.data.TabletServerId;
+import org.apache.accumulo.core.spi.balancer.data.TabletStatistics;
+import org.apache.accumulo.core.tabletserver.thrift.TabletStats;
+import org.apache.hadoop.io.Text;
+import org.junit.jupiter.api.Test;
+
+public class LoadAwareBalancerTest {
+
+  private static final TabletServerId S1 = new TabletServerIdImpl("host1", 9997, "1");
+  private static final TabletServerId S2 = new TabletServerIdImpl("host2", 9997, "1");
+  private static final TabletServerId S3 = new TabletServerIdImpl("host3", 9997, "1");
+
+  private static final LoadConf QUERIES_ONLY = new LoadConf(1, 0, 0, 0, .1, 10, 0);
+
+  private static TabletId tablet(String endRow) {
+    return new TabletIdImpl(new KeyExtent(TableId.of("1"), new Text(endRow), null));
+  }
+
+  private static TabletStatistics stats(String endRow, double queryRate) {
+    TabletStats stats = new TabletStats();
+    stats.extent = new KeyExtent(TableId.of("1"), new Text(endRow), null).toThrift();
+    stats.queryRate = queryRate;
+    return new TabletStatisticsImpl(stats);
+  }
+
+  private static SortedMap<TabletServerId,List<TabletStatistics>> cluster(
+      List<TabletStatistics> s1, List<TabletStatistics> s2, List<TabletStatistics> s3) {
+    SortedMap<TabletServerId,List<TabletStatistics>> cluster = new TreeMap<>();
+    cluster.put(S1, s1);
+    cluster.put(S2, s2);
+    cluster.put(S3, s3);
+    return cluster;
+  }
+
+  private static List<TabletMigration> plan(
+      SortedMap<TabletServerId,List<TabletStatistics>> cluster, LoadConf conf,
+      Set<TabletId> migrating) {
+    return LoadAwareBalancer.plan(LoadAwareBalancer.tabletLoads(cluster, conf), migrating,
+        conf.tolerance, conf.maxMigrations);
+  }
+
+  @Test
+  public void testMovesHotTabletOffHottestServer() {
+    var cluster = cluster(List.of(stats("a", 1000), stats("b", 1000), stats("c", 20)),
+        List.of(stats("d", 10)), List.of(stats("e", 10)));
+
+    // moving one of the two hot tablets is enough, the small ones are left alone
+    assertEquals(List.of(new TabletMigration(tablet("a"), S1, S2)),
+        plan(cluster, QUERIES_ONLY, Set.of()));
+
+    assertEquals(List.of(new TabletMigration(tablet("b"), S1, S2)),
+        plan(cluster, QUERIES_ONLY, Set.of(tablet("a"))));
+
+    assertEquals(List.of(), plan(cluster, new LoadConf(1, 0, 0, 0, .1, 0, 0), Set.of()));
+  }
+
+  @Test
+  public void testSingleHotTabletNotMoved() {
+    var cluster = cluster(List.of(stats("a", 1000)), List.of(stats("b", 1)), List.of());
+    assertEquals(List.of(), plan(cluster, QUERIES_ONLY, Set.of()));
+  }
+
+  @Test
+  public void testIdleTabletsSpreadByCount() {
+    List<TabletStatistics> s1 = new ArrayList<>();
+    for (String endRow : List.of("a", "b", "c", "d", "e", "f")) {
+      s1.add(stats(endRow, 0));
+    }
+    var cluster = cluster(s1, List.of(), List.of());
+
+    List<TabletMigration> migrations =
+        plan(cluster, new LoadConf(1, 1, .5, .5, .1, 10, 0), Set.of());
+    assertEquals(4, migrations.size());
+    Map<TabletServerId,Integer> counts = new TreeMap<>(Map.of(S1, 6, S2, 0, S3, 0));
+    for (TabletMigration migration : migrations) {
+      counts.merge(migration.getOldTabletServer(), -1, Integer::sum);
+      counts.merge(migration.getNewTabletServer(), 1, Integer::sum);
+    }
+    assertEquals(Map.of(S1, 2, S2, 2, S3, 2), counts);
+  }
+
+  @Test
+  public void testSimulator() throws Exception {
+    var snapshot = LoadAwareBalancerSimulator.parse(new StringReader(
+        String.join("\n", "# server table endRow queryRate ingestRate entries",
+            "host1:9997 1 a 1000 0 1000", "host1:9997 1 b 1000 0 1000",
+            "host1:9997 1 c 1000 0 1000", "host1:9997 1 d 10 0 1000",
+            "host2:9997 1 e 10 0 1000", "host2:9997 1 f 10 0 1000", "host2:9997 1 g 10 0 1000",
+            "host2:9997 1 h 10 0 1000", "host3:9997 1 i 10 0 1000", "host3:9997 1 j 10 0 1000",
+            "host3:9997 1 k 10 0 1000", "host3:9997 1 - 10 0 1000")));
+    assertEquals(3, snapshot.size());
+
+    LoadConf load = new LoadConf(1, 1, .5, .5, .1, 20, 0);
+    LoadConf counts = new LoadConf(0, 0, 0, 1, 0, 20, 0);
+
+    // tablet counts are already even, so a count based balancer leaves the hot server alone
+    var byCount = LoadAwareBalancerSimulator.run(counts, load, snapshot, 10);
+    assertEquals(0, byCount.migrations);
+    assertTrue(byCount.initialImbalance > 1.9, byCount::toString);
+    assertEquals(byCount.initialImbalance, byCount.finalImbalance);
+
+    var byLoad = LoadAwareBalancerSimulator.run(load, load, snapshot, 10);
+    assertEquals(1, byLoad.passes);
+    assertEquals(4, byLoad.migrations);
+    assertTrue(byLoad.finalImbalance < 1.1, byLoad::toString);
+
+    // replaying the same snapshot gives the same outcome
+    assertEquals(byLoad.toString(),
+        LoadAwareBalancerSimulator.run(load, load, snapshot, 10).toString());
+  }
+}
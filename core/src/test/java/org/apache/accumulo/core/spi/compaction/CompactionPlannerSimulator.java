@@ -0,0 +1,365 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.spi.compaction;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.accumulo.core.client.admin.compaction.CompactableFile;
+import org.apache.accumulo.core.conf.ConfigurationTypeHelper;
+import org.apache.accumulo.core.conf.Property;
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.data.TabletId;
+import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.core.dataImpl.TabletIdImpl;
+import org.apache.accumulo.core.spi.common.ServiceEnvironment;
+import org.apache.accumulo.core.util.compaction.CompactionPlanImpl;
+import org.apache.accumulo.core.util.compaction.CompactionPlannerInitParams;
+
+/**
+ * Replays the file history of a tablet against a compaction planner, without a running instance,
+ * and reports how much I/O its compactions and scans would have done.
+ *
+ * <p>
+ * A history has one event per line, ordered by time in seconds. Lines starting with {@code #} are
+ * ignored.
+ *
+ * <pre>
+ * 10 add F0001 32M    # a flush or bulk import added a 32M file named F0001
+ * 12 scan 100         # 100 scans of the tablet started, each reading every file
+ * </pre>
+ *
+ * Compactions start when they are planned and take their size divided by a fixed throughput. The
+ * planner is called after every event and every completed compaction.
+ */
+public class CompactionPlannerSimulator {
+
+  public static class Event {
+    final long time;
+    final String file;
+    final long size;
+    final int scans;
+
+    private Event(long time, String file, long size, int scans) {
+      this.time = time;
+      this.file = file;
+      this.size = size;
+      this.scans = scans;
+    }
+
+    public static Event add(long time, String file, long size) {
+      return new Event(time, file, size, 0);
+    }
+
+    public static Event scan(long time, int scans) {
+      return new Event(time, null, 0, scans);
+    }
+  }
+
+  public static class Result {
+    long compactions;
+    // bytes read plus bytes written by compactions
+    long compactionBytes;
+    // files opened by scans
+    long scanFileReads;
+    int maxFiles;
+    long finalBytes;
+
+    @Override
+    public String toString() {
+      return "compactions=" + compactions + ", compactionBytes=" + compactionBytes
+          + ", scanFileReads=" + scanFileReads + ", maxFiles=" + maxFiles + ", finalBytes="
+          + finalBytes;
+    }
+  }
+
+  private static class Running {
+    final CompactionJob job;
+    final long finishNanos;
+
+    Running(CompactionJob job, long finishNanos) {
+      this.job = job;
+      this.finishNanos = finishNanos;
+    }
+  }
+
+  // scans within this window determine the scan rate passed to the planner
+  private static final long SCAN_WINDOW_SECS = 60;
+
+  private static final TabletId TABLET =
+      new TabletIdImpl(new KeyExtent(TableId.of("1"), null, null));
+
+  private final double bytesPerSec;
+  private final double ratio;
+
+  private long nowNanos;
+  private int outputCount;
+  private final Set<CompactableFile> files = new HashSet<>();
+  private final List<Running> running = new ArrayList<>();
+  private final Deque<Event> recentScans = new ArrayDeque<>();
+  private Result result;
+
+  /**
+   * @param bytesPerSec the throughput of every compaction
+   * @param ratio the compaction ratio passed to the planner
+   */
+  public CompactionPlannerSimulator(double bytesPerSec, double ratio) {
+    this.bytesPerSec = bytesPerSec;
+    this.ratio = ratio;
+  }
+
+  /**
+   * @return the simulated time, for planners that need a clock
+   */
+  public long nanoTime() {
+    return nowNanos;
+  }
+
+  public static List<Event> parse(Reader reader) throws IOException {
+    List<Event> events = new ArrayList<>();
+    BufferedReader lines = new BufferedReader(reader);
+    String line;
+    while ((line = lines.readLine()) != null) {
+      int comment = line.indexOf('#');
+      String[] tokens = (comment >= 0 ? line.substring(0, comment) : line).trim().split("\\s+");
+      if (tokens.length == 1 && tokens[0].isEmpty()) {
+        continue;
+      }
+      long time = Long.parseLong(tokens[0]);
+      switch (tokens[1]) {
+        case "add":
+          events.add(Event.add(time, tokens[2],
+              ConfigurationTypeHelper.getFixedMemoryAsBytes(tokens[3])));
+          break;
+        case "scan":
+          events.add(Event.scan(time, Integer.parseInt(tokens[2])));
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown event " + line);
+      }
+    }
+    return events;
+  }
+
+  public Result run(CompactionPlanner planner, List<Event> history) {
+    nowNanos = 0;
+    outputCount = 0;
+    files.clear();
+    running.clear();
+    recentScans.clear();
+    result = new Result();
+
+    for (Event event : history) {
+      long eventNanos = TimeUnit.SECONDS.toNanos(event.time);
+      finishCompactions(planner, eventNanos);
+      nowNanos = Math.max(nowNanos, eventNanos);
+
+      if (event.file != null) {
+        files.add(createFile(event.file, event.size));
+        result.maxFiles = Math.max(result.maxFiles, files.size());
+      } else {
+        result.scanFileReads += (long) event.scans * files.size();
+        recentScans.add(event);
+      }
+      plan(planner);
+    }
+    finishCompactions(planner, Long.MAX_VALUE);
+
+    result.finalBytes = files.stream().mapToLong(CompactableFile::getEstimatedSize).sum();
+    return result;
+  }
+
+  private void finishCompactions(CompactionPlanner planner, long untilNanos) {
+    while (!running.isEmpty()) {
+      Running next = running.stream().min(Comparator.comparingLong(r -> r.finishNanos)).get();
+      if (next.finishNanos > untilNanos) {
+        break;
+      }
+      running.remove(next);
+      nowNanos = Math.max(nowNanos, next.finishNanos);
+      files.removeAll(next.job.getFiles());
+      files.add(createFile("C" + outputCount++, size(next.job.getFiles())));
+      plan(planner);
+    }
+  }
+
+  private void plan(CompactionPlanner planner) {
+    Set<CompactableFile> compacting = new HashSet<>();
+    running.forEach(r -> compacting.addAll(r.job.getFiles()));
+    Set<CompactableFile> all = Set.copyOf(files);
+    Set<CompactableFile> candidates = new HashSet<>(files);
+    candidates.removeAll(compacting);
+    List<CompactionJob> jobs = new ArrayList<>();
+    running.forEach(r -> jobs.add(r.job));
+
+    long windowStart = nowNanos - TimeUnit.SECONDS.toNanos(SCAN_WINDOW_SECS);
+    while (!recentScans.isEmpty()
+        && TimeUnit.SECONDS.toNanos(recentScans.peek().time) < windowStart) {
+      recentScans.poll();
+    }
+    double scanRate =
+        recentScans.stream().mapToLong(e -> e.scans).sum() / (double) SCAN_WINDOW_SECS;
+
+    var plan = planner.makePlan(new SimPlanningParameters(all, candidates, jobs, scanRate));
+    for (CompactionJob job : plan.getJobs()) {
+      if (!compacting.containsAll(job.getFiles()) && candidates.containsAll(job.getFiles())) {
+        long size = size(job.getFiles());
+        compacting.addAll(job.getFiles());
+        candidates.removeAll(job.getFiles());
+        running.add(new Running(job, nowNanos + (long) (size / bytesPerSec * 1e9)));
+        result.compactions++;
+        result.compactionBytes += 2 * size;
+      }
+    }
+  }
+
+  private class SimPlanningParameters implements CompactionPlanner.PlanningParameters {
+    private final Set<CompactableFile> all;
+    private final Set<CompactableFile> candidates;
+    private final List<CompactionJob> running;
+    private final double scanRate;
+
+    SimPlanningParameters(Set<CompactableFile> all, Set<CompactableFile> candidates,
+        List<CompactionJob> running, double scanRate) {
+      this.all = all;
+      this.candidates = candidates;
+      this.running = running;
+      this.scanRate = scanRate;
+    }
+
+    @Override
+    public TableId getTableId() {
+      return TABLET.getTable();
+    }
+
+    @Override
+    public TabletId getTabletId() {
+      return TABLET;
+    }
+
+    @Override
+    public double getScanRate() {
+      return scanRate;
+    }
+
+    @Override
+    public double getFilesPerScan() {
+      return scanRate > 0 ? all.size() : 0;
+    }
+
+    @Override
+    public ServiceEnvironment getServiceEnvironment() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public CompactionKind getKind() {
+      return CompactionKind.SYSTEM;
+    }
+
+    @Override
+    public double getRatio() {
+      return ratio;
+    }
+
+    @Override
+    public Collection<CompactableFile> getAll() {
+      return all;
+    }
+
+    @Override
+    public Collection<CompactableFile> getCandidates() {
+      return candidates;
+    }
+
+    @Override
+    public Collection<CompactionJob> getRunningCompactions() {
+      return running;
+    }
+
+    @Override
+    public Map<String,String> getExecutionHints() {
+      return Map.of();
+    }
+
+    @Override
+    public CompactionPlan.Builder createPlanBuilder() {
+      return new CompactionPlanImpl.BuilderImpl(CompactionKind.SYSTEM, all, candidates);
+    }
+  }
+
+  private static CompactableFile createFile(String name, long size) {
+    return CompactableFile
+        .create(URI.create("hdfs://fake/accumulo/tables/1/t-0000000z/" + name + ".rf"), size, 0);
+  }
+
+  private static long size(Collection<CompactableFile> files) {
+    return files.stream().mapToLong(CompactableFile::getEstimatedSize).sum();
+  }
+
+  public static CompactionPlanner.InitParameters initParams(Map<String,String> options) {
+    return new CompactionPlannerInitParams(CompactionServiceId.of("sim"),
+        Property.COMPACTION_SERVICE_PREFIX.getKey(), options, null);
+  }
+
+  /**
+   * Replays a history file against the default and cost based planners and prints the results.
+   * Arguments are the history file, and optionally the compaction throughput in bytes per second
+   * and the executors option passed to both planners.
+   */
+  public static void main(String[] args) throws IOException {
+    List<Event> history;
+    try (Reader reader = Files.newBufferedReader(Path.of(args[0]), UTF_8)) {
+      history = parse(reader);
+    }
+    double bytesPerSec =
+        args.length > 1 ? ConfigurationTypeHelper.getFixedMemoryAsBytes(args[1]) : 50_000_000;
+    Map<String,String> options = new HashMap<>();
+    options.put("executors", args.length > 2 ? args[2]
+        : "[{\"name\":\"small\",\"type\":\"internal\",\"maxSize\":\"32M\",\"numThreads\":2},"
+            + "{\"name\":\"large\",\"type\":\"internal\",\"numThreads\":2}]");
+
+    var sim = new CompactionPlannerSimulator(bytesPerSec, 3.0);
+
+    var defaultPlanner = new DefaultCompactionPlanner();
+    defaultPlanner.init(initParams(options));
+    System.out.println("default    : " + sim.run(defaultPlanner, history));
+
+    var costPlanner = new CostBasedCompactionPlanner(sim::nanoTime);
+    costPlanner.init(initParams(options));
+    System.out.println("cost based : " + sim.run(costPlanner, history));
+  }
+}
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.spi.compaction;
+
+import static com.google.common.collect.MoreCollectors.onlyElement;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.apache.accumulo.core.client.admin.compaction.CompactableFile;
+import org.apache.accumulo.core.conf.ConfigurationTypeHelper;
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.data.TabletId;
+import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.core.dataImpl.TabletIdImpl;
+import org.apache.accumulo.core.spi.common.ServiceEnvironment;
+import org.apache.accumulo.core.spi.compaction.CompactionPlannerSimulator.Event;
+import org.apache.accumulo.core.util.compaction.CompactionPlanImpl;
+import org.junit.jupiter.api.Test;
+
+public class CostBasedCompactionPlannerTest {
+
+  private static final TabletId TABLET =
+      new TabletIdImpl(new KeyExtent(TableId.of("1"), null, null));
+
+  private final AtomicLong clock = new AtomicLong();
+
+  private CostBasedCompactionPlanner createPlanner(String... optionPairs) {
+    return createPlanner(clock::get, optionPairs);
+  }
+
+  private static CostBasedCompactionPlanner createPlanner(LongSupplier nanoTime,
+      String... optionPairs) {
+    Map<String,String> options = new HashMap<>();
+    options.put("executors", "[{\"name\":\"small\",\"type\":\"internal\",\"numThreads\":1}]");
+    for (int i = 0; i < optionPairs.length; i += 2) {
+      options.put(optionPairs[i], optionPairs[i + 1]);
+    }
+    var planner = new CostBasedCompactionPlanner(nanoTime);
+    planner.init(CompactionPlannerSimulator.initParams(options));
+    return planner;
+  }
+
+  @Test
+  public void testTargetFiles() {
+    var planner = createPlanner("targetFiles", "3");
+    var files = createCFs("F1", "1M", "F2", "2M", "F3", "3M");
+    assertTrue(planner.makePlan(createParams(files, 0, 0)).getJobs().isEmpty());
+
+    // with two files over the target the three smallest files are compacted
+    files = createCFs("F1", "1M", "F2", "2M", "F3", "3M", "F4", "4M", "F5", "5M");
+    var job = getOnlyJob(planner.makePlan(createParams(files, 0, 0)));
+    assertEquals(createCFs("F1", "1M", "F2", "2M", "F3", "3M"), job.getFiles());
+  }
+
+  @Test
+  public void testScanSavings() {
+    var planner = createPlanner();
+    var files = createCFs("F1", "1M", "F2", "1M", "F3", "1M", "F4", "1M");
+
+    // under the target and not scanned, so compacting would only cost I/O
+    assertTrue(planner.makePlan(createParams(files, 0, 0)).getJobs().isEmpty());
+
+    // one scan a second reading every file saves more than compacting costs
+    var job = getOnlyJob(planner.makePlan(createParams(files, 1, 4)));
+    assertEquals(files, job.getFiles());
+
+    // the savings are too small when scans read few of the files
+    planner = createPlanner("horizon", "1s");
+    assertTrue(planner.makePlan(createParams(files, 1, 1)).getJobs().isEmpty());
+  }
+
+  @Test
+  public void testLearnsThroughput() {
+    var planner = createPlanner("targetFiles", "3", "maxLatency", "1s");
+    var files = createCFs("F1", "1M", "F2", "2M", "F3", "3M", "F4", "4M", "F5", "5M");
+    var job = getOnlyJob(planner.makePlan(createParams(files, 0, 0)));
+    assertTrue(Double.isNaN(planner.getThroughput(job.getExecutor())));
+
+    // the compaction completes two seconds after it was planned
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+    files = createCFs("F4", "4M", "F5", "5M", "C1", "6M");
+    assertTrue(planner.makePlan(createParams(files, 0, 0)).getJobs().isEmpty());
+    assertEquals(3 << 20, planner.getThroughput(job.getExecutor()), 1);
+
+    // at 3M/s compacting the three smallest files would take longer than the latency target, so
+    // only the two smallest are compacted
+    files = createCFs("G1", "1M", "G2", "1M", "G3", "2M", "G4", "4M", "G5", "8M");
+    job = getOnlyJob(planner.makePlan(createParams(files, 0, 0)));
+    assertEquals(createCFs("G1", "1M", "G2", "1M"), job.getFiles());
+  }
+
+  @Test
+  public void testUnknownTablet() {
+    var planner = createPlanner("targetFiles", "3");
+    var files = createCFs("F1", "1M", "F2", "2M", "F3", "3M", "F4", "4M", "F5", "5M");
+    var job = getOnlyJob(planner.makePlan(createParams(null, files, 0, 0)));
+    assertEquals(createCFs("F1", "1M", "F2", "2M", "F3", "3M"), job.getFiles());
+
+    // jobs of an unknown tablet are not tracked, so their completion teaches nothing
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+    files = createCFs("F4", "4M", "F5", "5M", "C1", "6M");
+    assertTrue(planner.makePlan(createParams(null, files, 0, 0)).getJobs().isEmpty());
+    assertTrue(Double.isNaN(planner.getThroughput(job.getExecutor())));
+  }
+
+  @Test
+  public void testSimulator() throws Exception {
+    var history = CompactionPlannerSimulator.parse(new StringReader(
+        "# a comment\n0 add F0 1M\n\n5 scan 100 # scans\n10 add F1 1M\n15 scan 100\n"));
+    assertEquals(4, history.size());
+
+    history = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      history.add(Event.add(i * 10L, "F" + i, 1 << 20));
+      history.add(Event.scan(i * 10L + 5, 100));
+    }
+
+    var sim = new CompactionPlannerSimulator(50_000_000, 3.0);
+    var noScanSavings = sim.run(createPlanner(sim::nanoTime, "scanCost", "0"), history);
+    assertEquals(100 << 20, noScanSavings.finalBytes);
+    assertEquals(11, noScanSavings.maxFiles);
+
+    var scanSavings = sim.run(createPlanner(sim::nanoTime), history);
+    assertEquals(100 << 20, scanSavings.finalBytes);
+    assertTrue(scanSavings.scanFileReads < noScanSavings.scanFileReads,
+        scanSavings + " " + noScanSavings);
+  }
+
+  private static CompactionJob getOnlyJob(CompactionPlan plan) {
+    return plan.getJobs().stream().collect(onlyElement());
+  }
+
+  private static Set<CompactableFile> createCFs(String... namesSizePairs) {
+    List<CompactableFile> files = new ArrayList<>();
+    for (int i = 0; i < namesSizePairs.length; i += 2) {
+      files.add(CompactableFile.create(
+          URI.create("hdfs://fake/accumulo/tables/1/t-0000000z/" + namesSizePairs[i] + ".rf"),
+          ConfigurationTypeHelper.getFixedMemoryAsBytes(namesSizePairs[i + 1]), 0));
+    }
+    return Set.copyOf(files);
+  }
+
+  private static CompactionPlanner.PlanningParameters createParams(Set<CompactableFile> all,
+      double scanRate, double filesPerScan) {
+    return createParams(TABLET, all, scanRate, filesPerScan);
+  }
+
+  private static CompactionPlanner.PlanningParameters createParams(TabletId tablet,
+      Set<CompactableFile> all, double scanRate, double filesPerScan) {
+    return new CompactionPlanner.PlanningParameters() {
+
+      @Override
+      public TableId getTableId() {
+        return TABLET.getTable();
+      }
+
+      @Override
+      public TabletId getTabletId() {
+        return tablet;
+      }
+
+      @Override
+      public double getScanRate() {
+        return scanRate;
+      }
+
+      @Override
+      public double getFilesPerScan() {
+        return filesPerScan;
+      }
+
+      @Override
+      public ServiceEnvironment getServiceEnvironment() {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public CompactionKind getKind() {
+        return CompactionKind.SYSTEM;
+      }
+
+      @Override
+      public double getRatio() {
+        return 3.0;
+      }
+
+      @Override
+      public Collection<CompactableFile> getAll() {
+        return all;
+      }
+
+      @Override
+      public Collection<CompactableFile> getCandidates() {
+        return all;
+      }
+
+      @Override
+      public Collection<CompactionJob> getRunningCompactions() {
+        return List.of();
+      }
+
+      @Override
+      public Map<String,String> getExecutionHints() {
+        return Map.of();
+      }
+
+      @Override
+      public CompactionPlan.Builder createPlanBuilder() {
+        return new CompactionPlanImpl.BuilderImpl(CompactionKind.SYSTEM, all, all);
+      }
+    };
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.spi.fs;
+
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.spi.common.ServiceEnvironment;
+import org.apache.accumulo.core.spi.common.ServiceEnvironment.Configuration;
+import org.apache.accumulo.core.spi.fs.VolumeChooserEnvironment.Scope;
+import org.apache.accumulo.core.volume.VolumeTiers;
+import org.apache.accumulo.core.volume.VolumeTiers.Tier;
+import org.apache.hadoop.io.Text;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TieredVolumeChooserTest {
+
+  private static final Set<String> ALL_OPTIONS =
+      Set.of("hdfs://ssd/accumulo", "hdfs://hdd/accumulo/", "hdfs://other/accumulo");
+
+  private ServiceEnvironment serviceEnv;
+  private Configuration tableConf;
+  private Configuration systemConf;
+  private TieredVolumeChooser chooser;
+
+  @BeforeEach
+  public void before() {
+    serviceEnv = createMock(ServiceEnvironment.class);
+    tableConf = createMock(Configuration.class);
+    systemConf = createMock(Configuration.class);
+    chooser = new TieredVolumeChooser();
+    expect(serviceEnv.getConfiguration(anyObject())).andReturn(tableConf).anyTimes();
+    expect(serviceEnv.getConfiguration()).andReturn(systemConf).anyTimes();
+  }
+
+  @AfterEach
+  public void after() {
+    verify(serviceEnv, tableConf, systemConf);
+  }
+
+  private void setTiers(String hot, String cold, String hotThreshold) {
+    expect(tableConf.getTableCustom(VolumeTiers.HOT_VOLUMES)).andReturn(hot).anyTimes();
+    expect(tableConf.getTableCustom(VolumeTiers.COLD_VOLUMES)).andReturn(cold).anyTimes();
+    expect(tableConf.getTableCustom(VolumeTiers.HOT_THRESHOLD)).andReturn(hotThreshold)
+        .anyTimes();
+    expect(tableConf.getTableCustom(VolumeTiers.COLD_THRESHOLD)).andReturn(null).anyTimes();
+  }
+
+  private Set<String> chooseForTable(OptionalDouble heat) {
+    VolumeChooserEnvironment env = new VolumeChooserEnvironment() {
+
+      @Override
+      public Text getEndRow() {
+        return null;
+      }
+
+      @Override
+      public Optional<TableId> getTable() {
+        return Optional.of(TableId.of("testTable"));
+      }
+
+      @Override
+      public Scope getChooserScope() {
+        return Scope.TABLE;
+      }
+
+      @Override
+      public ServiceEnvironment getServiceEnv() {
+        return serviceEnv;
+      }
+
+      @Override
+      public OptionalDouble getHeat() {
+        return heat;
+      }
+    };
+    return chooser.getPreferredVolumes(env, ALL_OPTIONS);
+  }
+
+  @Test
+  public void testChoosesByHeat() {
+    setTiers("hdfs://ssd/accumulo/", "hdfs://hdd/accumulo", "10");
+    replay(serviceEnv, tableConf, systemConf);
+    assertEquals(Set.of("hdfs://ssd/accumulo"), chooseForTable(OptionalDouble.of(10)));
+    assertEquals(Set.of("hdfs://ssd/accumulo"), chooseForTable(OptionalDouble.of(25)));
+    assertEquals(Set.of("hdfs://hdd/accumulo/"), chooseForTable(OptionalDouble.of(9.9)));
+    assertEquals(Set.of("hdfs://hdd/accumulo/"), chooseForTable(OptionalDouble.of(0)));
+  }
+
+  @Test
+  public void testFallsBackToPreferred() {
+    expect(tableConf.getTableCustom("volume.preferred")).andReturn("hdfs://other/accumulo")
+        .anyTimes();
+    setTiers(null, "hdfs://hdd/accumulo", null);
+    replay(serviceEnv, tableConf, systemConf);
+    // no heat known
+    assertEquals(Set.of("hdfs://other/accumulo"), chooseForTable(OptionalDouble.empty()));
+    // tiers not fully configured
+    assertEquals(Set.of("hdfs://other/accumulo"), chooseForTable(OptionalDouble.of(5)));
+  }
+
+  @Test
+  public void testTierNotInOptions() {
+    setTiers("hdfs://nvme/accumulo", "hdfs://hdd/accumulo", null);
+    replay(serviceEnv, tableConf, systemConf);
+    assertThrows(IllegalArgumentException.class, () -> chooseForTable(OptionalDouble.of(5)));
+    assertEquals(Set.of("hdfs://hdd/accumulo/"), chooseForTable(OptionalDouble.of(0.1)));
+  }
+
+  @Test
+  public void testMigrationTier() {
+    var props = Map.of(VolumeTiers.HOT_VOLUMES, "hdfs://ssd/accumulo", VolumeTiers.COLD_VOLUMES,
+        "hdfs://hdd/accumulo", VolumeTiers.HOT_THRESHOLD, "4");
+    VolumeTiers tiers = VolumeTiers.fromTableCustom(props::get).orElseThrow();
+    replay(serviceEnv, tableConf, systemConf);
+
+    assertEquals(Optional.of(Tier.HOT), tiers.getMigrationTier(OptionalDouble.of(4)));
+    assertEquals(Optional.empty(), tiers.getMigrationTier(OptionalDouble.of(3)));
+    assertEquals(Optional.of(Tier.COLD), tiers.getMigrationTier(OptionalDouble.of(2)));
+    assertEquals(Optional.empty(), tiers.getMigrationTier(OptionalDouble.empty()));
+
+    assertEquals(Optional.of(Tier.HOT),
+        tiers.getFileTier("hdfs://ssd/accumulo/tables/1/t-0001/F0001.rf"));
+    assertEquals(Optional.of(Tier.COLD),
+        tiers.getFileTier("hdfs://hdd/accumulo/tables/1/t-0001/F0002.rf"));
+    assertEquals(Optional.empty(),
+        tiers.getFileTier("hdfs://hdd/accumulo2/tables/1/t-0001/F0003.rf"));
+    assertEquals(Optional.empty(), VolumeTiers
+        .fromTableCustom(Map.of(VolumeTiers.HOT_VOLUMES, "hdfs://ssd/accumulo")::get));
+  }
+}
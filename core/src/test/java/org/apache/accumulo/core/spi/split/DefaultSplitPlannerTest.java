@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.spi.split;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.spi.common.ServiceEnvironment;
+import org.apache.accumulo.core.spi.split.SplitPlanner.SplitPoint;
+import org.apache.hadoop.io.Text;
+import org.junit.jupiter.api.Test;
+
+public class DefaultSplitPlannerTest {
+
+  private static class TestPlanningParameters implements SplitPlanner.PlanningParameters {
+
+    private final SortedMap<Double,Key> keys;
+    private final Text lastRow;
+    private final long size;
+    private double ingestRate = 0;
+    private double queryRate = 0;
+
+    TestPlanningParameters(SortedMap<Double,Key> keys, Text lastRow, long size) {
+      this.keys = keys;
+      this.lastRow = lastRow;
+      this.size = size;
+    }
+
+    @Override
+    public TableId getTableId() {
+      return TableId.of("1");
+    }
+
+    @Override
+    public Text getEndRow() {
+      return null;
+    }
+
+    @Override
+    public Text getPrevEndRow() {
+      return null;
+    }
+
+    @Override
+    public Text getLastRow() {
+      return lastRow;
+    }
+
+    @Override
+    public long getEstimatedSize() {
+      return size;
+    }
+
+    @Override
+    public long getSplitThreshold() {
+      return 1000;
+    }
+
+    @Override
+    public SortedMap<Double,Key> getKeyDistribution() {
+      return keys;
+    }
+
+    @Override
+    public double getIngestRate() {
+      return ingestRate;
+    }
+
+    @Override
+    public double getQueryRate() {
+      return queryRate;
+    }
+
+    @Override
+    public ServiceEnvironment getServiceEnv() {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private static DefaultSplitPlanner createPlanner(Map<String,String> opts) {
+    var planner = new DefaultSplitPlanner();
+    planner.init(new SplitPlanner.InitParameters() {
+      @Override
+      public Map<String,String> getOptions() {
+        return opts;
+      }
+
+      @Override
+      public TableId getTableId() {
+        return TableId.of("1");
+      }
+
+      @Override
+      public ServiceEnvironment getServiceEnv() {
+        throw new UnsupportedOperationException();
+      }
+    });
+    return planner;
+  }
+
+  /**
+   * Creates a distribution where every sampled fraction has its own row of the form r0000.
+   */
+  private static SortedMap<Double,Key> distribution(int samples) {
+    SortedMap<Double,Key> keys = new TreeMap<>();
+    for (int i = 1; i < samples; i++) {
+      keys.put(i / (double) samples, new Key(String.format("r%04d", i * 10)));
+    }
+    return keys;
+  }
+
+  private static List<String> rows(List<SplitPoint> points) {
+    return points.stream().map(p -> p.getRow().toString()).collect(Collectors.toList());
+  }
+
+  @Test
+  public void testMidPoint() {
+    var planner = createPlanner(Map.of());
+    var params = new TestPlanningParameters(distribution(32), new Text("r9999"), 10_000);
+    var points = planner.plan(params);
+    // only a single split is planned by default, the row is shortened using the preceding key
+    assertEquals(List.of("r016"), rows(points));
+    assertEquals(.5, points.get(0).getRatio());
+  }
+
+  @Test
+  public void testEmpty() {
+    var planner = createPlanner(Map.of("maxSplits", "5"));
+    var params = new TestPlanningParameters(new TreeMap<>(), new Text("r9999"), 10_000);
+    assertTrue(planner.plan(params).isEmpty());
+  }
+
+  @Test
+  public void testMultipleSplits() {
+    var planner = createPlanner(Map.of("maxSplits", "10"));
+
+    // four times the threshold should result in four pieces
+    var params = new TestPlanningParameters(distribution(32), new Text("r9999"), 4000);
+    var points = planner.plan(params);
+    assertEquals(List.of("r008", "r016", "r024"), rows(points));
+    assertEquals(List.of(.25, .5, .75),
+        points.stream().map(SplitPoint::getRatio).collect(Collectors.toList()));
+
+    // the number of pieces is limited by maxSplits
+    params = new TestPlanningParameters(distribution(32), new Text("r9999"), 400_000);
+    assertEquals(10, planner.plan(params).size());
+  }
+
+  @Test
+  public void testHotTablets() {
+    var planner = createPlanner(Map.of("maxSplits", "3", "hotIngestRate", "100"));
+    var params = new TestPlanningParameters(distribution(32), new Text("r9999"), 1500);
+    assertEquals(1, planner.plan(params).size());
+    params.ingestRate = 350;
+    assertEquals(List.of("r008", "r016", "r024"), rows(planner.plan(params)));
+
+    planner = createPlanner(Map.of("maxSplits", "3", "hotQueryRate", "100"));
+    params = new TestPlanningParameters(distribution(32), new Text("r9999"), 1500);
+    params.queryRate = 250;
+    assertEquals(List.of("r011", "r022"), rows(planner.plan(params)));
+  }
+
+  @Test
+  public void testBigRow() {
+    SortedMap<Double,Key> keys = new TreeMap<>();
+    keys.put(.1, new Key("a"));
+    keys.put(.3, new Key("b"));
+    keys.put(.4, new Key("c"));
+    keys.put(.5, new Key("c"));
+    var planner = createPlanner(Map.of());
+
+    // the row at the mid point is the last row, so an earlier row is chosen
+    var points = planner.plan(new TestPlanningParameters(keys, new Text("c"), 10_000));
+    assertEquals(List.of("b"), rows(points));
+    assertEquals(.3, points.get(0).getRatio());
+
+    // no row between .25 and .5 other than the last row, so can not split
+    keys.remove(.3);
+    assertTrue(planner.plan(new TestPlanningParameters(keys, new Text("c"), 10_000)).isEmpty());
+  }
+
+  @Test
+  public void testBadOptions() {
+    assertThrows(IllegalArgumentException.class, () -> createPlanner(Map.of("maxSplits", "0")));
+    assertThrows(IllegalArgumentException.class, () -> createPlanner(Map.of("foo", "1")));
+  }
+}
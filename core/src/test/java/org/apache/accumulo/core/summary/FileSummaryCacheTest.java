@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.core.summary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.accumulo.core.client.summary.SummarizerConfiguration;
+import org.apache.accumulo.core.client.summary.summarizers.FamilySummarizer;
+import org.apache.accumulo.core.client.summary.summarizers.VisibilitySummarizer;
+import org.junit.jupiter.api.Test;
+
+public class FileSummaryCacheTest {
+
+  @Test
+  public void testHitsAndMisses() {
+    FileSummaryCache cache = new FileSummaryCache(100);
+    AtomicInteger loads = new AtomicInteger();
+    Supplier<SummaryReader> loader = () -> {
+      loads.incrementAndGet();
+      return new SummaryReader();
+    };
+
+    Set<SummarizerConfiguration> fam =
+        Set.of(SummarizerConfiguration.builder(FamilySummarizer.class).build());
+    Set<SummarizerConfiguration> vis =
+        Set.of(SummarizerConfiguration.builder(VisibilitySummarizer.class).build());
+
+    SummaryReader r1 = cache.get("hdfs://nn/t1/F1.rf", fam, null, loader);
+    assertSame(r1, cache.get("hdfs://nn/t1/F1.rf", fam, null, loader));
+    assertEquals(1, loads.get());
+
+    // a different file, summarizer selection, or pattern must not share an entry
+    assertNotSame(r1, cache.get("hdfs://nn/t1/F2.rf", fam, null, loader));
+    assertNotSame(r1, cache.get("hdfs://nn/t1/F1.rf", vis, null, loader));
+    assertNotSame(r1, cache.get("hdfs://nn/t1/F1.rf", fam, ".*Family.*", loader));
+    assertEquals(4, loads.get());
+
+    assertEquals(1, cache.getHitCount());
+    assertEquals(4, cache.getMissCount());
+  }
+
+  @Test
+  public void testDeletedNotCached() {
+    FileSummaryCache cache = new FileSummaryCache(100);
+    AtomicInteger loads = new AtomicInteger();
+    Supplier<SummaryReader> loader = () -> {
+      loads.incrementAndGet();
+      return SummaryReader.getEmptyReader(new SummarizerFactory());
+    };
+
+    cache.get("hdfs://nn/t1/F1.rf", Set.of(), null, loader);
+    cache.get("hdfs://nn/t1/F1.rf", Set.of(), null, loader);
+    assertEquals(2, loads.get());
+    assertEquals(0, cache.getHitCount());
+    assertEquals(0, cache.getSize());
+  }
+}
@@ -89,6 +89,7 @@ public class AccumuloInputFormat implements InputFormat<Key,Value> {
       }
 
     };
+    recordReader.setReporter(reporter);
     recordReader.initialize(split, job);
     return recordReader;
   }
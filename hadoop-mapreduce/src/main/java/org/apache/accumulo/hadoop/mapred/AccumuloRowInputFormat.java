@@ -90,6 +90,7 @@ public class AccumuloRowInputFormat implements InputFormat<Text,PeekingIterator<
             return new PeekingIterator<>();
           }
         };
+    recordReader.setReporter(reporter);
     recordReader.initialize(split, job);
     return recordReader;
   }
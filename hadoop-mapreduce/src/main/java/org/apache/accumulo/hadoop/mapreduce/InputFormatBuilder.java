@@ -204,6 +204,9 @@ public interface InputFormatBuilder {
      * reading an online table speculative execution can put more load on an already slow tablet
      * server.
      * <p>
+     * How the files are read can be tuned with {@link #offlineReaderThreads(int)} and
+     * {@link #offlineCacheSize(long)}.
+     * <p>
      * By default, this feature is <b>disabled</b>.
      */
     InputFormatOptions<T> offlineScan(boolean value);
@@ -221,7 +224,6 @@ public interface InputFormatBuilder {
      * <p>
      * This configuration is incompatible with:
      * <ul>
-     * <li>{@link #offlineScan(boolean)}</li>
      * <li>{@link #localIterators(boolean)}</li>
      * <li>{@link #scanIsolation(boolean)}</li>
      * </ul>
@@ -236,5 +238,45 @@ public interface InputFormatBuilder {
      * @since 2.1.0
      */
     InputFormatOptions<T> consistencyLevel(ConsistencyLevel level);
+
+    /**
+     * Plans InputSplits that each read about this many bytes, using the sizes of the tablets'
+     * files, instead of creating an InputSplit per tablet. Tablets larger than the target are
+     * divided between several InputSplits and smaller tablets hosted on the same host are grouped.
+     * Without {@link #batchScan(boolean)} only tablets that follow each other can be grouped. The
+     * splits of each host are planned concurrently. This setting applies to the whole job and is
+     * ignored when {@link #autoAdjustRanges(boolean)} is disabled.
+     * <p>
+     * By default, this feature is <b>disabled</b>.
+     *
+     * @param bytes the target size of each InputSplit, 0 to disable
+     * @since 3.1.0
+     */
+    InputFormatOptions<T> splitTargetSize(long bytes);
+
+    /**
+     * Sets the number of threads each task uses to read an offline table. With more than one
+     * thread the files of a tablet are opened and seeked concurrently before being merged, and the
+     * next batch of entries is read in the background while the current one is processed. This
+     * setting applies to the whole job and is only used with {@link #offlineScan(boolean)}.
+     * <p>
+     * By default, files are read by a single thread.
+     *
+     * @param threads the number of threads, at least 1
+     * @since 3.1.0
+     */
+    InputFormatOptions<T> offlineReaderThreads(int threads);
+
+    /**
+     * Sets the size of the block cache each task uses to read an offline table. The cache is
+     * shared by all the files the task reads. This setting applies to the whole job and is only
+     * used with {@link #offlineScan(boolean)}.
+     * <p>
+     * By default, blocks are not cached.
+     *
+     * @param bytes the size of the cache, 0 to disable
+     * @since 3.1.0
+     */
+    InputFormatOptions<T> offlineCacheSize(long bytes);
   }
 }
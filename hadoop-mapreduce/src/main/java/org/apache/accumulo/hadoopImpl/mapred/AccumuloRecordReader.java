@@ -46,6 +46,7 @@ import org.apache.accumulo.core.client.TableNotFoundException;
 import org.apache.accumulo.core.client.TableOfflineException;
 import org.apache.accumulo.core.client.sample.SamplerConfiguration;
 import org.apache.accumulo.core.clientImpl.ClientContext;
+import org.apache.accumulo.core.clientImpl.OfflineBatchScanner;
 import org.apache.accumulo.core.clientImpl.OfflineScanner;
 import org.apache.accumulo.core.clientImpl.ScannerImpl;
 import org.apache.accumulo.core.clientImpl.TabletLocator;
@@ -56,7 +57,10 @@ import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.dataImpl.KeyExtent;
 import org.apache.accumulo.core.security.Authorizations;
 import org.apache.accumulo.core.util.Pair;
+import org.apache.accumulo.hadoopImpl.mapreduce.CountingIterator;
 import org.apache.accumulo.hadoopImpl.mapreduce.InputTableConfig;
+import org.apache.accumulo.hadoopImpl.mapreduce.ScanCounters;
+import org.apache.accumulo.hadoopImpl.mapreduce.SplitPlanner;
 import org.apache.accumulo.hadoopImpl.mapreduce.SplitUtils;
 import org.apache.accumulo.hadoopImpl.mapreduce.lib.InputConfigurator;
 import org.apache.hadoop.io.Text;
@@ -64,6 +68,7 @@ import org.apache.hadoop.mapred.InputFormat;
 import org.apache.hadoop.mapred.InputSplit;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.RecordReader;
+import org.apache.hadoop.mapred.Reporter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -82,6 +87,8 @@ public abstract class AccumuloRecordReader<K,V> implements RecordReader<K,V> {
   protected RangeInputSplit split;
   private org.apache.accumulo.hadoopImpl.mapreduce.RangeInputSplit baseSplit;
   protected ScannerBase scannerBase;
+  private Reporter reporter;
+  private CountingIterator counter;
 
   public AccumuloRecordReader(Class<?> callingClass) {
     this.CLASS = callingClass;
@@ -121,6 +128,13 @@ public abstract class AccumuloRecordReader<K,V> implements RecordReader<K,V> {
     }
   }
 
+  /**
+   * Sets the reporter the {@link ScanCounters} of the input split are reported to when closed.
+   */
+  public void setReporter(Reporter reporter) {
+    this.reporter = reporter;
+  }
+
   /**
    * Initialize a scanner over the given input split using this task attempt configuration.
    */
@@ -144,15 +158,28 @@ public abstract class AccumuloRecordReader<K,V> implements RecordReader<K,V> {
     log.debug("Creating scanner for table: " + table);
     log.debug("Authorizations are: " + authorizations);
 
+    Boolean isOffline = baseSplit.isOffline();
+    if (isOffline == null) {
+      isOffline = tableConfig.isOfflineScan();
+    }
+    int offlineReaderThreads = InputConfigurator.getOfflineReaderThreads(CLASS, job);
+    long offlineCacheSize = InputConfigurator.getOfflineCacheSize(CLASS, job);
+
     if (baseSplit instanceof BatchInputSplit) {
       BatchScanner scanner;
       BatchInputSplit multiRangeSplit = (BatchInputSplit) baseSplit;
 
       try {
-        // Note: BatchScanner will use at most one thread per tablet, currently BatchInputSplit
-        // will not span tablets
-        int scanThreads = 1;
-        scanner = context.createBatchScanner(baseSplit.getTableName(), authorizations, scanThreads);
+        if (isOffline) {
+          scanner = new OfflineBatchScanner(context, TableId.of(baseSplit.getTableId()),
+              authorizations, offlineReaderThreads, offlineCacheSize);
+        } else {
+          // Note: BatchScanner will use at most one thread per tablet, currently BatchInputSplit
+          // will not span tablets
+          int scanThreads = 1;
+          scanner =
+              context.createBatchScanner(baseSplit.getTableName(), authorizations, scanThreads);
+        }
         setupIterators(job, scanner, baseSplit);
         if (classLoaderContext != null) {
           scanner.setClassLoaderContext(classLoaderContext);
@@ -167,10 +194,6 @@ public abstract class AccumuloRecordReader<K,V> implements RecordReader<K,V> {
 
     } else if (baseSplit instanceof RangeInputSplit) {
       split = (RangeInputSplit) baseSplit;
-      Boolean isOffline = baseSplit.isOffline();
-      if (isOffline == null) {
-        isOffline = tableConfig.isOfflineScan();
-      }
 
       Boolean isIsolated = baseSplit.isIsolatedScan();
       if (isIsolated == null) {
@@ -186,7 +209,11 @@ public abstract class AccumuloRecordReader<K,V> implements RecordReader<K,V> {
 
       try {
         if (isOffline) {
-          scanner = new OfflineScanner(context, TableId.of(baseSplit.getTableId()), authorizations);
+          OfflineScanner offlineScanner =
+              new OfflineScanner(context, TableId.of(baseSplit.getTableId()), authorizations);
+          offlineScanner.setReaderThreads(offlineReaderThreads);
+          offlineScanner.setCacheSize(offlineCacheSize);
+          scanner = offlineScanner;
         } else {
           scanner = new ScannerImpl(context, TableId.of(baseSplit.getTableId()), authorizations);
           scanner.setConsistencyLevel(cl == null ? ConsistencyLevel.IMMEDIATE : cl);
@@ -245,12 +272,22 @@ public abstract class AccumuloRecordReader<K,V> implements RecordReader<K,V> {
       scannerBase.setExecutionHints(executionHints);
     }
 
-    scannerIterator = scannerBase.iterator();
+    counter = new CountingIterator(scannerBase.iterator());
+    scannerIterator = counter;
     numKeysRead = 0;
   }
 
   @Override
   public void close() {
+    if (counter != null) {
+      log.debug("Read {} entries, {} bytes from input split {}", counter.getEntries(),
+          counter.getBytes(), baseSplit);
+      if (reporter != null) {
+        reporter.incrCounter(ScanCounters.ENTRIES_READ, counter.getEntries());
+        reporter.incrCounter(ScanCounters.BYTES_READ, counter.getBytes());
+      }
+      counter = null;
+    }
     if (scannerBase != null) {
       scannerBase.close();
     }
@@ -307,11 +344,11 @@ public abstract class AccumuloRecordReader<K,V> implements RecordReader<K,V> {
         }
 
         boolean batchScan = InputConfigurator.isBatchScan(callingClass, job);
-        boolean supportBatchScan = !(tableConfig.isOfflineScan()
-            || tableConfig.shouldUseIsolatedScanners() || tableConfig.shouldUseLocalIterators());
+        boolean supportBatchScan =
+            !(tableConfig.shouldUseIsolatedScanners() || tableConfig.shouldUseLocalIterators());
         if (batchScan && !supportBatchScan) {
-          throw new IllegalArgumentException("BatchScanner optimization not available for offline"
-              + " scan, isolated, or local iterators");
+          throw new IllegalArgumentException(
+              "BatchScanner optimization not available for isolated or local iterators");
         }
 
         boolean autoAdjust = tableConfig.shouldAutoAdjustRanges();
@@ -361,6 +398,30 @@ public abstract class AccumuloRecordReader<K,V> implements RecordReader<K,V> {
           throw new IOException(e);
         }
 
+        long splitTargetSize = InputConfigurator.getSplitTargetSize(callingClass, job);
+        if (autoAdjust && splitTargetSize > 0) {
+          // size the splits from the tablets' files instead of creating one per tablet
+          SplitPlanner.planSplits(context, tableId, binnedRanges, splitTargetSize, batchScan)
+              .forEach((location, planned) -> planned.forEach(splitRanges -> {
+                if (batchScan) {
+                  BatchInputSplit split =
+                      new BatchInputSplit(tableName, tableId, splitRanges, new String[] {location});
+                  SplitUtils.updateSplit(split, tableConfig);
+                  split.setOffline(tableConfig.isOfflineScan());
+                  splits.add(split);
+                } else {
+                  RangeInputSplit split = new RangeInputSplit(tableName, tableId.canonical(),
+                      splitRanges.get(0), new String[] {location});
+                  SplitUtils.updateSplit(split, tableConfig);
+                  split.setOffline(tableConfig.isOfflineScan());
+                  split.setIsolatedScan(tableConfig.shouldUseIsolatedScanners());
+                  split.setUsesLocalIterators(tableConfig.shouldUseLocalIterators());
+                  splits.add(split);
+                }
+              }));
+          continue;
+        }
+
         HashMap<Range,ArrayList<String>> splitsToAdd = null;
 
         if (!autoAdjust) {
@@ -388,6 +449,7 @@ public abstract class AccumuloRecordReader<K,V> implements RecordReader<K,V> {
               BatchInputSplit split =
                   new BatchInputSplit(tableName, tableId, clippedRanges, new String[] {location});
               SplitUtils.updateSplit(split, tableConfig);
+              split.setOffline(tableConfig.isOfflineScan());
 
               splits.add(split);
             } else {
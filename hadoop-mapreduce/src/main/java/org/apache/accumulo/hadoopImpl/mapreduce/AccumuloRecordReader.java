@@ -46,6 +46,7 @@ import org.apache.accumulo.core.client.TableNotFoundException;
 import org.apache.accumulo.core.client.TableOfflineException;
 import org.apache.accumulo.core.client.sample.SamplerConfiguration;
 import org.apache.accumulo.core.clientImpl.ClientContext;
+import org.apache.accumulo.core.clientImpl.OfflineBatchScanner;
 import org.apache.accumulo.core.clientImpl.OfflineScanner;
 import org.apache.accumulo.core.clientImpl.ScannerImpl;
 import org.apache.accumulo.core.clientImpl.TabletLocator;
@@ -59,6 +60,7 @@ import org.apache.accumulo.core.util.Pair;
 import org.apache.accumulo.hadoopImpl.mapreduce.lib.InputConfigurator;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapreduce.Counter;
 import org.apache.hadoop.mapreduce.InputSplit;
 import org.apache.hadoop.mapreduce.JobContext;
 import org.apache.hadoop.mapreduce.RecordReader;
@@ -80,6 +82,8 @@ public abstract class AccumuloRecordReader<K,V> extends RecordReader<K,V> {
   protected Iterator<Map.Entry<Key,Value>> scannerIterator;
   protected ScannerBase scannerBase;
   protected RangeInputSplit split;
+  private TaskAttemptContext attempt;
+  private CountingIterator counter;
 
   public AccumuloRecordReader(Class<?> callingClass) {
     this.CLASS = callingClass;
@@ -141,6 +145,7 @@ public abstract class AccumuloRecordReader<K,V> extends RecordReader<K,V> {
   public void initialize(InputSplit inSplit, TaskAttemptContext attempt) throws IOException {
 
     split = (RangeInputSplit) inSplit;
+    this.attempt = attempt;
     log.debug("Initializing input split: " + split);
     Configuration conf = attempt.getConfiguration();
 
@@ -161,15 +166,27 @@ public abstract class AccumuloRecordReader<K,V> extends RecordReader<K,V> {
     log.debug("Creating scanner for table: " + table);
     log.debug("Authorizations are: " + authorizations);
 
+    Boolean isOffline = split.isOffline();
+    if (isOffline == null) {
+      isOffline = tableConfig.isOfflineScan();
+    }
+    int offlineReaderThreads = InputConfigurator.getOfflineReaderThreads(CLASS, conf);
+    long offlineCacheSize = InputConfigurator.getOfflineCacheSize(CLASS, conf);
+
     if (split instanceof BatchInputSplit) {
       BatchInputSplit batchSplit = (BatchInputSplit) split;
 
       BatchScanner scanner;
       try {
-        // Note: BatchScanner will use at most one thread per tablet, currently BatchInputSplit
-        // will not span tablets
-        int scanThreads = 1;
-        scanner = context.createBatchScanner(split.getTableName(), authorizations, scanThreads);
+        if (isOffline) {
+          scanner = new OfflineBatchScanner(context, TableId.of(split.getTableId()),
+              authorizations, offlineReaderThreads, offlineCacheSize);
+        } else {
+          // Note: BatchScanner will use at most one thread per tablet, currently BatchInputSplit
+          // will not span tablets
+          int scanThreads = 1;
+          scanner = context.createBatchScanner(split.getTableName(), authorizations, scanThreads);
+        }
         setupIterators(attempt, scanner, split);
         if (classLoaderContext != null) {
           scanner.setClassLoaderContext(classLoaderContext);
@@ -186,11 +203,6 @@ public abstract class AccumuloRecordReader<K,V> extends RecordReader<K,V> {
     } else {
       Scanner scanner;
 
-      Boolean isOffline = split.isOffline();
-      if (isOffline == null) {
-        isOffline = tableConfig.isOfflineScan();
-      }
-
       Boolean isIsolated = split.isIsolatedScan();
       if (isIsolated == null) {
         isIsolated = tableConfig.shouldUseIsolatedScanners();
@@ -203,7 +215,11 @@ public abstract class AccumuloRecordReader<K,V> extends RecordReader<K,V> {
 
       try {
         if (isOffline) {
-          scanner = new OfflineScanner(context, TableId.of(split.getTableId()), authorizations);
+          OfflineScanner offlineScanner =
+              new OfflineScanner(context, TableId.of(split.getTableId()), authorizations);
+          offlineScanner.setReaderThreads(offlineReaderThreads);
+          offlineScanner.setCacheSize(offlineCacheSize);
+          scanner = offlineScanner;
         } else {
           // Not using public API to create scanner so that we can use table ID
           // Table ID is used in case of renames during M/R job
@@ -264,12 +280,20 @@ public abstract class AccumuloRecordReader<K,V> extends RecordReader<K,V> {
       scannerBase.setExecutionHints(executionHints);
     }
 
-    scannerIterator = scannerBase.iterator();
+    counter = new CountingIterator(scannerBase.iterator());
+    scannerIterator = counter;
     numKeysRead = 0;
   }
 
   @Override
   public void close() {
+    if (counter != null) {
+      log.debug("Read {} entries, {} bytes from input split {}", counter.getEntries(),
+          counter.getBytes(), split);
+      incrementCounter(ScanCounters.ENTRIES_READ, counter.getEntries());
+      incrementCounter(ScanCounters.BYTES_READ, counter.getBytes());
+      counter = null;
+    }
     if (scannerBase != null) {
       scannerBase.close();
     }
@@ -278,6 +302,14 @@ public abstract class AccumuloRecordReader<K,V> extends RecordReader<K,V> {
     }
   }
 
+  private void incrementCounter(ScanCounters name, long amount) {
+    // contexts created outside of a running task may not support counters
+    Counter c = attempt.getCounter(name);
+    if (c != null) {
+      c.increment(amount);
+    }
+  }
+
   @Override
   public float getProgress() {
     if (numKeysRead > 0 && currentKey == null) {
@@ -339,11 +371,11 @@ public abstract class AccumuloRecordReader<K,V> extends RecordReader<K,V> {
         }
 
         boolean batchScan = InputConfigurator.isBatchScan(callingClass, context.getConfiguration());
-        boolean supportBatchScan = !(tableConfig.isOfflineScan()
-            || tableConfig.shouldUseIsolatedScanners() || tableConfig.shouldUseLocalIterators());
+        boolean supportBatchScan =
+            !(tableConfig.shouldUseIsolatedScanners() || tableConfig.shouldUseLocalIterators());
         if (batchScan && !supportBatchScan) {
-          throw new IllegalArgumentException("BatchScanner optimization not available for offline"
-              + " scan, isolated, or local iterators");
+          throw new IllegalArgumentException(
+              "BatchScanner optimization not available for isolated or local iterators");
         }
 
         boolean autoAdjust = tableConfig.shouldAutoAdjustRanges();
@@ -394,6 +426,31 @@ public abstract class AccumuloRecordReader<K,V> extends RecordReader<K,V> {
           throw new IOException(e);
         }
 
+        long splitTargetSize =
+            InputConfigurator.getSplitTargetSize(callingClass, context.getConfiguration());
+        if (autoAdjust && splitTargetSize > 0) {
+          // size the splits from the tablets' files instead of creating one per tablet
+          SplitPlanner.planSplits(clientContext, tableId, binnedRanges, splitTargetSize, batchScan)
+              .forEach((location, planned) -> planned.forEach(splitRanges -> {
+                if (batchScan) {
+                  BatchInputSplit split =
+                      new BatchInputSplit(tableName, tableId, splitRanges, new String[] {location});
+                  SplitUtils.updateSplit(split, tableConfig);
+                  split.setOffline(tableConfig.isOfflineScan());
+                  splits.add(split);
+                } else {
+                  RangeInputSplit split = new RangeInputSplit(tableName, tableId.canonical(),
+                      splitRanges.get(0), new String[] {location});
+                  SplitUtils.updateSplit(split, tableConfig);
+                  split.setOffline(tableConfig.isOfflineScan());
+                  split.setIsolatedScan(tableConfig.shouldUseIsolatedScanners());
+                  split.setUsesLocalIterators(tableConfig.shouldUseLocalIterators());
+                  splits.add(split);
+                }
+              }));
+          continue;
+        }
+
         // all of this code will add either range per each locations or split ranges and add
         // range-location split
         // Map from Range to Array of Locations, we only use this if we're don't split
@@ -423,6 +480,7 @@ public abstract class AccumuloRecordReader<K,V> extends RecordReader<K,V> {
               BatchInputSplit split =
                   new BatchInputSplit(tableName, tableId, clippedRanges, new String[] {location});
               SplitUtils.updateSplit(split, tableConfig);
+              split.setOffline(tableConfig.isOfflineScan());
 
               splits.add(split);
             } else {
@@ -175,16 +175,6 @@ public class BatchInputSplit extends RangeInputSplit {
     throw new UnsupportedOperationException();
   }
 
-  @Override
-  public Boolean isOffline() {
-    throw new UnsupportedOperationException();
-  }
-
-  @Override
-  public void setOffline(Boolean offline) {
-    throw new UnsupportedOperationException();
-  }
-
   @Override
   public Boolean usesLocalIterators() {
     throw new UnsupportedOperationException();
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.hadoopImpl.mapreduce;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Value;
+
+/**
+ * Counts the entries and bytes read from a scanner, to report them as {@link ScanCounters}.
+ */
+public class CountingIterator implements Iterator<Entry<Key,Value>> {
+
+  private final Iterator<Entry<Key,Value>> source;
+  private long entries = 0;
+  private long bytes = 0;
+
+  public CountingIterator(Iterator<Entry<Key,Value>> source) {
+    this.source = source;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return source.hasNext();
+  }
+
+  @Override
+  public Entry<Key,Value> next() {
+    Entry<Key,Value> entry = source.next();
+    entries++;
+    bytes += entry.getKey().getSize() + entry.getValue().getSize();
+    return entry;
+  }
+
+  public long getEntries() {
+    return entries;
+  }
+
+  public long getBytes() {
+    return bytes;
+  }
+}
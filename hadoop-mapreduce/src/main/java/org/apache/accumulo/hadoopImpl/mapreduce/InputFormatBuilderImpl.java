@@ -51,6 +51,9 @@ public class InputFormatBuilderImpl<T>
   private String clientPropsPath;
   private String currentTable;
   private Map<String,InputTableConfig> tableConfigMap = Collections.emptyMap();
+  private long splitTargetSize = 0;
+  private int offlineReaderThreads = 1;
+  private long offlineCacheSize = 0;
 
   public InputFormatBuilderImpl(Class<?> callingClass) {
     this.callingClass = callingClass;
@@ -181,6 +184,33 @@ public class InputFormatBuilderImpl<T>
     return this;
   }
 
+  @Override
+  public InputFormatOptions<T> splitTargetSize(long bytes) {
+    if (bytes < 0) {
+      throw new IllegalArgumentException("Split target size must not be negative: " + bytes);
+    }
+    splitTargetSize = bytes;
+    return this;
+  }
+
+  @Override
+  public InputFormatOptions<T> offlineReaderThreads(int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Offline reader threads must be positive: " + threads);
+    }
+    offlineReaderThreads = threads;
+    return this;
+  }
+
+  @Override
+  public InputFormatOptions<T> offlineCacheSize(long bytes) {
+    if (bytes < 0) {
+      throw new IllegalArgumentException("Offline cache size must not be negative: " + bytes);
+    }
+    offlineCacheSize = bytes;
+    return this;
+  }
+
   @Override
   public void store(T j) throws AccumuloException, AccumuloSecurityException {
     if (j instanceof Job) {
@@ -250,6 +280,9 @@ public class InputFormatBuilderImpl<T>
     } else {
       InputConfigurator.setInputTableConfigs(callingClass, conf, tableConfigMap);
     }
+    InputConfigurator.setSplitTargetSize(callingClass, conf, splitTargetSize);
+    InputConfigurator.setOfflineReaderThreads(callingClass, conf, offlineReaderThreads);
+    InputConfigurator.setOfflineCacheSize(callingClass, conf, offlineCacheSize);
     InputConfigurator.setJobStored(callingClass, conf);
   }
 
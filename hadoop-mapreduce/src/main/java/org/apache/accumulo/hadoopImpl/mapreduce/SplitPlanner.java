@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.hadoopImpl.mapreduce;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.accumulo.core.clientImpl.ClientContext;
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.core.metadata.schema.DataFileValue;
+import org.apache.accumulo.core.metadata.schema.TabletMetadata;
+import org.apache.accumulo.core.metadata.schema.TabletMetadata.ColumnType;
+import org.apache.accumulo.core.metadata.schema.TabletsMetadata;
+import org.apache.hadoop.io.Text;
+
+/**
+ * Plans input splits of roughly equal size from the sizes of the tablets' files, instead of one
+ * split per tablet. Ranges of tablets larger than the target size are divided by interpolating
+ * rows, and ranges of smaller tablets hosted on the same host are grouped until they reach the
+ * target size. Without the batch scanner a split reads a single range, so only ranges that follow
+ * each other are grouped. The metadata of the tablets is read, and the tablets of each host are
+ * planned, concurrently.
+ *
+ * <p>
+ * A tablet's size is spread evenly over the ranges that overlap it, and data that is only in
+ * memory is not counted.
+ */
+public class SplitPlanner {
+
+  // keep a single huge tablet from producing an unreasonable number of splits
+  static final int MAX_PARTS = 1000;
+
+  // fewest tablets whose metadata is worth reading in a separate scan
+  static final int MIN_RUN_LENGTH = 100;
+
+  // bytes of row used to interpolate split points beyond the rows bounding a range
+  private static final int EXTRA_DEPTH = 2;
+
+  /**
+   * A tablet that overlaps the input, with the input ranges clipped to it.
+   */
+  public static class Tablet implements Comparable<Tablet> {
+    final KeyExtent extent;
+    final List<Range> ranges;
+    final long size;
+
+    public Tablet(KeyExtent extent, List<Range> ranges, long size) {
+      this.extent = extent;
+      this.ranges = ranges;
+      this.size = size;
+    }
+
+    @Override
+    public int compareTo(Tablet other) {
+      return extent.compareTo(other.extent);
+    }
+  }
+
+  private final long targetSize;
+  private final boolean batchScan;
+
+  /**
+   * @param targetSize the number of bytes each split should read
+   * @param batchScan true when a split may read several ranges
+   */
+  public SplitPlanner(long targetSize, boolean batchScan) {
+    this.targetSize = targetSize;
+    this.batchScan = batchScan;
+  }
+
+  /**
+   * Plans the splits of the tablets hosted on one host.
+   *
+   * @return the ranges read by each split
+   */
+  public List<List<Range>> plan(List<Tablet> tablets) {
+    List<Tablet> sorted = new ArrayList<>(tablets);
+    Collections.sort(sorted);
+
+    List<List<Range>> splits = new ArrayList<>();
+    List<Range> group = new ArrayList<>();
+    long groupSize = 0;
+    for (Tablet tablet : sorted) {
+      long share = tablet.ranges.isEmpty() ? 0 : tablet.size / tablet.ranges.size();
+      for (Range range : tablet.ranges) {
+        if (share > targetSize) {
+          // close the open group first so splits stay in key order
+          if (!group.isEmpty()) {
+            splits.add(group);
+            group = new ArrayList<>();
+            groupSize = 0;
+          }
+          int parts = (int) Math.min(MAX_PARTS, (share + targetSize - 1) / targetSize);
+          for (Range piece : divide(range, tablet.extent, parts)) {
+            splits.add(List.of(piece));
+          }
+          continue;
+        }
+
+        Range last = group.isEmpty() ? null : group.get(group.size() - 1);
+        if (last != null
+            && (groupSize + share > targetSize || (!batchScan && !follows(last, range)))) {
+          splits.add(group);
+          group = new ArrayList<>();
+          groupSize = 0;
+          last = null;
+        }
+        if (last != null && !batchScan) {
+          group.set(group.size() - 1, new Range(last.getStartKey(), last.isStartKeyInclusive(),
+              range.getEndKey(), range.isEndKeyInclusive()));
+        } else {
+          group.add(range);
+        }
+        groupSize += share;
+      }
+    }
+    if (!group.isEmpty()) {
+      splits.add(group);
+    }
+    return splits;
+  }
+
+  /**
+   * Plans the splits of each host concurrently.
+   *
+   * @return the ranges read by each split, by host
+   */
+  public Map<String,List<List<Range>>> plan(Map<String,List<Tablet>> tabletsByHost,
+      Executor executor) {
+    Map<String,CompletableFuture<List<List<Range>>>> futures = new TreeMap<>();
+    tabletsByHost.forEach((host, tablets) -> futures.put(host,
+        CompletableFuture.supplyAsync(() -> plan(tablets), executor)));
+
+    Map<String,List<List<Range>>> splits = new TreeMap<>();
+    futures.forEach((host, future) -> splits.put(host, future.join()));
+    return splits;
+  }
+
+  /**
+   * @return true if the second range starts where the first one ends, leaving no gap
+   */
+  static boolean follows(Range first, Range second) {
+    return !first.isInfiniteStopKey() && !second.isInfiniteStartKey()
+        && first.getEndKey().equals(second.getStartKey())
+        && (first.isEndKeyInclusive() || second.isStartKeyInclusive());
+  }
+
+  /**
+   * Divides a range into parts at rows interpolated between the rows that bound it. When the range
+   * is not bounded the bounds of its tablet are used instead, and an unbounded end is treated as a
+   * row of 0xff bytes.
+   *
+   * @return the parts in order, fewer than requested if there are not enough rows between the
+   *         bounds
+   */
+  static List<Range> divide(Range range, KeyExtent extent, int parts) {
+    byte[] start = range.isInfiniteStartKey()
+        ? (extent.prevEndRow() == null ? new byte[0] : extent.prevEndRow().copyBytes())
+        : range.getStartKey().getRow().copyBytes();
+    byte[] end = range.isInfiniteStopKey()
+        ? (extent.endRow() == null ? null : extent.endRow().copyBytes())
+        : range.getEndKey().getRow().copyBytes();
+
+    int depth = Math.max(start.length, end == null ? 0 : end.length) + EXTRA_DEPTH;
+    BigInteger low = new BigInteger(1, Arrays.copyOf(start, depth));
+    BigInteger high;
+    if (end == null) {
+      byte[] max = new byte[depth];
+      Arrays.fill(max, (byte) 0xff);
+      high = new BigInteger(1, max);
+    } else {
+      high = new BigInteger(1, Arrays.copyOf(end, depth));
+    }
+
+    List<Range> pieces = new ArrayList<>(parts);
+    Key pieceStart = range.getStartKey();
+    boolean pieceStartInclusive = range.isStartKeyInclusive();
+    BigInteger previous = low;
+    BigInteger width = high.subtract(low);
+    for (int i = 1; i < parts; i++) {
+      BigInteger point =
+          low.add(width.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(parts)));
+      if (point.compareTo(previous) <= 0) {
+        continue;
+      }
+      previous = point;
+      Key split = new Key(new Text(toBytes(point, depth)));
+      if (!range.contains(split)) {
+        continue;
+      }
+      pieces.add(new Range(pieceStart, pieceStartInclusive, split, false));
+      pieceStart = split;
+      pieceStartInclusive = true;
+    }
+    pieces.add(new Range(pieceStart, pieceStartInclusive, range.getEndKey(),
+        range.isEndKeyInclusive()));
+    return pieces;
+  }
+
+  private static byte[] toBytes(BigInteger value, int depth) {
+    byte[] bytes = value.toByteArray();
+    byte[] row = new byte[depth];
+    // toByteArray may add a leading sign byte or drop leading zero bytes
+    int copy = Math.min(bytes.length, depth);
+    System.arraycopy(bytes, bytes.length - copy, row, depth - copy, copy);
+    return row;
+  }
+
+  /**
+   * Divides extents into runs of extents that follow each other, of at most the given length, so
+   * the metadata of each run can be read by one scan that reads no other tablets.
+   */
+  static List<List<KeyExtent>> runs(Collection<KeyExtent> extents, int maxLength) {
+    List<KeyExtent> sorted = new ArrayList<>(extents);
+    Collections.sort(sorted);
+
+    List<List<KeyExtent>> runs = new ArrayList<>();
+    List<KeyExtent> run = new ArrayList<>();
+    for (KeyExtent extent : sorted) {
+      if (!run.isEmpty()
+          && (run.size() >= maxLength || !extent.isPreviousExtent(run.get(run.size() - 1)))) {
+        runs.add(run);
+        run = new ArrayList<>();
+      }
+      run.add(extent);
+    }
+    if (!run.isEmpty()) {
+      runs.add(run);
+    }
+    return runs;
+  }
+
+  /**
+   * Reads the size of the files of the given tablets from the metadata table, scanning runs of
+   * tablets concurrently.
+   */
+  static Map<KeyExtent,Long> estimateSizes(ClientContext context, TableId tableId,
+      Collection<KeyExtent> extents, int maxRunLength, Executor executor) {
+    Set<KeyExtent> wanted = new HashSet<>(extents);
+    List<CompletableFuture<Map<KeyExtent,Long>>> scans = new ArrayList<>();
+    for (List<KeyExtent> run : runs(extents, maxRunLength)) {
+      Text startRow = run.get(0).prevEndRow();
+      Text endRow = run.get(run.size() - 1).endRow();
+      scans.add(CompletableFuture.supplyAsync(() -> {
+        Map<KeyExtent,Long> sizes = new HashMap<>();
+        try (TabletsMetadata tablets = context.getAmple().readTablets().forTable(tableId)
+            .overlapping(startRow, endRow).fetch(ColumnType.PREV_ROW, ColumnType.FILES).build()) {
+          for (TabletMetadata tablet : tablets) {
+            if (wanted.contains(tablet.getExtent())) {
+              sizes.put(tablet.getExtent(), tablet.getFilesMap().values().stream()
+                  .mapToLong(DataFileValue::getSize).sum());
+            }
+          }
+        }
+        return sizes;
+      }, executor));
+    }
+
+    Map<KeyExtent,Long> sizes = new HashMap<>();
+    scans.forEach(scan -> sizes.putAll(scan.join()));
+    return sizes;
+  }
+
+  /**
+   * Plans the splits of a table from its binned ranges. The sizes of the tablets are read, the
+   * tablet servers' host names are resolved and the splits of each host are planned concurrently.
+   *
+   * @param binnedRanges the input ranges of each tablet, by tablet server
+   * @return the ranges read by each split, by host
+   */
+  public static Map<String,List<List<Range>>> planSplits(ClientContext context, TableId tableId,
+      Map<String,Map<KeyExtent,List<Range>>> binnedRanges, long targetSize, boolean batchScan)
+      throws IOException {
+    List<KeyExtent> extents = new ArrayList<>();
+    binnedRanges.values().forEach(bin -> extents.addAll(bin.keySet()));
+
+    int threads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(),
+        Math.max(binnedRanges.size(), extents.size() / MIN_RUN_LENGTH)));
+    ExecutorService executor =
+        context.threadPools().createFixedThreadPool(threads, "SplitPlanner", false);
+    try {
+      Map<String,CompletableFuture<String>> hostNames = new HashMap<>();
+      for (String tserver : binnedRanges.keySet()) {
+        hostNames.computeIfAbsent(tserver.split(":", 2)[0],
+            ip -> CompletableFuture.supplyAsync(() -> {
+              try {
+                return InetAddress.getByName(ip).getCanonicalHostName();
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            }, executor));
+      }
+
+      // split the metadata scans between the threads, without making them too small
+      int maxRunLength = Math.max(MIN_RUN_LENGTH, (extents.size() + threads - 1) / threads);
+      Map<KeyExtent,Long> sizes = estimateSizes(context, tableId, extents, maxRunLength, executor);
+
+      Map<String,List<Tablet>> tabletsByHost = new HashMap<>();
+      for (Map.Entry<String,Map<KeyExtent,List<Range>>> tserverBin : binnedRanges.entrySet()) {
+        String location = hostNames.get(tserverBin.getKey().split(":", 2)[0]).join();
+        List<Tablet> tablets = tabletsByHost.computeIfAbsent(location, k -> new ArrayList<>());
+        tserverBin.getValue().forEach((extent, ranges) -> {
+          Range tabletRange = extent.toDataRange();
+          tablets.add(new Tablet(extent, ranges.stream().map(tabletRange::clip).collect(toList()),
+              sizes.getOrDefault(extent, 0L)));
+        });
+      }
+
+      return new SplitPlanner(targetSize, batchScan).plan(tabletsByHost, executor);
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      }
+      throw new IOException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
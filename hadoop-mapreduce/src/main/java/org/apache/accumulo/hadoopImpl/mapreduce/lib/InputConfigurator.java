@@ -117,7 +117,10 @@ public class InputConfigurator extends ConfiguratorBase {
     SCAN_OFFLINE,
     BATCH_SCANNER,
     BATCH_SCANNER_THREADS,
-    CONSISTENCY_LEVEL
+    CONSISTENCY_LEVEL,
+    SPLIT_TARGET_SIZE,
+    OFFLINE_READER_THREADS,
+    OFFLINE_CACHE_SIZE
   }
 
   /**
@@ -607,6 +610,94 @@ public class InputConfigurator extends ConfiguratorBase {
             ConsistencyLevel.IMMEDIATE.name()));
   }
 
+  /**
+   * Sets the number of bytes each input split should read. When set, splits are planned from the
+   * sizes of the tablets' files instead of creating one split per tablet. Only used when ranges
+   * are automatically adjusted.
+   *
+   * @param implementingClass the class whose name will be used as a prefix for the property
+   *        configuration key
+   * @param conf the Hadoop configuration object to configure
+   * @param bytes the target split size, 0 creates one split per tablet
+   * @since 3.1.0
+   */
+  public static void setSplitTargetSize(Class<?> implementingClass, Configuration conf,
+      long bytes) {
+    conf.setLong(enumToConfKey(implementingClass, Features.SPLIT_TARGET_SIZE), bytes);
+  }
+
+  /**
+   * Gets the number of bytes each input split should read.
+   *
+   * @param implementingClass the class whose name will be used as a prefix for the property
+   *        configuration key
+   * @param conf the Hadoop configuration object to configure
+   * @return the target split size, 0 if splits are created per tablet
+   * @since 3.1.0
+   * @see #setSplitTargetSize(Class, Configuration, long)
+   */
+  public static long getSplitTargetSize(Class<?> implementingClass, Configuration conf) {
+    return conf.getLong(enumToConfKey(implementingClass, Features.SPLIT_TARGET_SIZE), 0);
+  }
+
+  /**
+   * Sets the number of threads each task uses to open the files of a tablet when reading an
+   * offline table.
+   *
+   * @param implementingClass the class whose name will be used as a prefix for the property
+   *        configuration key
+   * @param conf the Hadoop configuration object to configure
+   * @param threads the number of threads
+   * @since 3.1.0
+   */
+  public static void setOfflineReaderThreads(Class<?> implementingClass, Configuration conf,
+      int threads) {
+    conf.setInt(enumToConfKey(implementingClass, Features.OFFLINE_READER_THREADS), threads);
+  }
+
+  /**
+   * Gets the number of threads each task uses to open the files of a tablet when reading an
+   * offline table.
+   *
+   * @param implementingClass the class whose name will be used as a prefix for the property
+   *        configuration key
+   * @param conf the Hadoop configuration object to configure
+   * @return the number of threads, 1 if not set
+   * @since 3.1.0
+   * @see #setOfflineReaderThreads(Class, Configuration, int)
+   */
+  public static int getOfflineReaderThreads(Class<?> implementingClass, Configuration conf) {
+    return conf.getInt(enumToConfKey(implementingClass, Features.OFFLINE_READER_THREADS), 1);
+  }
+
+  /**
+   * Sets the size of the block cache each task uses when reading an offline table.
+   *
+   * @param implementingClass the class whose name will be used as a prefix for the property
+   *        configuration key
+   * @param conf the Hadoop configuration object to configure
+   * @param bytes the size of the cache, 0 to not cache blocks
+   * @since 3.1.0
+   */
+  public static void setOfflineCacheSize(Class<?> implementingClass, Configuration conf,
+      long bytes) {
+    conf.setLong(enumToConfKey(implementingClass, Features.OFFLINE_CACHE_SIZE), bytes);
+  }
+
+  /**
+   * Gets the size of the block cache each task uses when reading an offline table.
+   *
+   * @param implementingClass the class whose name will be used as a prefix for the property
+   *        configuration key
+   * @param conf the Hadoop configuration object to configure
+   * @return the size of the cache, 0 if blocks are not cached
+   * @since 3.1.0
+   * @see #setOfflineCacheSize(Class, Configuration, long)
+   */
+  public static long getOfflineCacheSize(Class<?> implementingClass, Configuration conf) {
+    return conf.getLong(enumToConfKey(implementingClass, Features.OFFLINE_CACHE_SIZE), 0);
+  }
+
   /**
    * Sets configurations for multiple tables at a time.
    *
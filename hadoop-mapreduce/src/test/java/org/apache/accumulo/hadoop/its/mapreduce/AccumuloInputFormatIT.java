@@ -31,6 +31,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.TreeSet;
 
 import org.apache.accumulo.core.client.Accumulo;
@@ -38,6 +40,7 @@ import org.apache.accumulo.core.client.AccumuloClient;
 import org.apache.accumulo.core.client.AccumuloException;
 import org.apache.accumulo.core.client.BatchWriter;
 import org.apache.accumulo.core.client.IteratorSetting;
+import org.apache.accumulo.core.client.Scanner;
 import org.apache.accumulo.core.client.TableNotFoundException;
 import org.apache.accumulo.core.client.admin.NewTableConfiguration;
 import org.apache.accumulo.core.client.sample.RowSampler;
@@ -62,7 +65,11 @@ import org.apache.hadoop.mapreduce.InputSplit;
 import org.apache.hadoop.mapreduce.Job;
 import org.apache.hadoop.mapreduce.JobContext;
 import org.apache.hadoop.mapreduce.Mapper;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.TaskAttemptID;
 import org.apache.hadoop.mapreduce.lib.output.NullOutputFormat;
+import org.apache.hadoop.mapreduce.task.TaskAttemptContextImpl;
 import org.apache.hadoop.util.Tool;
 import org.apache.hadoop.util.ToolRunner;
 import org.junit.jupiter.api.AfterEach;
@@ -168,12 +175,16 @@ public class AccumuloInputFormatIT extends AccumuloClusterHarness {
     splits = inputFormat.getSplits(job);
     assertEquals(ranges.size(), splits.size());
 
-    // BatchScan not available for offline scans
+    // BatchScan of offline tables reads the files of each tablet in one split
     AccumuloInputFormat.configure().clientProperties(getClientProps()).table(table)
-        .auths(Authorizations.EMPTY).batchScan(true).offlineScan(true).store(job);
-
-    assertThrows(IllegalArgumentException.class, () -> inputFormat.getSplits(job),
-        "IllegalArgumentException should have been thrown trying to batch scan offline");
+        .auths(Authorizations.EMPTY).batchScan(true).offlineScan(true).offlineReaderThreads(4)
+        .offlineCacheSize(1 << 20).store(job);
+    splits = inputFormat.getSplits(job);
+    assertEquals(2, splits.size());
+    for (InputSplit split : splits) {
+      assertTrue(split instanceof BatchInputSplit);
+      assertTrue(((BatchInputSplit) split).isOffline());
+    }
 
     // table online tests
     client.tableOperations().online(table, true);
@@ -398,6 +409,78 @@ public class AccumuloInputFormatIT extends AccumuloClusterHarness {
     assertEquals(1, assertionErrors.get(TEST_TABLE_2 + "_cleanup").size());
   }
 
+  /**
+   * Reads an offline table with the batch scanner and with concurrent file readers and a block
+   * cache, and checks that the same entries are read as when scanning the table online.
+   */
+  @Test
+  public void testOfflineReads() throws Exception {
+    String table = getUniqueNames(1)[0];
+    client.tableOperations().create(table);
+    // flush between inserts so tablets have more than one file
+    insertData(table, currentTimeMillis());
+    client.tableOperations().flush(table, null, null, true);
+    insertData(table, currentTimeMillis() + 1);
+
+    TreeSet<Text> splitsToAdd = new TreeSet<>();
+    for (int i = 0; i < 10000; i += 1000) {
+      splitsToAdd.add(new Text(String.format("%09d", i)));
+    }
+    client.tableOperations().addSplits(table, splitsToAdd);
+
+    Map<Key,Value> expected = new TreeMap<>();
+    try (Scanner scanner = client.createScanner(table)) {
+      scanner.forEach((k, v) -> expected.put(k, v));
+    }
+    assertEquals(10000, expected.size());
+
+    client.tableOperations().offline(table, true);
+
+    Job job = Job.getInstance();
+    AccumuloInputFormat.configure().clientProperties(getClientProps()).table(table)
+        .auths(Authorizations.EMPTY).offlineScan(true).store(job);
+    assertEquals(expected, readEntries(job));
+
+    job = Job.getInstance();
+    AccumuloInputFormat.configure().clientProperties(getClientProps()).table(table)
+        .auths(Authorizations.EMPTY).batchScan(true).offlineScan(true).store(job);
+    assertEquals(expected, readEntries(job));
+
+    job = Job.getInstance();
+    AccumuloInputFormat.configure().clientProperties(getClientProps()).table(table)
+        .auths(Authorizations.EMPTY).offlineScan(true).offlineReaderThreads(4)
+        .offlineCacheSize(1 << 20).store(job);
+    assertEquals(expected, readEntries(job));
+
+    job = Job.getInstance();
+    AccumuloInputFormat.configure().clientProperties(getClientProps()).table(table)
+        .auths(Authorizations.EMPTY).batchScan(true).offlineScan(true).offlineReaderThreads(4)
+        .offlineCacheSize(1 << 20).store(job);
+    assertEquals(expected, readEntries(job));
+  }
+
+  /**
+   * Reads all splits of the job outside of a running task, where counters are not available.
+   */
+  private Map<Key,Value> readEntries(Job job) throws Exception {
+    Map<Key,Value> entries = new TreeMap<>();
+    int count = 0;
+    for (InputSplit split : inputFormat.getSplits(job)) {
+      TaskAttemptContext context =
+          new TaskAttemptContextImpl(job.getConfiguration(), new TaskAttemptID());
+      try (RecordReader<Key,Value> reader = inputFormat.createRecordReader(split, context)) {
+        reader.initialize(split, context);
+        while (reader.nextKeyValue()) {
+          entries.put(new Key(reader.getCurrentKey()), new Value(reader.getCurrentValue()));
+          count++;
+        }
+      }
+    }
+    // no entry should be read more than once
+    assertEquals(entries.size(), count);
+    return entries;
+  }
+
   @Test
   public void testCorrectRangeInputSplits() throws Exception {
     Job job = Job.getInstance();
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.hadoopImpl.mapreduce;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.hadoopImpl.mapreduce.SplitPlanner.Tablet;
+import org.apache.hadoop.io.Text;
+
+/**
+ * Measures how long planning input splits takes as the number of tablets grows, sequentially and
+ * with one task per host, and how many splits are planned compared to one split per tablet.
+ * Tablet sizes are drawn from a log-normal distribution around the target size.
+ *
+ * <p>
+ * Usage: {@code SplitPlannerBenchmark [hosts [targetMB [tabletCount...]]]}
+ */
+public class SplitPlannerBenchmark {
+
+  private static final int ROUNDS = 5;
+
+  static Map<String,List<Tablet>> generate(int tabletCount, int hosts, long targetSize,
+      Random random) {
+    TableId tableId = TableId.of("1");
+    Map<String,List<Tablet>> tabletsByHost = new HashMap<>();
+    Text prevEndRow = null;
+    for (int i = 0; i < tabletCount; i++) {
+      Text endRow = i == tabletCount - 1 ? null : new Text(String.format("row_%010d", i + 1));
+      KeyExtent extent = new KeyExtent(tableId, endRow, prevEndRow);
+      long size = (long) (targetSize * Math.exp(random.nextGaussian() * 1.5 - 1));
+      tabletsByHost.computeIfAbsent("host" + random.nextInt(hosts), k -> new ArrayList<>())
+          .add(new Tablet(extent, List.of(extent.toDataRange()), size));
+      prevEndRow = endRow;
+    }
+    return tabletsByHost;
+  }
+
+  private static int count(Map<String,List<List<Range>>> splits) {
+    return splits.values().stream().mapToInt(List::size).sum();
+  }
+
+  public static void main(String[] args) {
+    int hosts = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+    long targetSize = (args.length > 1 ? Long.parseLong(args[1]) : 256) << 20;
+    List<Integer> tabletCounts = new ArrayList<>();
+    for (int i = 2; i < args.length; i++) {
+      tabletCounts.add(Integer.parseInt(args[i]));
+    }
+    if (tabletCounts.isEmpty()) {
+      tabletCounts = List.of(1_000, 10_000, 100_000, 500_000);
+    }
+
+    SplitPlanner batchPlanner = new SplitPlanner(targetSize, true);
+    SplitPlanner rangePlanner = new SplitPlanner(targetSize, false);
+    ExecutorService executor =
+        Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    try {
+      System.out.printf("%10s %14s %14s %14s %12s %12s%n", "tablets", "sequential ms",
+          "parallel ms", "range ms", "batch splits", "range splits");
+      for (int tabletCount : tabletCounts) {
+        Map<String,List<Tablet>> tablets =
+            generate(tabletCount, hosts, targetSize, new Random(tabletCount));
+
+        long sequential = Long.MAX_VALUE;
+        long parallel = Long.MAX_VALUE;
+        long range = Long.MAX_VALUE;
+        int batchSplits = 0;
+        int rangeSplits = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+          long start = System.nanoTime();
+          Map<String,List<List<Range>>> planned = new HashMap<>();
+          tablets.forEach((host, hostTablets) -> planned.put(host, batchPlanner.plan(hostTablets)));
+          sequential = Math.min(sequential, System.nanoTime() - start);
+          batchSplits = count(planned);
+
+          start = System.nanoTime();
+          batchPlanner.plan(tablets, executor);
+          parallel = Math.min(parallel, System.nanoTime() - start);
+
+          start = System.nanoTime();
+          rangeSplits = count(rangePlanner.plan(tablets, executor));
+          range = Math.min(range, System.nanoTime() - start);
+        }
+
+        System.out.printf("%10d %14d %14d %14d %12d %12d%n", tabletCount,
+            TimeUnit.NANOSECONDS.toMillis(sequential), TimeUnit.NANOSECONDS.toMillis(parallel),
+            TimeUnit.NANOSECONDS.toMillis(range), batchSplits, rangeSplits);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.hadoopImpl.mapreduce;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.hadoopImpl.mapreduce.SplitPlanner.Tablet;
+import org.apache.hadoop.io.Text;
+import org.junit.jupiter.api.Test;
+
+public class SplitPlannerTest {
+
+  private static final TableId TABLE = TableId.of("1");
+
+  private static KeyExtent extent(String prevEndRow, String endRow) {
+    return new KeyExtent(TABLE, endRow == null ? null : new Text(endRow),
+        prevEndRow == null ? null : new Text(prevEndRow));
+  }
+
+  private static Tablet tablet(String prevEndRow, String endRow, long size) {
+    KeyExtent extent = extent(prevEndRow, endRow);
+    return new Tablet(extent, List.of(extent.toDataRange()), size);
+  }
+
+  @Test
+  public void testFollows() {
+    assertTrue(SplitPlanner.follows(new Range("a", true, "c", false),
+        new Range("c", true, "e", false)));
+    assertTrue(SplitPlanner.follows(extent(null, "b").toDataRange(),
+        extent("b", "d").toDataRange()));
+    assertFalse(SplitPlanner.follows(new Range("a", true, "c", false),
+        new Range("c", false, "e", false)));
+    assertFalse(SplitPlanner.follows(new Range("a", "b"), new Range("c", "d")));
+    assertFalse(SplitPlanner.follows(new Range("a", null), new Range("c", "d")));
+  }
+
+  @Test
+  public void testDivide() {
+    Range range = new Range("a", true, "c", false);
+    List<Range> pieces = SplitPlanner.divide(range, extent(null, null), 4);
+    assertEquals(4, pieces.size());
+    assertEquals(range.getStartKey(), pieces.get(0).getStartKey());
+    assertEquals(range.getEndKey(), pieces.get(3).getEndKey());
+    for (int i = 1; i < pieces.size(); i++) {
+      assertTrue(SplitPlanner.follows(pieces.get(i - 1), pieces.get(i)));
+      assertTrue(pieces.get(i - 1).getEndKey().compareTo(pieces.get(i).getEndKey()) < 0);
+    }
+
+    // an unbounded range is divided between the rows of its tablet
+    pieces = SplitPlanner.divide(new Range(), extent("m", null), 2);
+    assertEquals(2, pieces.size());
+    assertTrue(pieces.get(0).isInfiniteStartKey());
+    assertTrue(pieces.get(1).isInfiniteStopKey());
+    assertTrue(pieces.get(0).getEndKey().compareTo(new Key("m")) > 0);
+
+    // there is nothing to interpolate between adjacent rows
+    pieces = SplitPlanner.divide(new Range("a", true, "a", true), extent(null, null), 10);
+    assertEquals(1, pieces.size());
+  }
+
+  @Test
+  public void testMergeFollowingTablets() {
+    SplitPlanner planner = new SplitPlanner(100, false);
+    List<List<Range>> splits = planner.plan(List.of(tablet("g", null, 10), tablet("d", "f", 40),
+        tablet("b", "d", 40), tablet(null, "b", 40)));
+
+    // without the batch scanner only following ranges are merged, into a single range
+    assertEquals(3, splits.size());
+    assertEquals(List.of(extent(null, "d").toDataRange()), splits.get(0));
+    assertEquals(List.of(extent("d", "f").toDataRange()), splits.get(1));
+    assertEquals(List.of(extent("g", null).toDataRange()), splits.get(2));
+  }
+
+  @Test
+  public void testBatchGroups() {
+    SplitPlanner planner = new SplitPlanner(100, true);
+    List<List<Range>> splits = planner.plan(List.of(tablet(null, "b", 30), tablet("b", "d", 30),
+        tablet("d", "f", 30), tablet("f", "h", 30), tablet("h", null, 30)));
+
+    assertEquals(2, splits.size());
+    assertEquals(3, splits.get(0).size());
+    assertEquals(2, splits.get(1).size());
+  }
+
+  @Test
+  public void testDivideLargeTablet() {
+    SplitPlanner planner = new SplitPlanner(100, false);
+    List<List<Range>> splits =
+        planner.plan(List.of(tablet(null, "b", 10), tablet("b", "d", 350), tablet("d", null, 10)));
+
+    // the large tablet is read by four splits, the small ones are not merged across it
+    assertEquals(6, splits.size());
+    splits.forEach(split -> assertEquals(1, split.size()));
+    for (int i = 1; i < splits.size(); i++) {
+      assertTrue(SplitPlanner.follows(splits.get(i - 1).get(0), splits.get(i).get(0)));
+    }
+  }
+
+  @Test
+  public void testRuns() {
+    List<KeyExtent> extents = List.of(extent("f", "h"), extent(null, "b"), extent("b", "d"),
+        extent("d", "f"), extent("k", null));
+
+    // runs are broken where tablets do not follow each other and at the maximum length
+    assertEquals(List.of(List.of(extent(null, "b"), extent("b", "d"), extent("d", "f")),
+        List.of(extent("f", "h")), List.of(extent("k", null))), SplitPlanner.runs(extents, 3));
+    assertEquals(List.of(List.of(extent(null, "b"), extent("b", "d")),
+        List.of(extent("d", "f"), extent("f", "h")), List.of(extent("k", null))),
+        SplitPlanner.runs(extents, 2));
+    assertTrue(SplitPlanner.runs(List.of(), 2).isEmpty());
+  }
+
+  @Test
+  public void testPlanHosts() {
+    SplitPlanner planner = new SplitPlanner(100, true);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Map<String,List<List<Range>>> splits = planner.plan(
+          Map.of("host1", List.of(tablet(null, "b", 60), tablet("b", "d", 60)), "host2",
+              List.of(tablet("d", "f", 20), tablet("f", null, 20)), "host3", List.of()),
+          executor);
+      assertEquals(3, splits.size());
+      assertEquals(2, splits.get("host1").size());
+      assertEquals(1, splits.get("host2").size());
+      assertEquals(2, splits.get("host2").get(0).size());
+      assertTrue(splits.get("host3").isEmpty());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
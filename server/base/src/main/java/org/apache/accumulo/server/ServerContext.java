@@ -32,6 +32,7 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.UnknownHostException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
@@ -50,6 +51,7 @@ import org.apache.accumulo.core.crypto.CryptoFactoryLoader;
 import org.apache.accumulo.core.data.InstanceId;
 import org.apache.accumulo.core.data.NamespaceId;
 import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.fate.zookeeper.ZooCache;
 import org.apache.accumulo.core.fate.zookeeper.ZooReader;
 import org.apache.accumulo.core.fate.zookeeper.ZooReaderWriter;
 import org.apache.accumulo.core.metadata.schema.Ample;
@@ -374,6 +376,8 @@ public class ServerContext extends ClientContext {
 
     ensureDataVersionCompatible(dataVersion);
 
+    configureZooCache(conf);
+
     TreeMap<String,String> sortedProps = new TreeMap<>();
     for (Map.Entry<String,String> entry : conf) {
       sortedProps.put(entry.getKey(), entry.getValue());
@@ -408,6 +412,31 @@ public class ServerContext extends ClientContext {
     }
   }
 
+  /**
+   * Applies the ZooCache size bound and, when enabled, covers the subtrees that servers read most
+   * often with persistent watches and loads them into the cache with batched reads.
+   */
+  private void configureZooCache(AccumuloConfiguration conf) {
+    ZooCache zooCache = getZooCache();
+    int maxSize = conf.getCount(Property.GENERAL_ZOOCACHE_MAX_SIZE);
+    if (maxSize > 0) {
+      zooCache.setMaxSize(maxSize);
+    }
+    if (conf.getBoolean(Property.GENERAL_ZOOCACHE_PERSISTENT_WATCHES)) {
+      String root = getZooKeeperRoot();
+      for (String path : List.of(Constants.ZTABLES, Constants.ZNAMESPACES, Constants.ZTSERVERS,
+          Constants.ZSSERVERS, Constants.ZCOMPACTORS, Constants.ZMANAGERS)) {
+        zooCache.addPersistentWatch(root + path);
+      }
+      for (String path : List.of(Constants.ZTABLES, Constants.ZNAMESPACES, Constants.ZTSERVERS,
+          Constants.ZMANAGER_LOCK)) {
+        zooCache.prefetch(root + path);
+      }
+      log.info("ZooCache using persistent watches, prefetch sent {} requests to ZooKeeper",
+          zooCache.getZooKeeperReadCount());
+    }
+  }
+
   private void monitorSwappiness() {
     ScheduledFuture<?> future = getScheduledExecutor().scheduleWithFixedDelay(() -> {
       try {
@@ -28,8 +28,10 @@ import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.iterators.IteratorEnvironment;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 import org.apache.accumulo.core.iterators.WrappingIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.BatchIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.KeyValueBuffer;
 
-public class CountingIterator extends WrappingIterator {
+public class CountingIterator extends WrappingIterator implements BatchIterator {
 
   private long count;
   private final ArrayList<CountingIterator> deepCopies;
@@ -70,6 +72,20 @@ public class CountingIterator extends WrappingIterator {
     }
   }
 
+  @Override
+  public void nextBatch(KeyValueBuffer buffer) throws IOException {
+    int start = buffer.size();
+    buffer.fill(getSource());
+
+    long prevCount = count;
+    count += buffer.size() - start;
+    // report in the same increments as next()
+    long increments = count / 1024 - prevCount / 1024;
+    if (increments > 0) {
+      entriesRead.addAndGet(increments * 1024);
+    }
+  }
+
   public long getCount() {
     long sum = 0;
     for (CountingIterator dc : deepCopies) {
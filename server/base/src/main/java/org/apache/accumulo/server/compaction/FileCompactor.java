@@ -46,13 +46,16 @@ import org.apache.accumulo.core.file.FileOperations;
 import org.apache.accumulo.core.file.FileOperations.WriterBuilder;
 import org.apache.accumulo.core.file.FileSKVIterator;
 import org.apache.accumulo.core.file.FileSKVWriter;
+import org.apache.accumulo.core.file.blockfile.impl.LocalFileCache;
 import org.apache.accumulo.core.iterators.IteratorUtil;
 import org.apache.accumulo.core.iterators.IteratorUtil.IteratorScope;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 import org.apache.accumulo.core.iteratorsImpl.IteratorConfigUtil;
+import org.apache.accumulo.core.iteratorsImpl.system.BatchIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.ColumnFamilySkippingIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.DeletingIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.InterruptibleIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.KeyValueBuffer;
 import org.apache.accumulo.core.iteratorsImpl.system.MultiIterator;
 import org.apache.accumulo.core.metadata.MetadataTable;
 import org.apache.accumulo.core.metadata.ReferencedTabletFile;
@@ -104,6 +107,13 @@ public class FileCompactor implements Callable<CompactionStats> {
     SortedKeyValueIterator<Key,Value> getMinCIterator();
 
     TCompactionReason getReason();
+
+    /**
+     * @return a cache on local disk to read the input files through, or null to read them directly
+     */
+    default LocalFileCache getLocalFileCache() {
+      return null;
+    }
   }
 
   private final Map<StoredTabletFile,DataFileValue> filesToCompact;
@@ -339,7 +349,7 @@ public class FileCompactor implements Callable<CompactionStats> {
 
         reader = fileFactory.newReaderBuilder().forFile(dataFile, fs, fs.getConf(), cryptoService)
             .withTableConfiguration(acuTableConf).withRateLimiter(env.getReadLimiter())
-            .dropCachesBehind().build();
+            .withLocalFileCache(env.getLocalFileCache()).dropCachesBehind().build();
 
         readers.add(reader);
 
@@ -414,6 +424,9 @@ public class FileCompactor implements Callable<CompactionStats> {
           env.getIteratorScope() == IteratorScope.minc ? DetectionScope.MINC : DetectionScope.MAJC;
       Span writeSpan = TraceUtil.startSpan(this.getClass(), "write");
       try (Scope write = writeSpan.makeCurrent()) {
+        // when the top iterator is a system iterator, read many entries at a time
+        KeyValueBuffer buffer = itr instanceof BatchIterator ? new KeyValueBuffer() : null;
+
         while (itr.hasTop() && env.isCompactionEnabled()) {
 
           while (context.getLowMemoryDetector().isRunningLowOnMemory(context, scope, () -> {
@@ -435,13 +448,25 @@ public class FileCompactor implements Callable<CompactionStats> {
             }
           })) {}
 
-          mfw.append(itr.getTopKey(), itr.getTopValue());
-          itr.next();
-          entriesCompacted++;
+          long prevEntriesCompacted = entriesCompacted;
+
+          if (buffer != null) {
+            buffer.clear();
+            buffer.fill(itr);
+            for (int i = 0; i < buffer.size(); i++) {
+              mfw.append(buffer.getKey(i), buffer.getValue(i));
+            }
+            entriesCompacted += buffer.size();
+          } else {
+            mfw.append(itr.getTopKey(), itr.getTopValue());
+            itr.next();
+            entriesCompacted++;
+          }
 
-          if (entriesCompacted % 1024 == 0) {
+          long increments = entriesCompacted / 1024 - prevEntriesCompacted / 1024;
+          if (increments > 0) {
             // Periodically update stats, do not want to do this too often since its volatile
-            entriesWritten.addAndGet(1024);
+            entriesWritten.addAndGet(increments * 1024);
           }
         }
 
@@ -40,6 +40,7 @@ import org.apache.accumulo.core.spi.crypto.CryptoEnvironment;
 import org.apache.accumulo.core.spi.crypto.CryptoService;
 import org.apache.accumulo.core.spi.crypto.CryptoServiceFactory;
 import org.apache.accumulo.core.spi.scan.ScanDispatcher;
+import org.apache.accumulo.core.spi.split.SplitPlanner;
 import org.apache.accumulo.server.ServerContext;
 import org.apache.accumulo.server.ServiceEnvironmentImpl;
 import org.apache.accumulo.server.conf.store.TablePropKey;
@@ -58,6 +59,7 @@ public class TableConfiguration extends ZooBasedConfiguration {
   private final Deriver<ScanDispatcher> scanDispatchDeriver;
   private final Deriver<CompactionDispatcher> compactionDispatchDeriver;
   private final Deriver<CryptoService> cryptoServiceDeriver;
+  private final Deriver<SplitPlanner> splitPlannerDeriver;
 
   public TableConfiguration(ServerContext context, TableId tableId, NamespaceConfiguration parent) {
     super(log, context, TablePropKey.of(context, tableId), parent);
@@ -78,6 +80,7 @@ public class TableConfiguration extends ZooBasedConfiguration {
         newDeriver(conf -> createCompactionDispatcher(conf, context, tableId));
     cryptoServiceDeriver =
         newDeriver(conf -> createCryptoService(conf, tableId, context.getCryptoFactory()));
+    splitPlannerDeriver = newDeriver(conf -> createSplitPlanner(conf, context, tableId));
   }
 
   @Override
@@ -212,6 +215,37 @@ public class TableConfiguration extends ZooBasedConfiguration {
     return newDispatcher;
   }
 
+  private static SplitPlanner createSplitPlanner(AccumuloConfiguration conf,
+      ServerContext context, TableId tableId) {
+    SplitPlanner newPlanner = Property.createTableInstanceFromPropertyName(conf,
+        Property.TABLE_SPLIT_PLANNER, SplitPlanner.class, null);
+
+    Map<String,String> opts =
+        conf.getAllPropertiesWithPrefixStripped(Property.TABLE_SPLIT_PLANNER_OPTS);
+
+    newPlanner.init(new SplitPlanner.InitParameters() {
+
+      private final ServiceEnvironment senv = new ServiceEnvironmentImpl(context);
+
+      @Override
+      public TableId getTableId() {
+        return tableId;
+      }
+
+      @Override
+      public Map<String,String> getOptions() {
+        return opts;
+      }
+
+      @Override
+      public ServiceEnvironment getServiceEnv() {
+        return senv;
+      }
+    });
+
+    return newPlanner;
+  }
+
   public ScanDispatcher getScanDispatcher() {
     return scanDispatchDeriver.derive();
   }
@@ -220,6 +254,10 @@ public class TableConfiguration extends ZooBasedConfiguration {
     return compactionDispatchDeriver.derive();
   }
 
+  public SplitPlanner getSplitPlanner() {
+    return splitPlannerDeriver.derive();
+  }
+
   private CryptoService createCryptoService(AccumuloConfiguration conf, TableId tableId,
       CryptoServiceFactory factory) {
     CryptoEnvironment env = new CryptoEnvironmentImpl(CryptoEnvironment.Scope.TABLE, tableId, null);
@@ -41,6 +41,7 @@ import org.apache.accumulo.core.dataImpl.KeyExtent;
 import org.apache.accumulo.core.file.FileOperations;
 import org.apache.accumulo.core.file.FileSKVIterator;
 import org.apache.accumulo.core.file.blockfile.impl.CacheProvider;
+import org.apache.accumulo.core.file.blockfile.impl.LocalFileCache;
 import org.apache.accumulo.core.iterators.IteratorEnvironment;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.InterruptibleIterator;
@@ -104,6 +105,8 @@ public class FileManager {
 
   private Cache<String,Long> fileLenCache;
 
+  private final LocalFileCache localFileCache;
+
   private long maxIdleTime;
   private long slowFilePermitMillis;
 
@@ -149,12 +152,21 @@ public class FileManager {
   }
 
   public FileManager(ServerContext context, int maxOpen, Cache<String,Long> fileLenCache) {
+    this(context, maxOpen, fileLenCache, null);
+  }
+
+  /**
+   * @param localFileCache optional cache on local disk to read files through, may be null
+   */
+  public FileManager(ServerContext context, int maxOpen, Cache<String,Long> fileLenCache,
+      LocalFileCache localFileCache) {
 
     if (maxOpen <= 0) {
       throw new IllegalArgumentException("maxOpen <= 0");
     }
     this.context = context;
     this.fileLenCache = fileLenCache;
+    this.localFileCache = localFileCache;
 
     // Creates a fair semaphore to ensure thread starvation doesn't occur
     this.filePermits = new Semaphore(maxOpen, true);
@@ -305,7 +317,7 @@ public class FileManager {
         FileSKVIterator reader = FileOperations.getInstance().newReaderBuilder()
             .forFile(file, ns, ns.getConf(), tableConf.getCryptoService())
             .withTableConfiguration(tableConf).withCacheProvider(cacheProvider)
-            .withFileLenCache(fileLenCache).build();
+            .withFileLenCache(fileLenCache).withLocalFileCache(localFileCache).build();
         readersReserved.put(reader, file);
       } catch (Exception e) {
 
@@ -20,6 +20,7 @@ package org.apache.accumulo.server.fs;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
 
 import org.apache.accumulo.core.data.TableId;
 import org.apache.accumulo.core.spi.common.ServiceEnvironment;
@@ -40,12 +41,14 @@ public class VolumeChooserEnvironmentImpl implements VolumeChooserEnvironment {
   private final Optional<TableId> tableId;
   private final Text endRow;
   private final ServiceEnvironment senv;
+  private final OptionalDouble heat;
 
   public VolumeChooserEnvironmentImpl(Scope scope, ServerContext context) {
     this.scope = Objects.requireNonNull(scope);
     this.tableId = Optional.empty();
     this.endRow = null;
     this.senv = new ServiceEnvironmentImpl(context);
+    this.heat = OptionalDouble.empty();
   }
 
   public VolumeChooserEnvironmentImpl(TableId tableId, Text endRow, ServerContext context) {
@@ -53,6 +56,16 @@ public class VolumeChooserEnvironmentImpl implements VolumeChooserEnvironment {
     this.tableId = Optional.of(tableId);
     this.endRow = endRow;
     this.senv = new ServiceEnvironmentImpl(context);
+    this.heat = OptionalDouble.empty();
+  }
+
+  public VolumeChooserEnvironmentImpl(TableId tableId, Text endRow, double heat,
+      ServerContext context) {
+    this.scope = Scope.TABLE;
+    this.tableId = Optional.of(tableId);
+    this.endRow = endRow;
+    this.senv = new ServiceEnvironmentImpl(context);
+    this.heat = OptionalDouble.of(heat);
   }
 
   public VolumeChooserEnvironmentImpl(Scope scope, TableId tableId, Text endRow,
@@ -61,6 +74,7 @@ public class VolumeChooserEnvironmentImpl implements VolumeChooserEnvironment {
     this.tableId = Optional.of(tableId);
     this.endRow = endRow;
     this.senv = new ServiceEnvironmentImpl(context);
+    this.heat = OptionalDouble.empty();
   }
 
   /**
@@ -92,6 +106,11 @@ public class VolumeChooserEnvironmentImpl implements VolumeChooserEnvironment {
     return senv;
   }
 
+  @Override
+  public OptionalDouble getHeat() {
+    return heat;
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (obj == this) {
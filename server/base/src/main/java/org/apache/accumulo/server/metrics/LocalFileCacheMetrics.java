@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.server.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.accumulo.core.file.blockfile.impl.LocalFileCache;
+import org.apache.accumulo.core.file.blockfile.impl.LocalFileCache.FileStats;
+import org.apache.accumulo.core.metrics.MetricsProducer;
+import org.apache.accumulo.core.metrics.MetricsUtil;
+import org.apache.accumulo.core.util.threads.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Reports metrics for the whole local file cache. Per file hit and miss counts are not meters,
+ * because there is no bound on the number of files. Instead the most read files are logged
+ * periodically at debug level.
+ */
+public class LocalFileCacheMetrics implements MetricsProducer {
+
+  private static final Logger log = LoggerFactory.getLogger(LocalFileCacheMetrics.class);
+
+  private static final int FILES_TO_LOG = 10;
+
+  private final LocalFileCache cache;
+
+  public LocalFileCacheMetrics(LocalFileCache cache) {
+    this.cache = cache;
+    ScheduledExecutorService scheduler = ThreadPools.getServerThreadPools()
+        .createScheduledExecutorService(1, "localFileCacheStatsLogger", false);
+    Runtime.getRuntime().addShutdownHook(new Thread(scheduler::shutdownNow));
+    ThreadPools.watchNonCriticalScheduledTask(
+        scheduler.scheduleWithFixedDelay(this::logMostReadFiles, 1, 1, TimeUnit.MINUTES));
+  }
+
+  private void logMostReadFiles() {
+    if (!log.isDebugEnabled()) {
+      return;
+    }
+    for (Map.Entry<String,FileStats> entry : cache.getMostReadFiles(FILES_TO_LOG).entrySet()) {
+      log.debug("Local file cache hits: {} misses: {} file: {}", entry.getValue().getHits(),
+          entry.getValue().getMisses(), entry.getKey());
+    }
+  }
+
+  @Override
+  public void registerMetrics(MeterRegistry registry) {
+    FunctionCounter.builder(METRICS_FILE_CACHE_HITS, cache, LocalFileCache::getHitCount)
+        .description("Reads of ranges found in the local file cache")
+        .tags(MetricsUtil.getCommonTags()).register(registry);
+    FunctionCounter.builder(METRICS_FILE_CACHE_MISSES, cache, LocalFileCache::getMissCount)
+        .description("Reads of ranges not found in the local file cache")
+        .tags(MetricsUtil.getCommonTags()).register(registry);
+    FunctionCounter
+        .builder(METRICS_FILE_CACHE_BYTES_FETCHED, cache, LocalFileCache::getBytesFetched)
+        .description("Bytes read from remote files into the local file cache")
+        .tags(MetricsUtil.getCommonTags()).register(registry);
+    FunctionCounter.builder(METRICS_FILE_CACHE_EVICTIONS, cache, LocalFileCache::getEvictionCount)
+        .description("Ranges removed from the local file cache to stay under its size")
+        .tags(MetricsUtil.getCommonTags()).register(registry);
+    Gauge.builder(METRICS_FILE_CACHE_SIZE, cache, LocalFileCache::getSize)
+        .description("Bytes used by the local file cache").tags(MetricsUtil.getCommonTags())
+        .register(registry);
+  }
+}
@@ -20,9 +20,12 @@ package org.apache.accumulo.server.metrics;
 
 import java.util.List;
 
+import org.apache.accumulo.core.fate.zookeeper.ZooCache;
 import org.apache.accumulo.core.metrics.MetricsProducer;
+import org.apache.accumulo.core.metrics.MetricsUtil;
 import org.apache.accumulo.server.ServerContext;
 
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.MeterRegistry;
 
 public class ProcessMetrics implements MetricsProducer {
@@ -36,6 +39,20 @@ public class ProcessMetrics implements MetricsProducer {
   @Override
   public void registerMetrics(MeterRegistry registry) {
     registry.gauge(METRICS_LOW_MEMORY, List.of(), this, this::lowMemDetected);
+
+    ZooCache zooCache = context.getZooCache();
+    FunctionCounter.builder(METRICS_ZOOCACHE_HITS, zooCache, ZooCache::getHitCount)
+        .description("Reads answered from the ZooCache").tags(MetricsUtil.getCommonTags())
+        .register(registry);
+    FunctionCounter.builder(METRICS_ZOOCACHE_MISSES, zooCache, ZooCache::getMissCount)
+        .description("Reads not found in the ZooCache").tags(MetricsUtil.getCommonTags())
+        .register(registry);
+    FunctionCounter.builder(METRICS_ZOOCACHE_ZK_READS, zooCache, ZooCache::getZooKeeperReadCount)
+        .description("Read requests sent to ZooKeeper by the ZooCache")
+        .tags(MetricsUtil.getCommonTags()).register(registry);
+    FunctionCounter.builder(METRICS_ZOOCACHE_EVICTIONS, zooCache, ZooCache::getEvictionCount)
+        .description("Entries evicted from the ZooCache to stay under its size bound")
+        .tags(MetricsUtil.getCommonTags()).register(registry);
   }
 
   private int lowMemDetected(ProcessMetrics processMetrics) {
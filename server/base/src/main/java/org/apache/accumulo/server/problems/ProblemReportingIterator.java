@@ -30,10 +30,12 @@ import org.apache.accumulo.core.data.TableId;
 import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.iterators.IteratorEnvironment;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.BatchIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.InterruptibleIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.KeyValueBuffer;
 import org.apache.accumulo.server.ServerContext;
 
-public class ProblemReportingIterator implements InterruptibleIterator {
+public class ProblemReportingIterator implements InterruptibleIterator, BatchIterator {
   private final SortedKeyValueIterator<Key,Value> source;
   private boolean sawError = false;
   private final boolean continueOnError;
@@ -94,6 +96,24 @@ public class ProblemReportingIterator implements InterruptibleIterator {
     }
   }
 
+  @Override
+  public void nextBatch(KeyValueBuffer buffer) throws IOException {
+    if (sawError) {
+      return;
+    }
+
+    try {
+      buffer.fill(source);
+    } catch (IOException ioe) {
+      sawError = true;
+      ProblemReports.getInstance(context)
+          .report(new ProblemReport(tableId, ProblemType.FILE_READ, resource, ioe));
+      if (!continueOnError) {
+        throw ioe;
+      }
+    }
+  }
+
   @Override
   public void seek(Range range, Collection<ByteSequence> columnFamilies, boolean inclusive)
       throws IOException {
@@ -277,17 +277,22 @@ public class FileUtil {
   }
 
   /**
+   * Samples the key distribution of a tablet's files. The returned map contains the key found at
+   * each fraction {@code i/samples} of the keys for {@code 0 < i < samples}, keyed by that
+   * fraction. It also contains the last key of the row preceding each of those keys, keyed by its
+   * approximate fraction, when that row started after the previous sampled fraction.
    *
-   * @param dataFiles - list of data files to find the mid point key
+   * @param dataFiles - list of data files to sample keys from
+   * @param samples - the number of evenly spaced pieces to divide the keys into
    *
-   *        ISSUES : This method used the index files to find the mid point. If the data files have
-   *        different index intervals this method will not return an accurate mid point. Also, it
-   *        would be tricky to use this method in conjunction with an in memory map because the
+   *        ISSUES : This method used the index files to sample keys. If the data files have
+   *        different index intervals this method will not return an accurate distribution. Also,
+   *        it would be tricky to use this method in conjunction with an in memory map because the
    *        indexing interval is unknown.
    */
-  public static SortedMap<Double,Key> findMidPoint(ServerContext context,
+  public static SortedMap<Double,Key> sampleKeyDistribution(ServerContext context,
       TableConfiguration tableConf, String tabletDirectory, Text prevEndRow, Text endRow,
-      Collection<? extends TabletFile> dataFiles, double minSplit, boolean useIndex)
+      Collection<? extends TabletFile> dataFiles, int samples, boolean useIndex)
       throws IOException {
 
     Collection<? extends TabletFile> origDataFiles = dataFiles;
@@ -330,12 +335,12 @@ public class FileUtil {
       if (numKeys == 0) {
         if (useIndex) {
           log.warn(
-              "Failed to find mid point using indexes, falling back to"
+              "Failed to sample keys using indexes, falling back to"
                   + " data files which is slower. No entries between {} and {} for {}",
               prevEndRow, endRow, dataFiles);
           // need to pass original data files, not possibly reduced indexes
-          return findMidPoint(context, tableConf, tabletDirectory, prevEndRow, endRow,
-              origDataFiles, minSplit, false);
+          return sampleKeyDistribution(context, tableConf, tabletDirectory, prevEndRow, endRow,
+              origDataFiles, samples, false);
         }
         return Collections.emptySortedMap();
       }
@@ -348,50 +353,57 @@ public class FileUtil {
         mmfi.next();
       }
 
-      // read half of the keys in the index
       TreeMap<Double,Key> ret = new TreeMap<>();
       Key lastKey = null;
       long keysRead = 0;
 
-      Key keyBeforeMidPoint = null;
-      long keyBeforeMidPointPosition = 0;
+      Key keyBeforeRowChange = null;
+      long keyBeforeRowChangePosition = -1;
+      long lastSamplePosition = 0;
 
-      while (keysRead < numKeys / 2) {
-        if (lastKey != null && !lastKey.equals(mmfi.getTopKey(), PartialKey.ROW)
-            && (keysRead - 1) / (double) numKeys >= minSplit) {
-          keyBeforeMidPoint = new Key(lastKey);
-          keyBeforeMidPointPosition = keysRead - 1;
-        }
+      for (int i = 1; i < samples; i++) {
+        long samplePosition = numKeys * i / samples;
 
-        if (lastKey == null) {
-          lastKey = new Key();
-        }
+        while (keysRead < samplePosition) {
+          if (lastKey != null && !lastKey.equals(mmfi.getTopKey(), PartialKey.ROW)) {
+            if (keyBeforeRowChange == null) {
+              keyBeforeRowChange = new Key();
+            }
+            keyBeforeRowChange.set(lastKey);
+            keyBeforeRowChangePosition = keysRead - 1;
+          }
 
-        lastKey.set(mmfi.getTopKey());
+          if (lastKey == null) {
+            lastKey = new Key();
+          }
 
-        keysRead++;
+          lastKey.set(mmfi.getTopKey());
 
-        // consume minimum
-        mmfi.next();
-      }
+          keysRead++;
 
-      if (keyBeforeMidPoint != null) {
-        ret.put(keyBeforeMidPointPosition / (double) numKeys, keyBeforeMidPoint);
+          // consume minimum
+          mmfi.next();
+        }
+
+        if (keyBeforeRowChangePosition > lastSamplePosition) {
+          ret.put(keyBeforeRowChangePosition / (double) numKeys, new Key(keyBeforeRowChange));
+        }
+
+        ret.put(i / (double) samples, new Key(mmfi.getTopKey()));
+        lastSamplePosition = samplePosition;
       }
 
       long t2 = System.currentTimeMillis();
 
-      log.debug(
-          String.format("Found midPoint from indexes in %6.2f secs.%n", ((t2 - t1) / 1000.0)));
-
-      ret.put(.5, mmfi.getTopKey());
+      log.debug(String.format("Sampled %d keys from indexes in %6.2f secs.%n", ret.size(),
+          ((t2 - t1) / 1000.0)));
 
       // sanity check
       for (Key key : ret.values()) {
         boolean inRange =
             (key.compareRow(prevEndRow) > 0 && (endRow == null || key.compareRow(endRow) < 1));
         if (!inRange) {
-          throw new IOException("Found mid point is not in range " + key + " " + prevEndRow + " "
+          throw new IOException("Sampled key is not in range " + key + " " + prevEndRow + " "
               + endRow + " " + dataFiles);
         }
       }
@@ -59,6 +59,12 @@ public class TableInfoUtil {
     total.queryRate += more.queryRate;
     total.queryByteRate += more.queryByteRate;
     total.scanRate += more.scanRate;
+    total.windowQueryRate += more.windowQueryRate;
+    total.windowScanRate += more.windowScanRate;
+    total.windowIngestByteRate += more.windowIngestByteRate;
+    // percentiles from different servers can not be combined exactly, so report the worst one
+    total.readLatencyMedian = Math.max(total.readLatencyMedian, more.readLatencyMedian);
+    total.readLatencyP99 = Math.max(total.readLatencyP99, more.readLatencyP99);
   }
 
   public static TableInfo summarizeTableStats(TabletServerStatus status) {
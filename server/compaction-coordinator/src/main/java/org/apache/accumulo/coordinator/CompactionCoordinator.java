@@ -136,6 +136,8 @@ public class CompactionCoordinator extends AbstractServer
 
   private final ScheduledThreadPoolExecutor schedExecutor;
   private final ExecutorService summariesExecutor;
+  private final CompactionCoordinatorMetrics coordinatorMetrics =
+      new CompactionCoordinatorMetrics(QUEUE_SUMMARIES);
 
   protected CompactionCoordinator(ConfigOpts opts, String[] args) {
     this(opts, args, null);
@@ -267,7 +269,7 @@ public class CompactionCoordinator extends AbstractServer
     try {
       MetricsUtil.initializeMetrics(getContext().getConfiguration(), this.applicationName,
           clientAddress, getContext().getInstanceName());
-      MetricsUtil.initializeProducers(this);
+      MetricsUtil.initializeProducers(this, coordinatorMetrics);
     } catch (ClassNotFoundException | InstantiationException | IllegalAccessException
         | IllegalArgumentException | InvocationTargetException | NoSuchMethodException
         | SecurityException e1) {
@@ -390,6 +392,17 @@ public class CompactionCoordinator extends AbstractServer
         .getTimeInMillis(Property.COMPACTION_COORDINATOR_TSERVER_COMPACTION_CHECK_INTERVAL);
   }
 
+  /**
+   * @return the maximum time to hold a compactor request waiting for a job, capped at half of the
+   *         rpc timeout so the compactor does not time out the request
+   */
+  protected long getJobWaitTime() {
+    long waitTime =
+        getConfiguration().getTimeInMillis(Property.COMPACTION_COORDINATOR_JOB_WAIT_TIME);
+    long rpcTimeout = getConfiguration().getTimeInMillis(Property.GENERAL_RPC_TIMEOUT);
+    return Math.min(waitTime, rpcTimeout / 2);
+  }
+
   /**
    * Callback for the LiveTServerSet object to update current set of tablet servers, including ones
    * that were deleted and added
@@ -430,9 +443,52 @@ public class CompactionCoordinator extends AbstractServer
     LOG.trace("getCompactionJob called for queue {} by compactor {}", queue, compactorAddress);
     TIME_COMPACTOR_LAST_CHECKED.put(queue, System.currentTimeMillis());
 
-    TExternalCompactionJob result = null;
+    final long start = System.currentTimeMillis();
+    final long maxWait = getJobWaitTime();
+
+    TExternalCompactionJob result = reserveCompactionJob(queue,
+        QUEUE_SUMMARIES.getNextTserver(queue), compactorAddress, externalCompactionId);
+
+    long waited = System.currentTimeMillis() - start;
+    while (result == null && waited < maxWait) {
+      // hold the request until a tserver reports work for this queue
+      PrioTserver prioTserver;
+      try {
+        prioTserver =
+            QUEUE_SUMMARIES.getNextTserver(queue, maxWait - waited, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      if (prioTserver == null) {
+        break;
+      }
+      result = reserveCompactionJob(queue, prioTserver, compactorAddress, externalCompactionId);
+      waited = System.currentTimeMillis() - start;
+    }
+
+    coordinatorMetrics.recordJobWait(System.currentTimeMillis() - start);
+
+    if (result == null) {
+      LOG.trace("No tservers found for queue {}, returning empty job to compactor {}", queue,
+          compactorAddress);
+      result = new TExternalCompactionJob();
+    }
+
+    return result;
+
+  }
+
+  /**
+   * Reserve a compaction job for the queue, trying tservers in priority order starting with the
+   * given one.
+   *
+   * @return the reserved job or null if no tserver had a job for the queue
+   */
+  private TExternalCompactionJob reserveCompactionJob(String queue, PrioTserver prioTserver,
+      String compactorAddress, String externalCompactionId) {
 
-    PrioTserver prioTserver = QUEUE_SUMMARIES.getNextTserver(queue);
+    TExternalCompactionJob result = null;
 
     while (prioTserver != null) {
       TServerInstance tserver = prioTserver.tserver;
@@ -448,6 +504,7 @@ public class CompactionCoordinator extends AbstractServer
         if (null == job.getExternalCompactionId()) {
           LOG.trace("No compactions found for queue {} on tserver {}, trying next tserver", queue,
               tserver.getHostAndPort());
+          coordinatorMetrics.incrementEmpty();
 
           QUEUE_SUMMARIES.removeSummary(tserver, queue, prioTserver.prio);
           prioTserver = QUEUE_SUMMARIES.getNextTserver(queue);
@@ -459,11 +516,13 @@ public class CompactionCoordinator extends AbstractServer
         RUNNING_CACHE.put(ExternalCompactionId.of(job.getExternalCompactionId()),
             new RunningCompaction(job, compactorAddress, queue));
         LOG.debug("Returning external job {} to {}", job.externalCompactionId, compactorAddress);
+        coordinatorMetrics.incrementReserved();
         result = job;
         break;
       } catch (TException e) {
         LOG.warn("Error from tserver {} while trying to reserve compaction, trying next tserver",
             ExternalCompactionUtil.getHostPortString(tserver.getHostAndPort()), e);
+        coordinatorMetrics.incrementError();
         QUEUE_SUMMARIES.removeSummary(tserver, queue, prioTserver.prio);
         prioTserver = QUEUE_SUMMARIES.getNextTserver(queue);
       } finally {
@@ -471,14 +530,7 @@ public class CompactionCoordinator extends AbstractServer
       }
     }
 
-    if (result == null) {
-      LOG.trace("No tservers found for queue {}, returning empty job to compactor {}", queue,
-          compactorAddress);
-      result = new TExternalCompactionJob();
-    }
-
     return result;
-
   }
 
   /**
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.coordinator;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.accumulo.core.metrics.MetricsProducer;
+import org.apache.accumulo.core.metrics.MetricsUtil;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class CompactionCoordinatorMetrics implements MetricsProducer {
+
+  private final QueueSummaries summaries;
+  private final LongAdder reserved = new LongAdder();
+  private final LongAdder empty = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  // requests can arrive once the coordinator lock is held, which is before metrics are registered
+  private volatile Timer jobWait;
+
+  public CompactionCoordinatorMetrics(QueueSummaries summaries) {
+    this.summaries = summaries;
+  }
+
+  public void recordJobWait(long millis) {
+    Timer timer = jobWait;
+    if (timer != null) {
+      timer.record(Duration.ofMillis(millis));
+    }
+  }
+
+  public void incrementReserved() {
+    reserved.increment();
+  }
+
+  public void incrementEmpty() {
+    empty.increment();
+  }
+
+  public void incrementError() {
+    errors.increment();
+  }
+
+  @Override
+  public void registerMetrics(MeterRegistry registry) {
+    jobWait = Timer.builder(METRICS_COORDINATOR_JOB_WAIT)
+        .description("Time compactor requests for a job spent in the coordinator")
+        .tags(MetricsUtil.getCommonTags()).register(registry);
+
+    Gauge.builder(METRICS_COORDINATOR_QUEUE_DEPTH, summaries, QueueSummaries::getQueueDepth)
+        .description("Tablet server and priority pairs with queued external compactions")
+        .tags(MetricsUtil.getCommonTags()).register(registry);
+
+    Gauge
+        .builder(METRICS_COORDINATOR_WAITING_COMPACTORS, summaries,
+            QueueSummaries::getWaitingCount)
+        .description("Compactor requests waiting for a job").tags(MetricsUtil.getCommonTags())
+        .register(registry);
+
+    FunctionCounter.builder(METRICS_COORDINATOR_RESERVATIONS, reserved, LongAdder::sum)
+        .description("Compaction job reservation requests made to tablet servers")
+        .tags(MetricsUtil.getCommonTags()).tag("result", "success").register(registry);
+    FunctionCounter.builder(METRICS_COORDINATOR_RESERVATIONS, empty, LongAdder::sum)
+        .description("Compaction job reservation requests made to tablet servers")
+        .tags(MetricsUtil.getCommonTags()).tag("result", "empty").register(registry);
+    FunctionCounter.builder(METRICS_COORDINATOR_RESERVATIONS, errors, LongAdder::sum)
+        .description("Compaction job reservation requests made to tablet servers")
+        .tags(MetricsUtil.getCommonTags()).tag("result", "error").register(registry);
+  }
+}
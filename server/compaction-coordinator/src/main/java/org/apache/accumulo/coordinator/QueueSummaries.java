@@ -30,6 +30,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.accumulo.core.metadata.TServerInstance;
 import org.apache.accumulo.core.tabletserver.thrift.TCompactionQueueSummary;
@@ -49,6 +50,8 @@ public class QueueSummaries {
   final Map<String,TreeMap<Short,TreeSet<TServerInstance>>> QUEUES = new HashMap<>();
   /* index of tserver to queue and priority, exists to provide O(1) lookup into QUEUES */
   final Map<TServerInstance,Set<QueueAndPriority>> INDEX = new HashMap<>();
+  /* Map of external queue name -> number of callers waiting for a tserver to report work */
+  final Map<String,Integer> WAITING = new HashMap<>();
 
   private Entry<Short,TreeSet<TServerInstance>> getNextTserverEntry(String queue) {
     TreeMap<Short,TreeSet<TServerInstance>> m = QUEUES.get(queue);
@@ -135,6 +138,59 @@ public class QueueSummaries {
     return result;
   }
 
+  /**
+   * Get the next tserver for the queue, waiting up to the specified time for a tserver to report
+   * work for the queue if none currently has any. Callers are woken when {@link #update} adds
+   * summaries, so a job can be handed out as soon as the coordinator learns about it.
+   *
+   * @return the next tserver, or null if none reported work for the queue before the time elapsed
+   */
+  synchronized PrioTserver getNextTserver(String queue, long maxWait, TimeUnit unit)
+      throws InterruptedException {
+    PrioTserver next = getNextTserver(queue);
+    if (next != null || maxWait <= 0) {
+      return next;
+    }
+
+    final long deadline = System.nanoTime() + unit.toNanos(maxWait);
+    WAITING.merge(queue, 1, Integer::sum);
+    try {
+      long remaining = deadline - System.nanoTime();
+      while (next == null && remaining > 0) {
+        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        next = getNextTserver(queue);
+        remaining = deadline - System.nanoTime();
+      }
+    } finally {
+      WAITING.computeIfPresent(queue, (k, v) -> v == 1 ? null : v - 1);
+    }
+    return next;
+  }
+
+  /**
+   * @return the number of tserver and priority pairs with work across all queues
+   */
+  synchronized int getQueueDepth() {
+    int depth = 0;
+    for (TreeMap<Short,TreeSet<TServerInstance>> prios : QUEUES.values()) {
+      for (TreeSet<TServerInstance> tservers : prios.values()) {
+        depth += tservers.size();
+      }
+    }
+    return depth;
+  }
+
+  /**
+   * @return the number of callers waiting in {@link #getNextTserver(String, long, TimeUnit)}
+   */
+  synchronized int getWaitingCount() {
+    int waiting = 0;
+    for (Integer count : WAITING.values()) {
+      waiting += count;
+    }
+    return waiting;
+  }
+
   synchronized void update(TServerInstance tsi, List<TCompactionQueueSummary> summaries) {
 
     if (log.isTraceEnabled()) {
@@ -164,6 +220,10 @@ public class QueueSummaries {
       QUEUES.computeIfAbsent(qp.getQueue(), k -> new TreeMap<>(Comparator.reverseOrder()))
           .computeIfAbsent(qp.getPriority(), k -> new TreeSet<>()).add(tsi);
     });
+
+    if (!newQP.isEmpty() && !WAITING.isEmpty()) {
+      notifyAll();
+    }
   }
 
   synchronized void removeSummary(TServerInstance tsi, String queue, short priority) {
@@ -19,11 +19,16 @@
 package org.apache.accumulo.coordinator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.accumulo.coordinator.QueueSummaries.PrioTserver;
 import org.apache.accumulo.core.metadata.TServerInstance;
@@ -191,4 +196,41 @@ public class QueueSummariesTest {
       assertNull(queueSum.getNextTserver("q3"));
     }
   }
+
+  @Test
+  public void testWaitForTserver() throws Exception {
+    QueueSummaries queueSum = new QueueSummaries();
+
+    // nothing reported, so should time out
+    assertNull(queueSum.getNextTserver("q1", 10, TimeUnit.MILLISECONDS));
+    assertEquals(0, queueSum.getWaitingCount());
+
+    update(queueSum, "ts1", "q2", "5");
+    assertEquals(1, queueSum.getQueueDepth());
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<PrioTserver> future =
+          executor.submit(() -> queueSum.getNextTserver("q1", 1, TimeUnit.MINUTES));
+
+      while (queueSum.getWaitingCount() == 0) {
+        Thread.sleep(1);
+      }
+
+      // work reported for another queue should not wake the waiting caller with a result
+      update(queueSum, "ts2", "q2", "4");
+      assertFalse(future.isDone());
+      assertEquals(1, queueSum.getWaitingCount());
+
+      update(queueSum, "ts3", "q1", "3");
+      assertEquals(npt("ts3", (short) 3), future.get(1, TimeUnit.MINUTES));
+      assertEquals(0, queueSum.getWaitingCount());
+      assertEquals(3, queueSum.getQueueDepth());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // work is available, so should return without waiting
+    assertEquals(npt("ts3", (short) 3), queueSum.getNextTserver("q1", 1, TimeUnit.MINUTES));
+  }
 }
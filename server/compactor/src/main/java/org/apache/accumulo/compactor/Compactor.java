@@ -24,6 +24,7 @@ import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.apache.accumulo.core.util.LazySingletons.RANDOM;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.InvocationTargetException;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
@@ -64,6 +65,7 @@ import org.apache.accumulo.core.data.TableId;
 import org.apache.accumulo.core.dataImpl.KeyExtent;
 import org.apache.accumulo.core.fate.zookeeper.ZooReaderWriter;
 import org.apache.accumulo.core.fate.zookeeper.ZooUtil.NodeExistsPolicy;
+import org.apache.accumulo.core.file.blockfile.impl.LocalFileCache;
 import org.apache.accumulo.core.iteratorsImpl.system.SystemIteratorUtil;
 import org.apache.accumulo.core.lock.ServiceLock;
 import org.apache.accumulo.core.lock.ServiceLock.LockLossReason;
@@ -103,6 +105,7 @@ import org.apache.accumulo.server.compaction.RetryableThriftCall;
 import org.apache.accumulo.server.compaction.RetryableThriftCall.RetriesExceededException;
 import org.apache.accumulo.server.conf.TableConfiguration;
 import org.apache.accumulo.server.fs.VolumeManager;
+import org.apache.accumulo.server.metrics.LocalFileCacheMetrics;
 import org.apache.accumulo.server.rpc.ServerAddress;
 import org.apache.accumulo.server.rpc.TServerUtils;
 import org.apache.accumulo.server.rpc.ThriftProcessorTypes;
@@ -141,6 +144,7 @@ public class Compactor extends AbstractServer implements MetricsProducer, Compac
   private ServiceLock compactorLock;
   private ServerAddress compactorAddress = null;
   private PausedCompactionMetrics pausedMetrics;
+  private final LocalFileCache localFileCache;
 
   // Exposed for tests
   protected volatile boolean shutdown = false;
@@ -157,6 +161,12 @@ public class Compactor extends AbstractServer implements MetricsProducer, Compac
     queueName = aconf.get(Property.COMPACTOR_QUEUE_NAME);
     setupSecurity();
     watcher = new CompactionWatcher(aconf);
+    try {
+      localFileCache = LocalFileCache.create(aconf, Property.COMPACTOR_FILE_CACHE_DIR,
+          Property.COMPACTOR_FILE_CACHE_SIZE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error creating local file cache", e);
+    }
     var schedExecutor =
         ThreadPools.getServerThreadPools().createGeneralScheduledExecutorService(aconf);
     startCancelChecker(schedExecutor, TIME_BETWEEN_CANCEL_CHECKS);
@@ -528,7 +538,7 @@ public class Compactor extends AbstractServer implements MetricsProducer, Compac
         job.getIteratorSettings().getIterators()
             .forEach(tis -> iters.add(SystemIteratorUtil.toIteratorSetting(tis)));
 
-        ExtCEnv cenv = new ExtCEnv(JOB_HOLDER, queueName);
+        ExtCEnv cenv = new ExtCEnv(JOB_HOLDER, queueName, localFileCache);
         FileCompactor compactor =
             new FileCompactor(getContext(), extent, files, outputFile, job.isPropagateDeletes(),
                 cenv, iters, aConfig, tConfig.getCryptoService(), pausedMetrics);
@@ -575,6 +585,13 @@ public class Compactor extends AbstractServer implements MetricsProducer, Compac
   }
 
   protected long getWaitTimeBetweenCompactionChecks() {
+    if (getConfiguration().getTimeInMillis(Property.COMPACTION_COORDINATOR_JOB_WAIT_TIME) > 0) {
+      // The coordinator already held the request waiting for work, only back off briefly in case
+      // it returned early.
+      long sleepTime = (long) (100 + 100 * RANDOM.get().nextDouble());
+      LOG.trace("Sleeping {}ms, coordinator holds requests waiting for jobs", sleepTime);
+      return sleepTime;
+    }
     // get the total number of compactors assigned to this queue
     int numCompactors = ExternalCompactionUtil.countCompactors(queueName, getContext());
     // Aim for around 3 compactors checking in every second
@@ -611,6 +628,9 @@ public class Compactor extends AbstractServer implements MetricsProducer, Compac
           clientAddress, getContext().getInstanceName());
       pausedMetrics = new PausedCompactionMetrics();
       MetricsUtil.initializeProducers(this, pausedMetrics);
+      if (localFileCache != null) {
+        MetricsUtil.initializeProducers(new LocalFileCacheMetrics(localFileCache));
+      }
     } catch (ClassNotFoundException | InstantiationException | IllegalAccessException
         | IllegalArgumentException | InvocationTargetException | NoSuchMethodException
         | SecurityException e1) {
@@ -22,6 +22,7 @@ import org.apache.accumulo.core.conf.AccumuloConfiguration;
 import org.apache.accumulo.core.data.Key;
 import org.apache.accumulo.core.data.TableId;
 import org.apache.accumulo.core.data.Value;
+import org.apache.accumulo.core.file.blockfile.impl.LocalFileCache;
 import org.apache.accumulo.core.iterators.IteratorUtil.IteratorScope;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 import org.apache.accumulo.core.spi.compaction.CompactionKind;
@@ -41,6 +42,7 @@ public class ExtCEnv implements CompactionEnv {
   private final CompactionJobHolder jobHolder;
   private TExternalCompactionJob job;
   private String queueName;
+  private final LocalFileCache localFileCache;
 
   public static class CompactorIterEnv extends TabletIteratorEnvironment {
 
@@ -58,10 +60,11 @@ public class ExtCEnv implements CompactionEnv {
     }
   }
 
-  ExtCEnv(CompactionJobHolder jobHolder, String queueName) {
+  ExtCEnv(CompactionJobHolder jobHolder, String queueName, LocalFileCache localFileCache) {
     this.jobHolder = jobHolder;
     this.job = jobHolder.getJob();
     this.queueName = queueName;
+    this.localFileCache = localFileCache;
   }
 
   @Override
@@ -97,6 +100,11 @@ public class ExtCEnv implements CompactionEnv {
     throw new UnsupportedOperationException();
   }
 
+  @Override
+  public LocalFileCache getLocalFileCache() {
+    return localFileCache;
+  }
+
   @Override
   public TCompactionReason getReason() {
     switch (job.getKind()) {
@@ -113,6 +113,7 @@ import org.apache.accumulo.core.util.Retry;
 import org.apache.accumulo.core.util.threads.ThreadPools;
 import org.apache.accumulo.core.util.threads.Threads;
 import org.apache.accumulo.manager.metrics.ManagerMetrics;
+import org.apache.accumulo.manager.metrics.fate.BulkLoadMetrics;
 import org.apache.accumulo.manager.recovery.RecoveryManager;
 import org.apache.accumulo.manager.state.TableCounts;
 import org.apache.accumulo.manager.tableOps.TraceRepo;
@@ -219,12 +220,14 @@ public class Manager extends AbstractServer
   volatile SortedMap<TServerInstance,TabletServerStatus> tserverStatus = emptySortedMap();
   volatile SortedMap<TabletServerId,TServerStatus> tserverStatusForBalancer = emptySortedMap();
   final ServerBulkImportStatus bulkImportStatus = new ServerBulkImportStatus();
+  private final BulkLoadMetrics bulkLoadMetrics = new BulkLoadMetrics();
 
   private final AtomicBoolean managerInitialized = new AtomicBoolean(false);
   private final AtomicBoolean managerUpgrading = new AtomicBoolean(false);
   private final long timeToCacheRecoveryWalExistence;
 
   private ExecutorService tableInformationStatusPool = null;
+  private ExecutorService bulkLoadPool = null;
 
   @Override
   public synchronized ManagerState getManagerState() {
@@ -1105,7 +1108,7 @@ public class Manager extends AbstractServer
       MetricsUtil.initializeMetrics(getContext().getConfiguration(), this.applicationName,
           sa.getAddress(), getContext().getInstanceName());
       ManagerMetrics mm = new ManagerMetrics(getConfiguration(), this);
-      MetricsUtil.initializeProducers(this, mm);
+      MetricsUtil.initializeProducers(this, mm, bulkLoadMetrics);
     } catch (ClassNotFoundException | InstantiationException | IllegalAccessException
         | IllegalArgumentException | InvocationTargetException | NoSuchMethodException
         | SecurityException e1) {
@@ -1118,6 +1121,8 @@ public class Manager extends AbstractServer
 
     tableInformationStatusPool = ThreadPools.getServerThreadPools()
         .createExecutorService(getConfiguration(), Property.MANAGER_STATUS_THREAD_POOL_SIZE, false);
+    bulkLoadPool = ThreadPools.getServerThreadPools()
+        .createExecutorService(getConfiguration(), Property.MANAGER_BULK_MAX_INFLIGHT_LOADS, false);
 
     Thread statusThread = Threads.createThread("Status Thread", new StatusThread());
     statusThread.start();
@@ -1272,6 +1277,7 @@ public class Manager extends AbstractServer
     }
 
     tableInformationStatusPool.shutdownNow();
+    bulkLoadPool.shutdownNow();
 
     // Signal that we want it to stop, and wait for it to do so.
     if (authenticationTokenKeyManager != null) {
@@ -1719,6 +1725,17 @@ public class Manager extends AbstractServer
     bulkImportStatus.removeBulkImportStatus(Collections.singletonList(directory));
   }
 
+  public BulkLoadMetrics getBulkLoadMetrics() {
+    return bulkLoadMetrics;
+  }
+
+  /**
+   * @return the pool that sends bulk load requests to tablet servers for all bulk imports
+   */
+  public ExecutorService getBulkLoadPool() {
+    return bulkLoadPool;
+  }
+
   /**
    * Return how long (in milliseconds) there has been a manager overseeing this cluster. This is an
    * approximately monotonic clock, which will be approximately consistent between different
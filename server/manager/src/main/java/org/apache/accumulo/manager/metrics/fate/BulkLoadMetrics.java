@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.manager.metrics.fate;
+
+import java.time.Duration;
+
+import org.apache.accumulo.core.metrics.MetricsProducer;
+import org.apache.accumulo.core.metrics.MetricsUtil;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Metrics for the step of a bulk import FATE operation that loads files into tablets. Updates made
+ * before the metrics are registered are dropped.
+ */
+public class BulkLoadMetrics implements MetricsProducer {
+
+  private Timer onlinePassTimer;
+  private Timer offlinePassTimer;
+  private Counter tabletCounter;
+  private Counter rpcSuccessCounter;
+  private Counter rpcErrorCounter;
+
+  @Override
+  public void registerMetrics(MeterRegistry registry) {
+    onlinePassTimer = Timer.builder(METRICS_FATE_BULK_LOAD_PASS)
+        .description("Time taken by a pass of the bulk load step")
+        .tags(Tags.concat(MetricsUtil.getCommonTags(), "state", "online")).register(registry);
+    offlinePassTimer = Timer.builder(METRICS_FATE_BULK_LOAD_PASS)
+        .description("Time taken by a pass of the bulk load step")
+        .tags(Tags.concat(MetricsUtil.getCommonTags(), "state", "offline")).register(registry);
+    tabletCounter = Counter.builder(METRICS_FATE_BULK_LOAD_TABLETS)
+        .description("Tablets files were loaded into").tags(MetricsUtil.getCommonTags())
+        .register(registry);
+    rpcSuccessCounter = Counter.builder(METRICS_FATE_BULK_LOAD_RPCS)
+        .description("Bulk load requests sent to tablet servers")
+        .tags(Tags.concat(MetricsUtil.getCommonTags(), "result", "success")).register(registry);
+    rpcErrorCounter = Counter.builder(METRICS_FATE_BULK_LOAD_RPCS)
+        .description("Bulk load requests sent to tablet servers")
+        .tags(Tags.concat(MetricsUtil.getCommonTags(), "result", "error")).register(registry);
+  }
+
+  public void recordPass(boolean online, Duration duration) {
+    Timer timer = online ? onlinePassTimer : offlinePassTimer;
+    if (timer != null) {
+      timer.record(duration);
+    }
+  }
+
+  public void addTablets(long count) {
+    if (tabletCounter != null && count > 0) {
+      tabletCounter.increment(count);
+    }
+  }
+
+  public void addRpc(boolean success) {
+    Counter counter = success ? rpcSuccessCounter : rpcErrorCounter;
+    if (counter != null) {
+      counter.increment();
+    }
+  }
+}
@@ -23,7 +23,9 @@ import static org.apache.accumulo.core.metadata.schema.TabletMetadata.ColumnType
 import static org.apache.accumulo.core.metadata.schema.TabletMetadata.ColumnType.LOCATION;
 import static org.apache.accumulo.core.metadata.schema.TabletMetadata.ColumnType.PREV_ROW;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -31,6 +33,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 import org.apache.accumulo.core.client.BatchWriter;
@@ -62,9 +67,9 @@ import org.apache.accumulo.core.tabletingest.thrift.DataFileInfo;
 import org.apache.accumulo.core.tabletingest.thrift.TabletIngestClientService.Client;
 import org.apache.accumulo.core.trace.TraceUtil;
 import org.apache.accumulo.core.util.MapCounter;
-import org.apache.accumulo.core.util.PeekingIterator;
 import org.apache.accumulo.core.util.TextUtil;
 import org.apache.accumulo.manager.Manager;
+import org.apache.accumulo.manager.metrics.fate.BulkLoadMetrics;
 import org.apache.accumulo.manager.tableOps.ManagerRepo;
 import org.apache.accumulo.server.fs.VolumeManager;
 import org.apache.hadoop.fs.Path;
@@ -110,6 +115,7 @@ class LoadFiles extends ManagerRepo {
 
   @Override
   public Repo<Manager> call(final long tid, final Manager manager) {
+    LoadProgress.remove(tid);
     if (bulkInfo.tableState == TableState.ONLINE) {
       return new CompleteBulkImport(bulkInfo);
     } else {
@@ -117,6 +123,11 @@ class LoadFiles extends ManagerRepo {
     }
   }
 
+  @Override
+  public void undo(long tid, Manager manager) throws Exception {
+    LoadProgress.remove(tid);
+  }
+
   private abstract static class Loader {
     protected Path bulkDir;
     protected Manager manager;
@@ -130,9 +141,14 @@ class LoadFiles extends ManagerRepo {
       this.setTime = setTime;
     }
 
-    abstract void load(List<TabletMetadata> tablets, Files files) throws Exception;
+    /**
+     * @return true if no more work is needed for these tablets once {@link #finish()} returns
+     */
+    abstract boolean load(List<TabletMetadata> tablets, Files files) throws Exception;
 
     abstract long finish() throws Exception;
+
+    void close() {}
   }
 
   private static class OnlineLoader extends Loader {
@@ -150,6 +166,13 @@ class LoadFiles extends ManagerRepo {
     Map<HostAndPort,Map<TKeyExtent,Map<String,DataFileInfo>>> loadQueue;
     private int queuedDataSize = 0;
 
+    // RPCs are sent from a pool shared by all bulk imports so that slow tablet servers do not hold
+    // up requests to others. The semaphore bounds how many requests of this import are buffered or
+    // in flight at once.
+    private int maxInflight;
+    private Semaphore inflight;
+    private ExecutorService rpcPool;
+
     @Override
     void start(Path bulkDir, Manager manager, long tid, boolean setTime) throws Exception {
       super.start(bulkDir, manager, tid, setTime);
@@ -160,35 +183,62 @@ class LoadFiles extends ManagerRepo {
       loadMsgs = new MapCounter<>();
 
       loadQueue = new HashMap<>();
+
+      maxInflight = Math.max(1,
+          manager.getConfiguration().getCount(Property.MANAGER_BULK_MAX_INFLIGHT_LOADS));
+      inflight = new Semaphore(maxInflight);
+      rpcPool = manager.getBulkLoadPool();
     }
 
-    private void sendQueued(int threshhold) {
+    private void sendQueued(int threshhold) throws InterruptedException {
       if (queuedDataSize > threshhold || threshhold == 0) {
-        loadQueue.forEach((server, tabletFiles) -> {
+        for (var entry : loadQueue.entrySet()) {
+          HostAndPort server = entry.getKey();
+          Map<TKeyExtent,Map<String,DataFileInfo>> tabletFiles = entry.getValue();
 
           if (log.isTraceEnabled()) {
             log.trace("{} asking {} to bulk import {} files for {} tablets", fmtTid, server,
                 tabletFiles.values().stream().mapToInt(Map::size).sum(), tabletFiles.size());
           }
 
-          Client client = null;
+          inflight.acquire();
           try {
-            client = ThriftUtil.getClient(ThriftClientTypes.TABLET_INGEST, server,
-                manager.getContext(), timeInMillis);
-            client.loadFiles(TraceUtil.traceInfo(), manager.getContext().rpcCreds(), tid,
-                bulkDir.toString(), tabletFiles, setTime);
-          } catch (TException ex) {
-            log.debug("rpc failed server: " + server + ", " + fmtTid + " " + ex.getMessage(), ex);
-          } finally {
-            ThriftUtil.returnClient(client, manager.getContext());
+            rpcPool.execute(() -> {
+              try {
+                send(server, tabletFiles);
+              } finally {
+                inflight.release();
+              }
+            });
+          } catch (RejectedExecutionException e) {
+            inflight.release();
+            throw e;
           }
-        });
+        }
 
         loadQueue.clear();
         queuedDataSize = 0;
       }
     }
 
+    private void send(HostAndPort server, Map<TKeyExtent,Map<String,DataFileInfo>> tabletFiles) {
+      BulkLoadMetrics metrics = manager.getBulkLoadMetrics();
+      Client client = null;
+      try {
+        client = ThriftUtil.getClient(ThriftClientTypes.TABLET_INGEST, server,
+            manager.getContext(), timeInMillis);
+        client.loadFiles(TraceUtil.traceInfo(), manager.getContext().rpcCreds(), tid,
+            bulkDir.toString(), tabletFiles, setTime);
+        metrics.addRpc(true);
+        metrics.addTablets(tabletFiles.size());
+      } catch (TException ex) {
+        log.debug("rpc failed server: " + server + ", " + fmtTid + " " + ex.getMessage(), ex);
+        metrics.addRpc(false);
+      } finally {
+        ThriftUtil.returnClient(client, manager.getContext());
+      }
+    }
+
     private void addToQueue(HostAndPort server, KeyExtent extent,
         Map<String,DataFileInfo> thriftImports) {
       if (!thriftImports.isEmpty()) {
@@ -207,20 +257,12 @@ class LoadFiles extends ManagerRepo {
     }
 
     @Override
-    void load(List<TabletMetadata> tablets, Files files) {
+    boolean load(List<TabletMetadata> tablets, Files files) throws InterruptedException {
+      boolean complete = true;
       for (TabletMetadata tablet : tablets) {
         // send files to tablet sever
         // ideally there should only be one tablet location to send all the files
 
-        Location location = tablet.getLocation();
-        HostAndPort server = null;
-        if (location == null) {
-          locationLess++;
-          continue;
-        } else {
-          server = location.getHostAndPort();
-        }
-
         Set<ReferencedTabletFile> loadedFiles = tablet.getLoaded().keySet().stream()
             .map(StoredTabletFile::getTabletFile).collect(Collectors.toSet());
 
@@ -235,17 +277,34 @@ class LoadFiles extends ManagerRepo {
           }
         }
 
-        addToQueue(server, tablet.getExtent(), thriftImports);
+        if (thriftImports.isEmpty()) {
+          // all files were loaded into this tablet by an earlier pass
+          continue;
+        }
+        complete = false;
+
+        Location location = tablet.getLocation();
+        if (location == null) {
+          locationLess++;
+          continue;
+        }
+
+        addToQueue(location.getHostAndPort(), tablet.getExtent(), thriftImports);
       }
 
       sendQueued(4 * 1024 * 1024);
+      return complete;
     }
 
     @Override
-    long finish() {
+    long finish() throws InterruptedException {
 
       sendQueued(0);
 
+      // wait for all requests to be sent
+      inflight.acquire(maxInflight);
+      inflight.release(maxInflight);
+
       long sleepTime = 0;
       if (loadMsgs.size() > 0) {
         // find which tablet server had the most load messages sent to it and sleep 13ms for each
@@ -260,6 +319,14 @@ class LoadFiles extends ManagerRepo {
       return sleepTime;
     }
 
+    @Override
+    void close() {
+      if (inflight != null) {
+        // the pool is shared, so wait for the requests of this pass instead of canceling them
+        inflight.acquireUninterruptibly(maxInflight);
+        inflight.release(maxInflight);
+      }
+    }
   }
 
   private static class OfflineLoader extends Loader {
@@ -278,11 +345,13 @@ class LoadFiles extends ManagerRepo {
     }
 
     @Override
-    void load(List<TabletMetadata> tablets, Files files) throws MutationsRejectedException {
+    boolean load(List<TabletMetadata> tablets, Files files) throws MutationsRejectedException {
+      boolean complete = true;
       byte[] fam = TextUtil.getBytes(DataFileColumnFamily.NAME);
       for (TabletMetadata tablet : tablets) {
         if (tablet.getLocation() != null) {
           unloadingTablets.increment(tablet.getLocation().getHostAndPort(), 1L);
+          complete = false;
           continue;
         }
 
@@ -297,7 +366,9 @@ class LoadFiles extends ManagerRepo {
         }
 
         bw.addMutation(mutation);
+        manager.getBulkLoadMetrics().addTablets(1);
       }
+      return complete;
     }
 
     @Override
@@ -318,40 +389,66 @@ class LoadFiles extends ManagerRepo {
   /**
    * Make asynchronous load calls to each overlapping Tablet in the bulk mapping. Return a sleep
    * time to isReady based on a factor of the TabletServer with the most Tablets. This method will
-   * scan the metadata table getting Tablet range and location information. It will return 0 when
-   * all files have been loaded.
+   * scan the metadata table getting Tablet range and location information, skipping the parts of
+   * the mapping that earlier passes found to be completely loaded. It will return 0 when all files
+   * have been loaded.
    */
-  private long loadFiles(TableId tableId, Path bulkDir, LoadMappingIterator loadMapIter,
-      Manager manager, long tid) throws Exception {
-    PeekingIterator<Map.Entry<KeyExtent,Bulk.Files>> lmi = new PeekingIterator<>(loadMapIter);
-    Map.Entry<KeyExtent,Bulk.Files> loadMapEntry = lmi.peek();
-
-    Text startRow = loadMapEntry.getKey().prevEndRow();
+  private long loadFiles(TableId tableId, Path bulkDir, LoadMappingIterator lmi, Manager manager,
+      long tid) throws Exception {
 
-    Iterator<TabletMetadata> tabletIter =
-        TabletsMetadata.builder(manager.getContext()).forTable(tableId).overlapping(startRow, null)
-            .checkConsistency().fetch(PREV_ROW, LOCATION, LOADED).build().iterator();
+    LoadProgress progress = LoadProgress.get(tid);
+    boolean online = bulkInfo.tableState == TableState.ONLINE;
 
     Loader loader;
-    if (bulkInfo.tableState == TableState.ONLINE) {
+    if (online) {
       loader = new OnlineLoader();
     } else {
       loader = new OfflineLoader();
     }
 
-    loader.start(bulkDir, manager, tid, bulkInfo.setTime);
-
     long t1 = System.currentTimeMillis();
-    while (lmi.hasNext()) {
-      loadMapEntry = lmi.next();
-      List<TabletMetadata> tablets = findOverlappingTablets(loadMapEntry.getKey(), tabletIter);
-      loader.load(tablets, loadMapEntry.getValue());
+    long sleepTime;
+    try {
+      loader.start(bulkDir, manager, tid, bulkInfo.setTime);
+
+      Iterator<TabletMetadata> tabletIter = null;
+      BitSet completed = new BitSet();
+      KeyExtent lastIncomplete = null;
+
+      for (int entry = 0; lmi.hasNext(); entry++) {
+        Map.Entry<KeyExtent,Bulk.Files> loadMapEntry = lmi.next();
+        if (progress.isComplete(entry)) {
+          continue;
+        }
+
+        KeyExtent loadRange = loadMapEntry.getKey();
+        if (tabletIter == null) {
+          // only scan the tablets between the first and last entries that may still need work
+          tabletIter = TabletsMetadata.builder(manager.getContext()).forTable(tableId)
+              .overlapping(loadRange.prevEndRow(), progress.getScanEndRow()).checkConsistency()
+              .fetch(PREV_ROW, LOCATION, LOADED).build().iterator();
+        }
+
+        List<TabletMetadata> tablets = findOverlappingTablets(loadRange, tabletIter);
+        if (loader.load(tablets, loadMapEntry.getValue())) {
+          completed.set(entry);
+        } else {
+          lastIncomplete = loadRange;
+        }
+      }
+
+      sleepTime = loader.finish();
+
+      // entries are only known to be complete once the loader has finished
+      progress.update(completed, lastIncomplete == null ? null : lastIncomplete.endRow());
+    } finally {
+      loader.close();
     }
 
-    long sleepTime = loader.finish();
+    long scanTime = System.currentTimeMillis() - t1;
+    manager.getBulkLoadMetrics().recordPass(online, Duration.ofMillis(scanTime));
     if (sleepTime > 0) {
-      long scanTime = Math.min(System.currentTimeMillis() - t1, 30000);
-      sleepTime = Math.max(sleepTime, scanTime * 2);
+      sleepTime = Math.max(sleepTime, Math.min(scanTime, 30000) * 2);
     }
     return sleepTime;
   }
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.manager.tableOps.bulkVer2;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.hadoop.io.Text;
+
+/**
+ * Remembers which entries of a bulk import's load mapping were completely loaded by earlier passes
+ * of {@link LoadFiles}, so that later passes only scan the metadata of tablets that may still need
+ * files. Progress is only kept in memory. A manager that takes over a bulk import starts again from
+ * the whole mapping, which is always safe because loading is idempotent.
+ */
+class LoadProgress {
+
+  private static final Map<Long,LoadProgress> progress = new ConcurrentHashMap<>();
+
+  static LoadProgress get(long tid) {
+    return progress.computeIfAbsent(tid, k -> new LoadProgress());
+  }
+
+  static void remove(long tid) {
+    progress.remove(tid);
+  }
+
+  // positions in the load mapping of the entries that need no more work
+  private final BitSet complete = new BitSet();
+  // end row of the last entry that needed work in the previous pass, null if unbounded
+  private Text scanEndRow = null;
+
+  synchronized boolean isComplete(int entry) {
+    return complete.get(entry);
+  }
+
+  /**
+   * @return the row after which no entry of the load mapping needs work, or null if there may be
+   *         work up to the end of the table
+   */
+  synchronized Text getScanEndRow() {
+    return scanEndRow;
+  }
+
+  /**
+   * Records the outcome of a pass that finished without error.
+   *
+   * @param completed the positions of entries that the pass completed
+   * @param lastIncompleteEndRow the end row of the last entry that still needs work
+   */
+  synchronized void update(BitSet completed, Text lastIncompleteEndRow) {
+    complete.or(completed);
+    scanEndRow = lastIncompleteEndRow;
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.manager.tableOps.bulkVer2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+
+import org.apache.hadoop.io.Text;
+import org.junit.jupiter.api.Test;
+
+public class LoadProgressTest {
+
+  @Test
+  public void testProgress() {
+    LoadProgress progress = LoadProgress.get(42);
+    assertSame(progress, LoadProgress.get(42));
+    assertNull(progress.getScanEndRow());
+
+    BitSet completed = new BitSet();
+    completed.set(0);
+    completed.set(2);
+    progress.update(completed, new Text("m"));
+
+    completed = new BitSet();
+    completed.set(1);
+    progress.update(completed, new Text("f"));
+
+    assertTrue(progress.isComplete(0));
+    assertTrue(progress.isComplete(1));
+    assertTrue(progress.isComplete(2));
+    assertFalse(progress.isComplete(3));
+    assertEquals(new Text("f"), progress.getScanEndRow());
+
+    LoadProgress.remove(42);
+    LoadProgress newProgress = LoadProgress.get(42);
+    assertNotSame(progress, newProgress);
+    assertFalse(newProgress.isComplete(0));
+    LoadProgress.remove(42);
+  }
+}
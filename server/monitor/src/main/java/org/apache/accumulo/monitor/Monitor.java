@@ -30,6 +30,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -170,6 +171,9 @@ public class Monitor extends AbstractServer implements HighlyAvailableService {
 
   private final AtomicBoolean fetching = new AtomicBoolean(false);
   private ManagerMonitorInfo mmi;
+  // aggregates computed once per poll of the manager, keyed by the polled status objects
+  private Map<TabletServerStatus,TableInfo> tserverSummaries = Collections.emptyMap();
+  private Map<String,Double> tableHoldTimes = Collections.emptyMap();
   private Map<TableId,Map<ProblemType,Integer>> problemSummary = Collections.emptyMap();
   private Exception problemException;
   private GCStatus gcStatus;
@@ -303,8 +307,11 @@ public class Monitor extends AbstractServer implements HighlyAvailableService {
         dataCacheHitTracker.startingUpdates();
         dataCacheRequestTracker.startingUpdates();
 
+        Map<TabletServerStatus,TableInfo> tserverSummaries =
+            new IdentityHashMap<>(mmi.tServerInfo.size());
         for (TabletServerStatus server : mmi.tServerInfo) {
           TableInfo summary = TableInfoUtil.summarizeTableStats(server);
+          tserverSummaries.put(server, summary);
           totalIngestRate += summary.ingestRate;
           totalIngestByteRate += summary.ingestByteRate;
           totalQueryRate += summary.queryRate;
@@ -347,6 +354,8 @@ public class Monitor extends AbstractServer implements HighlyAvailableService {
         this.totalTabletCount = totalTabletCount;
         this.totalHoldTime = totalHoldTime;
         this.totalLookups = totalLookups;
+        this.tserverSummaries = Collections.unmodifiableMap(tserverSummaries);
+        this.tableHoldTimes = TableInfoUtil.summarizeTableStats(mmi);
 
         ingestRateOverTime.add(new Pair<>(currentTime, totalIngestRate));
         ingestByteRateOverTime.add(new Pair<>(currentTime, totalIngestByteRate));
@@ -904,6 +913,22 @@ public class Monitor extends AbstractServer implements HighlyAvailableService {
     return mmi;
   }
 
+  /**
+   * @return the summary of all tables on the server computed when the status was polled, or null
+   *         if the status is not from the most recent poll
+   */
+  public TableInfo getTabletServerSummary(TabletServerStatus status) {
+    return tserverSummaries.get(status);
+  }
+
+  /**
+   * @return the largest hold time of the servers hosting each table, by table id, as of the most
+   *         recent poll
+   */
+  public Map<String,Double> getTableHoldTimes() {
+    return tableHoldTimes;
+  }
+
   public int getTotalTables() {
     return totalTables;
   }
@@ -30,6 +30,8 @@ public class Compactions {
 
   // Variable names become JSON keys
   public List<CompactionInfo> compactions = new ArrayList<>();
+  // number of servers matching the request, of which compactions holds one page
+  public int total;
 
   /**
    * Adds a new compactionInfo to the list
@@ -38,5 +40,17 @@ public class Compactions {
    */
   public void addCompaction(CompactionInfo compactionInfo) {
     compactions.add(compactionInfo);
+    total++;
+  }
+
+  /**
+   * Sets one page of the compaction info matching a request
+   *
+   * @param page Compaction info on the requested page
+   * @param total Number of entries on all pages
+   */
+  public void setCompactions(List<CompactionInfo> page, int total) {
+    this.compactions = page;
+    this.total = total;
   }
 }
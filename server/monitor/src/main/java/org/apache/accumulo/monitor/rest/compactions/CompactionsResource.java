@@ -18,17 +18,26 @@
  */
 package org.apache.accumulo.monitor.rest.compactions;
 
+import static org.apache.accumulo.monitor.util.ParameterValidator.NAME_FILTER_REGEX;
+
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 
 import org.apache.accumulo.core.manager.thrift.ManagerMonitorInfo;
 import org.apache.accumulo.core.manager.thrift.TabletServerStatus;
 import org.apache.accumulo.monitor.Monitor;
+import org.apache.accumulo.monitor.util.Paging;
 
 import com.google.common.net.HostAndPort;
 
@@ -47,10 +56,16 @@ public class CompactionsResource {
   /**
    * Generates a new JSON object with compaction information
    *
+   * @param filter Only include tservers whose name contains this string
+   * @param offset Number of matching tservers to skip
+   * @param limit Maximum number of tservers to include, 0 includes all of them
    * @return JSON object
    */
   @GET
-  public Compactions getActiveCompactions() {
+  public Compactions getActiveCompactions(
+      @QueryParam("filter") @Pattern(regexp = NAME_FILTER_REGEX) String filter,
+      @QueryParam("offset") @DefaultValue("0") @Min(0) int offset,
+      @QueryParam("limit") @DefaultValue("0") @Min(0) int limit) {
     Compactions compactions = new Compactions();
     ManagerMonitorInfo mmi = monitor.getMmi();
     if (mmi == null) {
@@ -59,12 +74,14 @@ public class CompactionsResource {
 
     Map<HostAndPort,Monitor.CompactionStats> entry = monitor.getCompactions();
 
-    for (TabletServerStatus tserverInfo : mmi.getTServerInfo()) {
-      var stats = entry.get(HostAndPort.fromString(tserverInfo.name));
-      if (stats != null) {
-        compactions.addCompaction(new CompactionInfo(tserverInfo, stats));
-      }
-    }
+    List<TabletServerStatus> matching = Paging
+        .filter(mmi.getTServerInfo(), TabletServerStatus::getName, filter).stream()
+        .filter(tserverInfo -> entry.containsKey(HostAndPort.fromString(tserverInfo.name)))
+        .collect(Collectors.toList());
+    compactions.setCompactions(Paging.page(matching, offset, limit,
+        tserverInfo -> new CompactionInfo(tserverInfo,
+            entry.get(HostAndPort.fromString(tserverInfo.name)))),
+        matching.size());
     return compactions;
   }
 }
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.monitor.rest.heatmap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates a list of tablet server and table activity, hottest first
+ *
+ * @since 3.1.0
+ */
+public class HeatMap {
+
+  // Variable names become JSON keys
+  public List<HeatMapCell> cells = new ArrayList<>();
+  // number of cells matching the request, of which cells holds one page
+  public int total;
+
+  /**
+   * Sets one page of the cells matching a request
+   *
+   * @param page Cells on the requested page
+   * @param total Number of cells on all pages
+   */
+  public void setCells(List<HeatMapCell> page, int total) {
+    this.cells = page;
+    this.total = total;
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.monitor.rest.heatmap;
+
+import jakarta.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.manager.thrift.TableInfo;
+import org.apache.accumulo.monitor.util.JaxbAbstractIdSerializer;
+
+/**
+ * Activity of one table on one tablet server over the server's recent sliding window
+ *
+ * @since 3.1.0
+ */
+public class HeatMapCell {
+
+  // Variable names become JSON keys
+  public String server;
+  public String tablename;
+
+  @XmlJavaTypeAdapter(JaxbAbstractIdSerializer.class)
+  public TableId tableId;
+
+  public int onlineTablets;
+  public double queryRate;
+  public double scanRate;
+  public double ingestByteRate;
+  public double readLatencyMedian;
+  public double readLatencyP99;
+
+  public HeatMapCell() {}
+
+  /**
+   * Stores the windowed activity of a table on a tablet server
+   *
+   * @param server Tablet server address
+   * @param tablename Table name, may be null if the table was deleted
+   * @param tableId Table ID
+   * @param info Table summary reported by the tablet server
+   */
+  public HeatMapCell(String server, String tablename, TableId tableId, TableInfo info) {
+    this.server = server;
+    this.tablename = tablename;
+    this.tableId = tableId;
+    this.onlineTablets = info.onlineTablets;
+    this.queryRate = info.windowQueryRate;
+    this.scanRate = info.windowScanRate;
+    this.ingestByteRate = info.windowIngestByteRate;
+    this.readLatencyMedian = info.readLatencyMedian;
+    this.readLatencyP99 = info.readLatencyP99;
+  }
+}
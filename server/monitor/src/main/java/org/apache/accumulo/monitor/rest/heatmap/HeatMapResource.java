@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.monitor.rest.heatmap;
+
+import static org.apache.accumulo.monitor.util.ParameterValidator.NAME_FILTER_REGEX;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import jakarta.inject.Inject;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.manager.thrift.ManagerMonitorInfo;
+import org.apache.accumulo.core.manager.thrift.TableInfo;
+import org.apache.accumulo.core.manager.thrift.TabletServerStatus;
+import org.apache.accumulo.monitor.Monitor;
+import org.apache.accumulo.monitor.util.Paging;
+
+/**
+ * Generates a cluster wide heat map of recent read and write activity from the per table summaries
+ * each tablet server reports to the Manager
+ *
+ * @since 3.1.0
+ */
+@Path("/heatmap")
+@Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+public class HeatMapResource {
+
+  // busiest cells first, reads before writes since reads are what latency is measured on
+  private static final Comparator<HeatMapCell> HOTTEST_FIRST =
+      Comparator.<HeatMapCell>comparingDouble(cell -> cell.scanRate)
+          .thenComparingDouble(cell -> cell.ingestByteRate).reversed();
+
+  @Inject
+  private Monitor monitor;
+
+  /**
+   * Generates a list of the activity of every table on every tablet server, hottest first
+   *
+   * @param filter Only include cells whose table name contains this string
+   * @param offset Number of matching cells to skip
+   * @param limit Maximum number of cells to include, 0 includes all of them
+   * @return heat map cells
+   */
+  @GET
+  public HeatMap getHeatMap(
+      @QueryParam("filter") @Pattern(regexp = NAME_FILTER_REGEX) String filter,
+      @QueryParam("offset") @DefaultValue("0") @Min(0) int offset,
+      @QueryParam("limit") @DefaultValue("0") @Min(0) int limit) {
+    HeatMap heatMap = new HeatMap();
+    ManagerMonitorInfo mmi = monitor.getMmi();
+    if (mmi == null || mmi.tServerInfo == null) {
+      return heatMap;
+    }
+    Map<TableId,String> tableNames = monitor.getContext().getTableIdToNameMap();
+
+    List<HeatMapCell> cells = new ArrayList<>();
+    for (TabletServerStatus status : mmi.tServerInfo) {
+      if (status == null || status.tableMap == null) {
+        continue;
+      }
+      for (Entry<String,TableInfo> entry : status.tableMap.entrySet()) {
+        TableId tableId = TableId.of(entry.getKey());
+        cells.add(
+            new HeatMapCell(status.name, tableNames.get(tableId), tableId, entry.getValue()));
+      }
+    }
+
+    List<HeatMapCell> matching = Paging.filter(cells, cell -> cell.tablename, filter);
+    matching.sort(HOTTEST_FIRST);
+    heatMap.setCells(Paging.page(matching, offset, limit, cell -> cell), matching.size());
+    return heatMap;
+  }
+}
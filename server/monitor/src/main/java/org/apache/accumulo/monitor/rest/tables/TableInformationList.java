@@ -30,6 +30,8 @@ public class TableInformationList {
 
   // Variable names become JSON keys
   public List<TableInformation> table = new ArrayList<>();
+  // number of tables matching the request, of which table holds one page
+  public int total;
 
   /**
    * Adds a new table to the list
@@ -38,5 +40,17 @@ public class TableInformationList {
    */
   public void addTable(TableInformation table) {
     this.table.add(table);
+    total++;
+  }
+
+  /**
+   * Sets one page of the tables matching a request
+   *
+   * @param page Tables on the requested page
+   * @param total Number of tables on all pages
+   */
+  public void setTables(List<TableInformation> page, int total) {
+    this.table = page;
+    this.total = total;
   }
 }
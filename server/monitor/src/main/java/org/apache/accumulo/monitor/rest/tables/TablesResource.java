@@ -19,21 +19,24 @@
 package org.apache.accumulo.monitor.rest.tables;
 
 import static org.apache.accumulo.monitor.util.ParameterValidator.ALPHA_NUM_REGEX_TABLE_ID;
+import static org.apache.accumulo.monitor.util.ParameterValidator.NAME_FILTER_REGEX;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
 
 import jakarta.inject.Inject;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 
 import org.apache.accumulo.core.data.Range;
@@ -49,9 +52,9 @@ import org.apache.accumulo.core.metadata.schema.MetadataSchema.TabletsSection;
 import org.apache.accumulo.monitor.Monitor;
 import org.apache.accumulo.monitor.rest.tservers.TabletServer;
 import org.apache.accumulo.monitor.rest.tservers.TabletServers;
+import org.apache.accumulo.monitor.util.Paging;
 import org.apache.accumulo.server.manager.state.MetaDataTableScanner;
 import org.apache.accumulo.server.tables.TableManager;
-import org.apache.accumulo.server.util.TableInfoUtil;
 import org.apache.hadoop.io.Text;
 
 /**
@@ -71,35 +74,43 @@ public class TablesResource {
   /**
    * Generates a list of all the tables
    *
+   * @param filter Only include tables whose name contains this string
+   * @param offset Number of matching tables to skip
+   * @param limit Maximum number of tables to include, 0 includes all of them
    * @return list with all tables
    */
   @GET
-  public TableInformationList getTables() {
-    return getTables(monitor);
+  public TableInformationList getTables(
+      @QueryParam("filter") @Pattern(regexp = NAME_FILTER_REGEX) String filter,
+      @QueryParam("offset") @DefaultValue("0") @Min(0) int offset,
+      @QueryParam("limit") @DefaultValue("0") @Min(0) int limit) {
+    return getTables(monitor, filter, offset, limit);
   }
 
   public static TableInformationList getTables(Monitor monitor) {
+    return getTables(monitor, null, 0, 0);
+  }
+
+  public static TableInformationList getTables(Monitor monitor, String filter, int offset,
+      int limit) {
     TableInformationList tableList = new TableInformationList();
     ManagerMonitorInfo mmi = monitor.getMmi();
     if (mmi == null) {
       return tableList;
     }
-    SortedMap<TableId,TableInfo> tableStats = new TreeMap<>();
-
-    if (mmi.tableMap != null) {
-      for (Map.Entry<String,TableInfo> te : mmi.tableMap.entrySet()) {
-        tableStats.put(TableId.of(te.getKey()), te.getValue());
-      }
-    }
-
-    Map<String,Double> compactingByTable = TableInfoUtil.summarizeTableStats(mmi);
+    Map<String,TableInfo> tableStats = mmi.tableMap == null ? Map.of() : mmi.tableMap;
+    Map<String,Double> compactingByTable = monitor.getTableHoldTimes();
     TableManager tableManager = monitor.getContext().getTableManager();
 
-    // Add tables to the list
-    for (Map.Entry<String,TableId> entry : monitor.getContext().getTableNameToIdMap().entrySet()) {
+    List<Map.Entry<String,TableId>> matching =
+        Paging.filter(new ArrayList<>(new TreeMap<>(monitor.getContext().getTableNameToIdMap())
+            .entrySet()), Map.Entry::getKey, filter);
+
+    // Add tables to the list, the information of each is created as the response is written
+    tableList.setTables(Paging.page(matching, offset, limit, entry -> {
       String tableName = entry.getKey();
       TableId tableId = entry.getValue();
-      TableInfo tableInfo = tableStats.get(tableId);
+      TableInfo tableInfo = tableStats.get(tableId.canonical());
       TableState tableState = tableManager.getTableState(tableId);
 
       if (tableInfo != null && tableState != TableState.OFFLINE) {
@@ -108,12 +119,11 @@ public class TablesResource {
           holdTime = 0.;
         }
 
-        tableList.addTable(
-            new TableInformation(tableName, tableId, tableInfo, holdTime, tableState.name()));
+        return new TableInformation(tableName, tableId, tableInfo, holdTime, tableState.name());
       } else {
-        tableList.addTable(new TableInformation(tableName, tableId, tableState.name()));
+        return new TableInformation(tableName, tableId, tableState.name());
       }
-    }
+    }), matching.size());
     return tableList;
   }
 
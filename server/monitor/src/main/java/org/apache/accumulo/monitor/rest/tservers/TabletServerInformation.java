@@ -97,7 +97,10 @@ public class TabletServerInformation {
    * @param thriftStatus Thrift status to obtain information
    */
   public TabletServerInformation(Monitor monitor, TabletServerStatus thriftStatus) {
-    TableInfo summary = TableInfoUtil.summarizeTableStats(thriftStatus);
+    TableInfo summary = monitor.getTabletServerSummary(thriftStatus);
+    if (summary == null) {
+      summary = TableInfoUtil.summarizeTableStats(thriftStatus);
+    }
     updateTabletServerInfo(monitor, thriftStatus, summary);
   }
 
@@ -19,15 +19,18 @@
 package org.apache.accumulo.monitor.rest.tservers;
 
 import static org.apache.accumulo.monitor.util.ParameterValidator.HOSTNAME_PORT_REGEX;
+import static org.apache.accumulo.monitor.util.ParameterValidator.NAME_FILTER_REGEX;
 
 import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.inject.Inject;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
@@ -51,6 +54,7 @@ import org.apache.accumulo.core.trace.TraceUtil;
 import org.apache.accumulo.core.util.AddressUtil;
 import org.apache.accumulo.monitor.Monitor;
 import org.apache.accumulo.monitor.rest.manager.ManagerResource;
+import org.apache.accumulo.monitor.util.Paging;
 import org.apache.accumulo.server.manager.state.DeadServerList;
 import org.apache.accumulo.server.util.ActionStatsUpdator;
 
@@ -75,19 +79,26 @@ public class TabletServerResource {
   /**
    * Generates tserver summary
    *
+   * @param filter Only include tservers whose name contains this string
+   * @param offset Number of matching tservers to skip
+   * @param limit Maximum number of tservers to include, 0 includes all of them
    * @return tserver summary
    */
   @GET
-  public TabletServers getTserverSummary() {
+  public TabletServers getTserverSummary(
+      @QueryParam("filter") @Pattern(regexp = NAME_FILTER_REGEX) String filter,
+      @QueryParam("offset") @DefaultValue("0") @Min(0) int offset,
+      @QueryParam("limit") @DefaultValue("0") @Min(0) int limit) {
     ManagerMonitorInfo mmi = monitor.getMmi();
     if (mmi == null) {
       return new TabletServers();
     }
 
-    TabletServers tserverInfo = new TabletServers(mmi.tServerInfo.size());
-    for (TabletServerStatus status : mmi.tServerInfo) {
-      tserverInfo.addTablet(new TabletServer(monitor, status));
-    }
+    List<TabletServerStatus> matching =
+        Paging.filter(mmi.tServerInfo, TabletServerStatus::getName, filter);
+    TabletServers tserverInfo = new TabletServers();
+    tserverInfo.setServers(Paging.page(matching, offset, limit,
+        status -> new TabletServerInformation(monitor, status)), matching.size());
 
     tserverInfo.addBadTabletServer(ManagerResource.getTables(monitor));
 
@@ -175,11 +186,11 @@ public class TabletServerResource {
     double currentMajorAvg = 0;
     double currentMinorStdDev = 0;
     double currentMajorStdDev = 0;
-    total =
-        new TabletStats(null, new ActionStats(), new ActionStats(), new ActionStats(), 0, 0, 0, 0);
+    total = new TabletStats(null, new ActionStats(), new ActionStats(), new ActionStats(), 0, 0,
+        0, 0, 0, 0, 0, 0, 0);
     HostAndPort address = HostAndPort.fromString(tserverAddress);
-    historical =
-        new TabletStats(null, new ActionStats(), new ActionStats(), new ActionStats(), 0, 0, 0, 0);
+    historical = new TabletStats(null, new ActionStats(), new ActionStats(), new ActionStats(), 0,
+        0, 0, 0, 0, 0, 0, 0, 0);
     List<TabletStats> tsStats = new ArrayList<>();
 
     try {
@@ -34,6 +34,8 @@ public class TabletServers {
   public List<TabletServerInformation> servers = new ArrayList<>();
   public List<BadTabletServerInformation> badServers = new ArrayList<>();
   public List<DeadServerInformation> deadServers = new ArrayList<>();
+  // number of servers matching the request, of which servers holds one page
+  public int total;
 
   public TabletServers() {}
 
@@ -58,5 +60,17 @@ public class TabletServers {
    */
   public void addTablet(TabletServer tablet) {
     servers.add(tablet.server);
+    total++;
+  }
+
+  /**
+   * Sets one page of the servers matching a request
+   *
+   * @param page Servers on the requested page
+   * @param total Number of servers on all pages
+   */
+  public void setServers(List<TabletServerInformation> page, int total) {
+    this.servers = page;
+    this.total = total;
   }
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.monitor.util;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Filters and pages the lists returned by the Monitor's REST endpoints. The entries of a page are
+ * converted lazily, one at a time while the response is written, so that a request for a large
+ * list never holds all of its converted entries in memory at once.
+ */
+public class Paging {
+
+  private Paging() {}
+
+  /**
+   * @param items the full list, not modified
+   * @param name returns the name the filter is matched against
+   * @param filter only items whose name contains this string are kept, null or empty keeps all
+   * @return the items matching the filter
+   */
+  public static <T> List<T> filter(List<T> items, Function<T,String> name, String filter) {
+    if (filter == null || filter.isEmpty()) {
+      return items;
+    }
+    return items.stream().filter(item -> {
+      String itemName = name.apply(item);
+      return itemName != null && itemName.contains(filter);
+    }).collect(Collectors.toList());
+  }
+
+  /**
+   * @param items the full list, must not be modified while the returned list is in use
+   * @param offset the number of items to skip
+   * @param limit the maximum number of items to return, 0 returns all remaining items
+   * @param converter converts an item into its REST representation when it is read
+   * @return a lazily converted view of the requested page
+   */
+  public static <T,R> List<R> page(List<T> items, int offset, int limit,
+      Function<T,R> converter) {
+    int from = Math.min(Math.max(offset, 0), items.size());
+    int to = limit > 0 ? (int) Math.min((long) from + limit, items.size()) : items.size();
+    return Lists.transform(items.subList(from, to), converter::apply);
+  }
+}
@@ -31,4 +31,6 @@ public interface ParameterValidator {
   String RESOURCE_REGEX = "(?:)(.*)";
   // host name and port
   String HOSTNAME_PORT_REGEX = "[a-zA-Z0-9.-]+:[0-9]{2,5}";
+  // substring of a server or table name used to filter lists
+  String NAME_FILTER_REGEX = "[\\w.:-]*";
 }
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.monitor.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.accumulo.core.manager.thrift.TabletServerStatus;
+import org.junit.jupiter.api.Test;
+
+public class PagingTest {
+
+  private static List<TabletServerStatus> servers(int count) {
+    List<TabletServerStatus> servers = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      TabletServerStatus status = new TabletServerStatus();
+      status.setName(String.format("host%04d.example.com:9997", i));
+      servers.add(status);
+    }
+    return servers;
+  }
+
+  @Test
+  public void testFilter() {
+    List<TabletServerStatus> servers = servers(1000);
+    assertSame(servers, Paging.filter(servers, TabletServerStatus::getName, null));
+    assertSame(servers, Paging.filter(servers, TabletServerStatus::getName, ""));
+
+    List<TabletServerStatus> matching =
+        Paging.filter(servers, TabletServerStatus::getName, "host09");
+    assertEquals(100, matching.size());
+    assertEquals("host0900.example.com:9997", matching.get(0).getName());
+    assertEquals(0, Paging.filter(servers, TabletServerStatus::getName, "nosuchhost").size());
+
+    // servers without a name never match a filter
+    servers.get(0).setName(null);
+    assertEquals(0, Paging.filter(servers, TabletServerStatus::getName, "host0000").size());
+  }
+
+  @Test
+  public void testPage() {
+    List<TabletServerStatus> servers = servers(1000);
+    Function<TabletServerStatus,String> name = TabletServerStatus::getName;
+
+    List<String> page = Paging.page(servers, 100, 25, name);
+    assertEquals(25, page.size());
+    assertEquals("host0100.example.com:9997", page.get(0));
+    assertEquals("host0124.example.com:9997", page.get(24));
+
+    assertEquals(1000, Paging.page(servers, 0, 0, name).size());
+    assertEquals(10, Paging.page(servers, 990, 25, name).size());
+    assertEquals(10, Paging.page(servers, 990, 0, name).size());
+    assertEquals(0, Paging.page(servers, 1000, 25, name).size());
+    assertEquals(0, Paging.page(servers, 5000, 25, name).size());
+    assertEquals(1000, Paging.page(servers, 0, Integer.MAX_VALUE, name).size());
+  }
+
+  @Test
+  public void testPageIsConvertedLazily() {
+    List<TabletServerStatus> servers = servers(1000);
+    AtomicInteger converted = new AtomicInteger();
+
+    List<String> page = Paging.page(servers, 0, 0, status -> {
+      converted.incrementAndGet();
+      return status.getName();
+    });
+    assertEquals(0, converted.get());
+
+    // entries are converted one at a time as the response is written
+    int written = 0;
+    for (String server : page) {
+      assertEquals(servers.get(written++).getName(), server);
+      assertEquals(written, converted.get());
+    }
+    assertEquals(1000, converted.get());
+  }
+}
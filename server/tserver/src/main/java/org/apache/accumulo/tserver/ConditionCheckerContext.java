@@ -109,22 +109,41 @@ public class ConditionCheckerContext {
     return IteratorConfigUtil.loadIterators(systemIter, iteratorBuilder);
   }
 
+  /**
+   * Gets an iterator stack for the condition's iterator configuration. Stacks are reused for all
+   * conditions with the same configuration that are checked against a system iterator. Since
+   * mutations are sorted by row, the conditions of a batch are evaluated by seeking each stack
+   * forward instead of constructing a new stack per condition.
+   */
+  private SortedKeyValueIterator<Key,Value> getIterator(
+      SortedKeyValueIterator<Key,Value> systemIter, TCondition tc,
+      Map<ByteSequence,SortedKeyValueIterator<Key,Value>> iterStacks) throws IOException {
+    ByteSequence key = new ArrayByteSequence(tc.iterators);
+    SortedKeyValueIterator<Key,Value> iter = iterStacks.get(key);
+    if (iter == null) {
+      iter = buildIterator(systemIter, tc);
+      iterStacks.put(key, iter);
+    }
+    return iter;
+  }
+
   boolean checkConditions(SortedKeyValueIterator<Key,Value> systemIter,
-      ServerConditionalMutation scm) throws IOException {
+      ServerConditionalMutation scm,
+      Map<ByteSequence,SortedKeyValueIterator<Key,Value>> iterStacks) throws IOException {
     boolean add = true;
 
+    Text row = new Text(scm.getRow());
     for (TCondition tc : scm.getConditions()) {
 
       Range range;
       if (tc.hasTimestamp) {
-        range = Range.exact(new Text(scm.getRow()), new Text(tc.getCf()), new Text(tc.getCq()),
-            new Text(tc.getCv()), tc.getTs());
+        range = Range.exact(row, new Text(tc.getCf()), new Text(tc.getCq()), new Text(tc.getCv()),
+            tc.getTs());
       } else {
-        range = Range.exact(new Text(scm.getRow()), new Text(tc.getCf()), new Text(tc.getCq()),
-            new Text(tc.getCv()));
+        range = Range.exact(row, new Text(tc.getCf()), new Text(tc.getCq()), new Text(tc.getCv()));
       }
 
-      SortedKeyValueIterator<Key,Value> iter = buildIterator(systemIter, tc);
+      SortedKeyValueIterator<Key,Value> iter = getIterator(systemIter, tc, iterStacks);
 
       ByteSequence cf = new ArrayByteSequence(tc.getCf());
       iter.seek(range, Collections.singleton(cf), true);
@@ -160,8 +179,11 @@ public class ConditionCheckerContext {
       checkArgument(!checked, "check() method should only be called once");
       checked = true;
 
+      // iterator stacks built on systemIter, shared by all the mutations being checked
+      Map<ByteSequence,SortedKeyValueIterator<Key,Value>> iterStacks = new HashMap<>();
+
       for (ServerConditionalMutation scm : conditionsToCheck) {
-        if (checkConditions(systemIter, scm)) {
+        if (checkConditions(systemIter, scm, iterStacks)) {
           okMutations.add(scm);
         } else {
           results.add(new TCMResult(scm.getID(), TCMStatus.REJECTED));
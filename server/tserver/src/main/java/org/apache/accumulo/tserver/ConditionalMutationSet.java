@@ -78,6 +78,14 @@ public class ConditionalMutationSet {
     defer(updates, deferred, new DuplicateFilter());
   }
 
+  static int countMutations(Map<KeyExtent,List<ServerConditionalMutation>> mutations) {
+    int count = 0;
+    for (List<ServerConditionalMutation> scml : mutations.values()) {
+      count += scml.size();
+    }
+    return count;
+  }
+
   static void sortConditionalMutations(Map<KeyExtent,List<ServerConditionalMutation>> updates) {
     for (Entry<KeyExtent,List<ServerConditionalMutation>> entry : updates.entrySet()) {
       entry.getValue().sort((o1, o2) -> WritableComparator.compareBytes(o1.getRow(), 0,
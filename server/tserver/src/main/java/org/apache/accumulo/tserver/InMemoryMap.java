@@ -56,8 +56,10 @@ import org.apache.accumulo.core.file.rfile.RFileOperations;
 import org.apache.accumulo.core.iterators.IteratorEnvironment;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 import org.apache.accumulo.core.iterators.WrappingIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.BatchIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.EmptyIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.InterruptibleIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.KeyValueBuffer;
 import org.apache.accumulo.core.iteratorsImpl.system.LocalityGroupIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.LocalityGroupIterator.LocalityGroup;
 import org.apache.accumulo.core.iteratorsImpl.system.SortedMapIterator;
@@ -657,7 +659,8 @@ public class InMemoryMap {
 
   }
 
-  public class MemoryIterator extends WrappingIterator implements InterruptibleIterator {
+  public class MemoryIterator extends WrappingIterator
+      implements InterruptibleIterator, BatchIterator {
 
     private AtomicBoolean closed;
     private SourceSwitchingIterator ssi;
@@ -677,6 +680,11 @@ public class InMemoryMap {
       return new MemoryIterator(getSource().deepCopy(env), closed);
     }
 
+    @Override
+    public void nextBatch(KeyValueBuffer buffer) throws IOException {
+      buffer.fill(getSource());
+    }
+
     public void close() {
 
       synchronized (this) {
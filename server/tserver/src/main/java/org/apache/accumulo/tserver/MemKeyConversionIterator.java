@@ -29,9 +29,12 @@ import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.iterators.IteratorEnvironment;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 import org.apache.accumulo.core.iterators.WrappingIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.BatchIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.InterruptibleIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.KeyValueBuffer;
 
-class MemKeyConversionIterator extends WrappingIterator implements InterruptibleIterator {
+class MemKeyConversionIterator extends WrappingIterator
+    implements InterruptibleIterator, BatchIterator {
   private MemKey currKey = null;
   private Value currVal = null;
 
@@ -76,6 +79,25 @@ class MemKeyConversionIterator extends WrappingIterator implements Interruptible
     }
   }
 
+  @Override
+  public void nextBatch(KeyValueBuffer buffer) throws IOException {
+    int start = buffer.size();
+    buffer.fill(getSource());
+
+    // convert the batch the same way getTopKeyVal() converts the top entry
+    for (int i = start; i < buffer.size(); i++) {
+      Key k = buffer.getKey(i);
+      if (!(k instanceof MemKey)) {
+        MemValue mv = MemValue.decode(buffer.getValue(i));
+        buffer.set(i, new MemKey(k, mv.kvCount), mv.value);
+      }
+    }
+
+    if (hasTop()) {
+      getTopKeyVal();
+    }
+  }
+
   @Override
   public void seek(Range range, Collection<ByteSequence> columnFamilies, boolean inclusive)
       throws IOException {
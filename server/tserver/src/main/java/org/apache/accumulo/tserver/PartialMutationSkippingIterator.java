@@ -26,9 +26,12 @@ import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.iterators.IteratorEnvironment;
 import org.apache.accumulo.core.iterators.SkippingIterator;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.BatchIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.InterruptibleIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.KeyValueBuffer;
 
-class PartialMutationSkippingIterator extends SkippingIterator implements InterruptibleIterator {
+class PartialMutationSkippingIterator extends SkippingIterator
+    implements InterruptibleIterator, BatchIterator {
 
   private int kvCount;
 
@@ -44,6 +47,11 @@ class PartialMutationSkippingIterator extends SkippingIterator implements Interr
     }
   }
 
+  @Override
+  public void nextBatch(KeyValueBuffer buffer) throws IOException {
+    buffer.fillFiltered(getSource(), (k, v) -> ((MemKey) k).getKVCount() <= kvCount);
+  }
+
   @Override
   public SortedKeyValueIterator<Key,Value> deepCopy(IteratorEnvironment env) {
     return new PartialMutationSkippingIterator(getSource().deepCopy(env), kvCount);
@@ -22,8 +22,6 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.accumulo.core.data.ArrayByteSequence;
@@ -36,20 +34,34 @@ import com.google.common.base.Preconditions;
 
 class RowLocks {
 
-  // The compute function in Concurrent Hash Map supports atomic execution of the remapping function
-  // and will only execute it once. Properly computing the reference counts relies on this specific
-  // behavior. Not all concurrent map implementations have the desired behavior. For example
-  // ConcurrentSkipListMap.compute is not atomic and may execute the function multiple times.
-  private final Map<ByteSequence,RowLock> rowLocks = new ConcurrentHashMap<>();
+  // Rows are mapped to a fixed set of locks instead of creating and reference counting a lock per
+  // row, so finding the lock for a row requires no synchronization. Distinct rows may share a
+  // lock. This is safe because the locks are reentrant, so a thread can lock multiple rows that
+  // share a lock, and a thread only blocks when it is acquiring a single lock. The number of
+  // stripes is large relative to the number of rows in a batch to keep false contention low.
+  private static final int DEFAULT_STRIPES = 1 << 14;
+
+  private final ReentrantLock[] stripes;
+
+  RowLocks() {
+    this(DEFAULT_STRIPES);
+  }
+
+  RowLocks(int numStripes) {
+    Preconditions.checkArgument(numStripes > 0 && Integer.bitCount(numStripes) == 1,
+        "number of stripes must be a power of two : %s", numStripes);
+    stripes = new ReentrantLock[numStripes];
+    for (int i = 0; i < numStripes; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+  }
 
   static class RowLock {
-    ReentrantLock rlock;
-    int count;
-    ByteSequence rowSeq;
+    final ReentrantLock rlock;
+    final ByteSequence rowSeq;
 
     RowLock(ReentrantLock rlock, ByteSequence rowSeq) {
       this.rlock = rlock;
-      this.count = 1;
       this.rowSeq = rowSeq;
     }
 
@@ -67,22 +79,10 @@ class RowLocks {
   }
 
   private RowLock getRowLock(ArrayByteSequence rowSeq) {
-    return rowLocks.compute(rowSeq, (key, value) -> {
-      if (value == null) {
-        return new RowLock(new ReentrantLock(), rowSeq);
-      }
-      value.count++;
-      return value;
-    });
-  }
-
-  private void returnRowLock(RowLock lock) {
-    Objects.requireNonNull(lock);
-    rowLocks.compute(lock.rowSeq, (key, value) -> {
-      Preconditions.checkState(value == lock);
-      Preconditions.checkState(value.count > 0);
-      return (--value.count > 0) ? value : null;
-    });
+    int hash = rowSeq.hashCode();
+    // spread the high bits, the hash of similar rows often only differs in the low bits
+    hash ^= (hash >>> 16);
+    return new RowLock(stripes[hash & (stripes.length - 1)], rowSeq);
   }
 
   List<RowLock> acquireRowlocks(Map<KeyExtent,List<ServerConditionalMutation>> updates,
@@ -133,19 +133,12 @@ class RowLocks {
       });
 
       ArrayList<RowLock> filteredLocks = new ArrayList<>();
-      ArrayList<RowLock> locksToReturn = new ArrayList<>();
       for (RowLock rowLock : locks) {
-        if (rowsNotLocked.contains(rowLock.rowSeq)) {
-          locksToReturn.add(rowLock);
-        } else {
+        if (!rowsNotLocked.contains(rowLock.rowSeq)) {
           filteredLocks.add(rowLock);
         }
       }
 
-      for (RowLock rowLock : locksToReturn) {
-        returnRowLock(rowLock);
-      }
-
       locks = filteredLocks;
     }
     return locks;
@@ -155,10 +148,6 @@ class RowLocks {
     for (RowLock rowLock : locks) {
       rowLock.unlock();
     }
-
-    for (RowLock rowLock : locks) {
-      returnRowLock(rowLock);
-    }
   }
 
 }
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.tserver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.accumulo.core.metadata.ScanServerRefTabletFile;
+import org.apache.accumulo.tserver.metrics.ScanServerMetrics;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Writes scan server file references to the metadata table. When batching is enabled, references
+ * from scans that arrive while a write is in progress are combined into the next write, so that a
+ * high rate of concurrent scans results in a lower rate of metadata table writes. The thread whose
+ * references are pending when the previous write completes performs the combined write and the
+ * other threads wait for it.
+ */
+class ScanReferenceWriter {
+
+  private static class PendingWrite {
+    final Collection<ScanServerRefTabletFile> refs;
+    boolean done = false;
+    Throwable error = null;
+
+    PendingWrite(Collection<ScanServerRefTabletFile> refs) {
+      this.refs = refs;
+    }
+  }
+
+  private final Consumer<Collection<ScanServerRefTabletFile>> writer;
+  private final ScanServerMetrics metrics;
+  private final boolean batching;
+
+  private List<PendingWrite> pending = new ArrayList<>();
+  private boolean writing = false;
+
+  ScanReferenceWriter(Consumer<Collection<ScanServerRefTabletFile>> writer,
+      ScanServerMetrics metrics, boolean batching) {
+    this.writer = writer;
+    this.metrics = metrics;
+    this.batching = batching;
+  }
+
+  /**
+   * Returns after the references have been written to the metadata table.
+   */
+  void write(Collection<ScanServerRefTabletFile> refs) throws InterruptedException {
+    if (!batching) {
+      timedWrite(refs);
+      return;
+    }
+
+    PendingWrite myWrite = new PendingWrite(refs);
+    List<PendingWrite> batch;
+
+    synchronized (this) {
+      pending.add(myWrite);
+
+      boolean interrupted = false;
+      while (writing && !myWrite.done) {
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          if (pending.remove(myWrite)) {
+            // no other thread has taken the references, so they will not be written
+            throw e;
+          }
+          // the references are being written by another thread, wait to learn the outcome
+          interrupted = true;
+        }
+      }
+
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+
+      if (myWrite.done) {
+        // another thread wrote the references
+        if (myWrite.error != null) {
+          throw new IllegalStateException("Failed to write scan references", myWrite.error);
+        }
+        return;
+      }
+
+      writing = true;
+      batch = pending;
+      pending = new ArrayList<>();
+    }
+
+    Throwable error = null;
+    try {
+      List<ScanServerRefTabletFile> allRefs = new ArrayList<>();
+      batch.forEach(pw -> allRefs.addAll(pw.refs));
+      timedWrite(allRefs);
+    } catch (RuntimeException | Error e) {
+      error = e;
+      throw e;
+    } finally {
+      synchronized (this) {
+        for (PendingWrite pw : batch) {
+          pw.done = true;
+          pw.error = error;
+        }
+        writing = false;
+        notifyAll();
+      }
+    }
+  }
+
+  @VisibleForTesting
+  synchronized int pendingWrites() {
+    return pending.size();
+  }
+
+  private void timedWrite(Collection<ScanServerRefTabletFile> refs) {
+    long t1 = System.nanoTime();
+    writer.accept(refs);
+    metrics.recordReservationWrite(System.nanoTime() - t1, refs.size());
+  }
+}
@@ -95,13 +95,17 @@ import org.apache.accumulo.server.client.ClientServiceHandler;
 import org.apache.accumulo.server.compaction.PausedCompactionMetrics;
 import org.apache.accumulo.server.conf.TableConfiguration;
 import org.apache.accumulo.server.fs.VolumeManager;
+import org.apache.accumulo.server.metrics.LocalFileCacheMetrics;
 import org.apache.accumulo.server.rpc.ServerAddress;
 import org.apache.accumulo.server.rpc.TServerUtils;
 import org.apache.accumulo.server.rpc.ThriftProcessorTypes;
 import org.apache.accumulo.server.security.SecurityUtil;
 import org.apache.accumulo.server.zookeeper.TransactionWatcher;
 import org.apache.accumulo.tserver.TabletServerResourceManager.TabletResourceManager;
+import org.apache.accumulo.tserver.metrics.ScanResultCacheMetrics;
+import org.apache.accumulo.tserver.metrics.ScanServerMetrics;
 import org.apache.accumulo.tserver.metrics.TabletServerScanMetrics;
+import org.apache.accumulo.tserver.scan.ScanResultCache;
 import org.apache.accumulo.tserver.session.MultiScanSession;
 import org.apache.accumulo.tserver.session.ScanSession;
 import org.apache.accumulo.tserver.session.ScanSession.TabletResolver;
@@ -191,6 +195,9 @@ public class ScanServer extends AbstractServer
   private volatile boolean serverStopRequested = false;
   private ServiceLock scanServerLock;
   protected TabletServerScanMetrics scanMetrics;
+  private final ScanServerMetrics scanServerMetrics = new ScanServerMetrics();
+  private final ScanReferenceWriter scanRefWriter;
+  private final ScanResultCache resultCache;
 
   private ZooCache managerLockCache;
 
@@ -233,9 +240,35 @@ public class ScanServer extends AbstractServer
         LOG.warn(
             "Tablet metadata caching less than one minute, may cause excessive scans on metadata table.");
       }
-      tabletMetadataCache =
+      var cacheBuilder =
           Caffeine.newBuilder().expireAfterWrite(cacheExpiration, TimeUnit.MILLISECONDS)
-              .scheduler(Scheduler.systemScheduler()).build(tabletMetadataLoader);
+              .scheduler(Scheduler.systemScheduler());
+      double refreshPercent =
+          getConfiguration().getFraction(Property.SSERV_CACHED_TABLET_METADATA_REFRESH_PERCENT);
+      if (refreshPercent > 0 && refreshPercent < 1) {
+        // entries older than the refresh time are reloaded in the background on access, while
+        // scans continue to use the cached metadata
+        long cacheRefresh = (long) (cacheExpiration * refreshPercent);
+        cacheBuilder.refreshAfterWrite(cacheRefresh, TimeUnit.MILLISECONDS)
+            .executor(ThreadPools.getServerThreadPools().createFixedThreadPool(1,
+                "scan server tablet metadata refresh", false));
+      } else if (refreshPercent >= 1) {
+        LOG.warn("{} must be less than 1, background refresh of tablet metadata disabled.",
+            Property.SSERV_CACHED_TABLET_METADATA_REFRESH_PERCENT.getKey());
+      }
+      tabletMetadataCache = cacheBuilder.build(tabletMetadataLoader);
+    }
+
+    scanRefWriter = new ScanReferenceWriter(
+        refs -> getContext().getAmple().putScanServerFileReferences(refs), scanServerMetrics,
+        getConfiguration().getBoolean(Property.SSERV_SCAN_REFERENCE_BATCHING));
+
+    long resultCacheSize = getConfiguration().getAsBytes(Property.SSERV_SCAN_RESULT_CACHE_SIZE);
+    if (resultCacheSize > 0) {
+      resultCache = new ScanResultCache(resultCacheSize,
+          getConfiguration().getTimeInMillis(Property.SSERV_SCAN_RESULT_CACHE_EXPIRATION));
+    } else {
+      resultCache = null;
     }
 
     delegate = newThriftScanClientHandler(new WriteTracker());
@@ -251,7 +284,7 @@ public class ScanServer extends AbstractServer
 
   @VisibleForTesting
   protected ThriftScanClientHandler newThriftScanClientHandler(WriteTracker writeTracker) {
-    return new ThriftScanClientHandler(this, writeTracker);
+    return new ThriftScanClientHandler(this, writeTracker, resultCache);
   }
 
   /**
@@ -371,8 +404,16 @@ public class ScanServer extends AbstractServer
     try {
       MetricsUtil.initializeMetrics(getContext().getConfiguration(), this.applicationName,
           clientAddress, getContext().getInstanceName());
-      scanMetrics = new TabletServerScanMetrics();
-      MetricsUtil.initializeProducers(this, scanMetrics);
+      scanMetrics = new TabletServerScanMetrics(getContext().getConfiguration()
+          .getBoolean(Property.TSERV_SCAN_LOCALITY_GROUP_METRICS_TAGGED));
+      MetricsUtil.initializeProducers(this, scanMetrics, scanServerMetrics);
+      if (resourceManager.getLocalFileCache() != null) {
+        MetricsUtil
+            .initializeProducers(new LocalFileCacheMetrics(resourceManager.getLocalFileCache()));
+      }
+      if (resultCache != null) {
+        MetricsUtil.initializeProducers(new ScanResultCacheMetrics(resultCache));
+      }
     } catch (ClassNotFoundException | InstantiationException | IllegalAccessException
         | IllegalArgumentException | InvocationTargetException | NoSuchMethodException
         | SecurityException e1) {
@@ -595,7 +636,11 @@ public class ScanServer extends AbstractServer
       }
 
       if (!filesToReserve.isEmpty()) {
-        getContext().getAmple().putScanServerFileReferences(refs);
+        try {
+          scanRefWriter.write(refs);
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
 
         // After we insert the scan server refs we need to check and see if the tablet is still
         // using the file. As long as the tablet is still using the files then the Accumulo GC
@@ -666,6 +711,7 @@ public class ScanServer extends AbstractServer
 
     long myReservationId = nextScanReservationId.incrementAndGet();
 
+    long t1 = System.nanoTime();
     Set<KeyExtent> failedReservations = new HashSet<>();
     Map<KeyExtent,TabletMetadata> tabletsMetadata =
         reserveFilesInner(extents.keySet(), myReservationId, failedReservations);
@@ -673,6 +719,7 @@ public class ScanServer extends AbstractServer
       failedReservations.clear();
       tabletsMetadata = reserveFilesInner(extents.keySet(), myReservationId, failedReservations);
     }
+    scanServerMetrics.recordReservationTime(System.nanoTime() - t1);
 
     // validate that the tablet metadata set and failure set are disjoint and that the
     // tablet metadata set and failure set contain all of the extents
@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -83,6 +84,7 @@ import org.apache.accumulo.core.metadata.schema.ExternalCompactionId;
 import org.apache.accumulo.core.security.Authorizations;
 import org.apache.accumulo.core.securityImpl.thrift.TCredentials;
 import org.apache.accumulo.core.spi.cache.BlockCache;
+import org.apache.accumulo.core.summary.FileSummaryCache;
 import org.apache.accumulo.core.summary.Gatherer;
 import org.apache.accumulo.core.summary.Gatherer.FileSystemResolver;
 import org.apache.accumulo.core.summary.SummaryCollection;
@@ -117,6 +119,7 @@ import org.apache.accumulo.server.zookeeper.TransactionWatcher;
 import org.apache.accumulo.tserver.ConditionCheckerContext.ConditionChecker;
 import org.apache.accumulo.tserver.RowLocks.RowLock;
 import org.apache.accumulo.tserver.data.ServerConditionalMutation;
+import org.apache.accumulo.tserver.metrics.TabletServerSummaryMetrics;
 import org.apache.accumulo.tserver.session.ConditionalSession;
 import org.apache.accumulo.tserver.session.SummarySession;
 import org.apache.accumulo.tserver.session.UpdateSession;
@@ -124,6 +127,7 @@ import org.apache.accumulo.tserver.tablet.CommitSession;
 import org.apache.accumulo.tserver.tablet.PreparedMutations;
 import org.apache.accumulo.tserver.tablet.Tablet;
 import org.apache.accumulo.tserver.tablet.TabletClosedException;
+import org.apache.accumulo.tserver.tablet.TabletHeat;
 import org.apache.hadoop.fs.FSError;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
@@ -336,7 +340,10 @@ public class TabletClientHandler implements TabletServerClientService.Iface,
     }
 
     if (!containsMetadataTablet && !us.queuedMutations.isEmpty()) {
-      server.resourceManager.waitUntilCommitsAreEnabled();
+      long waited = server.resourceManager.waitUntilCommitsAreEnabled();
+      if (waited > 0) {
+        server.updateMetrics.addHoldWait(waited);
+      }
     }
 
     Span span = TraceUtil.startSpan(this.getClass(), "flush::prep");
@@ -727,7 +734,12 @@ public class TabletClientHandler implements TabletServerClientService.Iface,
     ConditionalMutationSet.deferDuplicatesRows(updates, deferred);
 
     // get as many locks as possible w/o blocking... defer any rows that are locked
+    int deferredBeforeLocking = ConditionalMutationSet.countMutations(deferred);
+    long t1 = System.nanoTime();
     List<RowLock> locks = rowLocks.acquireRowlocks(updates, deferred);
+    server.updateMetrics.addConditionalLockWait(System.nanoTime() - t1);
+    server.updateMetrics.addConditionalLockDeferred(
+        ConditionalMutationSet.countMutations(deferred) - deferredBeforeLocking);
     try {
       Span span = TraceUtil.startSpan(this.getClass(), "conditionalUpdate::Check conditions");
       try (Scope scope = span.makeCurrent()) {
@@ -796,7 +808,10 @@ public class TabletClientHandler implements TabletServerClientService.Iface,
 
     if (!cs.tableId.equals(MetadataTable.ID) && !cs.tableId.equals(RootTable.ID)) {
       try {
-        server.resourceManager.waitUntilCommitsAreEnabled();
+        long waited = server.resourceManager.waitUntilCommitsAreEnabled();
+        if (waited > 0) {
+          server.updateMetrics.addHoldWait(waited);
+        }
       } catch (HoldTimeoutException hte) {
         // Assumption is that the client has timed out and is gone. If that's not the case throw
         // an exception that will cause it to retry.
@@ -830,6 +845,7 @@ public class TabletClientHandler implements TabletServerClientService.Iface,
         deferred = conditionalUpdate(cs, deferred, results, symbols);
       }
 
+      server.updateMetrics.addConditionalResults(results);
       return results;
     } catch (IOException ioe) {
       throw new TException(ioe);
@@ -918,6 +934,12 @@ public class TabletClientHandler implements TabletServerClientService.Iface,
         stats.queryRate = tablet.queryRate();
         stats.splitCreationTime = tablet.getSplitCreationTime();
         stats.numEntries = tablet.getNumEntries();
+        TabletHeat.Window heat = tablet.heat();
+        stats.windowQueryRate = heat.getQueryRate();
+        stats.windowScanRate = heat.getScanRate();
+        stats.windowIngestByteRate = heat.getIngestByteRate();
+        stats.readLatencyMedian = heat.getLatencyPercentile(0.5);
+        stats.readLatencyP99 = heat.getLatencyPercentile(0.99);
         result.add(stats);
       }
     }
@@ -1391,11 +1413,18 @@ public class TabletClientHandler implements TabletServerClientService.Iface,
     BlockCache summaryCache = server.resourceManager.getSummaryCache();
     BlockCache indexCache = server.resourceManager.getIndexCache();
     Cache<String,Long> fileLenCache = server.resourceManager.getFileLenCache();
+    FileSummaryCache fileSummaryCache = server.resourceManager.getFileSummaryCache();
     VolumeManager fs = context.getVolumeManager();
     FileSystemResolver volMgr = fs::getFileSystemByPath;
-    Future<SummaryCollection> future =
+    long start = System.nanoTime();
+    CompletableFuture<SummaryCollection> future =
         new Gatherer(server.getContext(), request, tableCfg, tableCfg.getCryptoService())
-            .processFiles(volMgr, files, summaryCache, indexCache, fileLenCache, srp);
+            .processFiles(volMgr, files, summaryCache, indexCache, fileLenCache, fileSummaryCache,
+                srp);
+    TabletServerSummaryMetrics summaryMetrics = server.summaryMetrics;
+    if (summaryMetrics != null) {
+      future.whenComplete((sc, e) -> summaryMetrics.addGather(System.nanoTime() - start));
+    }
 
     return startSummaryOperation(credentials, future);
   }
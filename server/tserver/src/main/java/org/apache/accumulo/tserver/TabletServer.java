@@ -106,6 +106,7 @@ import org.apache.accumulo.core.util.MapCounter;
 import org.apache.accumulo.core.util.Pair;
 import org.apache.accumulo.core.util.Retry;
 import org.apache.accumulo.core.util.Retry.RetryFactory;
+import org.apache.accumulo.core.util.TextUtil;
 import org.apache.accumulo.core.util.UtilWaitThread;
 import org.apache.accumulo.core.util.threads.ThreadPools;
 import org.apache.accumulo.core.util.threads.Threads;
@@ -145,6 +146,8 @@ import org.apache.accumulo.tserver.metrics.CompactionExecutorsMetrics;
 import org.apache.accumulo.tserver.metrics.TabletServerMetrics;
 import org.apache.accumulo.tserver.metrics.TabletServerMinCMetrics;
 import org.apache.accumulo.tserver.metrics.TabletServerScanMetrics;
+import org.apache.accumulo.tserver.metrics.TabletServerSummaryMetrics;
+import org.apache.accumulo.tserver.metrics.TabletServerTierMetrics;
 import org.apache.accumulo.tserver.metrics.TabletServerUpdateMetrics;
 import org.apache.accumulo.tserver.scan.ScanRunState;
 import org.apache.accumulo.tserver.session.Session;
@@ -154,6 +157,7 @@ import org.apache.accumulo.tserver.tablet.CommitSession;
 import org.apache.accumulo.tserver.tablet.MetadataUpdateCount;
 import org.apache.accumulo.tserver.tablet.Tablet;
 import org.apache.accumulo.tserver.tablet.TabletData;
+import org.apache.accumulo.tserver.tablet.TabletHeat;
 import org.apache.commons.collections4.map.LRUMap;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.Text;
@@ -187,6 +191,8 @@ public class TabletServer extends AbstractServer implements TabletHostingServer
   TabletServerMinCMetrics mincMetrics;
   CompactionExecutorsMetrics ceMetrics;
   PausedCompactionMetrics pausedMetrics;
+  TabletServerSummaryMetrics summaryMetrics;
+  final TabletServerTierMetrics tierMetrics = new TabletServerTierMetrics();
 
   @Override
   public TabletServerScanMetrics getScanMetrics() {
@@ -197,6 +203,10 @@ public class TabletServer extends AbstractServer implements TabletHostingServer
     return mincMetrics;
   }
 
+  public TabletServerTierMetrics getTierMetrics() {
+    return tierMetrics;
+  }
+
   @Override
   public PausedCompactionMetrics getPausedCompactionMetrics() {
     return pausedMetrics;
@@ -463,7 +473,18 @@ public class TabletServer extends AbstractServer implements TabletHostingServer
 
   private void splitTablet(Tablet tablet) {
     try {
-      splitTablet(tablet, null);
+      TreeMap<KeyExtent,TabletData> tabletInfo = splitTablet(tablet, null);
+      // the split planner may have chosen more than one row, split the upper tablet at the rest
+      for (Text row : tablet.getRemainingSplitRows()) {
+        if (tabletInfo == null) {
+          break;
+        }
+        Tablet upper = getOnlineTablet(tabletInfo.lastKey());
+        if (upper == null) {
+          break;
+        }
+        tabletInfo = splitTablet(upper, TextUtil.getBytes(row));
+      }
     } catch (IOException e) {
       statsKeeper.updateTime(Operation.SPLIT, 0, true);
       log.error("split failed: {} for tablet {}", e.getMessage(), tablet.getExtent(), e);
@@ -717,12 +738,14 @@ public class TabletServer extends AbstractServer implements TabletHostingServer
 
       metrics = new TabletServerMetrics(this);
       updateMetrics = new TabletServerUpdateMetrics();
-      scanMetrics = new TabletServerScanMetrics();
+      scanMetrics = new TabletServerScanMetrics(
+          context.getConfiguration().getBoolean(Property.TSERV_SCAN_LOCALITY_GROUP_METRICS_TAGGED));
       mincMetrics = new TabletServerMinCMetrics();
       ceMetrics = new CompactionExecutorsMetrics();
       pausedMetrics = new PausedCompactionMetrics();
+      summaryMetrics = new TabletServerSummaryMetrics(resourceManager.getFileSummaryCache());
       MetricsUtil.initializeProducers(this, metrics, updateMetrics, scanMetrics, mincMetrics,
-          ceMetrics, pausedMetrics);
+          ceMetrics, pausedMetrics, summaryMetrics, tierMetrics);
 
     } catch (ClassNotFoundException | InstantiationException | IllegalAccessException
         | IllegalArgumentException | InvocationTargetException | NoSuchMethodException
@@ -983,6 +1006,7 @@ public class TabletServer extends AbstractServer implements TabletHostingServer
     TabletServerStatus result = new TabletServerStatus();
 
     final Map<String,TableInfo> tables = new HashMap<>();
+    final Map<String,TabletHeat.Window> heat = new HashMap<>();
 
     getOnlineTablets().forEach((ke, tablet) -> {
       String tableId = ke.tableId().canonical();
@@ -1002,6 +1026,7 @@ public class TabletServer extends AbstractServer implements TabletHostingServer
       table.ingestRate += tablet.ingestRate();
       table.ingestByteRate += tablet.ingestByteRate();
       table.scanRate += tablet.scanRate();
+      heat.merge(tableId, tablet.heat(), TabletHeat.Window::merge);
       long recsInMemory = tablet.getNumEntriesInMemory();
       table.recsInMemory += recsInMemory;
       if (tablet.isMinorCompactionRunning()) {
@@ -1021,6 +1046,15 @@ public class TabletServer extends AbstractServer implements TabletHostingServer
 
     });
 
+    heat.forEach((tableId, window) -> {
+      TableInfo table = tables.get(tableId);
+      table.windowQueryRate = window.getQueryRate();
+      table.windowScanRate = window.getScanRate();
+      table.windowIngestByteRate = window.getIngestByteRate();
+      table.readLatencyMedian = window.getLatencyPercentile(0.5);
+      table.readLatencyP99 = window.getLatencyPercentile(0.99);
+    });
+
     scanCounts.forEach((tableId, mapCounter) -> {
       TableInfo table = tables.get(tableId.canonical());
       if (table == null) {
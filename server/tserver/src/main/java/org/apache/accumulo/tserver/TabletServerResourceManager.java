@@ -23,6 +23,7 @@ import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toUnmodifiableMap;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -52,6 +53,7 @@ import org.apache.accumulo.core.conf.ConfigurationTypeHelper;
 import org.apache.accumulo.core.conf.Property;
 import org.apache.accumulo.core.dataImpl.KeyExtent;
 import org.apache.accumulo.core.file.blockfile.cache.impl.BlockCacheManagerFactory;
+import org.apache.accumulo.core.file.blockfile.impl.LocalFileCache;
 import org.apache.accumulo.core.file.blockfile.impl.ScanCacheProvider;
 import org.apache.accumulo.core.spi.cache.BlockCache;
 import org.apache.accumulo.core.spi.cache.BlockCacheManager;
@@ -64,6 +66,7 @@ import org.apache.accumulo.core.spi.scan.ScanExecutor;
 import org.apache.accumulo.core.spi.scan.ScanInfo;
 import org.apache.accumulo.core.spi.scan.ScanPrioritizer;
 import org.apache.accumulo.core.spi.scan.SimpleScanDispatcher;
+import org.apache.accumulo.core.summary.FileSummaryCache;
 import org.apache.accumulo.core.trace.TraceUtil;
 import org.apache.accumulo.core.util.threads.ThreadPools;
 import org.apache.accumulo.core.util.threads.Threads;
@@ -103,6 +106,7 @@ public class TabletServerResourceManager {
   private final ThreadPoolExecutor summaryRetrievalPool;
   private final ThreadPoolExecutor summaryPartitionPool;
   private final ThreadPoolExecutor summaryRemotePool;
+  private final ThreadPoolExecutor scanLocalityGroupPool;
 
   private final Map<String,ThreadPoolExecutor> scanExecutors;
   private final Map<String,ScanExecutor> scanExecutorChoices;
@@ -122,6 +126,8 @@ public class TabletServerResourceManager {
   private final ServerContext context;
 
   private Cache<String,Long> fileLenCache;
+  private final LocalFileCache localFileCache;
+  private final FileSummaryCache fileSummaryCache;
 
   /**
    * This method creates a task that changes the number of core and maximum threads on the thread
@@ -353,6 +359,12 @@ public class TabletServerResourceManager {
         () -> context.getConfiguration().getCount(Property.TSERV_SUMMARY_PARTITION_THREADS),
         "summary partition", summaryPartitionPool);
 
+    scanLocalityGroupPool = ThreadPools.getServerThreadPools().createExecutorService(acuConf,
+        Property.TSERV_SCAN_LOCALITY_GROUP_THREADS, true);
+    modifyThreadPoolSizesAtRuntime(
+        () -> context.getConfiguration().getCount(Property.TSERV_SCAN_LOCALITY_GROUP_THREADS),
+        "scan locality group reader", scanLocalityGroupPool);
+
     boolean isScanServer = (tserver instanceof ScanServer);
 
     Collection<ScanExecutorConfig> scanExecCfg = acuConf.getScanExecutors(isScanServer);
@@ -367,7 +379,24 @@ public class TabletServerResourceManager {
     fileLenCache =
         Caffeine.newBuilder().maximumSize(Math.min(maxOpenFiles * 1000L, 100_000)).build();
 
-    fileManager = new FileManager(context, maxOpenFiles, fileLenCache);
+    if (isScanServer) {
+      try {
+        localFileCache = LocalFileCache.create(acuConf, Property.SSERV_FILE_CACHE_DIR,
+            Property.SSERV_FILE_CACHE_SIZE);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Error creating local file cache", e);
+      }
+    } else {
+      localFileCache = null;
+    }
+
+    fileManager = new FileManager(context, maxOpenFiles, fileLenCache, localFileCache);
+
+    int summaryFileCacheSize = acuConf.getCount(Property.TSERV_SUMMARY_FILE_CACHE_SIZE);
+    fileSummaryCache =
+        summaryFileCacheSize > 0 ? new FileSummaryCache(summaryFileCacheSize) : null;
+
+    throttleThreshold = acuConf.getFraction(Property.TSERV_MEM_THROTTLE_THRESHOLD);
 
     memoryManager = new LargestFirstMemoryManager();
     memoryManager.init(context);
@@ -483,20 +512,25 @@ public class TabletServerResourceManager {
             lastMemCheckTime = System.currentTimeMillis();
 
             long totalMemUsed = 0;
+            long compactingMemUsed = 0;
 
             synchronized (tabletReports) {
               for (TabletMemoryReport tsi : tabletReports.values()) {
                 totalMemUsed += tsi.getMemTableSize();
-                totalMemUsed += tsi.getMinorCompactingMemTableSize();
+                compactingMemUsed += tsi.getMinorCompactingMemTableSize();
               }
             }
+            totalMemUsed += compactingMemUsed;
 
-            if (totalMemUsed > 0.95 * maxMem) {
+            if (totalMemUsed > HOLD_THRESHOLD * maxMem) {
               holdAllCommits(true);
             } else {
               holdAllCommits(false);
             }
 
+            throttleDelay = computeThrottleDelay(throttleThreshold, maxMem, totalMemUsed,
+                compactingMemUsed, getFlushRate());
+
             lastMemTotal = totalMemUsed;
           }
 
@@ -567,8 +601,9 @@ public class TabletServerResourceManager {
     }
 
     public void updateMemoryUsageStats(Tablet tablet, long size, long lastCommitTime,
-        long mincSize) {
-      memUsageReports.add(new TabletMemoryReport(tablet, lastCommitTime, size, mincSize));
+        long mincSize, long firstWriteTime) {
+      memUsageReports
+          .add(new TabletMemoryReport(tablet, lastCommitTime, size, mincSize, firstWriteTime));
     }
 
     public void tabletClosed(KeyExtent extent) {
@@ -576,10 +611,62 @@ public class TabletServerResourceManager {
     }
   }
 
+  // fraction of the max memory at which all commits are held
+  static final double HOLD_THRESHOLD = 0.95;
+  // upper bound on the delay added to a single write when throttling
+  static final long MAX_THROTTLE_DELAY = 1000;
+  // predicted flush time used before any minor compaction has completed
+  static final long DEFAULT_FLUSH_PREDICTION = 100;
+
   private final Object commitHold = new Object();
   private volatile boolean holdCommits = false;
   private long holdStartTime;
 
+  private final double throttleThreshold;
+  private volatile long throttleDelay = 0;
+  private final Object flushRateLock = new Object();
+  // exponentially weighted average of bytes flushed per millisecond by minor compactions
+  private double flushRate = 0;
+
+  /**
+   * Computes how long each write should be delayed so that ingest slows down gradually as memory
+   * approaches the point where commits are held. The delay grows with how far memory is past the
+   * throttle threshold and with how long the running minor compactions are predicted to take to
+   * free memory.
+   *
+   * @param flushRate bytes per millisecond recently flushed by minor compactions, or 0 if unknown
+   * @return the delay in milliseconds, 0 when writes should not be throttled
+   */
+  static long computeThrottleDelay(double threshold, long maxMem, long memUsed,
+      long compactingMemUsed, double flushRate) {
+    if (threshold <= 0 || threshold >= HOLD_THRESHOLD || maxMem <= 0) {
+      return 0;
+    }
+    double used = memUsed / (double) maxMem;
+    if (used <= threshold) {
+      return 0;
+    }
+    double pressure = Math.min(1.0, (used - threshold) / (HOLD_THRESHOLD - threshold));
+    long predicted = DEFAULT_FLUSH_PREDICTION;
+    if (compactingMemUsed > 0 && flushRate > 0) {
+      predicted = (long) (compactingMemUsed / flushRate);
+    }
+    return Math.round(pressure * Math.min(predicted, MAX_THROTTLE_DELAY));
+  }
+
+  private void recordFlush(long bytes, long millis) {
+    double rate = bytes / (double) Math.max(1, millis);
+    synchronized (flushRateLock) {
+      flushRate = flushRate == 0 ? rate : 0.8 * flushRate + 0.2 * rate;
+    }
+  }
+
+  private double getFlushRate() {
+    synchronized (flushRateLock) {
+      return flushRate;
+    }
+  }
+
   protected void holdAllCommits(boolean holdAllCommits) {
     synchronized (commitHold) {
       if (holdCommits != holdAllCommits) {
@@ -599,7 +686,20 @@ public class TabletServerResourceManager {
 
   }
 
-  void waitUntilCommitsAreEnabled() {
+  /**
+   * Waits while commits are held, after first delaying the caller when writes are being throttled.
+   *
+   * @return the number of milliseconds the caller waited
+   */
+  long waitUntilCommitsAreEnabled() {
+    long delay = throttleDelay;
+    if (!holdCommits && delay == 0) {
+      return 0;
+    }
+    long start = System.currentTimeMillis();
+    if (delay > 0) {
+      sleepUninterruptibly(delay, TimeUnit.MILLISECONDS);
+    }
     if (holdCommits) {
       long timeout = System.currentTimeMillis()
           + context.getConfiguration().getTimeInMillis(Property.GENERAL_RPC_TIMEOUT);
@@ -614,6 +714,7 @@ public class TabletServerResourceManager {
         }
       }
     }
+    return System.currentTimeMillis() - start;
   }
 
   public long holdTime() {
@@ -680,7 +781,8 @@ public class TabletServerResourceManager {
     private final AtomicLong lastReportedMincSize = new AtomicLong();
     private volatile long lastReportedCommitTime = 0;
 
-    public void updateMemoryUsageStats(Tablet tablet, long size, long mincSize) {
+    public void updateMemoryUsageStats(Tablet tablet, long size, long mincSize,
+        long firstWriteTime) {
 
       // do not want to update stats for every little change,
       // so only do it under certain circumstances... the reason
@@ -711,7 +813,8 @@ public class TabletServerResourceManager {
       }
 
       if (report) {
-        memMgmt.updateMemoryUsageStats(tablet, size, lastReportedCommitTime, mincSize);
+        memMgmt.updateMemoryUsageStats(tablet, size, lastReportedCommitTime, mincSize,
+            firstWriteTime);
       }
     }
 
@@ -724,6 +827,14 @@ public class TabletServerResourceManager {
       minorCompactionThreadPool.execute(r);
     }
 
+    /**
+     * Tablets call this after a minor compaction writes an in memory map of the given size, so that
+     * the time to free memory can be predicted when throttling writes.
+     */
+    public void minorCompactionFinished(long memSize, long millis) {
+      recordFlush(memSize, millis);
+    }
+
     public void close() throws IOException {
       // always obtain locks in same order to avoid deadlock
       synchronized (TabletServerResourceManager.this) {
@@ -850,10 +961,28 @@ public class TabletServerResourceManager {
     return fileLenCache;
   }
 
+  /**
+   * @return the cache on local disk that files are read through, or null if there is none
+   */
+  public LocalFileCache getLocalFileCache() {
+    return localFileCache;
+  }
+
+  /**
+   * @return the cache of deserialized file summaries, or null if it is disabled
+   */
+  public FileSummaryCache getFileSummaryCache() {
+    return fileSummaryCache;
+  }
+
   public ExecutorService getSummaryRetrievalExecutor() {
     return summaryRetrievalPool;
   }
 
+  public ExecutorService getScanLocalityGroupExecutor() {
+    return scanLocalityGroupPool;
+  }
+
   public ExecutorService getSummaryPartitionExecutor() {
     return summaryPartitionPool;
   }
@@ -21,6 +21,7 @@ package org.apache.accumulo.tserver;
 import static com.google.common.util.concurrent.Uninterruptibles.sleepUninterruptibly;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.HashMap;
@@ -47,6 +48,7 @@ import org.apache.accumulo.core.data.NamespaceId;
 import org.apache.accumulo.core.data.Range;
 import org.apache.accumulo.core.data.TableId;
 import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.core.dataImpl.KeyValueBlock;
 import org.apache.accumulo.core.dataImpl.thrift.InitialMultiScan;
 import org.apache.accumulo.core.dataImpl.thrift.InitialScan;
 import org.apache.accumulo.core.dataImpl.thrift.IterInfo;
@@ -68,15 +70,18 @@ import org.apache.accumulo.core.tabletscan.thrift.TabletScanClientService;
 import org.apache.accumulo.core.tabletserver.thrift.NoSuchScanIDException;
 import org.apache.accumulo.core.tabletserver.thrift.NotServingTabletException;
 import org.apache.accumulo.server.ServerContext;
+import org.apache.accumulo.server.conf.TableConfiguration;
 import org.apache.accumulo.server.fs.TooManyFilesException;
 import org.apache.accumulo.server.rpc.TServerUtils;
 import org.apache.accumulo.server.security.SecurityOperation;
 import org.apache.accumulo.tserver.scan.LookupTask;
 import org.apache.accumulo.tserver.scan.NextBatchTask;
 import org.apache.accumulo.tserver.scan.ScanParameters;
+import org.apache.accumulo.tserver.scan.ScanResultCache;
 import org.apache.accumulo.tserver.session.MultiScanSession;
 import org.apache.accumulo.tserver.session.ScanSession;
 import org.apache.accumulo.tserver.session.ScanSession.TabletResolver;
+import org.apache.accumulo.tserver.session.SessionManager;
 import org.apache.accumulo.tserver.session.SingleScanSession;
 import org.apache.accumulo.tserver.tablet.KVEntry;
 import org.apache.accumulo.tserver.tablet.ScanBatch;
@@ -96,12 +101,23 @@ public class ThriftScanClientHandler implements TabletScanClientService.Iface {
   protected final ServerContext context;
   protected final SecurityOperation security;
   private final WriteTracker writeTracker;
+  private final ScanResultCache resultCache;
   private final long MAX_TIME_TO_WAIT_FOR_SCAN_RESULT_MILLIS;
 
   public ThriftScanClientHandler(TabletHostingServer server, WriteTracker writeTracker) {
+    this(server, writeTracker, null);
+  }
+
+  /**
+   * @param resultCache cache for the results of scans that complete in one batch, or null. Only
+   *        servers whose tablets have no in memory data may cache results.
+   */
+  public ThriftScanClientHandler(TabletHostingServer server, WriteTracker writeTracker,
+      ScanResultCache resultCache) {
     this.server = server;
     this.context = server.getContext();
     this.writeTracker = writeTracker;
+    this.resultCache = resultCache;
     this.security = context.getSecurityOperation();
     MAX_TIME_TO_WAIT_FOR_SCAN_RESULT_MILLIS = server.getContext().getConfiguration()
         .getTimeInMillis(Property.TSERV_SCAN_RESULTS_MAX_TIMEOUT);
@@ -198,6 +214,23 @@ public class ThriftScanClientHandler implements TabletScanClientService.Iface {
       throw new NotServingTabletException(extent.toThrift());
     }
 
+    ScanResultCache.CacheKey cacheKey = null;
+    TableConfiguration tableConf = context.getTableConfiguration(tableId);
+    if (resultCache != null && tableConf.getBoolean(Property.TABLE_SCAN_RESULT_CACHE_ENABLED)) {
+      cacheKey = new ScanResultCache.CacheKey(extent, tablet.getDatafiles().keySet(),
+          tableConf.getUpdateCount(), range, columns, batchSize, ssiList, ssio, authorizations,
+          tSamplerConfig, contextArg,
+          executionHints == null ? null : executionHints.get(KeyValueBlock.EXECUTION_HINT));
+      ScanResult cached = resultCache.get(cacheKey);
+      if (cached != null) {
+        // no session uses the tablet, so release it now. On a scan server this releases the
+        // reservations of its files.
+        tabletResolver.close();
+        // no session is kept for a cached result, so closing this scan id does nothing
+        return new InitialScan(SessionManager.NO_SESSION_ID, cached);
+      }
+    }
+
     HashSet<Column> columnSet = new HashSet<>();
     for (TColumn tcolumn : columns) {
       columnSet.add(new Column(tcolumn));
@@ -224,6 +257,10 @@ public class ThriftScanClientHandler implements TabletScanClientService.Iface {
       server.getSessionManager().unreserveSession(sid);
     }
 
+    if (cacheKey != null) {
+      resultCache.put(cacheKey, scanResult);
+    }
+
     return new InitialScan(sid, scanResult);
   }
 
@@ -302,9 +339,21 @@ public class ThriftScanClientHandler implements TabletScanClientService.Iface {
       throw new RuntimeException(t);
     }
 
-    ScanResult scanResult = new ScanResult(Key.compress(bresult.getResults()), bresult.isMore());
+    ScanResult scanResult;
+    if (scanSession.getResultEncoding() == null) {
+      scanResult = new ScanResult(Key.compress(bresult.getResults()), bresult.isMore());
+    } else {
+      scanResult = new ScanResult(Collections.emptyList(), bresult.isMore());
+      try {
+        scanResult.setEncodedResults(
+            KeyValueBlock.encode(bresult.getResults(), scanSession.getResultEncoding()));
+      } catch (IOException e) {
+        server.getSessionManager().removeSession(scanID);
+        throw new UncheckedIOException(e);
+      }
+    }
 
-    scanSession.entriesReturned += scanResult.results.size();
+    scanSession.entriesReturned += bresult.getResults().size();
 
     scanSession.batchCount++;
 
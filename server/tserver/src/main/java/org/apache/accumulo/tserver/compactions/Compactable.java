@@ -106,6 +106,16 @@ public interface Compactable {
 
   double getCompactionRatio();
 
+  /**
+   * @return the rate at which scans started reading the tablet's files, in scans per second
+   */
+  double getScanRate();
+
+  /**
+   * @return the average number of files read by each recent scan of the tablet
+   */
+  double getFilesPerScan();
+
   ExternalCompactionJob reserveExternalCompaction(CompactionServiceId service, CompactionJob job,
       String compactorId, ExternalCompactionId externalCompactionId);
 
@@ -41,7 +41,9 @@ import java.util.function.Function;
 import org.apache.accumulo.core.client.admin.compaction.CompactableFile;
 import org.apache.accumulo.core.conf.ConfigurationTypeHelper;
 import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.data.TabletId;
 import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.core.dataImpl.TabletIdImpl;
 import org.apache.accumulo.core.spi.common.ServiceEnvironment;
 import org.apache.accumulo.core.spi.compaction.CompactionExecutorId;
 import org.apache.accumulo.core.spi.compaction.CompactionJob;
@@ -228,6 +230,21 @@ public class CompactionService {
       return comp.getTableId();
     }
 
+    @Override
+    public TabletId getTabletId() {
+      return new TabletIdImpl(comp.getExtent());
+    }
+
+    @Override
+    public double getScanRate() {
+      return comp.getScanRate();
+    }
+
+    @Override
+    public double getFilesPerScan() {
+      return comp.getFilesPerScan();
+    }
+
     @Override
     public ServiceEnvironment getServiceEnvironment() {
       return senv;
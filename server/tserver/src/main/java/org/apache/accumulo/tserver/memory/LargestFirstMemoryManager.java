@@ -39,7 +39,8 @@ import org.slf4j.LoggerFactory;
  * successive calls. It will also flush idle tablets based on a per-table configurable idle time. It
  * will only attempt to flush tablets up to 20% of all memory. And, as the name of the class would
  * suggest, it flushes the tablet with the highest memory footprint. However, it actually chooses
- * the tablet as a function of its size doubled for every 15 minutes of idle time.
+ * the tablet as a function of its size doubled for every 15 minutes of idle time and doubled again
+ * for every 30 minutes its oldest unflushed write has been pinning write ahead logs.
  */
 public class LargestFirstMemoryManager {
 
@@ -185,7 +186,9 @@ public class LargestFirstMemoryManager {
       final long memTabletSize = ts.getMemTableSize();
       final long minorCompactingSize = ts.getMinorCompactingMemTableSize();
       final long idleTime = now - Math.max(ts.getLastCommitTime(), ZERO_TIME);
-      final long timeMemoryLoad = timeMemoryLoad(memTabletSize, idleTime);
+      final long pinnedTime =
+          ts.getFirstWriteTime() > 0 ? now - Math.max(ts.getFirstWriteTime(), ZERO_TIME) : 0;
+      final long timeMemoryLoad = timeMemoryLoad(memTabletSize, idleTime, pinnedTime);
       ingestMemory += memTabletSize;
       if (minorCompactingSize == 0 && memTabletSize > 0) {
         TabletInfo tabletInfo = new TabletInfo(tablet, memTabletSize, idleTime, timeMemoryLoad);
@@ -299,4 +302,12 @@ public class LargestFirstMemoryManager {
 
     return (long) (mem * Math.pow(2, minutesIdle / 15.0));
   }
+
+  // The load function above, also doubling for every 30 mins that write ahead logs are pinned.
+  // Tablets with steady ingest are never idle, so this keeps them from holding logs indefinitely.
+  static long timeMemoryLoad(long mem, long idleTime, long pinnedTime) {
+    double minutesPinned = pinnedTime / 60000.0;
+
+    return (long) (timeMemoryLoad(mem, idleTime) * Math.pow(2, minutesPinned / 30.0));
+  }
 }
@@ -27,13 +27,25 @@ public class TabletMemoryReport implements Cloneable {
   private final long lastCommitTime;
   private final long memTableSize;
   private final long minorCompactingMemTableSize;
+  private final long firstWriteTime;
 
   public TabletMemoryReport(Tablet tablet, long lastCommitTime, long memTableSize,
       long minorCompactingMemTableSize) {
+    this(tablet, lastCommitTime, memTableSize, minorCompactingMemTableSize, 0);
+  }
+
+  /**
+   * @param firstWriteTime the time of the first write to the current in memory map, or 0 if it has
+   *        not been written to. Write ahead logs can not be released until data written after this
+   *        time is flushed.
+   */
+  public TabletMemoryReport(Tablet tablet, long lastCommitTime, long memTableSize,
+      long minorCompactingMemTableSize, long firstWriteTime) {
     this.tablet = tablet;
     this.lastCommitTime = lastCommitTime;
     this.memTableSize = memTableSize;
     this.minorCompactingMemTableSize = minorCompactingMemTableSize;
+    this.firstWriteTime = firstWriteTime;
   }
 
   public KeyExtent getExtent() {
@@ -56,6 +68,10 @@ public class TabletMemoryReport implements Cloneable {
     return minorCompactingMemTableSize;
   }
 
+  public long getFirstWriteTime() {
+    return firstWriteTime;
+  }
+
   @Override
   public TabletMemoryReport clone() throws CloneNotSupportedException {
     return (TabletMemoryReport) super.clone();
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.tserver.metrics;
+
+import org.apache.accumulo.core.metrics.MetricsProducer;
+import org.apache.accumulo.core.metrics.MetricsUtil;
+import org.apache.accumulo.tserver.scan.ScanResultCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class ScanResultCacheMetrics implements MetricsProducer {
+
+  private final ScanResultCache cache;
+
+  public ScanResultCacheMetrics(ScanResultCache cache) {
+    this.cache = cache;
+  }
+
+  @Override
+  public void registerMetrics(MeterRegistry registry) {
+    FunctionCounter
+        .builder(METRICS_SSERVER_RESULT_CACHE_HITS, cache, ScanResultCache::getHitCount)
+        .description("Scans answered from the scan result cache")
+        .tags(MetricsUtil.getCommonTags()).register(registry);
+    FunctionCounter
+        .builder(METRICS_SSERVER_RESULT_CACHE_MISSES, cache, ScanResultCache::getMissCount)
+        .description("Cacheable scans that were not found in the scan result cache")
+        .tags(MetricsUtil.getCommonTags()).register(registry);
+    Gauge.builder(METRICS_SSERVER_RESULT_CACHE_SIZE, cache, ScanResultCache::getWeightedSize)
+        .description("Estimated bytes of scan results in the scan result cache")
+        .tags(MetricsUtil.getCommonTags()).register(registry);
+  }
+}
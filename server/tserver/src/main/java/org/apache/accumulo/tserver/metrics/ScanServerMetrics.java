@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.tserver.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.accumulo.core.metrics.MetricsProducer;
+import org.apache.accumulo.core.metrics.MetricsUtil;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class ScanServerMetrics implements MetricsProducer {
+
+  private final LongAdder refsWritten = new LongAdder();
+  // reservations can be made before metrics are registered
+  private volatile Timer reservationTime;
+  private volatile Timer reservationWrites;
+
+  public void recordReservationTime(long nanos) {
+    Timer timer = reservationTime;
+    if (timer != null) {
+      timer.record(Duration.ofNanos(nanos));
+    }
+  }
+
+  public void recordReservationWrite(long nanos, int refs) {
+    refsWritten.add(refs);
+    Timer timer = reservationWrites;
+    if (timer != null) {
+      timer.record(Duration.ofNanos(nanos));
+    }
+  }
+
+  @Override
+  public void registerMetrics(MeterRegistry registry) {
+    reservationTime = Timer.builder(METRICS_SSERVER_RESERVATION_TIME)
+        .description("Time scans spent reserving files").tags(MetricsUtil.getCommonTags())
+        .register(registry);
+    reservationWrites = Timer.builder(METRICS_SSERVER_RESERVATION_WRITES)
+        .description("Writes of scan file references to the metadata table")
+        .tags(MetricsUtil.getCommonTags()).register(registry);
+    FunctionCounter.builder(METRICS_SSERVER_RESERVATION_REFS, refsWritten, LongAdder::sum)
+        .description("Scan file references written to the metadata table")
+        .tags(MetricsUtil.getCommonTags()).register(registry);
+  }
+}
@@ -23,6 +23,7 @@ import java.time.Duration;
 import org.apache.accumulo.core.metrics.MetricsProducer;
 import org.apache.accumulo.core.metrics.MetricsUtil;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 
@@ -30,6 +31,7 @@ public class TabletServerMinCMetrics implements MetricsProducer {
 
   private Timer activeMinc;
   private Timer queuedMinc;
+  private Counter flushedBytes;
 
   public void addActive(long value) {
     activeMinc.record(Duration.ofMillis(value));
@@ -39,6 +41,10 @@ public class TabletServerMinCMetrics implements MetricsProducer {
     queuedMinc.record(Duration.ofMillis(value));
   }
 
+  public void addFlushed(long bytes) {
+    flushedBytes.increment(bytes);
+  }
+
   @Override
   public void registerMetrics(MeterRegistry registry) {
     activeMinc = Timer.builder(METRICS_MINC_RUNNING).description("Minor compactions time active")
@@ -47,6 +53,10 @@ public class TabletServerMinCMetrics implements MetricsProducer {
     queuedMinc =
         Timer.builder(METRICS_MINC_QUEUED).description("Queued minor compactions time queued")
             .tags(MetricsUtil.getCommonTags()).register(registry);
+
+    flushedBytes = Counter.builder(METRICS_MINC_FLUSHED_BYTES)
+        .description("Bytes of in memory map data written by minor compactions")
+        .tags(MetricsUtil.getCommonTags()).register(registry);
   }
 
 }
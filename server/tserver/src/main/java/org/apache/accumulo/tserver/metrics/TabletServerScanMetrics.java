@@ -19,9 +19,12 @@
 package org.apache.accumulo.tserver.metrics;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
 
+import org.apache.accumulo.core.data.TableId;
 import org.apache.accumulo.core.metrics.MetricsProducer;
 import org.apache.accumulo.core.metrics.MetricsUtil;
 
@@ -43,12 +46,24 @@ public class TabletServerScanMetrics implements MetricsProducer {
   private Counter busyTimeoutReturned;
   private Counter pausedForMemory;
   private Counter earlyReturnForMemory;
+  // set when metrics are registered, read by scan threads
+  private volatile MeterRegistry registry;
+  private final boolean tagLocalityGroupReads;
+  private final Map<String,Counter> localityGroupReads = new ConcurrentHashMap<>();
 
   private final LongAdder lookupCount = new LongAdder();
   private final LongAdder queryResultCount = new LongAdder();
   private final LongAdder queryResultBytes = new LongAdder();
   private final LongAdder scannedCount = new LongAdder();
 
+  /**
+   * @param tagLocalityGroupReads whether to count locality group reads per table and locality
+   *        group, instead of counting the reads of all of them together
+   */
+  public TabletServerScanMetrics(boolean tagLocalityGroupReads) {
+    this.tagLocalityGroupReads = tagLocalityGroupReads;
+  }
+
   public void incrementLookupCount(long amount) {
     this.lookupCount.add(amount);
   }
@@ -129,8 +144,30 @@ public class TabletServerScanMetrics implements MetricsProducer {
     earlyReturnForMemory.increment();
   }
 
+  public void incrementLocalityGroupRead(TableId tableId, String group, long count) {
+    MeterRegistry meterRegistry = registry;
+    if (meterRegistry == null || count == 0) {
+      return;
+    }
+    if (!tagLocalityGroupReads) {
+      localityGroupReads.computeIfAbsent("",
+          k -> Counter.builder(METRICS_SCAN_LOCALITY_GROUP_READ)
+              .description("entries read by parallel locality group reads")
+              .tags(MetricsUtil.getCommonTags()).register(meterRegistry))
+          .increment(count);
+      return;
+    }
+    localityGroupReads.computeIfAbsent(tableId.canonical() + "/" + group,
+        k -> Counter.builder(METRICS_SCAN_LOCALITY_GROUP_READ)
+            .description("entries read by parallel locality group reads")
+            .tags(MetricsUtil.getCommonTags()).tag("table.id", tableId.canonical())
+            .tag("locality.group", group.isEmpty() ? "default" : group).register(meterRegistry))
+        .increment(count);
+  }
+
   @Override
   public void registerMetrics(MeterRegistry registry) {
+    this.registry = registry;
     Gauge.builder(METRICS_SCAN_OPEN_FILES, openFiles::get)
         .description("Number of files open for scans").register(registry);
     scans = Timer.builder(METRICS_SCAN_TIMES).description("Scans").register(registry);
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.tserver.metrics;
+
+import java.time.Duration;
+
+import org.apache.accumulo.core.metrics.MetricsProducer;
+import org.apache.accumulo.core.metrics.MetricsUtil;
+import org.apache.accumulo.core.summary.FileSummaryCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class TabletServerSummaryMetrics implements MetricsProducer {
+
+  private final FileSummaryCache fileSummaryCache;
+
+  private volatile Timer gatherTimer;
+
+  /**
+   * @param fileSummaryCache the cache of file summaries, may be null if it is disabled
+   */
+  public TabletServerSummaryMetrics(FileSummaryCache fileSummaryCache) {
+    this.fileSummaryCache = fileSummaryCache;
+  }
+
+  public void addGather(long nanos) {
+    Timer timer = gatherTimer;
+    if (timer != null) {
+      timer.record(Duration.ofNanos(nanos));
+    }
+  }
+
+  @Override
+  public void registerMetrics(MeterRegistry registry) {
+    if (fileSummaryCache != null) {
+      FunctionCounter
+          .builder(METRICS_SUMMARY_CACHE_HITS, fileSummaryCache, FileSummaryCache::getHitCount)
+          .description("File summaries found in the summary cache")
+          .tags(MetricsUtil.getCommonTags()).register(registry);
+      FunctionCounter
+          .builder(METRICS_SUMMARY_CACHE_MISSES, fileSummaryCache, FileSummaryCache::getMissCount)
+          .description("File summaries not found in the summary cache")
+          .tags(MetricsUtil.getCommonTags()).register(registry);
+    }
+    gatherTimer = Timer.builder(METRICS_SUMMARY_GATHER)
+        .description("Time taken to gather summaries for a set of files")
+        .tags(MetricsUtil.getCommonTags()).register(registry);
+  }
+
+}
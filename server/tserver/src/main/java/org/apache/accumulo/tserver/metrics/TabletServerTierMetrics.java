@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.tserver.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.accumulo.core.metrics.MetricsProducer;
+import org.apache.accumulo.core.metrics.MetricsUtil;
+import org.apache.accumulo.core.volume.VolumeTiers.Tier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts scan file reads and compaction output per storage tier for tables configured with
+ * {@link org.apache.accumulo.core.volume.VolumeTiers}.
+ */
+public class TabletServerTierMetrics implements MetricsProducer {
+
+  private static final String TIER_TAG = "tier";
+  private static final String UNTIERED = "none";
+
+  private final Map<Tier,LongAdder> reads = new EnumMap<>(Tier.class);
+  private final LongAdder untieredReads = new LongAdder();
+  private final Map<Tier,LongAdder> movedBytes = new EnumMap<>(Tier.class);
+
+  public TabletServerTierMetrics() {
+    for (Tier tier : Tier.values()) {
+      reads.put(tier, new LongAdder());
+      movedBytes.put(tier, new LongAdder());
+    }
+  }
+
+  public void incrementReads(Optional<Tier> tier) {
+    tier.map(reads::get).orElse(untieredReads).increment();
+  }
+
+  public void addMovedBytes(Tier destination, long bytes) {
+    movedBytes.get(destination).add(bytes);
+  }
+
+  @Override
+  public void registerMetrics(MeterRegistry registry) {
+    for (Tier tier : Tier.values()) {
+      String tag = tier.name().toLowerCase();
+      FunctionCounter.builder(METRICS_TSERVER_TIER_READS, reads.get(tier), LongAdder::sum)
+          .description("Files opened by scans on the volumes of a storage tier")
+          .tags(MetricsUtil.getCommonTags()).tag(TIER_TAG, tag).register(registry);
+      FunctionCounter
+          .builder(METRICS_TSERVER_TIER_MOVED_BYTES, movedBytes.get(tier), LongAdder::sum)
+          .description("Bytes rewritten onto the volumes of a storage tier by compactions")
+          .tags(MetricsUtil.getCommonTags()).tag(TIER_TAG, tag).register(registry);
+    }
+    FunctionCounter.builder(METRICS_TSERVER_TIER_READS, untieredReads, LongAdder::sum)
+        .description("Files opened by scans on the volumes of a storage tier")
+        .tags(MetricsUtil.getCommonTags()).tag(TIER_TAG, UNTIERED).register(registry);
+  }
+}
@@ -19,7 +19,12 @@
 package org.apache.accumulo.tserver.metrics;
 
 import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
+import org.apache.accumulo.core.dataImpl.thrift.TCMResult;
+import org.apache.accumulo.core.dataImpl.thrift.TCMStatus;
 import org.apache.accumulo.core.metrics.MetricsProducer;
 
 import io.micrometer.core.instrument.Counter;
@@ -36,6 +41,10 @@ public class TabletServerUpdateMetrics implements MetricsProducer {
   private Timer walogWriteTimeStat;
   private Timer commitTimeStat;
   private DistributionSummary mutationArraySizeStat;
+  private Map<TCMStatus,Counter> conditionalCounters;
+  private Timer conditionalLockWaitStat;
+  private Counter conditionalLockDeferredCounter;
+  private Timer holdWaitStat;
 
   public void addPermissionErrors(long value) {
     permissionErrorsCounter.increment(value);
@@ -65,6 +74,24 @@ public class TabletServerUpdateMetrics implements MetricsProducer {
     mutationArraySizeStat.record(value);
   }
 
+  public void addConditionalResults(List<TCMResult> results) {
+    for (TCMResult result : results) {
+      conditionalCounters.get(result.getStatus()).increment();
+    }
+  }
+
+  public void addConditionalLockWait(long nanos) {
+    conditionalLockWaitStat.record(Duration.ofNanos(nanos));
+  }
+
+  public void addConditionalLockDeferred(long value) {
+    conditionalLockDeferredCounter.increment(value);
+  }
+
+  public void addHoldWait(long value) {
+    holdWaitStat.record(Duration.ofMillis(value));
+  }
+
   @Override
   public void registerMetrics(MeterRegistry registry) {
     permissionErrorsCounter = registry.counter(METRICS_UPDATE_ERRORS, "type", "permission");
@@ -79,6 +106,20 @@ public class TabletServerUpdateMetrics implements MetricsProducer {
         Timer.builder(METRICS_UPDATE_COMMIT).description("committing mutations").register(registry);
     mutationArraySizeStat = DistributionSummary.builder(METRICS_UPDATE_MUTATION_ARRAY_SIZE)
         .description("mutation array").register(registry);
+    Map<TCMStatus,Counter> counters = new EnumMap<>(TCMStatus.class);
+    for (TCMStatus status : TCMStatus.values()) {
+      counters.put(status, Counter.builder(METRICS_UPDATE_CONDITIONAL)
+          .description("conditional mutations processed")
+          .tag("status", status.name().toLowerCase()).register(registry));
+    }
+    conditionalCounters = counters;
+    conditionalLockWaitStat = Timer.builder(METRICS_UPDATE_CONDITIONAL_LOCK_WAIT)
+        .description("acquiring row locks for conditional mutations").register(registry);
+    conditionalLockDeferredCounter = Counter.builder(METRICS_UPDATE_CONDITIONAL_LOCK_DEFERRED)
+        .description("conditional mutations deferred because their row was locked")
+        .register(registry);
+    holdWaitStat = Timer.builder(METRICS_UPDATE_HOLD_WAIT)
+        .description("waiting for held or throttled commits").register(registry);
   }
 
 }
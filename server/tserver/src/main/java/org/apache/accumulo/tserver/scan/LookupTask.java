@@ -21,6 +21,7 @@ package org.apache.accumulo.tserver.scan;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -33,6 +34,7 @@ import org.apache.accumulo.core.conf.Property;
 import org.apache.accumulo.core.data.Key;
 import org.apache.accumulo.core.data.Range;
 import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.core.dataImpl.KeyValueBlock;
 import org.apache.accumulo.core.dataImpl.thrift.MultiScanResult;
 import org.apache.accumulo.core.dataImpl.thrift.TKey;
 import org.apache.accumulo.core.dataImpl.thrift.TKeyExtent;
@@ -170,7 +172,7 @@ public class LookupTask extends ScanTask<MultiScanResult> {
 
       // add results to queue
       MultiScanResult multiScanResult = getMultiScanResult(results, partScan, failures, fullScans,
-          partNextKey, partNextKeyInclusive, queriesIsEmpty);
+          partNextKey, partNextKeyInclusive, queriesIsEmpty, session.getResultEncoding());
       addResult(multiScanResult);
     } catch (IterationInterruptedException iie) {
       if (!isCancelled()) {
@@ -190,12 +192,17 @@ public class LookupTask extends ScanTask<MultiScanResult> {
 
   private MultiScanResult getMultiScanResult(List<KVEntry> results, KeyExtent partScan,
       Map<KeyExtent,List<Range>> failures, List<KeyExtent> fullScans, Key partNextKey,
-      boolean partNextKeyInclusive, boolean queriesIsEmpty) {
+      boolean partNextKeyInclusive, boolean queriesIsEmpty, String resultEncoding)
+      throws IOException {
 
     // convert everything to thrift before adding result
-    List<TKeyValue> retResults = results.stream().map(
-        entry -> new TKeyValue(entry.getKey().toThrift(), ByteBuffer.wrap(entry.getValue().get())))
-        .collect(Collectors.toList());
+    List<TKeyValue> retResults;
+    if (resultEncoding == null) {
+      retResults = results.stream().map(entry -> new TKeyValue(entry.getKey().toThrift(),
+          ByteBuffer.wrap(entry.getValue().get()))).collect(Collectors.toList());
+    } else {
+      retResults = Collections.emptyList();
+    }
 
     // @formatter:off
     Map<TKeyExtent,List<TRange>> retFailures = failures.entrySet().stream().collect(Collectors.toMap(
@@ -214,7 +221,11 @@ public class LookupTask extends ScanTask<MultiScanResult> {
       retPartNextKey = partNextKey.toThrift();
     }
 
-    return new MultiScanResult(retResults, retFailures, retFullScans, retPartScan, retPartNextKey,
-        partNextKeyInclusive, queriesIsEmpty);
+    MultiScanResult multiScanResult = new MultiScanResult(retResults, retFailures, retFullScans,
+        retPartScan, retPartNextKey, partNextKeyInclusive, queriesIsEmpty);
+    if (resultEncoding != null) {
+      multiScanResult.setEncodedResults(KeyValueBlock.encode(results, resultEncoding));
+    }
+    return multiScanResult;
   }
 }
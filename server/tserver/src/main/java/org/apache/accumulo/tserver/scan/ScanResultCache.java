@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.tserver.scan;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.core.dataImpl.thrift.IterInfo;
+import org.apache.accumulo.core.dataImpl.thrift.ScanResult;
+import org.apache.accumulo.core.dataImpl.thrift.TColumn;
+import org.apache.accumulo.core.dataImpl.thrift.TKey;
+import org.apache.accumulo.core.dataImpl.thrift.TKeyValue;
+import org.apache.accumulo.core.dataImpl.thrift.TRange;
+import org.apache.accumulo.core.metadata.StoredTabletFile;
+import org.apache.accumulo.core.tabletscan.thrift.TSamplerConfiguration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Caches the results of scans that a scan server completed in a single batch. Scan servers read
+ * an immutable set of files for a tablet and have no in memory data, so a scan over the same files
+ * with the same range, columns, iterators, authorizations, batch size and table configuration
+ * returns the same results, as long as its iterators do not depend on anything else such as the
+ * current time. Entries are therefore keyed by all of those, and are also expired after a
+ * configured time.
+ */
+public class ScanResultCache {
+
+  /**
+   * Identifies a scan and the files it reads. All parts are thrift objects or collections of them,
+   * which implement value equality. The table configuration is identified by its update count,
+   * which changes whenever the table's scan iterators, their options or any other property that
+   * could change the results is changed.
+   */
+  public static class CacheKey {
+    private final List<Object> parts;
+    private final int hashCode;
+
+    public CacheKey(KeyExtent extent, Set<StoredTabletFile> files, long tableConfigVersion,
+        TRange range, List<TColumn> columns, int batchSize, List<IterInfo> ssiList,
+        Map<String,Map<String,String>> ssio, List<ByteBuffer> authorizations,
+        TSamplerConfiguration samplerConfig, String classLoaderContext, String resultEncoding) {
+      this.parts = Arrays.asList(extent, files, tableConfigVersion, range, columns, batchSize,
+          ssiList, ssio, authorizations, samplerConfig, classLoaderContext, resultEncoding);
+      this.hashCode = parts.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o instanceof CacheKey) {
+        CacheKey ok = (CacheKey) o;
+        return hashCode == ok.hashCode && parts.equals(ok.parts);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  private final Cache<CacheKey,ScanResult> cache;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public ScanResultCache(long maxBytes, long expirationMillis) {
+    this.cache = Caffeine.newBuilder().maximumWeight(maxBytes)
+        .weigher((CacheKey key, ScanResult result) -> weigh(result))
+        .expireAfterWrite(expirationMillis, TimeUnit.MILLISECONDS).build();
+  }
+
+  private static int length(ByteBuffer buffer) {
+    return buffer == null ? 0 : buffer.remaining();
+  }
+
+  /**
+   * Estimates the memory used by a scan result.
+   */
+  static int weigh(ScanResult result) {
+    long weight = 64 + length(result.encodedResults);
+    if (result.results != null) {
+      for (TKeyValue kv : result.results) {
+        // keys may share fields with the previous key, which are then null
+        TKey key = kv.key;
+        weight += 96 + length(key.row) + length(key.colFamily) + length(key.colQualifier)
+            + length(key.colVisibility) + length(kv.value);
+      }
+    }
+    return (int) Math.min(weight, Integer.MAX_VALUE);
+  }
+
+  /**
+   * @return the cached result of a scan, or null if it is not cached. The returned result is
+   *         shared and must not be modified.
+   */
+  public ScanResult get(CacheKey key) {
+    ScanResult result = cache.getIfPresent(key);
+    if (result == null) {
+      misses.increment();
+    } else {
+      hits.increment();
+    }
+    return result;
+  }
+
+  /**
+   * Caches the result of a scan, if the scan completed in one batch.
+   */
+  public void put(CacheKey key, ScanResult result) {
+    if (!result.more) {
+      cache.put(key, result);
+    }
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the estimated number of bytes used by cached results
+   */
+  public long getWeightedSize() {
+    return cache.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L);
+  }
+}
@@ -27,6 +27,7 @@ import java.util.stream.Collectors;
 
 import org.apache.accumulo.core.data.Column;
 import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.core.dataImpl.KeyValueBlock;
 import org.apache.accumulo.core.dataImpl.thrift.IterInfo;
 import org.apache.accumulo.core.securityImpl.thrift.TCredentials;
 import org.apache.accumulo.core.spi.common.IteratorConfiguration;
@@ -79,6 +80,7 @@ public abstract class ScanSession extends Session implements ScanInfo {
 
   public final ScanParameters scanParams;
   private Map<String,String> executionHints;
+  private final String resultEncoding;
   private final TabletResolver tabletResolver;
 
   ScanSession(TCredentials credentials, ScanParameters scanParams,
@@ -90,9 +92,20 @@ public abstract class ScanSession extends Session implements ScanInfo {
     } else {
       this.executionHints = Collections.unmodifiableMap(executionHints);
     }
+    String encoding = this.executionHints.get(KeyValueBlock.EXECUTION_HINT);
+    this.resultEncoding =
+        encoding != null && KeyValueBlock.isSupported(encoding) ? encoding : null;
     this.tabletResolver = tabletResolver;
   }
 
+  /**
+   * @return the compression algorithm the client asked results to be encoded with, or null if
+   *         results should be sent as a list of key values
+   */
+  public String getResultEncoding() {
+    return resultEncoding;
+  }
+
   @Override
   public long getCreationTime() {
     return startTime;
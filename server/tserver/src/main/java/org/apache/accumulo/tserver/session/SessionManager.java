@@ -70,6 +70,11 @@ public class SessionManager {
   private final long maxUpdateIdle;
   private final BlockingQueue<Session> deferredCleanupQueue = new ArrayBlockingQueue<>(5000);
   private final Long expiredSessionMarker = (long) -1;
+
+  /**
+   * A session id that is never assigned to a session, for results that do not need one.
+   */
+  public static final long NO_SESSION_ID = 0;
   private final ServerContext ctx;
 
   public SessionManager(ServerContext context) {
@@ -85,7 +90,7 @@ public class SessionManager {
   }
 
   public long createSession(Session session, boolean reserve) {
-    long sid = RANDOM.get().nextLong();
+    long sid = newSessionId();
 
     synchronized (session) {
       Preconditions.checkArgument(session.state == State.NEW);
@@ -94,12 +99,20 @@ public class SessionManager {
     }
 
     while (sessions.putIfAbsent(sid, session) != null) {
-      sid = RANDOM.get().nextLong();
+      sid = newSessionId();
     }
 
     return sid;
   }
 
+  private static long newSessionId() {
+    long sid;
+    do {
+      sid = RANDOM.get().nextLong();
+    } while (sid == NO_SESSION_ID);
+    return sid;
+  }
+
   public long getMaxIdleTime() {
     return maxIdle;
   }
@@ -37,6 +37,7 @@ public class CommitSession {
 
   private int commitsInProgress;
   private long maxCommittedTime = Long.MIN_VALUE;
+  private volatile long firstWriteTime = 0;
 
   CommitSession(Tablet committer, long seq, InMemoryMap imm) {
     this.seq = seq;
@@ -113,7 +114,17 @@ public class CommitSession {
     return maxCommittedTime;
   }
 
+  /**
+   * @return the time of the first write to this session's in memory map, or 0 if there was none
+   */
+  public long getFirstWriteTime() {
+    return firstWriteTime;
+  }
+
   public void mutate(List<Mutation> mutations, int count) {
+    if (firstWriteTime == 0) {
+      firstWriteTime = System.currentTimeMillis();
+    }
     memTable.mutate(mutations, count);
   }
 }
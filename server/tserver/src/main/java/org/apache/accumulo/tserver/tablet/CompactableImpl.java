@@ -1060,6 +1060,10 @@ public class CompactableImpl implements Compactable {
       Preconditions.checkState(removeJob(job));
       fileMgr.completed(job, jobFiles, metaFile, successful);
 
+      if (successful && metaFile.isPresent()) {
+        tablet.recordTierMove(job.getFiles(), metaFile.orElseThrow());
+      }
+
       if (!compactionRunning) {
         notifyAll();
       }
@@ -1332,6 +1336,16 @@ public class CompactableImpl implements Compactable {
     return tablet.getTableConfiguration().getFraction(Property.TABLE_MAJC_RATIO);
   }
 
+  @Override
+  public double getScanRate() {
+    return tablet.scanSourceRate();
+  }
+
+  @Override
+  public double getFilesPerScan() {
+    return tablet.filesPerScan();
+  }
+
   public boolean isMajorCompactionRunning() {
     // this method intentionally not synchronized because its called by stats code.
     return compactionRunning;
@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.function.Predicate;
@@ -228,6 +229,11 @@ public class CompactableUtils {
         return new TabletIdImpl(tablet.getExtent());
       }
 
+      @Override
+      public OptionalDouble getHeat() {
+        return OptionalDouble.of(tablet.scanSourceRate());
+      }
+
       @Override
       public Optional<SortedKeyValueIterator<Key,Value>> getSample(CompactableFile file,
           SamplerConfiguration sc) {
@@ -31,6 +31,19 @@ public class KVEntry extends KeyValue {
     super(new Key(k), Arrays.copyOf(v.get(), v.get().length));
   }
 
+  private KVEntry(Key k, byte[] v) {
+    super(k, v);
+  }
+
+  /**
+   * Creates an entry that uses the given key and value without copying them. The caller must
+   * ensure neither is modified later.
+   */
+  static KVEntry of(Key k, Value v) {
+    // in memory keys carry extra state that should not be returned to clients
+    return new KVEntry(k.getClass() == Key.class ? k : new Key(k), v.get());
+  }
+
   int numBytes() {
     return getKey().getSize() + getValue().get().length;
   }
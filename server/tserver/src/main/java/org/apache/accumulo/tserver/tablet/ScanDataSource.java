@@ -24,9 +24,12 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.accumulo.core.conf.Property;
+import org.apache.accumulo.core.data.ByteSequence;
 import org.apache.accumulo.core.data.Key;
 import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.dataImpl.thrift.IterInfo;
@@ -38,12 +41,15 @@ import org.apache.accumulo.core.iteratorsImpl.IteratorConfigUtil;
 import org.apache.accumulo.core.iteratorsImpl.system.InterruptibleIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.IterationInterruptedException;
 import org.apache.accumulo.core.iteratorsImpl.system.MultiIterator;
+import org.apache.accumulo.core.iteratorsImpl.system.ParallelLocalityGroupIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.SourceSwitchingIterator.DataSource;
 import org.apache.accumulo.core.iteratorsImpl.system.StatsIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.SystemIteratorUtil;
 import org.apache.accumulo.core.metadata.StoredTabletFile;
 import org.apache.accumulo.core.metadata.schema.DataFileValue;
 import org.apache.accumulo.core.sample.impl.SamplerConfigurationImpl;
+import org.apache.accumulo.core.spi.scan.ScanDispatch;
+import org.apache.accumulo.core.util.LocalityGroupUtil;
 import org.apache.accumulo.core.util.Pair;
 import org.apache.accumulo.server.conf.TableConfiguration.ParsedIteratorConfig;
 import org.apache.accumulo.server.fs.FileManager.ScanFileManager;
@@ -69,6 +75,7 @@ class ScanDataSource implements DataSource {
   private long fileReservationId;
   private AtomicBoolean interruptFlag;
   private StatsIterator statsIterator;
+  private ParallelLocalityGroupIterator parallelIter;
 
   private final ScanParameters scanParams;
   private final boolean loadIters;
@@ -175,6 +182,7 @@ class ScanDataSource implements DataSource {
 
     Collection<InterruptibleIterator> datafiles =
         fileManager.openFiles(files, scanParams.isIsolated(), samplerConfig);
+    tablet.recordScanFiles(files.keySet());
 
     List.of(datafiles, memIters).forEach(c -> c.forEach(ii -> ii.setInterruptFlag(interruptFlag)));
 
@@ -190,8 +198,29 @@ class ScanDataSource implements DataSource {
         IteratorScope.scan, tablet.getTableConfiguration(), tablet.getExtent().tableId(),
         fileManager, files, scanParams.getAuthorizations(), samplerConfig, new ArrayList<>());
 
-    statsIterator = new StatsIterator(multiIter, TabletServer.seekCount, tablet.getScannedCounter(),
-        tablet.getScanMetrics().getScannedCounter());
+    SortedKeyValueIterator<Key,Value> mergedIter = multiIter;
+    ScanDispatch dispatch = scanParams.getScanDispatch();
+    if (dispatch != null && dispatch.getParallelLocalityGroups() && !scanParams.isIsolated()) {
+      // isolated scans detach their files between batches, which producer threads can not handle
+      Map<String,Set<ByteSequence>> groups = LocalityGroupUtil.getLocalityGroupsIgnoringErrors(
+          tablet.getTableConfiguration(), tablet.getExtent().tableId());
+      if (!groups.isEmpty()) {
+        var tableId = tablet.getExtent().tableId();
+        var scanMetrics = tablet.getScanMetrics();
+        parallelIter = new ParallelLocalityGroupIterator(multiIter, groups,
+            tablet.getTabletResources().getTabletServerResourceManager()
+                .getScanLocalityGroupExecutor(),
+            tablet.getContext().getConfiguration()
+                .getCount(Property.TSERV_SCAN_LOCALITY_GROUP_BUFFER),
+            iterEnv,
+            (group, count) -> scanMetrics.incrementLocalityGroupRead(tableId, group, count));
+        parallelIter.setInterruptFlag(interruptFlag);
+        mergedIter = parallelIter;
+      }
+    }
+
+    statsIterator = new StatsIterator(mergedIter, TabletServer.seekCount,
+        tablet.getScannedCounter(), tablet.getScanMetrics().getScannedCounter());
 
     SortedKeyValueIterator<Key,Value> visFilter =
         SystemIteratorUtil.setupSystemScanIterators(statsIterator, scanParams.getColumnSet(),
@@ -242,6 +271,11 @@ class ScanDataSource implements DataSource {
   }
 
   private void returnIterators() {
+    if (parallelIter != null) {
+      // producer threads must stop reading before files and memory are returned
+      parallelIter.close();
+      parallelIter = null;
+    }
     if (memIters != null) {
       log.trace("Returning mem iterators for {}, scanId:{}, fid:{}", tablet.getExtent(),
           scanDataSourceId, fileReservationId);
@@ -117,7 +117,9 @@ public class Scanner {
         iter = new SourceSwitchingIterator(dataSource, false);
       }
 
+      long startNanos = System.nanoTime();
       results = tablet.nextBatch(iter, range, scanParams);
+      tablet.recordReadLatency(System.nanoTime() - startNanos);
 
       if (results.getResults() == null) {
         range = null;
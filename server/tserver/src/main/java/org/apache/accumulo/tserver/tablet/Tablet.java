@@ -52,6 +52,7 @@ import java.util.stream.Stream;
 import org.apache.accumulo.core.Constants;
 import org.apache.accumulo.core.client.Durability;
 import org.apache.accumulo.core.client.admin.CompactionConfig;
+import org.apache.accumulo.core.client.admin.compaction.CompactableFile;
 import org.apache.accumulo.core.clientImpl.DurabilityImpl;
 import org.apache.accumulo.core.clientImpl.UserCompactionUtils;
 import org.apache.accumulo.core.conf.AccumuloConfiguration.Deriver;
@@ -61,6 +62,7 @@ import org.apache.accumulo.core.data.ColumnUpdate;
 import org.apache.accumulo.core.data.Key;
 import org.apache.accumulo.core.data.Mutation;
 import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.TableId;
 import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.dataImpl.KeyExtent;
 import org.apache.accumulo.core.file.FileOperations;
@@ -83,15 +85,20 @@ import org.apache.accumulo.core.metadata.schema.TabletMetadata.ColumnType;
 import org.apache.accumulo.core.metadata.schema.TabletMetadata.Location;
 import org.apache.accumulo.core.sample.impl.SamplerConfigurationImpl;
 import org.apache.accumulo.core.security.Authorizations;
+import org.apache.accumulo.core.spi.common.ServiceEnvironment;
 import org.apache.accumulo.core.spi.fs.VolumeChooserEnvironment;
 import org.apache.accumulo.core.spi.scan.ScanDispatch;
+import org.apache.accumulo.core.spi.split.SplitPlanner;
+import org.apache.accumulo.core.spi.split.SplitPlanner.SplitPoint;
 import org.apache.accumulo.core.tabletingest.thrift.DataFileInfo;
 import org.apache.accumulo.core.tabletserver.log.LogEntry;
 import org.apache.accumulo.core.tabletserver.thrift.TabletStats;
 import org.apache.accumulo.core.trace.TraceUtil;
 import org.apache.accumulo.core.util.Pair;
 import org.apache.accumulo.core.volume.Volume;
+import org.apache.accumulo.core.volume.VolumeTiers;
 import org.apache.accumulo.server.ServerContext;
+import org.apache.accumulo.server.ServiceEnvironmentImpl;
 import org.apache.accumulo.server.compaction.CompactionStats;
 import org.apache.accumulo.server.compaction.PausedCompactionMetrics;
 import org.apache.accumulo.server.fs.VolumeChooserEnvironmentImpl;
@@ -191,6 +198,7 @@ public class Tablet extends TabletBase {
   private volatile CompactionState minorCompactionState = null;
 
   private final Deriver<ConstraintChecker> constraintChecker;
+  private final Deriver<Optional<VolumeTiers>> volumeTiers;
 
   private int writesInProgress = 0;
 
@@ -212,6 +220,9 @@ public class Tablet extends TabletBase {
   private final Rate ingestRate = new Rate(0.95);
   private final Rate ingestByteRate = new Rate(0.95);
   private final Rate scannedRate = new Rate(0.95);
+  private final Rate scanSourceRate = new Rate(0.95);
+  private final Rate scanFileRate = new Rate(0.95);
+  private final TabletHeat heat = new TabletHeat();
 
   private long lastMinorCompactionFinishTime = 0;
   private long lastDataFileImportTime = 0;
@@ -245,8 +256,8 @@ public class Tablet extends TabletBase {
   }
 
   private String chooseTabletDir() throws IOException {
-    VolumeChooserEnvironment chooserEnv =
-        new VolumeChooserEnvironmentImpl(extent.tableId(), extent.endRow(), context);
+    VolumeChooserEnvironment chooserEnv = new VolumeChooserEnvironmentImpl(extent.tableId(),
+        extent.endRow(), scanSourceRate(), context);
     String dirUri = tabletServer.getVolumeManager().choose(chooserEnv, context.getBaseUris())
         + Constants.HDFS_TABLES_DIR + Path.SEPARATOR + extent.tableId() + Path.SEPARATOR + dirName;
     checkTabletDir(new Path(dirUri));
@@ -316,6 +327,8 @@ public class Tablet extends TabletBase {
     final SortedMap<StoredTabletFile,DataFileValue> datafiles = tabletPaths.datafiles;
 
     constraintChecker = tableConfiguration.newDeriver(ConstraintChecker::new);
+    volumeTiers = tableConfiguration.newDeriver(conf -> VolumeTiers.fromTableCustom(
+        suffix -> conf.get(Property.TABLE_ARBITRARY_PROP_PREFIX.getKey() + suffix)));
 
     tabletMemory = new TabletMemory(this);
 
@@ -459,6 +472,8 @@ public class Tablet extends TabletBase {
 
     long count = 0;
 
+    long memSize = memTable.estimatedSizeInBytes();
+
     String oldName = Thread.currentThread().getName();
     try {
       Thread.currentThread().setName("Minor compacting " + this.extent);
@@ -504,9 +519,14 @@ public class Tablet extends TabletBase {
 
       if (!failed) {
         lastMinorCompactionFinishTime = System.currentTimeMillis();
+        getTabletResources().minorCompactionFinished(memSize,
+            lastMinorCompactionFinishTime - start);
       }
       TabletServerMinCMetrics minCMetrics = getTabletServer().getMinCMetrics();
       minCMetrics.addActive(lastMinorCompactionFinishTime - start);
+      if (!failed) {
+        minCMetrics.addFlushed(memSize);
+      }
       timer.updateTime(Operation.MINOR, queued, start, count, failed);
       minCMetrics.addQueued(start - queued);
     }
@@ -1229,6 +1249,8 @@ public class Tablet extends TabletBase {
 
   private final long splitCreationTime;
 
+  private volatile List<Text> remainingSplitRows = List.of();
+
   private boolean isSplitPossible() {
 
     // never split the root tablet
@@ -1245,7 +1267,11 @@ public class Tablet extends TabletBase {
     return true;
   }
 
-  private synchronized SplitRowSpec findSplitRow(Optional<SplitComputations> splitComputations) {
+  // the number of evenly spaced pieces to sample from file indexes when planning splits
+  private static final int SPLIT_KEY_SAMPLES = 32;
+
+  private synchronized List<SplitRowSpec>
+      findSplitRows(Optional<SplitComputations> splitComputations) {
 
     // never split the root tablet
     // check if we already decided that we can never split
@@ -1254,87 +1280,122 @@ public class Tablet extends TabletBase {
     long maxEndRow = tableConfiguration.getAsBytes(Property.TABLE_MAX_END_ROW_SIZE);
 
     if (!isSplitPossible()) {
-      return null;
+      return List.of();
     }
 
     if (!splitComputations.isPresent()) {
       // information needed to compute a split point is out of date or does not exists, try again
       // later
-      return null;
+      return List.of();
     }
 
-    SortedMap<Double,Key> keys = splitComputations.orElseThrow().midPoint;
+    SplitComputations computations = splitComputations.orElseThrow();
 
-    if (keys.isEmpty()) {
+    if (computations.keyDistribution.isEmpty()) {
       log.info("Cannot split tablet " + extent + ", files contain no data for tablet.");
       suppressFindSplits();
-      return null;
+      return List.of();
     }
 
     // check to see if one row takes up most of the tablet, in which case we can not split
     Text lastRow;
     if (extent.endRow() == null) {
-      lastRow = splitComputations.orElseThrow().lastRowForDefaultTablet;
+      lastRow = computations.lastRowForDefaultTablet;
     } else {
       lastRow = extent.endRow();
     }
 
-    // We expect to get a midPoint for this set of files. If we don't get one, we have a problem.
-    final Key mid = keys.get(.5);
-    if (mid == null) {
-      throw new IllegalStateException("Could not determine midpoint for files on " + extent);
+    SplitPlanner planner = tableConfiguration.getSplitPlanner();
+    List<SplitPoint> points = planner.plan(createSplitPlanningParameters(computations, lastRow));
+
+    List<SplitRowSpec> splits = new ArrayList<>(points.size());
+    Text previous = extent.prevEndRow();
+    for (SplitPoint point : points) {
+      Text row = point.getRow();
+      if ((previous != null && row.compareTo(previous) <= 0) || row.compareTo(lastRow) >= 0) {
+        log.warn("Ignoring split point {} for tablet {}, it is out of order or not in the tablet",
+            row, extent);
+        break;
+      }
+
+      if (row.getLength() > maxEndRow) {
+        log.warn("Cannot split tablet {}, selected split point too long.  Length :  {}", extent,
+            row.getLength());
+        break;
+      }
+
+      splits.add(new SplitRowSpec(point.getRatio(), row));
+      previous = row;
     }
 
-    // check to see that the midPoint is not equal to the end key
-    if (mid.compareRow(lastRow) == 0) {
-      if (keys.firstKey() < .5) {
-        Key candidate = keys.get(keys.firstKey());
-        if (candidate.getLength() > maxEndRow) {
-          log.warn("Cannot split tablet {}, selected split point too long.  Length :  {}", extent,
-              candidate.getLength());
+    if (splits.isEmpty()) {
+      log.warn("Cannot split tablet {}, {} found no split points. Last row : {}", extent,
+          planner.getClass().getSimpleName(), lastRow);
+      suppressFindSplits();
+    }
 
-          suppressFindSplits();
+    return splits;
+  }
 
-          return null;
-        }
-        if (candidate.compareRow(lastRow) != 0) {
-          // we should use this ratio in split size estimations
-          if (log.isTraceEnabled()) {
-            log.trace(
-                String.format("Splitting at %6.2f instead of .5, row at .5 is same as end row%n",
-                    keys.firstKey()));
-          }
-          return new SplitRowSpec(keys.firstKey(), candidate.getRow());
-        }
+  private SplitPlanner.PlanningParameters
+      createSplitPlanningParameters(SplitComputations computations, Text lastRow) {
+    long estimatedSize = estimateTabletSize();
+    long splitThreshold = tableConfiguration.getAsBytes(Property.TABLE_SPLIT_THRESHOLD);
+    double currentIngestRate = ingestRate();
+    double currentQueryRate = queryRate();
+
+    return new SplitPlanner.PlanningParameters() {
 
+      @Override
+      public TableId getTableId() {
+        return extent.tableId();
       }
 
-      log.warn("Cannot split tablet {} it contains a big row : {}", extent, lastRow);
-      suppressFindSplits();
+      @Override
+      public Text getEndRow() {
+        return extent.endRow();
+      }
 
-      return null;
-    }
+      @Override
+      public Text getPrevEndRow() {
+        return extent.prevEndRow();
+      }
 
-    Text text = mid.getRow();
-    SortedMap<Double,Key> firstHalf = keys.headMap(.5);
-    if (!firstHalf.isEmpty()) {
-      Text beforeMid = firstHalf.get(firstHalf.lastKey()).getRow();
-      Text shorter = new Text();
-      int trunc = longestCommonLength(text, beforeMid);
-      shorter.set(text.getBytes(), 0, Math.min(text.getLength(), trunc + 1));
-      text = shorter;
-    }
+      @Override
+      public Text getLastRow() {
+        return lastRow;
+      }
 
-    if (text.getLength() > maxEndRow) {
-      log.warn("Cannot split tablet {}, selected split point too long.  Length :  {}", extent,
-          text.getLength());
+      @Override
+      public long getEstimatedSize() {
+        return estimatedSize;
+      }
 
-      suppressFindSplits();
+      @Override
+      public long getSplitThreshold() {
+        return splitThreshold;
+      }
 
-      return null;
-    }
+      @Override
+      public SortedMap<Double,Key> getKeyDistribution() {
+        return Collections.unmodifiableSortedMap(computations.keyDistribution);
+      }
+
+      @Override
+      public double getIngestRate() {
+        return currentIngestRate;
+      }
 
-    return new SplitRowSpec(.5, text);
+      @Override
+      public double getQueryRate() {
+        return currentQueryRate;
+      }
+
+      @Override
+      public ServiceEnvironment getServiceEnv() {
+        return new ServiceEnvironmentImpl(context);
+      }
+    };
   }
 
   private boolean supressFindSplits = false;
@@ -1369,29 +1430,20 @@ public class Tablet extends TabletBase {
     timeOfLastImportWhenFindSplitsWasSupressed = lastDataFileImportTime;
   }
 
-  private static int longestCommonLength(Text text, Text beforeMid) {
-    int common = 0;
-    while (common < text.getLength() && common < beforeMid.getLength()
-        && text.getBytes()[common] == beforeMid.getBytes()[common]) {
-      common++;
-    }
-    return common;
-  }
-
   // encapsulates results of computations needed to make determinations about splits
   private static class SplitComputations {
     final Set<StoredTabletFile> inputFiles;
 
-    // cached result of calling FileUtil.findMidpoint
-    final SortedMap<Double,Key> midPoint;
+    // cached result of calling FileUtil.sampleKeyDistribution
+    final SortedMap<Double,Key> keyDistribution;
 
     // the last row seen in the files, only set for the default tablet
     final Text lastRowForDefaultTablet;
 
-    private SplitComputations(Set<StoredTabletFile> inputFiles, SortedMap<Double,Key> midPoint,
-        Text lastRowForDefaultTablet) {
+    private SplitComputations(Set<StoredTabletFile> inputFiles,
+        SortedMap<Double,Key> keyDistribution, Text lastRowForDefaultTablet) {
       this.inputFiles = inputFiles;
-      this.midPoint = midPoint;
+      this.keyDistribution = keyDistribution;
       this.lastRowForDefaultTablet = lastRowForDefaultTablet;
     }
   }
@@ -1434,8 +1486,9 @@ public class Tablet extends TabletBase {
     // Only want one thread doing this computation at time for a tablet.
     if (splitComputationLock.tryLock()) {
       try {
-        SortedMap<Double,Key> midpoint = FileUtil.findMidPoint(context, tableConfiguration,
-            chooseTabletDir(), extent.prevEndRow(), extent.endRow(), files, .25, true);
+        SortedMap<Double,Key> keyDistribution =
+            FileUtil.sampleKeyDistribution(context, tableConfiguration, chooseTabletDir(),
+                extent.prevEndRow(), extent.endRow(), files, SPLIT_KEY_SAMPLES, true);
 
         Text lastRow = null;
 
@@ -1443,7 +1496,7 @@ public class Tablet extends TabletBase {
           lastRow = FileUtil.findLastRow(context, tableConfiguration, files);
         }
 
-        newComputation = new SplitComputations(files, midpoint, lastRow);
+        newComputation = new SplitComputations(files, keyDistribution, lastRow);
 
         lastSplitComputation = new SoftReference<>(newComputation);
       } catch (IOException e) {
@@ -1469,7 +1522,7 @@ public class Tablet extends TabletBase {
     if (isClosing() || isClosed()) {
       return false;
     }
-    return findSplitRow(splitComputations) != null;
+    return !findSplitRows(splitComputations).isEmpty();
   }
 
   synchronized void computeNumEntries() {
@@ -1532,6 +1585,30 @@ public class Tablet extends TabletBase {
     return minorCompactionState == CompactionState.IN_PROGRESS;
   }
 
+  private void logPlannedSplits(List<SplitRowSpec> splitRows) {
+    if (log.isInfoEnabled()) {
+      long size = estimateTabletSize();
+      StringBuilder sb = new StringBuilder();
+      double previousRatio = 0;
+      for (SplitRowSpec spec : splitRows) {
+        sb.append(String.format(" %s (~%,d bytes before)", spec.row,
+            (long) ((spec.splitRatio - previousRatio) * size)));
+        previousRatio = spec.splitRatio;
+      }
+      sb.append(String.format(" (~%,d bytes after)", (long) ((1 - previousRatio) * size)));
+      log.info("Planned {} split(s) for {} :{}", splitRows.size(), extent, sb);
+    }
+  }
+
+  /**
+   * @return the rows after the first that were chosen by the split planner the last time this
+   *         tablet was split without a given split point. The tablet server splits the upper
+   *         tablet produced by the split at each of these rows.
+   */
+  public List<Text> getRemainingSplitRows() {
+    return remainingSplitRows;
+  }
+
   public TreeMap<KeyExtent,TabletData> split(byte[] sp) throws IOException {
 
     if (sp != null && extent.endRow() != null && extent.endRow().equals(new Text(sp))) {
@@ -1556,11 +1633,15 @@ public class Tablet extends TabletBase {
     if (sp == null) {
       // call this outside of sync block
       var splitComputations = getSplitComputations();
-      splitPoint = findSplitRow(splitComputations);
-      if (splitPoint == null || splitPoint.row == null) {
-        // no reason to log anything here, findSplitRow will log reasons when it returns null
+      List<SplitRowSpec> splitRows = findSplitRows(splitComputations);
+      if (splitRows.isEmpty()) {
+        // no reason to log anything here, findSplitRows will log reasons when it returns nothing
         return null;
       }
+      splitPoint = splitRows.get(0);
+      remainingSplitRows =
+          splitRows.stream().skip(1).map(spec -> spec.row).collect(Collectors.toList());
+      logPlannedSplits(splitRows);
     } else {
       Text tsp = new Text(sp);
       // This ratio is calculated before that tablet is closed and outside of a lock, so new files
@@ -1677,6 +1758,57 @@ public class Tablet extends TabletBase {
     return scannedRate.rate();
   }
 
+  /**
+   * @return the rate at which scans started reading the tablet's files
+   */
+  public double scanSourceRate() {
+    return scanSourceRate.rate();
+  }
+
+  /**
+   * @return the tablet's activity over the recent sliding window
+   */
+  public TabletHeat.Window heat() {
+    return heat.snapshot();
+  }
+
+  @Override
+  void recordReadLatency(long nanos) {
+    heat.recordLatency(nanos);
+  }
+
+  @Override
+  void recordScanFiles(Collection<StoredTabletFile> files) {
+    super.recordScanFiles(files);
+    volumeTiers.derive().ifPresent(tiers -> files.forEach(file -> getTabletServer()
+        .getTierMetrics().incrementReads(tiers.getFileTier(file.getMetadataPath()))));
+  }
+
+  /**
+   * Records the bytes of compaction inputs that were rewritten onto a different storage tier than
+   * the one they were read from.
+   */
+  void recordTierMove(Collection<CompactableFile> inputs, StoredTabletFile output) {
+    volumeTiers.derive().ifPresent(tiers -> tiers.getFileTier(output.getMetadataPath())
+        .ifPresent(destination -> {
+          long moved = inputs.stream()
+              .filter(input -> !tiers.getFileTier(input.getUri().toString())
+                  .equals(Optional.of(destination)))
+              .mapToLong(CompactableFile::getEstimatedSize).sum();
+          if (moved > 0) {
+            getTabletServer().getTierMetrics().addMovedBytes(destination, moved);
+          }
+        }));
+  }
+
+  /**
+   * @return the average number of files read by each recent scan of the tablet
+   */
+  public double filesPerScan() {
+    double sources = scanSourceRate.rate();
+    return sources > 0 ? scanFileRate.rate() / sources : 0;
+  }
+
   public long totalQueriesResults() {
     return this.queryResultCount.get();
   }
@@ -1708,6 +1840,9 @@ public class Tablet extends TabletBase {
     ingestRate.update(now, ingestCount);
     ingestByteRate.update(now, ingestBytes);
     scannedRate.update(now, this.scannedCount.get());
+    scanSourceRate.update(now, this.scanSourceCount.get());
+    scanFileRate.update(now, this.scanFileCount.get());
+    heat.advance(now, this.queryResultCount.get(), this.scannedCount.get(), ingestBytes);
   }
 
   public long getSplitCreationTime() {
@@ -2052,8 +2187,8 @@ public class Tablet extends TabletBase {
     return DurabilityImpl.fromString(getTableConfiguration().get(Property.TABLE_DURABILITY));
   }
 
-  public void updateMemoryUsageStats(long size, long mincSize) {
-    getTabletResources().updateMemoryUsageStats(this, size, mincSize);
+  public void updateMemoryUsageStats(long size, long mincSize, long firstWriteTime) {
+    getTabletResources().updateMemoryUsageStats(this, size, mincSize, firstWriteTime);
   }
 
   public long incrementDataSourceDeletions() {
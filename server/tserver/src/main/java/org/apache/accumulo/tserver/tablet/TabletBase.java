@@ -22,6 +22,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -41,7 +42,9 @@ import org.apache.accumulo.core.data.Value;
 import org.apache.accumulo.core.dataImpl.KeyExtent;
 import org.apache.accumulo.core.iterators.SortedKeyValueIterator;
 import org.apache.accumulo.core.iterators.YieldCallback;
+import org.apache.accumulo.core.iteratorsImpl.system.BatchIterator;
 import org.apache.accumulo.core.iteratorsImpl.system.IterationInterruptedException;
+import org.apache.accumulo.core.iteratorsImpl.system.KeyValueBuffer;
 import org.apache.accumulo.core.iteratorsImpl.system.SourceSwitchingIterator;
 import org.apache.accumulo.core.metadata.StoredTabletFile;
 import org.apache.accumulo.core.metadata.schema.DataFileValue;
@@ -80,6 +83,9 @@ public abstract class TabletBase {
   protected AtomicLong queryResultCount = new AtomicLong(0);
   protected AtomicLong queryResultBytes = new AtomicLong(0);
   protected final AtomicLong scannedCount = new AtomicLong(0);
+  // scan data sources created for the tablet and the files they read
+  protected final AtomicLong scanSourceCount = new AtomicLong(0);
+  protected final AtomicLong scanFileCount = new AtomicLong(0);
 
   protected final Set<ScanDataSource> activeScans = new HashSet<>();
 
@@ -152,6 +158,16 @@ public abstract class TabletBase {
     return this.scannedCount;
   }
 
+  /**
+   * Called with the time taken by each scan batch or lookup that read from the tablet.
+   */
+  void recordReadLatency(long nanos) {}
+
+  void recordScanFiles(Collection<StoredTabletFile> files) {
+    scanSourceCount.incrementAndGet();
+    scanFileCount.addAndGet(files.size());
+  }
+
   public ServerContext getContext() {
     return context;
   }
@@ -204,6 +220,7 @@ public abstract class TabletBase {
 
     Tablet.LookupResult result = null;
 
+    long startNanos = System.nanoTime();
     boolean sawException = false;
     try {
       SortedKeyValueIterator<Key,Value> iter = new SourceSwitchingIterator(dataSource);
@@ -227,6 +244,7 @@ public abstract class TabletBase {
           this.server.getScanMetrics().incrementQueryResultBytes(result.dataSize);
         }
       }
+      recordReadLatency(System.nanoTime() - startNanos);
     }
   }
 
@@ -280,15 +298,37 @@ public abstract class TabletBase {
       iter.seek(range, LocalityGroupUtil.families(scanParams.getColumnSet()), true);
     }
 
-    while (iter.hasTop()) {
-      if (yield.hasYielded()) {
-        throw new IOException(
-            "Coding error: hasTop returned true but has yielded at " + yield.getPositionAndReset());
-      }
-      value = iter.getTopValue();
-      key = iter.getTopKey();
+    // System iterators can read many entries per call, when the top iterator is not one of those
+    // entries are read one at a time
+    KeyValueBuffer buffer = iter instanceof BatchIterator ? new KeyValueBuffer() : null;
+    int bufferIndex = 0;
+
+    while (iter.hasTop() || (buffer != null && bufferIndex < buffer.size())) {
+      KVEntry kvEntry;
+      if (buffer != null) {
+        if (bufferIndex == buffer.size()) {
+          buffer.clear();
+          bufferIndex = 0;
+          buffer.fill(iter);
+          if (buffer.isEmpty()) {
+            break;
+          }
+        }
+        key = buffer.getKey(bufferIndex);
+        value = buffer.getValue(bufferIndex);
+        bufferIndex++;
+        // entries in the buffer are not reused by the iterator, so there is no need to copy them
+        kvEntry = KVEntry.of(key, value);
+      } else {
+        if (yield.hasYielded()) {
+          throw new IOException("Coding error: hasTop returned true but has yielded at "
+              + yield.getPositionAndReset());
+        }
+        value = iter.getTopValue();
+        key = iter.getTopKey();
 
-      KVEntry kvEntry = new KVEntry(key, value); // copies key and value
+        kvEntry = new KVEntry(key, value); // copies key and value
+      }
       results.add(kvEntry);
       resultSize += kvEntry.estimateMemoryUsed();
       resultBytes += kvEntry.numBytes();
@@ -309,10 +349,17 @@ public abstract class TabletBase {
         break;
       }
 
-      iter.next();
+      if (buffer == null) {
+        iter.next();
+      }
     }
 
-    if (yield.hasYielded()) {
+    if (buffer != null && bufferIndex < buffer.size()) {
+      // stopped before using everything that was read, the scan continues after continueKey
+      if (yield.hasYielded()) {
+        yield.getPositionAndReset();
+      }
+    } else if (yield.hasYielded()) {
       continueKey = new Key(yield.getPositionAndReset());
       skipContinueKey = true;
       if (!range.contains(continueKey)) {
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.tserver.tablet;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks a tablet's recent read and write activity over a sliding window in a fixed amount of
+ * memory. The window is made of {@link #SLOTS} slots, one per call to
+ * {@link #advance(long, long, long, long)}. Each slot holds a snapshot of the tablet's cumulative
+ * counters and a log2 histogram of the read latencies seen since that snapshot, so rates and
+ * latency percentiles over the window can be derived without keeping per request data. Unlike the
+ * exponentially smoothed {@link Rate}, activity that leaves the window no longer contributes.
+ */
+public class TabletHeat {
+
+  /**
+   * Number of rate updates covered by the window. With the tablet server updating rates every 5
+   * seconds the window spans about a minute.
+   */
+  static final int SLOTS = 12;
+
+  /**
+   * Number of latency buckets. Bucket {@code i} counts reads that took less than
+   * {@code BASE_MICROS << i} microseconds, the last bucket counts everything slower.
+   */
+  static final int BUCKETS = 20;
+
+  private static final long BASE_MICROS = 128;
+
+  private final long[] times = new long[SLOTS];
+  private final long[] queries = new long[SLOTS];
+  private final long[] scanned = new long[SLOTS];
+  private final long[] ingestBytes = new long[SLOTS];
+  private final int[][] latencies = new int[SLOTS][BUCKETS];
+  private int current = 0;
+  private int snapshots = 0;
+
+  static int bucket(long nanos) {
+    long scaled = TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos)) / BASE_MICROS;
+    return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(scaled));
+  }
+
+  /**
+   * Records how long a single scan batch or lookup took to read from the tablet.
+   */
+  public synchronized void recordLatency(long nanos) {
+    latencies[current][bucket(nanos)]++;
+  }
+
+  /**
+   * Starts a new slot, dropping the oldest one once the window is full.
+   *
+   * @param now the current time in millis
+   * @param queryCount cumulative number of entries returned by the tablet
+   * @param scannedCount cumulative number of entries scanned by the tablet
+   * @param ingestByteCount cumulative number of bytes written to the tablet
+   */
+  public synchronized void advance(long now, long queryCount, long scannedCount,
+      long ingestByteCount) {
+    if (snapshots > 0) {
+      if (now <= times[current]) {
+        return;
+      }
+      current = (current + 1) % SLOTS;
+      Arrays.fill(latencies[current], 0);
+    }
+    times[current] = now;
+    queries[current] = queryCount;
+    scanned[current] = scannedCount;
+    ingestBytes[current] = ingestByteCount;
+    snapshots = Math.min(snapshots + 1, SLOTS);
+  }
+
+  /**
+   * @return the rates and read latencies over the current window
+   */
+  public synchronized Window snapshot() {
+    long[] counts = new long[BUCKETS];
+    for (int[] slot : latencies) {
+      for (int i = 0; i < BUCKETS; i++) {
+        counts[i] += slot[i];
+      }
+    }
+    if (snapshots < 2) {
+      return new Window(0, 0, 0, counts);
+    }
+    int oldest = snapshots < SLOTS ? 0 : (current + 1) % SLOTS;
+    double seconds = (times[current] - times[oldest]) / 1000.;
+    return new Window((queries[current] - queries[oldest]) / seconds,
+        (scanned[current] - scanned[oldest]) / seconds,
+        (ingestBytes[current] - ingestBytes[oldest]) / seconds, counts);
+  }
+
+  /**
+   * Activity over a sliding window. Windows of several tablets can be merged to summarize a table.
+   */
+  public static class Window {
+
+    public static final Window EMPTY = new Window(0, 0, 0, new long[BUCKETS]);
+
+    private final double queryRate;
+    private final double scanRate;
+    private final double ingestByteRate;
+    private final long[] latencies;
+
+    private Window(double queryRate, double scanRate, double ingestByteRate, long[] latencies) {
+      this.queryRate = queryRate;
+      this.scanRate = scanRate;
+      this.ingestByteRate = ingestByteRate;
+      this.latencies = latencies;
+    }
+
+    /**
+     * @return entries returned per second
+     */
+    public double getQueryRate() {
+      return queryRate;
+    }
+
+    /**
+     * @return entries scanned per second
+     */
+    public double getScanRate() {
+      return scanRate;
+    }
+
+    /**
+     * @return bytes ingested per second
+     */
+    public double getIngestByteRate() {
+      return ingestByteRate;
+    }
+
+    /**
+     * @param fraction the percentile to compute, for example 0.99
+     * @return the upper bound in millis of the latency bucket holding the percentile, or 0 when
+     *         there were no reads in the window
+     */
+    public double getLatencyPercentile(double fraction) {
+      long total = Arrays.stream(latencies).sum();
+      if (total == 0) {
+        return 0;
+      }
+      long target = Math.max(1, (long) Math.ceil(total * fraction));
+      long seen = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        seen += latencies[i];
+        if (seen >= target) {
+          return (BASE_MICROS << i) / 1000.;
+        }
+      }
+      return (BASE_MICROS << (BUCKETS - 1)) / 1000.;
+    }
+
+    /**
+     * @return a window with the summed rates and combined latencies of this window and the other
+     */
+    public Window merge(Window other) {
+      long[] counts = latencies.clone();
+      for (int i = 0; i < BUCKETS; i++) {
+        counts[i] += other.latencies[i];
+      }
+      return new Window(queryRate + other.queryRate, scanRate + other.scanRate,
+          ingestByteRate + other.ingestByteRate, counts);
+    }
+  }
+}
@@ -79,7 +79,7 @@ class TabletMemory implements Closeable {
     nextSeq += 2;
 
     tablet.updateMemoryUsageStats(memTable.estimatedSizeInBytes(),
-        otherMemTable.estimatedSizeInBytes());
+        otherMemTable.estimatedSizeInBytes(), 0);
 
     return oldCommitSession;
   }
@@ -122,7 +122,8 @@ class TabletMemory implements Closeable {
 
         deletingMemTable = null;
 
-        tablet.updateMemoryUsageStats(memTable.estimatedSizeInBytes(), 0);
+        tablet.updateMemoryUsageStats(memTable.estimatedSizeInBytes(), 0,
+            commitSession.getFirstWriteTime());
       }
     }
   }
@@ -153,7 +154,9 @@ class TabletMemory implements Closeable {
       other = deletingMemTable.estimatedSizeInBytes();
     }
 
-    tablet.updateMemoryUsageStats(memTable.estimatedSizeInBytes(), other);
+    CommitSession cs = commitSession;
+    tablet.updateMemoryUsageStats(memTable.estimatedSizeInBytes(), other,
+        cs == null ? 0 : cs.getFirstWriteTime());
   }
 
   public List<MemoryIterator> getIterators(SamplerConfigurationImpl samplerConfig) {
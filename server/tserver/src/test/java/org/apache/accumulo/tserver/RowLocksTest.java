@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.tserver;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.accumulo.core.data.Mutation;
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.core.dataImpl.thrift.TConditionalMutation;
+import org.apache.accumulo.tserver.RowLocks.RowLock;
+import org.apache.accumulo.tserver.data.ServerConditionalMutation;
+import org.junit.jupiter.api.Test;
+
+public class RowLocksTest {
+
+  private static final KeyExtent EXTENT = new KeyExtent(TableId.of("1"), null, null);
+
+  private static Map<KeyExtent,List<ServerConditionalMutation>> updates(String... rows) {
+    List<ServerConditionalMutation> scml = new ArrayList<>();
+    long id = 0;
+    for (String row : rows) {
+      Mutation m = new Mutation(row);
+      m.put("f", "q", "v");
+      scml.add(new ServerConditionalMutation(
+          new TConditionalMutation(new ArrayList<>(), m.toThrift(), id++)));
+    }
+    Map<KeyExtent,List<ServerConditionalMutation>> updates = new HashMap<>();
+    updates.put(EXTENT, scml);
+    return updates;
+  }
+
+  private static List<String> rows(List<ServerConditionalMutation> scml) {
+    List<String> rows = new ArrayList<>();
+    scml.forEach(scm -> rows.add(new String(scm.getRow(), UTF_8)));
+    return rows;
+  }
+
+  @Test
+  public void testSharedStripe() {
+    // with a single stripe every row shares a lock, which must not prevent a batch from locking
+    // all of its rows
+    RowLocks rowLocks = new RowLocks(1);
+    var updates = updates("r1", "r2", "r3");
+    Map<KeyExtent,List<ServerConditionalMutation>> deferred = new HashMap<>();
+
+    List<RowLock> locks = rowLocks.acquireRowlocks(updates, deferred);
+    assertEquals(3, locks.size());
+    assertTrue(deferred.isEmpty());
+    rowLocks.releaseRowLocks(locks);
+
+    assertEquals(0, locks.get(0).rlock.getHoldCount());
+    assertFalse(locks.get(0).rlock.isLocked());
+  }
+
+  @Test
+  public void testDeferLockedRows() throws Exception {
+    RowLocks rowLocks = new RowLocks();
+
+    List<RowLock> locks1 = rowLocks.acquireRowlocks(updates("r2", "r4"), new HashMap<>());
+    assertEquals(2, locks1.size());
+
+    // rows locked by another thread should be deferred
+    var updates = updates("r1", "r2", "r3", "r4");
+    Map<KeyExtent,List<ServerConditionalMutation>> deferred = new HashMap<>();
+    List<RowLock> locks2 = CompletableFuture.supplyAsync(() -> {
+      List<RowLock> locks = rowLocks.acquireRowlocks(updates, deferred);
+      rowLocks.releaseRowLocks(locks);
+      return locks;
+    }).get();
+
+    assertEquals(2, locks2.size());
+    assertEquals(List.of("r1", "r3"), rows(updates.get(EXTENT)));
+    assertEquals(List.of("r2", "r4"), rows(deferred.get(EXTENT)));
+
+    rowLocks.releaseRowLocks(locks1);
+
+    // once released the deferred rows can be locked
+    Map<KeyExtent,List<ServerConditionalMutation>> deferred2 = new HashMap<>();
+    List<RowLock> locks3 = CompletableFuture.supplyAsync(() -> {
+      List<RowLock> locks = rowLocks.acquireRowlocks(deferred, deferred2);
+      rowLocks.releaseRowLocks(locks);
+      return locks;
+    }).get();
+    assertEquals(2, locks3.size());
+    assertTrue(deferred2.isEmpty());
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.tserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.accumulo.core.metadata.ScanServerRefTabletFile;
+import org.apache.accumulo.tserver.metrics.ScanServerMetrics;
+import org.junit.jupiter.api.Test;
+
+public class ScanReferenceWriterTest {
+
+  private static final UUID SERVER_UUID = UUID.randomUUID();
+
+  private static List<ScanServerRefTabletFile> refs(String... files) {
+    List<ScanServerRefTabletFile> refs = new ArrayList<>();
+    for (String file : files) {
+      refs.add(new ScanServerRefTabletFile("hdfs://nn/accumulo/tables/1/t-1/" + file,
+          "localhost:9996", SERVER_UUID));
+    }
+    return refs;
+  }
+
+  @Test
+  public void testUnbatched() throws Exception {
+    List<Collection<ScanServerRefTabletFile>> writes = new ArrayList<>();
+    var writer = new ScanReferenceWriter(writes::add, new ScanServerMetrics(), false);
+
+    writer.write(refs("F1.rf"));
+    writer.write(refs("F2.rf", "F3.rf"));
+
+    assertEquals(List.of(refs("F1.rf"), refs("F2.rf", "F3.rf")), writes);
+  }
+
+  @Test
+  public void testBatched() throws Exception {
+    CountDownLatch firstWriteStarted = new CountDownLatch(1);
+    CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+    List<Collection<ScanServerRefTabletFile>> writes = new ArrayList<>();
+
+    var writer = new ScanReferenceWriter(refs -> {
+      synchronized (writes) {
+        writes.add(new ArrayList<>(refs));
+      }
+      if (firstWriteStarted.getCount() > 0) {
+        firstWriteStarted.countDown();
+        try {
+          releaseFirstWrite.await();
+        } catch (InterruptedException e) {
+          throw new RuntimeException(e);
+        }
+      }
+    }, new ScanServerMetrics(), true);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Future<?> first = executor.submit(() -> {
+        writer.write(refs("F0.rf"));
+        return null;
+      });
+      firstWriteStarted.await();
+
+      // these writes arrive while the first is in progress and should be combined
+      List<Future<?>> others = new ArrayList<>();
+      for (int i = 1; i <= 3; i++) {
+        String file = "F" + i + ".rf";
+        others.add(executor.submit(() -> {
+          writer.write(refs(file));
+          return null;
+        }));
+      }
+
+      // wait for the other writes to be pending
+      while (writer.pendingWrites() < 3) {
+        Thread.sleep(10);
+      }
+
+      releaseFirstWrite.countDown();
+      first.get();
+      for (Future<?> future : others) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(2, writes.size());
+    assertEquals(refs("F0.rf"), writes.get(0));
+    Set<ScanServerRefTabletFile> expected = new HashSet<>(refs("F1.rf", "F2.rf", "F3.rf"));
+    assertEquals(expected, new HashSet<>(writes.get(1)));
+  }
+
+  @Test
+  public void testFailure() {
+    var writer = new ScanReferenceWriter(refs -> {
+      throw new IllegalStateException("metadata write failed");
+    }, new ScanServerMetrics(), true);
+
+    var e = assertThrows(IllegalStateException.class, () -> writer.write(refs("F1.rf")));
+    assertTrue(e.getMessage().contains("metadata write failed"));
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.tserver;
+
+import static org.apache.accumulo.tserver.TabletServerResourceManager.DEFAULT_FLUSH_PREDICTION;
+import static org.apache.accumulo.tserver.TabletServerResourceManager.MAX_THROTTLE_DELAY;
+import static org.apache.accumulo.tserver.TabletServerResourceManager.computeThrottleDelay;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TabletServerResourceManagerTest {
+
+  private static final long MAX_MEM = 1_000_000;
+
+  @Test
+  public void testThrottleDisabled() {
+    assertEquals(0, computeThrottleDelay(0, MAX_MEM, 940_000, 100_000, 10));
+    assertEquals(0, computeThrottleDelay(0.95, MAX_MEM, 940_000, 100_000, 10));
+  }
+
+  @Test
+  public void testThrottleBelowThreshold() {
+    assertEquals(0, computeThrottleDelay(0.8, MAX_MEM, 700_000, 100_000, 10));
+    assertEquals(0, computeThrottleDelay(0.8, MAX_MEM, 800_000, 100_000, 10));
+  }
+
+  @Test
+  public void testThrottleGrowsWithPressure() {
+    // 200ms predicted to flush the compacting memory
+    long low = computeThrottleDelay(0.8, MAX_MEM, 830_000, 2_000, 10);
+    long high = computeThrottleDelay(0.8, MAX_MEM, 920_000, 2_000, 10);
+    assertEquals(40, low);
+    assertEquals(160, high);
+    assertEquals(200, computeThrottleDelay(0.8, MAX_MEM, 990_000, 2_000, 10));
+  }
+
+  @Test
+  public void testThrottlePrediction() {
+    // no flush rate observed yet
+    assertEquals(DEFAULT_FLUSH_PREDICTION, computeThrottleDelay(0.8, MAX_MEM, 950_000, 2_000, 0));
+    // nothing is being flushed
+    assertEquals(DEFAULT_FLUSH_PREDICTION, computeThrottleDelay(0.8, MAX_MEM, 950_000, 0, 10));
+    // slow flushes are capped
+    assertEquals(MAX_THROTTLE_DELAY, computeThrottleDelay(0.8, MAX_MEM, 950_000, 500_000, 1));
+    assertTrue(computeThrottleDelay(0.8, MAX_MEM, 950_000, 5_000, 10) > DEFAULT_FLUSH_PREDICTION);
+  }
+}
@@ -173,6 +173,18 @@ public class LargestFirstMemoryManagerTest {
     assertEquals(k("b"), tabletsToMinorCompact.get(0));
   }
 
+  @Test
+  public void testPinnedLogs() {
+    LargestFirstMemoryManagerUnderTest mgr = new LargestFirstMemoryManagerUnderTest();
+    mgr.init(context);
+    mgr.currentTime = LATER;
+    // neither tablet is idle, but the smaller one has been pinning logs for 20 minutes
+    List<KeyExtent> tabletsToMinorCompact = mgr.tabletsToMinorCompact(
+        tablets(t(k("a"), LATER, QGIG + ONE_MEG, 0, LATER), t(k("b"), LATER, QGIG, 0, ZERO)));
+    assertEquals(1, tabletsToMinorCompact.size());
+    assertEquals(k("b"), tabletsToMinorCompact.get(0));
+  }
+
   @Test
   public void testDeletedTable() {
     final String deletedTableId = "1";
@@ -255,6 +267,16 @@ public class LargestFirstMemoryManagerTest {
     };
   }
 
+  private TabletMemoryReport t(KeyExtent ke, long lastCommit, long memSize, long compactingSize,
+      long firstWrite) {
+    return new TabletMemoryReport(null, lastCommit, memSize, compactingSize, firstWrite) {
+      @Override
+      public KeyExtent getExtent() {
+        return ke;
+      }
+    };
+  }
+
   private static List<TabletMemoryReport> tablets(TabletMemoryReport... states) {
     return Arrays.asList(states);
   }
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.tserver.scan;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.accumulo.core.data.Key;
+import org.apache.accumulo.core.data.KeyValue;
+import org.apache.accumulo.core.data.Range;
+import org.apache.accumulo.core.data.TableId;
+import org.apache.accumulo.core.dataImpl.KeyExtent;
+import org.apache.accumulo.core.dataImpl.thrift.IterInfo;
+import org.apache.accumulo.core.dataImpl.thrift.ScanResult;
+import org.apache.accumulo.core.metadata.StoredTabletFile;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.Text;
+import org.junit.jupiter.api.Test;
+
+public class ScanResultCacheTest {
+
+  private static final KeyExtent EXTENT =
+      new KeyExtent(TableId.of("1"), new Text("m"), new Text("a"));
+
+  private static StoredTabletFile file(String name) {
+    return StoredTabletFile.of(new Path("hdfs://nn1/accumulo/tables/1/t-0001/" + name));
+  }
+
+  private static ScanResultCache.CacheKey key(Set<StoredTabletFile> files, long configVersion,
+      String row, List<IterInfo> iters, String auths) {
+    return new ScanResultCache.CacheKey(EXTENT, files, configVersion, new Range(row).toThrift(),
+        List.of(), 1000, iters, Map.of(), List.of(ByteBuffer.wrap(auths.getBytes(UTF_8))), null,
+        null, null);
+  }
+
+  private static ScanResultCache.CacheKey key(Set<StoredTabletFile> files, String row,
+      List<IterInfo> iters, String auths) {
+    return key(files, 1, row, iters, auths);
+  }
+
+  private static ScanResult result(int entries, boolean more) {
+    List<KeyValue> results = new ArrayList<>();
+    for (int i = 0; i < entries; i++) {
+      results.add(new KeyValue(new Key("r" + i, "f", "q"), new byte[100]));
+    }
+    return new ScanResult(Key.compress(results), more);
+  }
+
+  @Test
+  public void testKeys() {
+    ScanResultCache cache = new ScanResultCache(1_000_000, 60_000);
+    Set<StoredTabletFile> files = Set.of(file("F1.rf"), file("F2.rf"));
+    List<IterInfo> iters = List.of(new IterInfo(10, "org.example.Iter", "it"));
+
+    ScanResult r1 = result(3, false);
+    cache.put(key(files, "b", iters, "A"), r1);
+
+    assertSame(r1, cache.get(key(Set.of(file("F2.rf"), file("F1.rf")), "b",
+        List.of(new IterInfo(10, "org.example.Iter", "it")), "A")));
+
+    // any difference in what would be read or how it is read misses
+    assertNull(cache.get(key(Set.of(file("F1.rf"), file("F3.rf")), "b", iters, "A")));
+    assertNull(cache.get(key(files, "c", iters, "A")));
+    assertNull(cache.get(key(files, "b", List.of(), "A")));
+    assertNull(cache.get(key(files, "b", iters, "B")));
+    // as does a change to the table's configuration, such as its scan iterators
+    assertNull(cache.get(key(files, 2, "b", iters, "A")));
+
+    assertEquals(1, cache.getHitCount());
+    assertEquals(5, cache.getMissCount());
+  }
+
+  @Test
+  public void testIncompleteNotCached() {
+    ScanResultCache cache = new ScanResultCache(1_000_000, 60_000);
+    Set<StoredTabletFile> files = Set.of(file("F1.rf"));
+    cache.put(key(files, "b", List.of(), "A"), result(3, true));
+    assertNull(cache.get(key(files, "b", List.of(), "A")));
+  }
+
+  @Test
+  public void testWeight() {
+    ScanResult small = result(1, false);
+    ScanResult large = result(100, false);
+    assertTrue(ScanResultCache.weigh(large) > 100 * 100);
+    assertTrue(ScanResultCache.weigh(small) < ScanResultCache.weigh(large));
+
+    ScanResult encoded = new ScanResult(List.of(), false);
+    encoded.setEncodedResults(ByteBuffer.wrap(new byte[5000]));
+    assertTrue(ScanResultCache.weigh(encoded) >= 5000);
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.accumulo.tserver.tablet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class TabletHeatTest {
+
+  @Test
+  public void testBuckets() {
+    assertEquals(0, TabletHeat.bucket(0));
+    assertEquals(0, TabletHeat.bucket(TimeUnit.MICROSECONDS.toNanos(127)));
+    assertEquals(1, TabletHeat.bucket(TimeUnit.MICROSECONDS.toNanos(128)));
+    assertEquals(3, TabletHeat.bucket(TimeUnit.MILLISECONDS.toNanos(1)));
+    assertEquals(TabletHeat.BUCKETS - 1, TabletHeat.bucket(TimeUnit.HOURS.toNanos(1)));
+  }
+
+  @Test
+  public void testRatesOverWindow() {
+    TabletHeat heat = new TabletHeat();
+    assertEquals(0, heat.snapshot().getQueryRate());
+
+    heat.advance(1000, 0, 0, 0);
+    assertEquals(0, heat.snapshot().getQueryRate());
+
+    heat.advance(6000, 500, 1000, 5000);
+    TabletHeat.Window window = heat.snapshot();
+    assertEquals(100, window.getQueryRate());
+    assertEquals(200, window.getScanRate());
+    assertEquals(1000, window.getIngestByteRate());
+
+    // fill the window with idle updates, the burst above drops out once it is older than the window
+    long time = 6000;
+    for (int i = 0; i < TabletHeat.SLOTS - 2; i++) {
+      time += 5000;
+      heat.advance(time, 500, 1000, 5000);
+    }
+    assertEquals(500. / 55, heat.snapshot().getQueryRate(), 0.0001);
+    time += 5000;
+    heat.advance(time, 500, 1000, 5000);
+    assertEquals(0, heat.snapshot().getQueryRate());
+    assertEquals(0, heat.snapshot().getIngestByteRate());
+
+    // an update that does not move time forward is ignored
+    heat.advance(time, 1000, 1000, 5000);
+    assertEquals(0, heat.snapshot().getQueryRate());
+  }
+
+  @Test
+  public void testLatencyPercentiles() {
+    TabletHeat heat = new TabletHeat();
+    assertEquals(0, heat.snapshot().getLatencyPercentile(0.5));
+
+    heat.advance(1000, 0, 0, 0);
+    for (int i = 0; i < 98; i++) {
+      heat.recordLatency(TimeUnit.MICROSECONDS.toNanos(100));
+    }
+    heat.recordLatency(TimeUnit.MILLISECONDS.toNanos(3));
+    heat.recordLatency(TimeUnit.MILLISECONDS.toNanos(3));
+
+    TabletHeat.Window window = heat.snapshot();
+    assertEquals(0.128, window.getLatencyPercentile(0.5));
+    assertEquals(4.096, window.getLatencyPercentile(0.99));
+
+    // latencies leave the window with the slot they were recorded in
+    for (int i = 1; i < TabletHeat.SLOTS; i++) {
+      heat.advance(1000 + i * 5000L, 0, 0, 0);
+    }
+    assertEquals(0.128, heat.snapshot().getLatencyPercentile(0.5));
+    heat.advance(1000 + TabletHeat.SLOTS * 5000L, 0, 0, 0);
+    assertEquals(0, heat.snapshot().getLatencyPercentile(0.99));
+  }
+
+  @Test
+  public void testMerge() {
+    TabletHeat hot = new TabletHeat();
+    hot.advance(1000, 0, 0, 0);
+    hot.advance(2000, 100, 0, 0);
+    hot.recordLatency(TimeUnit.MILLISECONDS.toNanos(50));
+
+    TabletHeat cold = new TabletHeat();
+    cold.advance(1000, 0, 0, 0);
+    cold.advance(2000, 10, 0, 0);
+    cold.recordLatency(TimeUnit.MICROSECONDS.toNanos(10));
+
+    TabletHeat.Window merged =
+        TabletHeat.Window.EMPTY.merge(hot.snapshot()).merge(cold.snapshot());
+    assertEquals(110, merged.getQueryRate());
+    assertEquals(0.128, merged.getLatencyPercentile(0.5));
+    assertEquals(65.536, merged.getLatencyPercentile(0.99));
+  }
+}